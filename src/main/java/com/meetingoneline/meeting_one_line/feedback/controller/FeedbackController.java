@@ -3,6 +3,7 @@ package com.meetingoneline.meeting_one_line.feedback.controller;
 import com.meetingoneline.meeting_one_line.feedback.dto.FeedbackResponseDto;
 import com.meetingoneline.meeting_one_line.feedback.service.FeedbackService;
 import com.meetingoneline.meeting_one_line.global.dto.ApiErrorResponse;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.*;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -21,23 +23,33 @@ import java.util.UUID;
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final MeetingResponseCache meetingResponseCache;
 
     @Operation(
             summary = "회의 피드백 조회",
-            description = "회의 분석이 완료된 후, AI가 생성한 Action Items, Topics, Follow-up Questions 정보를 조회",
+            description = "회의 분석이 완료된 후, AI가 생성한 Action Items, Topics, Follow-up Questions 정보를 조회 (ETag 를 If-None-Match 로 보내면 변경이 없을 때 304)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공",
                             content = @Content(schema = @Schema(implementation = FeedbackResponseDto.FeedbackDetail.class))),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
                     @ApiResponse(responseCode = "404", description = "피드백을 찾을 수 없음",
                             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
             }
     )
     @GetMapping
-    public ResponseEntity<FeedbackResponseDto.FeedbackDetail> getFeedback(
+    public ResponseEntity<byte[]> getFeedback(
             @AuthenticationPrincipal UUID userId,
-            @PathVariable("meetingId") UUID meetingId
+            @PathVariable("meetingId") UUID meetingId,
+            WebRequest webRequest
     ) {
-        FeedbackResponseDto.FeedbackDetail response = feedbackService.getFeedbackByMeetingId(meetingId);
-        return ResponseEntity.ok(response);
+        MeetingResponseCache.Entry entry = meetingResponseCache.get(MeetingResponseCache.Kind.FEEDBACK, meetingId, null,
+                () -> meetingResponseCache.json(null, feedbackService.getFeedbackByMeetingId(meetingId)));
+
+        if (webRequest.checkNotModified(entry.etag(false))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(entry.json());
     }
 }
@@ -4,6 +4,8 @@ import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -31,4 +33,16 @@ public class ActionItemEntity extends BaseEntity {
         item.orderIndex = orderIndex;
         return item;
     }
+
+    /**
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean update(String name, String content) {
+        if (Objects.equals(this.name, name) && Objects.equals(this.content, content)) {
+            return false;
+        }
+        this.name = name;
+        this.content = content;
+        return true;
+    }
 }
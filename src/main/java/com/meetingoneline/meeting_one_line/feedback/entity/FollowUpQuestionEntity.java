@@ -4,6 +4,8 @@ import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -27,4 +29,15 @@ public class FollowUpQuestionEntity extends BaseEntity {
         entity.orderIndex = orderIndex;
         return entity;
     }
+
+    /**
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean update(String question) {
+        if (Objects.equals(this.question, question)) {
+            return false;
+        }
+        this.question = question;
+        return true;
+    }
 }
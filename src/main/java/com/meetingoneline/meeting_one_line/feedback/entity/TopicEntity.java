@@ -4,6 +4,8 @@ import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -35,4 +37,18 @@ public class TopicEntity extends BaseEntity {
         topic.proportion = proportion;
         return topic;
     }
+
+    /**
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean update(String importance, String summary, Integer proportion) {
+        if (Objects.equals(this.importance, importance) && Objects.equals(this.summary, summary)
+                && Objects.equals(this.proportion, proportion)) {
+            return false;
+        }
+        this.importance = importance;
+        this.summary = summary;
+        this.proportion = proportion;
+        return true;
+    }
 }
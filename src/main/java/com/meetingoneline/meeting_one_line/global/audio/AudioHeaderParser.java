@@ -0,0 +1,386 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오디오 파일 헤더만 읽어 재생 길이 / 샘플레이트 / 채널 수 추출
+ * - WAV(RIFF/RF64): fmt 청크 + data 청크 크기
+ * - MP3: ID3v2 태그를 건너뛴 첫 프레임 헤더 (Xing/Info/VBRI 가 있으면 총 프레임 수, 없으면 CBR 로 계산)
+ * - MP4/M4A: moov/mvhd 의 duration, 오디오 트랙 stsd 샘플 엔트리
+ *
+ * 파일 전체를 읽지 않고 필요한 구간만 Source 에서 읽는다. (moov 가 파일 끝에 있어도 박스 헤더만 따라감)
+ */
+public final class AudioHeaderParser {
+
+    // 손상된 파일에서 무한히 헤더를 따라가지 않도록 제한
+    private static final int MAX_CHUNKS = 64;
+    private static final int MAX_BOXES = 256;
+    private static final int MP3_SYNC_SCAN_BYTES = 64 * 1024;
+    private static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private static final int[][] MP3_BITRATES_KBPS = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448},  // MPEG1 Layer I
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},     // MPEG1 Layer II
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},      // MPEG1 Layer III
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},     // MPEG2/2.5 Layer I
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}           // MPEG2/2.5 Layer II, III
+    };
+    private static final int[] MP3_SAMPLE_RATES = {44100, 48000, 32000};
+
+    private AudioHeaderParser() {
+    }
+
+    /**
+     * 파일 내용 접근 (로컬 버퍼 / 저장소 구간 읽기)
+     */
+    public interface Source {
+        long size();
+
+        /**
+         * offset 부터 최대 length 바이트 (파일 끝이면 더 짧을 수 있음)
+         */
+        byte[] read(long offset, int length) throws IOException;
+
+        static Source of(byte[] bytes) {
+            return new Source() {
+                @Override
+                public long size() {
+                    return bytes.length;
+                }
+
+                @Override
+                public byte[] read(long offset, int length) {
+                    if (offset >= bytes.length) {
+                        return new byte[0];
+                    }
+                    int end = (int) Math.min(bytes.length, offset + length);
+                    byte[] out = new byte[end - (int) offset];
+                    System.arraycopy(bytes, (int) offset, out, 0, out.length);
+                    return out;
+                }
+            };
+        }
+    }
+
+    /**
+     * 지원하지 않는 형식이면 AudioMetadata.UNKNOWN
+     */
+    public static AudioMetadata parse(Source source) throws IOException {
+        byte[] head = source.read(0, 12);
+        if (head.length < 12) {
+            return AudioMetadata.UNKNOWN;
+        }
+
+        if ((ascii(head, 0, 4).equals("RIFF") || ascii(head, 0, 4).equals("RF64")) && ascii(head, 8, 4).equals("WAVE")) {
+            return parseWav(source);
+        }
+        if (ascii(head, 4, 4).equals("ftyp")) {
+            return parseMp4(source);
+        }
+        if (ascii(head, 0, 3).equals("ID3") || mp3Frame(head, 0) != null) {
+            return parseMp3(source);
+        }
+        return AudioMetadata.UNKNOWN;
+    }
+
+    // ===== WAV =====
+
+    /**
+     * WAV 의 PCM 데이터 위치와 포맷 (분할용)
+     * @param formatTag 1: PCM, 3: IEEE float (WAVE_FORMAT_EXTENSIBLE 은 SubFormat 코드로 치환)
+     */
+    public record WavLayout(int formatTag, int channels, int sampleRate, long byteRate, int blockAlign, int bitsPerSample,
+                            long dataOffset, long dataSize) {
+
+        public long durationMs() {
+            return byteRate > 0 ? dataSize * 1000 / byteRate : 0;
+        }
+    }
+
+    /**
+     * WAV 가 아니거나 fmt/data 청크를 찾지 못하면 null
+     */
+    public static WavLayout wavLayout(Source source) throws IOException {
+        byte[] head = source.read(0, 12);
+        if (head.length < 12 || !(ascii(head, 0, 4).equals("RIFF") || ascii(head, 0, 4).equals("RF64"))
+                || !ascii(head, 8, 4).equals("WAVE")) {
+            return null;
+        }
+
+        long size = source.size();
+        long offset = 12;
+        byte[] fmt = null;
+
+        for (int i = 0; i < MAX_CHUNKS && offset + 8 <= size; i++) {
+            byte[] header = source.read(offset, 8);
+            if (header.length < 8) {
+                break;
+            }
+            String id = ascii(header, 0, 4);
+            long chunkSize = le32(header, 4);
+
+            if (id.equals("fmt ")) {
+                fmt = source.read(offset + 8, (int) Math.min(chunkSize, 40));
+            } else if (id.equals("data")) {
+                if (fmt == null || fmt.length < 16) {
+                    return null;
+                }
+                // 스트리밍 녹음기/RF64 는 크기를 0 또는 0xFFFFFFFF 로 남기므로 파일 끝까지로 본다
+                long dataSize = chunkSize;
+                if (dataSize == 0 || dataSize == 0xFFFFFFFFL || offset + 8 + dataSize > size) {
+                    dataSize = size - offset - 8;
+                }
+                int formatTag = le16(fmt, 0);
+                if (formatTag == WAVE_FORMAT_EXTENSIBLE && fmt.length >= 26) {
+                    formatTag = le16(fmt, 24); // SubFormat GUID 앞 2바이트
+                }
+                return new WavLayout(formatTag, le16(fmt, 2), (int) le32(fmt, 4), le32(fmt, 8),
+                        le16(fmt, 12), le16(fmt, 14), offset + 8, dataSize);
+            }
+
+            offset += 8 + chunkSize + (chunkSize & 1); // 청크는 2바이트 정렬
+        }
+        return null;
+    }
+
+    private static AudioMetadata parseWav(Source source) throws IOException {
+        WavLayout wav = wavLayout(source);
+        if (wav == null) {
+            return new AudioMetadata("wav", null, null, null);
+        }
+        return new AudioMetadata("wav", wav.byteRate() > 0 ? wav.durationMs() : null, wav.sampleRate(), wav.channels());
+    }
+
+    // ===== MP3 =====
+
+    private record Mp3Frame(int version, int layer, int bitrateKbps, int sampleRate, int channels, int samplesPerFrame, int length) {
+    }
+
+    private static AudioMetadata parseMp3(Source source) throws IOException {
+        long size = source.size();
+        long offset = 0;
+
+        byte[] id3 = source.read(0, 10);
+        if (id3.length == 10 && ascii(id3, 0, 3).equals("ID3")) {
+            long tagSize = ((id3[6] & 0x7F) << 21) | ((id3[7] & 0x7F) << 14) | ((id3[8] & 0x7F) << 7) | (id3[9] & 0x7F);
+            offset = 10 + tagSize + ((id3[5] & 0x10) != 0 ? 10 : 0); // footer
+        }
+
+        // 태그 뒤 패딩/쓰레기 바이트를 건너뛰어 연속된 두 프레임이 맞는 위치를 찾는다
+        byte[] buf = source.read(offset, MP3_SYNC_SCAN_BYTES);
+        for (int i = 0; i + 4 <= buf.length; i++) {
+            Mp3Frame frame = mp3Frame(buf, i);
+            if (frame == null) {
+                continue;
+            }
+            int next = i + frame.length();
+            if (next + 4 <= buf.length && mp3Frame(buf, next) == null) {
+                continue;
+            }
+
+            long audioStart = offset + i;
+            Long durationMs = vbrDurationMs(buf, i, frame);
+            if (durationMs == null) {
+                long audioBytes = size - audioStart - (hasId3v1(source) ? 128 : 0);
+                durationMs = audioBytes * 8 / frame.bitrateKbps();
+            }
+            return new AudioMetadata("mp3", durationMs, frame.sampleRate(), frame.channels());
+        }
+        return new AudioMetadata("mp3", null, null, null);
+    }
+
+    private static Mp3Frame mp3Frame(byte[] b, int i) {
+        if (i + 4 > b.length || (b[i] & 0xFF) != 0xFF || (b[i + 1] & 0xE0) != 0xE0) {
+            return null;
+        }
+        int versionBits = (b[i + 1] >> 3) & 0x3;  // 0: 2.5, 2: 2, 3: 1
+        int layerBits = (b[i + 1] >> 1) & 0x3;    // 1: III, 2: II, 3: I
+        int bitrateIndex = (b[i + 2] >> 4) & 0xF;
+        int sampleRateIndex = (b[i + 2] >> 2) & 0x3;
+        if (versionBits == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+            return null;
+        }
+
+        int layer = 4 - layerBits;
+        boolean mpeg1 = versionBits == 3;
+        int bitrateKbps = MP3_BITRATES_KBPS[mpeg1 ? layer - 1 : (layer == 1 ? 3 : 4)][bitrateIndex];
+        int sampleRate = MP3_SAMPLE_RATES[sampleRateIndex] >> (mpeg1 ? 0 : versionBits == 2 ? 1 : 2);
+        int padding = (b[i + 2] >> 1) & 0x1;
+        int channels = ((b[i + 3] >> 6) & 0x3) == 3 ? 1 : 2;
+
+        int samplesPerFrame = layer == 1 ? 384 : (layer == 3 && !mpeg1) ? 576 : 1152;
+        int length = layer == 1
+                ? (12 * bitrateKbps * 1000 / sampleRate + padding) * 4
+                : samplesPerFrame / 8 * bitrateKbps * 1000 / sampleRate + padding;
+        if (length < 4) {
+            return null;
+        }
+        return new Mp3Frame(versionBits, layer, bitrateKbps, sampleRate, channels, samplesPerFrame, length);
+    }
+
+    /**
+     * 첫 프레임에 VBR 헤더(Xing/Info/VBRI)가 있으면 총 프레임 수로 길이 계산
+     */
+    private static Long vbrDurationMs(byte[] b, int frameStart, Mp3Frame frame) {
+        boolean mpeg1 = frame.version() == 3;
+        int sideInfo = mpeg1 ? (frame.channels() == 1 ? 17 : 32) : (frame.channels() == 1 ? 9 : 17);
+
+        long frames = -1;
+        int xing = frameStart + 4 + sideInfo;
+        int vbri = frameStart + 4 + 32;
+        if (xing + 12 <= b.length && (ascii(b, xing, 4).equals("Xing") || ascii(b, xing, 4).equals("Info"))) {
+            if ((be32(b, xing + 4) & 0x1) != 0) {
+                frames = be32(b, xing + 8);
+            }
+        } else if (vbri + 18 <= b.length && ascii(b, vbri, 4).equals("VBRI")) {
+            frames = be32(b, vbri + 14);
+        }
+
+        if (frames <= 0) {
+            return null;
+        }
+        return frames * frame.samplesPerFrame() * 1000 / frame.sampleRate();
+    }
+
+    private static boolean hasId3v1(Source source) throws IOException {
+        if (source.size() < 128) {
+            return false;
+        }
+        byte[] tag = source.read(source.size() - 128, 3);
+        return tag.length == 3 && ascii(tag, 0, 3).equals("TAG");
+    }
+
+    // ===== MP4 / M4A =====
+
+    private record Box(String type, long payloadStart, long end) {
+    }
+
+    private static AudioMetadata parseMp4(Source source) throws IOException {
+        Box moov = find(children(source, 0, source.size()), "moov");
+        if (moov == null) {
+            return new AudioMetadata("mp4", null, null, null);
+        }
+        List<Box> moovChildren = children(source, moov.payloadStart(), moov.end());
+
+        Long durationMs = null;
+        Box mvhd = find(moovChildren, "mvhd");
+        if (mvhd != null) {
+            byte[] p = source.read(mvhd.payloadStart(), 32);
+            if (p.length >= 20) {
+                boolean v1 = p[0] == 1;
+                long timescale = v1 ? be32(p, 20) : be32(p, 12);
+                long duration = v1 ? (p.length >= 32 ? be64(p, 24) : 0) : be32(p, 16);
+                if (timescale > 0 && duration > 0 && duration != 0xFFFFFFFFL) {
+                    durationMs = duration * 1000 / timescale;
+                }
+            }
+        }
+
+        // 첫 번째 오디오 트랙의 샘플 엔트리 (mp4a 등)
+        Integer sampleRate = null;
+        Integer channels = null;
+        for (Box trak : moovChildren) {
+            if (!trak.type().equals("trak")) {
+                continue;
+            }
+            Box mdia = find(children(source, trak.payloadStart(), trak.end()), "mdia");
+            if (mdia == null) {
+                continue;
+            }
+            List<Box> mdiaChildren = children(source, mdia.payloadStart(), mdia.end());
+            Box hdlr = find(mdiaChildren, "hdlr");
+            if (hdlr == null || !ascii(source.read(hdlr.payloadStart() + 8, 4), 0, 4).equals("soun")) {
+                continue;
+            }
+            Box stsd = descend(source, mdiaChildren, "minf", "stbl", "stsd");
+            if (stsd != null) {
+                // version/flags(4) entry_count(4) | size(4) type(4) reserved(6) ref(2) reserved(8) channels(2) bits(2) reserved(4) rate(16.16)
+                byte[] entry = source.read(stsd.payloadStart() + 8, 36);
+                if (entry.length >= 36) {
+                    channels = be16(entry, 24);
+                    sampleRate = be16(entry, 32);
+                }
+            }
+            break;
+        }
+
+        return new AudioMetadata("mp4", durationMs, sampleRate, channels);
+    }
+
+    private static Box descend(Source source, List<Box> boxes, String... path) throws IOException {
+        Box current = null;
+        for (String type : path) {
+            current = find(boxes, type);
+            if (current == null) {
+                return null;
+            }
+            boxes = children(source, current.payloadStart(), current.end());
+        }
+        return current;
+    }
+
+    private static List<Box> children(Source source, long start, long end) throws IOException {
+        List<Box> boxes = new ArrayList<>();
+        long offset = start;
+        while (offset + 8 <= end && boxes.size() < MAX_BOXES) {
+            byte[] h = source.read(offset, 16);
+            if (h.length < 8) {
+                break;
+            }
+            long size = be32(h, 0);
+            String type = ascii(h, 4, 4);
+            long headerSize = 8;
+            if (size == 1) { // 64비트 크기
+                if (h.length < 16) {
+                    break;
+                }
+                size = be64(h, 8);
+                headerSize = 16;
+            } else if (size == 0) { // 파일 끝까지
+                size = end - offset;
+            }
+            if (size < headerSize || offset + size > end) {
+                break;
+            }
+            boxes.add(new Box(type, offset + headerSize, offset + size));
+            offset += size;
+        }
+        return boxes;
+    }
+
+    private static Box find(List<Box> boxes, String type) {
+        return boxes.stream().filter(box -> box.type().equals(type)).findFirst().orElse(null);
+    }
+
+    // ===== bytes =====
+
+    private static String ascii(byte[] b, int offset, int length) {
+        if (offset + length > b.length) {
+            return "";
+        }
+        return new String(b, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int le16(byte[] b, int i) {
+        return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8;
+    }
+
+    private static long le32(byte[] b, int i) {
+        return (b[i] & 0xFFL) | (b[i + 1] & 0xFFL) << 8 | (b[i + 2] & 0xFFL) << 16 | (b[i + 3] & 0xFFL) << 24;
+    }
+
+    private static int be16(byte[] b, int i) {
+        return (b[i] & 0xFF) << 8 | (b[i + 1] & 0xFF);
+    }
+
+    private static long be32(byte[] b, int i) {
+        return (b[i] & 0xFFL) << 24 | (b[i + 1] & 0xFFL) << 16 | (b[i + 2] & 0xFFL) << 8 | (b[i + 3] & 0xFFL);
+    }
+
+    private static long be64(byte[] b, int i) {
+        return be32(b, i) << 32 | be32(b, i + 4);
+    }
+}
@@ -0,0 +1,15 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+/**
+ * 오디오 컨테이너 헤더에서 읽은 정보 (알 수 없는 값은 null)
+ * @param format     "wav" / "mp3" / "mp4"
+ * @param durationMs 재생 길이 (ms)
+ */
+public record AudioMetadata(String format, Long durationMs, Integer sampleRate, Integer channels) {
+
+    public static final AudioMetadata UNKNOWN = new AudioMetadata(null, null, null, null);
+
+    public boolean hasDuration() {
+        return durationMs != null;
+    }
+}
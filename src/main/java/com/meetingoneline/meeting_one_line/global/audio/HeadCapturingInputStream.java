@@ -0,0 +1,63 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 통과하는 스트림의 앞부분 limit 바이트를 복사해 두는 래퍼
+ * 업로드를 저장소로 흘려보내는 동안 헤더를 따로 다시 읽지 않기 위해 사용한다.
+ */
+public class HeadCapturingInputStream extends FilterInputStream {
+
+    private final byte[] head;
+    private int captured;
+
+    public HeadCapturingInputStream(InputStream in, int limit) {
+        super(in);
+        this.head = new byte[limit];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0 && captured < head.length) {
+            head[captured++] = (byte) b;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0 && captured < head.length) {
+            int copy = Math.min(n, head.length - captured);
+            System.arraycopy(b, off, head, captured, copy);
+            captured += copy;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (captured >= head.length || n <= 0) {
+            return in.skip(n);
+        }
+        // 앞부분을 아직 다 복사하지 못했으면 건너뛰는 대신 읽어서 버린다
+        byte[] discard = new byte[(int) Math.min(n, 8192)];
+        return Math.max(read(discard, 0, discard.length), 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * 지금까지 복사된 앞부분
+     */
+    public byte[] head() {
+        return Arrays.copyOf(head, captured);
+    }
+}
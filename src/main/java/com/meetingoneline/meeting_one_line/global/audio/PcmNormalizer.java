@@ -0,0 +1,282 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * PCM WAV → 모노 16bit PCM WAV 스트리밍 변환 (다운믹스 + 리샘플)
+ * 입력을 일정 크기씩 읽어 바로 변환하므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * 리샘플은 Blackman 창 sinc 필터를 분수 위치별로 미리 계산한 polyphase 테이블로 하며,
+ * 다운샘플 시 차단 주파수를 새 나이퀴스트 주파수에 맞춰 aliasing 을 막는다.
+ */
+public final class PcmNormalizer {
+
+    private static final int HALF_TAPS = 16;    // 출력 샘플 기준 필터 반폭
+    private static final int PHASES = 256;      // 분수 위치 양자화 단계
+    private static final int READ_FRAMES = 4096;
+
+    private PcmNormalizer() {
+    }
+
+    /**
+     * 변환 가능한 입력 (정수 PCM 8/16/24/32bit, IEEE float 32/64bit)
+     */
+    public static boolean isSupported(AudioHeaderParser.WavLayout wav) {
+        boolean depth = switch (wav.formatTag()) {
+            case 1 -> wav.bitsPerSample() == 8 || wav.bitsPerSample() == 16 || wav.bitsPerSample() == 24 || wav.bitsPerSample() == 32;
+            case 3 -> wav.bitsPerSample() == 32 || wav.bitsPerSample() == 64;
+            default -> false;
+        };
+        return depth && wav.channels() > 0 && wav.sampleRate() > 0
+                && wav.blockAlign() == wav.channels() * wav.bitsPerSample() / 8;
+    }
+
+    /**
+     * 이미 목표 형식(모노 16bit PCM, 같은 샘플레이트)이면 false
+     */
+    public static boolean needsConversion(AudioHeaderParser.WavLayout wav, int targetRate) {
+        return wav.channels() != 1 || wav.sampleRate() != targetRate || wav.formatTag() != 1 || wav.bitsPerSample() != 16;
+    }
+
+    /**
+     * 변환 결과 포맷 (헤더 44바이트 + data)
+     */
+    public static AudioHeaderParser.WavLayout outputLayout(AudioHeaderParser.WavLayout wav, int targetRate) {
+        long frames = wav.dataSize() / wav.blockAlign();
+        long samples = (frames * targetRate + wav.sampleRate() - 1) / wav.sampleRate();
+        return new AudioHeaderParser.WavLayout(1, 1, targetRate, targetRate * 2L, 2, 16,
+                WavSplitter.headerLength(), samples * 2);
+    }
+
+    /**
+     * 변환 결과 WAV 전체 크기 (저장소 put 의 contentLength)
+     */
+    public static long outputLength(AudioHeaderParser.WavLayout wav, int targetRate) {
+        return WavSplitter.headerLength() + outputLayout(wav, targetRate).dataSize();
+    }
+
+    /**
+     * @param pcm 원본 data 청크 구간 스트림 (dataOffset 부터, 호출측에서 close)
+     * @return 헤더를 포함한 변환 결과 (정확히 outputLength 바이트, 원본이 잘려 있으면 무음으로 채움)
+     */
+    public static InputStream normalize(InputStream pcm, AudioHeaderParser.WavLayout wav, int targetRate) {
+        AudioHeaderParser.WavLayout out = outputLayout(wav, targetRate);
+        return new SequenceInputStream(
+                new ByteArrayInputStream(WavSplitter.header(out, out.dataSize())),
+                new NormalizingStream(pcm, wav, targetRate, out.dataSize() / 2)
+        );
+    }
+
+    /**
+     * 원본 프레임을 읽을 때마다 모노로 합치고 리샘플해 16bit LE 로 내보내는 스트림
+     */
+    private static final class NormalizingStream extends InputStream {
+        private final InputStream in;
+        private final AudioHeaderParser.WavLayout wav;
+        private final Resampler resampler;
+        private final byte[] frames;
+        private long remaining;                 // 남은 출력 샘플 수
+        private byte[] pending = new byte[READ_FRAMES * 2];
+        private int pendingPos;
+        private int pendingLimit;
+        private boolean eof;
+
+        NormalizingStream(InputStream in, AudioHeaderParser.WavLayout wav, int targetRate, long samples) {
+            this.in = in;
+            this.wav = wav;
+            this.remaining = samples;
+            this.frames = new byte[READ_FRAMES * wav.blockAlign()];
+            this.resampler = wav.sampleRate() != targetRate ? new Resampler(wav.sampleRate(), targetRate, this::emit) : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (pendingPos == pendingLimit) {
+                if (remaining == 0) {
+                    return -1;
+                }
+                fill();
+            }
+            int n = Math.min(len, pendingLimit - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private void fill() throws IOException {
+            pendingPos = 0;
+            pendingLimit = 0;
+
+            if (eof) {
+                // 원본이 헤더보다 짧으면 선언한 길이만큼 무음
+                for (int i = 0; i < READ_FRAMES && remaining > 0; i++) {
+                    emit(0);
+                }
+                return;
+            }
+
+            int read = in.readNBytes(frames, 0, frames.length);
+            int count = read / wav.blockAlign();
+            for (int f = 0; f < count; f++) {
+                int base = f * wav.blockAlign();
+                double mono = 0;
+                for (int c = 0; c < wav.channels(); c++) {
+                    mono += sample(frames, base + c * wav.bitsPerSample() / 8);
+                }
+                mono /= wav.channels();
+
+                if (resampler != null) {
+                    resampler.accept(mono);
+                } else {
+                    emit(mono);
+                }
+            }
+
+            if (read < frames.length) {
+                eof = true;
+                if (resampler != null) {
+                    resampler.flush();
+                }
+            }
+        }
+
+        private double sample(byte[] b, int i) {
+            if (wav.formatTag() == 3) {
+                return wav.bitsPerSample() == 32
+                        ? Float.intBitsToFloat(le32(b, i))
+                        : Double.longBitsToDouble((le32(b, i) & 0xFFFFFFFFL) | ((long) le32(b, i + 4) << 32));
+            }
+            return switch (wav.bitsPerSample()) {
+                case 8 -> ((b[i] & 0xFF) - 128) / 128.0;
+                case 16 -> (short) ((b[i] & 0xFF) | (b[i + 1] << 8)) / 32768.0;
+                case 24 -> ((b[i] & 0xFF) | ((b[i + 1] & 0xFF) << 8) | (b[i + 2] << 16)) / 8388608.0;
+                default -> le32(b, i) / 2147483648.0;
+            };
+        }
+
+        private void emit(double value) {
+            if (remaining == 0) {
+                return;
+            }
+            if (pendingLimit + 2 > pending.length) {
+                pending = Arrays.copyOf(pending, pending.length * 2);
+            }
+            long pcm = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value * 32767)));
+            pending[pendingLimit++] = (byte) pcm;
+            pending[pendingLimit++] = (byte) (pcm >> 8);
+            remaining--;
+        }
+
+        private static int le32(byte[] b, int i) {
+            return (b[i] & 0xFF) | ((b[i + 1] & 0xFF) << 8) | ((b[i + 2] & 0xFF) << 16) | (b[i + 3] << 24);
+        }
+    }
+
+    /**
+     * 스트리밍 polyphase 리샘플러
+     * 출력 n 의 원본 위치 t = n * in / out 주변 ±width 개 입력만 링 버퍼에 유지한다.
+     */
+    private static final class Resampler {
+        private final long inStep;
+        private final long outStep;
+        private final int width;
+        private final double[][] table;
+        private final double[] ring;
+        private final DoubleConsumer out;
+        private long received;
+        private long next;
+
+        Resampler(int inRate, int outRate, DoubleConsumer out) {
+            long gcd = gcd(inRate, outRate);
+            this.inStep = inRate / gcd;
+            this.outStep = outRate / gcd;
+            this.out = out;
+
+            // 다운샘플이면 차단 주파수를 낮추는 만큼 필터를 입력 기준으로 넓힌다
+            double scale = Math.min(1.0, (double) outRate / inRate);
+            this.width = (int) Math.ceil(HALF_TAPS / scale);
+            this.table = new double[PHASES + 1][2 * width];
+            for (int phase = 0; phase <= PHASES; phase++) {
+                double frac = (double) phase / PHASES;
+                double sum = 0;
+                for (int j = 0; j < 2 * width; j++) {
+                    double x = j - width + 1 - frac;
+                    double h = scale * sinc(scale * x) * blackman(x / width);
+                    table[phase][j] = h;
+                    sum += h;
+                }
+                for (int j = 0; j < 2 * width; j++) {
+                    table[phase][j] /= sum; // DC 이득 1
+                }
+            }
+            this.ring = new double[2 * width + 1];
+        }
+
+        void accept(double sample) {
+            ring[(int) (received % ring.length)] = sample;
+            received++;
+
+            while (true) {
+                long position = next * inStep;
+                long base = position / outStep;
+                if (base + width >= received) {
+                    return;
+                }
+                int phase = (int) Math.round((double) (position % outStep) * PHASES / outStep);
+
+                double sum = 0;
+                double[] taps = table[phase];
+                for (int j = 0; j < taps.length; j++) {
+                    long index = base - width + 1 + j;
+                    if (index >= 0) {
+                        sum += ring[(int) (index % ring.length)] * taps[j];
+                    }
+                }
+                out.accept(sum);
+                next++;
+            }
+        }
+
+        /**
+         * 마지막 입력 뒤의 출력이 나오도록 필터 반폭만큼 무음 입력
+         */
+        void flush() {
+            for (int i = 0; i < width; i++) {
+                accept(0);
+            }
+        }
+
+        private static double sinc(double x) {
+            return x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x);
+        }
+
+        private static double blackman(double t) {
+            if (Math.abs(t) > 1) {
+                return 0;
+            }
+            return 0.42 + 0.5 * Math.cos(Math.PI * t) + 0.08 * Math.cos(2 * Math.PI * t);
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PCM WAV 분할 계획 / 조각 헤더 생성
+ * 조각 경계는 목표 지점 ±search 구간에서 20ms 단위 에너지가 가장 낮은(가장 조용한) 곳으로 옮겨
+ * 발화 중간이 잘리지 않게 한다. 16bit PCM 이 아니면 목표 지점의 샘플 프레임 경계에서 자른다.
+ * 실제 PCM 데이터는 복사하지 않고 원본 파일 내 구간(Piece)만 계산한다.
+ */
+public final class WavSplitter {
+
+    private static final int WAV_HEADER_BYTES = 44;
+    private static final int ENERGY_FRAME_MS = 20;
+
+    private WavSplitter() {
+    }
+
+    /**
+     * 원본 파일 기준 조각 구간
+     * @param dataStart  원본 파일에서 PCM 시작 위치 (byte)
+     * @param dataLength PCM 길이 (byte)
+     */
+    public record Piece(int index, long dataStart, long dataLength, long offsetMs, long durationMs) {
+    }
+
+    /**
+     * 분할 가능한 형식 (PCM / IEEE float)
+     */
+    public static boolean isSplittable(AudioHeaderParser.WavLayout wav) {
+        return (wav.formatTag() == 1 || wav.formatTag() == 3) && wav.blockAlign() > 0 && wav.byteRate() > 0;
+    }
+
+    /**
+     * window 단위 분할 계획
+     * 마지막 조각이 window 의 1/4 보다 짧아지면 앞 조각에 붙인다.
+     */
+    public static List<Piece> plan(AudioHeaderParser.Source source, AudioHeaderParser.WavLayout wav,
+                                   Duration window, Duration search) throws IOException {
+        long windowBytes = align(wav, window.toMillis() * wav.byteRate() / 1000);
+        long searchBytes = align(wav, search.toMillis() * wav.byteRate() / 1000);
+
+        List<Long> cuts = new ArrayList<>();
+        long previous = 0;
+        while (windowBytes > 0 && wav.dataSize() - previous > windowBytes + windowBytes / 4) {
+            long cut = quietestPoint(source, wav, previous, previous + windowBytes, searchBytes);
+            cuts.add(cut);
+            previous = cut;
+        }
+        cuts.add(wav.dataSize());
+
+        List<Piece> pieces = new ArrayList<>();
+        long start = 0;
+        for (long end : cuts) {
+            long length = end - start;
+            pieces.add(new Piece(pieces.size(), wav.dataOffset() + start, length,
+                    start * 1000 / wav.byteRate(), length * 1000 / wav.byteRate()));
+            start = end;
+        }
+        return pieces;
+    }
+
+    /**
+     * 조각 파일 앞에 붙일 44바이트 WAV 헤더 (원본과 같은 포맷)
+     */
+    public static byte[] header(AudioHeaderParser.WavLayout wav, long dataLength) {
+        return ByteBuffer.allocate(WAV_HEADER_BYTES)
+                         .order(ByteOrder.LITTLE_ENDIAN)
+                         .put("RIFF".getBytes(StandardCharsets.US_ASCII))
+                         .putInt((int) (36 + dataLength))
+                         .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                         .put("fmt ".getBytes(StandardCharsets.US_ASCII))
+                         .putInt(16)
+                         .putShort((short) wav.formatTag())
+                         .putShort((short) wav.channels())
+                         .putInt(wav.sampleRate())
+                         .putInt((int) wav.byteRate())
+                         .putShort((short) wav.blockAlign())
+                         .putShort((short) wav.bitsPerSample())
+                         .put("data".getBytes(StandardCharsets.US_ASCII))
+                         .putInt((int) dataLength)
+                         .array();
+    }
+
+    public static long headerLength() {
+        return WAV_HEADER_BYTES;
+    }
+
+    /**
+     * [target - search, target + search] 에서 가장 조용한 20ms 구간의 가운데 (PCM 데이터 기준 byte 위치)
+     */
+    private static long quietestPoint(AudioHeaderParser.Source source, AudioHeaderParser.WavLayout wav,
+                                      long previous, long target, long searchBytes) throws IOException {
+        if (wav.formatTag() != 1 || wav.bitsPerSample() != 16 || searchBytes <= 0) {
+            return target;
+        }
+
+        long frameBytes = Math.max(wav.blockAlign(), align(wav, wav.byteRate() * ENERGY_FRAME_MS / 1000));
+        long from = Math.max(previous + frameBytes, target - searchBytes);
+        long to = Math.min(wav.dataSize() - frameBytes, target + searchBytes);
+        if (to <= from) {
+            return target;
+        }
+
+        byte[] pcm = source.read(wav.dataOffset() + from, (int) (to - from));
+        ByteBuffer samples = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN);
+
+        long best = target;
+        double bestEnergy = Double.MAX_VALUE;
+        for (int frame = 0; frame + frameBytes <= pcm.length; frame += (int) frameBytes) {
+            double energy = 0;
+            for (int i = frame; i < frame + frameBytes; i += 2) {
+                int sample = samples.getShort(i);
+                energy += (double) sample * sample;
+            }
+            if (energy < bestEnergy) {
+                bestEnergy = energy;
+                best = from + frame + align(wav, frameBytes / 2);
+            }
+        }
+        return best;
+    }
+
+    private static long align(AudioHeaderParser.WavLayout wav, long bytes) {
+        return bytes - bytes % wav.blockAlign();
+    }
+}
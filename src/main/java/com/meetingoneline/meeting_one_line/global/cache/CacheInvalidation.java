@@ -0,0 +1,11 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+/**
+ * 노드 간 캐시 무효화 이벤트
+ * @param cache 캐시 이름 (CacheInvalidationBus.MEETING 등)
+ * @param key 지울 항목 key (회의 id 등)
+ * @param origin 발행한 노드 id (자기 이벤트는 받는 쪽에서 무시)
+ * @param publishedAt 발행 시각 (epoch ms, 전파 지연 측정용)
+ */
+public record CacheInvalidation(String cache, String key, String origin, long publishedAt) {
+}
@@ -0,0 +1,67 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 채널
+ * 노드 안의 캐시는 register 로 이름별 삭제 함수를 등록하고, 변경하는 쪽은 publish 한다.
+ * 다른 노드가 발행한 이벤트만 등록된 삭제 함수로 전달한다. (자기 노드 캐시는 발행하는 쪽에서 이미 지움)
+ * 발행부터 삭제까지 걸린 시간은 cache.invalidation.lag 로 기록한다. (노드 간 시계 차이 포함)
+ */
+@Slf4j
+@Service
+public class CacheInvalidationBus {
+
+    public static final String MEETING = "meeting";
+
+    private final CacheInvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> evictors = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        transport.subscribe(this::receive);
+    }
+
+    public void register(String cache, Consumer<String> evictor) {
+        evictors.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(evictor);
+    }
+
+    /**
+     * 무효화 발행 (트랜잭션 안이면 커밋된 뒤에 다른 노드에 전달)
+     */
+    public void publish(String cache, Collection<String> keys) {
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+            transport.publish(new CacheInvalidation(cache, key, nodeId, now));
+        }
+    }
+
+    void receive(CacheInvalidation event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        evictors.getOrDefault(event.cache(), List.of()).forEach(evictor -> evictor.accept(event.key()));
+
+        Timer.builder("cache.invalidation.lag")
+             .description("다른 노드에서 발행한 캐시 무효화가 이 노드에 반영되기까지 걸린 시간")
+             .tag("cache", event.cache())
+             .publishPercentiles(0.5, 0.99)
+             .register(meterRegistry)
+             .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.publishedAt())));
+    }
+}
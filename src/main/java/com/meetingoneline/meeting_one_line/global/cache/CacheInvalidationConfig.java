@@ -0,0 +1,66 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 캐시 무효화 전송 방식 선택 (cache.invalidation.transport = db | redis)
+ * Redis 는 이 설정에서만 연결한다. (Spring Boot Redis 자동 설정은 application.yml 에서 제외)
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "db", matchIfMissing = true)
+    public CacheInvalidationTransport dbCacheInvalidationTransport(
+            CacheInvalidationRepository repository,
+            @Value("${cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${cache.invalidation.grace-seconds:60}") long graceSeconds,
+            @Value("${cache.invalidation.retention-hours:24}") long retentionHours
+    ) {
+        return new DbCacheInvalidationTransport(repository, batchSize, Duration.ofSeconds(graceSeconds), Duration.ofHours(retentionHours));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "redis")
+    public LettuceConnectionFactory cacheInvalidationRedisConnectionFactory(
+            @Value("${cache.invalidation.redis.host:localhost}") String host,
+            @Value("${cache.invalidation.redis.port:6379}") int port,
+            @Value("${cache.invalidation.redis.password:}") String password
+    ) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        if (!password.isBlank()) {
+            configuration.setPassword(password);
+        }
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(LettuceConnectionFactory cacheInvalidationRedisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cacheInvalidationRedisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "redis")
+    public CacheInvalidationTransport redisCacheInvalidationTransport(
+            LettuceConnectionFactory cacheInvalidationRedisConnectionFactory,
+            RedisMessageListenerContainer cacheInvalidationListenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${cache.invalidation.redis.channel:meeting-one-line:cache-invalidation}") String channel
+    ) {
+        return new RedisCacheInvalidationTransport(new StringRedisTemplate(cacheInvalidationRedisConnectionFactory),
+                cacheInvalidationListenerContainer, objectMapper, channel);
+    }
+}
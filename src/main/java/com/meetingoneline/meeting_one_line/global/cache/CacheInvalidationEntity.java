@@ -0,0 +1,48 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 무효화 변경 로그 (db 전송 방식)
+ * id 가 증가하는 순서대로 각 노드가 읽어 간다. 오래된 행은 주기적으로 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_published", columnList = "published_at")
+})
+public class CacheInvalidationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 50)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false, length = 100)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "published_at", nullable = false)
+    private Long publishedAt;
+
+    public static CacheInvalidationEntity from(CacheInvalidation event) {
+        CacheInvalidationEntity entity = new CacheInvalidationEntity();
+        entity.cacheName = event.cache();
+        entity.cacheKey = event.key();
+        entity.origin = event.origin();
+        entity.publishedAt = event.publishedAt();
+        return entity;
+    }
+
+    public CacheInvalidation toEvent() {
+        return new CacheInvalidation(cacheName, cacheKey, origin, publishedAt);
+    }
+}
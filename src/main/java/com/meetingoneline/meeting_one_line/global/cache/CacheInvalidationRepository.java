@@ -0,0 +1,30 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationEntity, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidationEntity c")
+    long findMaxId();
+
+    @Query("SELECT c FROM CacheInvalidationEntity c WHERE c.id > :after ORDER BY c.id ASC")
+    List<CacheInvalidationEntity> findAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT c FROM CacheInvalidationEntity c WHERE c.id > :after AND c.id NOT IN :excluded ORDER BY c.id ASC")
+    List<CacheInvalidationEntity> findAfterExcluding(@Param("after") long after,
+                                                     @Param("excluded") Collection<Long> excluded,
+                                                     Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEntity c WHERE c.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") long cutoff);
+}
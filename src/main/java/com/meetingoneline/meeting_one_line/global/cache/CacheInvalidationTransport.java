@@ -0,0 +1,22 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 이벤트 전송 방식
+ * - db: 변경 로그 테이블(cache_invalidations)에 쓰고 각 노드가 주기적으로 읽음
+ * - redis: Redis 호환 서버 pub/sub
+ * cache.invalidation.transport 로 선택한다. (CacheInvalidationConfig)
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 이벤트 발행. 트랜잭션 안에서 호출되면 그 트랜잭션이 커밋된 뒤에만 다른 노드가 받는다.
+     */
+    void publish(CacheInvalidation event);
+
+    /**
+     * 다른 노드(자기 자신 포함)가 발행한 이벤트 수신
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,106 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 변경 로그 테이블 전송 (cache.invalidation.transport = db)
+ *
+ * - 발행: 호출한 트랜잭션 안에서 cache_invalidations 에 한 행 INSERT (변경과 함께 커밋되거나 함께 롤백)
+ * - 수신: poll-interval 마다 읽은 위치(floor) 이후 아직 전달하지 않은 행만 id 순으로, batch-size 씩 끝까지 읽는다.
+ *   기동 시에는 지금까지의 행은 건너뛴다.
+ * - id 는 INSERT 순서로 정해지지만 커밋 순서는 다를 수 있어, 빈 번호가 있으면 그 번호가 채워지거나 grace 가 지날 때까지
+ *   floor 를 올리지 않고 다시 읽는다. (롤백으로 영영 안 채워지는 번호는 grace 후 건너뜀)
+ *   빈 번호 너머의 행은 기다리지 않고 바로 전달하고, 전달한 id 는 기억해 두었다가 다음 조회에서 제외한다.
+ */
+@Slf4j
+public class DbCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final CacheInvalidationRepository repository;
+    private final int batchSize;
+    private final long graceMillis;
+    private final long retentionMillis;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    // floor 이후에 전달한 id → 처음 읽은 시각
+    private final TreeMap<Long, Long> delivered = new TreeMap<>();
+    private long floor = -1;
+
+    public DbCacheInvalidationTransport(CacheInvalidationRepository repository, int batchSize, Duration grace, Duration retention) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.graceMillis = grace.toMillis();
+        this.retentionMillis = retention.toMillis();
+    }
+
+    @Override
+    public void publish(CacheInvalidation event) {
+        repository.save(CacheInvalidationEntity.from(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (floor < 0) {
+            floor = repository.findMaxId();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long after = floor;
+        List<CacheInvalidationEntity> rows;
+        do {
+            // 이미 전달한 행은 제외해야 빈 번호 너머가 전달한 행으로 가득 차도 새 행을 놓치지 않는다
+            List<Long> excluded = List.copyOf(delivered.tailMap(after, false).keySet());
+            rows = excluded.isEmpty()
+                    ? repository.findAfter(after, PageRequest.of(0, batchSize))
+                    : repository.findAfterExcluding(after, excluded, PageRequest.of(0, batchSize));
+            for (CacheInvalidationEntity row : rows) {
+                if (delivered.putIfAbsent(row.getId(), now) == null) {
+                    deliver(row.toEvent());
+                }
+                after = row.getId();
+            }
+        } while (rows.size() == batchSize);
+
+        // 연속된 번호까지는 바로, 빈 번호 너머는 grace 가 지난 뒤에 floor 이동
+        while (!delivered.isEmpty()) {
+            Map.Entry<Long, Long> next = delivered.firstEntry();
+            if (next.getKey() != floor + 1 && now - next.getValue() < graceMillis) {
+                break;
+            }
+            floor = next.getKey();
+            delivered.pollFirstEntry();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        int deleted = repository.deletePublishedBefore(System.currentTimeMillis() - retentionMillis);
+        if (deleted > 0) {
+            log.info("🧹 캐시 무효화 로그 {}건 정리", deleted);
+        }
+    }
+
+    private void deliver(CacheInvalidation event) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 캐시 무효화 처리 실패: {}", event, e);
+            }
+        }
+    }
+}
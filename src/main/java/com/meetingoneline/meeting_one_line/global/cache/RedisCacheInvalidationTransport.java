@@ -0,0 +1,78 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Redis 호환 서버 pub/sub 전송 (cache.invalidation.transport = redis)
+ * 로그를 남기지 않는 대신 지연이 짧다. 트랜잭션 안에서 발행하면 커밋 후에 보낸다.
+ * (구독이 끊긴 동안의 이벤트는 잃으므로 캐시 expire-after-write 가 상한이 된다)
+ */
+@Slf4j
+public class RedisCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public RedisCacheInvalidationTransport(StringRedisTemplate redisTemplate,
+                                           RedisMessageListenerContainer listenerContainer,
+                                           ObjectMapper objectMapper,
+                                           String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation event) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(message);
+                }
+            });
+        } else {
+            send(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidation.class));
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ 캐시 무효화 메시지 처리 실패", e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    private void send(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 변경은 이미 커밋됨. 다른 노드는 expire-after-write 후 새로 읽는다
+            log.warn("⚠️ 캐시 무효화 메시지 발행 실패", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.meetingoneline.meeting_one_line.global.config;
 import com.meetingoneline.meeting_one_line.global.config.jwt.JwtAuthenticationEntryPoint;
 import com.meetingoneline.meeting_one_line.global.config.jwt.JwtAuthenticationFilter;
 import com.meetingoneline.meeting_one_line.global.config.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,6 +51,9 @@ public class SecurityConfig {
 
                 // 4. 요청별 접근 허용
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(내보내기)의 async 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers(
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
@@ -60,7 +64,7 @@ public class SecurityConfig {
                         ).permitAll()
 
                         // AI 서버 콜백 전용 API
-                        .requestMatchers("/api/meetings/*/callback").permitAll()
+                        .requestMatchers("/api/meetings/*/callback", "/api/meetings/*/callback/partial").permitAll()
 
                         .anyRequest().authenticated()
                 )
@@ -37,7 +37,27 @@ public enum ErrorCode {
     // 5. 회의록 / 데이터 관련
     MEETING_NOT_FOUND(HttpStatus.NOT_FOUND, "회의록을 찾을 수 없습니다."),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
-    INVALID_FILE(HttpStatus.BAD_REQUEST, "유효하지 않은 파일입니다.");
+    INVALID_FILE(HttpStatus.BAD_REQUEST, "유효하지 않은 파일입니다."),
+    INVALID_SEGMENT_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 전사 조회 cursor 입니다."),
+    INVALID_LIST_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 목록 조회 cursor 입니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (txt, md, json)"),
+    INVALID_ANALYSIS_PRIORITY(HttpStatus.BAD_REQUEST, "지원하지 않는 분석 우선순위입니다. (low, normal, high)"),
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "동시에 진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
+    AUDIO_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "회의 녹음 파일을 찾을 수 없습니다."),
+    STORAGE_OBJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "저장소에서 파일을 찾을 수 없습니다."),
+    STORAGE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소 처리 중 오류가 발생했습니다."),
+
+    // 6. 청크 업로드 관련
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드 세션을 찾을 수 없습니다."),
+    UPLOAD_SESSION_CLOSED(HttpStatus.CONFLICT, "이미 완료된 업로드 세션입니다."),
+    UPLOAD_OFFSET_MISMATCH(HttpStatus.CONFLICT, "업로드 오프셋이 일치하지 않습니다. 세션 상태를 조회한 뒤 이어서 업로드해주세요."),
+    UPLOAD_CHUNK_INCOMPLETE(HttpStatus.BAD_REQUEST, "청크 데이터가 Content-Range 길이보다 짧습니다."),
+    UPLOAD_INCOMPLETE(HttpStatus.BAD_REQUEST, "아직 모든 청크가 업로드되지 않았습니다."),
+    UPLOAD_CHUNK_TOO_SMALL(HttpStatus.BAD_REQUEST, "마지막 청크를 제외한 청크는 저장소의 최소 파트 크기 이상이어야 합니다."),
+    UPLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 최대 파일 크기를 초과했습니다."),
+    INVALID_CONTENT_RANGE(HttpStatus.BAD_REQUEST, "유효하지 않은 Content-Range 헤더입니다."),
+    ANALYSIS_CHUNK_NOT_FOUND(HttpStatus.NOT_FOUND, "분석 조각을 찾을 수 없습니다."),
+    INVALID_CALLBACK_PAYLOAD(HttpStatus.BAD_REQUEST, "AI 콜백 본문 형식이 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,72 @@
+package com.meetingoneline.meeting_one_line.global.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국어 검색용 n-gram 분석기
+ * 한국어는 조사/어미가 붙어("회의록을", "회의록에서") 단어 단위로는 부분 검색이 안 되므로,
+ * 단어(공백/문장부호 기준)를 소문자로 바꾼 뒤 1~2 글자 조각으로 색인한다.
+ * 검색어는 words 로 단어를 나눈 뒤 grams 로 2 글자 조각(한 글자면 그대로)을 만들어 모두 포함하는 문서를 찾는다.
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new LowerCaseFilter(source);
+        result = new NGramTokenFilter(result, 1, 2, false);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(in);
+    }
+
+    /**
+     * 검색어를 소문자 단어로 분리
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        Tokenizer tokenizer = new StandardTokenizer();
+        try (TokenStream stream = new LowerCaseFilter(tokenizer)) {
+            tokenizer.setReader(new StringReader(text));
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    /**
+     * 단어의 검색 조각 (2 글자씩 겹치게, 한 글자 단어는 그대로)
+     */
+    public static List<String> grams(String word) {
+        if (word.codePointCount(0, word.length()) <= 1) {
+            return List.of(word);
+        }
+        List<String> grams = new ArrayList<>();
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+}
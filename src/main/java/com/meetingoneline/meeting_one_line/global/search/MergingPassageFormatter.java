@@ -0,0 +1,62 @@
+package com.meetingoneline.meeting_one_line.global.search;
+
+import org.apache.lucene.search.uhighlight.Passage;
+import org.apache.lucene.search.uhighlight.PassageFormatter;
+
+/**
+ * 강조 구간을 합쳐서 표시하는 snippet 포맷
+ * n-gram 조각은 원래 단어의 위치(offset)를 그대로 가지므로 "회의록을" 한 단어에 "회의", "의록" 두 조각이 같은 구간으로 일치한다.
+ * 겹치거나 붙어 있는 구간을 하나의 <em> 으로 묶는다.
+ * 본문은 HTML 이스케이프한다.
+ */
+public class MergingPassageFormatter extends PassageFormatter {
+
+    private static final String ELLIPSIS = "…";
+
+    @Override
+    public Object format(Passage[] passages, String content) {
+        StringBuilder sb = new StringBuilder();
+        int previousEnd = -1;
+        for (Passage passage : passages) {
+            if (previousEnd >= 0 && passage.getStartOffset() > previousEnd) {
+                sb.append(ELLIPSIS);
+            }
+            int pos = passage.getStartOffset();
+            int i = 0;
+            while (i < passage.getNumMatches()) {
+                int start = passage.getMatchStarts()[i];
+                int end = passage.getMatchEnds()[i];
+                // 겹치거나 붙어 있는 일치 구간 합치기
+                while (i + 1 < passage.getNumMatches() && passage.getMatchStarts()[i + 1] <= end) {
+                    end = Math.max(end, passage.getMatchEnds()[++i]);
+                }
+                i++;
+                if (end <= pos) {
+                    continue;
+                }
+                start = Math.max(start, pos);
+                escape(sb, content, pos, start);
+                sb.append("<em>");
+                escape(sb, content, start, end);
+                sb.append("</em>");
+                pos = end;
+            }
+            escape(sb, content, pos, Math.max(pos, passage.getEndOffset()));
+            previousEnd = passage.getEndOffset();
+        }
+        return sb.toString();
+    }
+
+    private static void escape(StringBuilder sb, String content, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 저장소 (file.upload-dir 하위)
+ * 단일 노드 / 개발 환경용. AI 서버와 디스크를 공유해야 한다.
+ */
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public LocalStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, InputStream in, long contentLength, String contentType) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("로컬 저장소 쓰기 실패: {}", target, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        Path target = resolve(key);
+        try {
+            return Files.newInputStream(target);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.STORAGE_OBJECT_NOT_FOUND);
+        } catch (IOException e) {
+            log.error("로컬 저장소 읽기 실패: {}", target, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long endInclusive) {
+        Path target = resolve(key);
+        try {
+            FileChannel channel = FileChannel.open(target, StandardOpenOption.READ);
+            channel.position(start);
+            return new BoundedInputStream(Channels.newInputStream(channel), endInclusive - start + 1);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.STORAGE_OBJECT_NOT_FOUND);
+        } catch (IOException e) {
+            log.error("로컬 저장소 구간 읽기 실패: {}", target, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            return Optional.of(new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            boolean deleted = Files.deleteIfExists(resolve(key));
+            log.info("🗑 파일 삭제됨: {} (성공여부: {})", key, deleted);
+        } catch (IOException e) {
+            log.warn("로컬 파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public String locate(String key) {
+        return resolve(key).toString();
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public long minPartSize() {
+        return 1;
+    }
+
+    /**
+     * 파트는 "{key}.upload-{uploadId}" 임시 파일의 offset 위치에 바로 기록하고, 완료 시 rename 한다.
+     */
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(resolve(key).getParent());
+        } catch (IOException e) {
+            log.error("로컬 업로드 폴더 생성 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+        return uploadId;
+    }
+
+    @Override
+    public void uploadPart(String key, String uploadId, int partNumber, long offset, InputStream in, long length) {
+        Path staging = stagingPath(key, uploadId);
+        try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(in)) {
+
+            long written = 0;
+            while (written < length) {
+                long transferred = channel.transferFrom(source, offset + written, length - written);
+                if (transferred <= 0) {
+                    break; // 클라이언트 연결 종료 (EOF)
+                }
+                written += transferred;
+            }
+
+            if (written != length) {
+                log.warn("⚠️ 파트 수신 중단: key={}, part={}, expected={}, written={}", key, partNumber, length, written);
+                throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INCOMPLETE);
+            }
+
+            // 이전에 중단된 시도가 남긴 꼬리 바이트 제거
+            channel.truncate(offset + length);
+        } catch (IOException e) {
+            log.error("파트 저장 중 오류 발생: key={}, part={}", key, partNumber, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, int partCount) {
+        Path staging = stagingPath(key, uploadId);
+        Path target = resolve(key);
+        try {
+            if (!Files.exists(staging) && Files.exists(target)) {
+                return; // 이미 완료된 업로드 (완료 요청 재시도)
+            }
+            Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("로컬 멀티파트 완료 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            Files.deleteIfExists(stagingPath(key, uploadId));
+        } catch (IOException e) {
+            log.warn("로컬 멀티파트 임시 파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    /**
+     * key → 실제 경로
+     * 정규화한 경로가 root 밖이면 거부한다. ("..", 절대 경로 모두)
+     * 저장소 도입 이전에 저장된 절대 경로는 root 하위일 때만 그대로 사용된다.
+     */
+    private Path resolve(String key) {
+        Path resolved;
+        try {
+            resolved = root.resolve(key).normalize();
+        } catch (InvalidPathException e) {
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+        if (!resolved.startsWith(root)) {
+            log.warn("⚠️ 저장소 root 밖을 가리키는 key 거부: {}", key);
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+        return resolved;
+    }
+
+    private Path stagingPath(String key, String uploadId) {
+        Path target = resolve(key);
+        return target.resolveSibling(target.getFileName() + ".upload-" + uploadId);
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 스트림
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
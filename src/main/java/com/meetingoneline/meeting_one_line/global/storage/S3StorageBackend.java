@@ -0,0 +1,219 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 저장소 (AWS S3, MinIO 등)
+ * 여러 백엔드 노드와 AI 서버가 같은 버킷을 바라보므로 디스크 공유 없이 수평 확장 가능하다.
+ */
+@Slf4j
+public class S3StorageBackend implements StorageBackend, AutoCloseable {
+
+    // S3 는 마지막 파트를 제외한 모든 파트가 5MB 이상이어야 한다
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final Duration presignTtl;
+
+    public S3StorageBackend(S3Client s3, S3Presigner presigner, String bucket, Duration presignTtl) {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.presignTtl = presignTtl;
+    }
+
+    @Override
+    public void put(String key, InputStream in, long contentLength, String contentType) {
+        try {
+            s3.putObject(PutObjectRequest.builder()
+                                         .bucket(bucket)
+                                         .key(key)
+                                         .contentType(contentType)
+                                         .contentLength(contentLength)
+                                         .build(),
+                    RequestBody.fromInputStream(in, contentLength));
+        } catch (SdkException e) {
+            log.error("S3 업로드 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long endInclusive) {
+        return getObject(GetObjectRequest.builder()
+                                         .bucket(bucket)
+                                         .key(key)
+                                         .range("bytes=" + start + "-" + endInclusive)
+                                         .build());
+    }
+
+    private InputStream getObject(GetObjectRequest request) {
+        try {
+            return s3.getObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new BusinessException(ErrorCode.STORAGE_OBJECT_NOT_FOUND);
+        } catch (SdkException e) {
+            log.error("S3 읽기 실패: {}", request.key(), e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StoredObject(key, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 메타데이터 조회 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        } catch (SdkException e) {
+            log.error("S3 메타데이터 조회 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            log.info("🗑 S3 객체 삭제됨: {}", key);
+        } catch (SdkException e) {
+            log.warn("S3 객체 삭제 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public String locate(String key) {
+        return presigner.presignGetObject(builder -> builder
+                                .signatureDuration(presignTtl)
+                                .getObjectRequest(get -> get.bucket(bucket).key(key)))
+                        .url()
+                        .toString();
+    }
+
+    @Override
+    public long minPartSize() {
+        return MIN_PART_SIZE;
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        try {
+            return s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                                                                        .bucket(bucket)
+                                                                        .key(key)
+                                                                        .contentType(contentType)
+                                                                        .build())
+                     .uploadId();
+        } catch (SdkException e) {
+            log.error("S3 멀티파트 업로드 생성 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public void uploadPart(String key, String uploadId, int partNumber, long offset, InputStream in, long length) {
+        try {
+            s3.uploadPart(UploadPartRequest.builder()
+                                           .bucket(bucket)
+                                           .key(key)
+                                           .uploadId(uploadId)
+                                           .partNumber(partNumber)
+                                           .contentLength(length)
+                                           .build(),
+                    RequestBody.fromInputStream(in, length));
+        } catch (SdkException e) {
+            log.warn("⚠️ S3 파트 업로드 실패: key={}, part={}", key, partNumber, e);
+            throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INCOMPLETE);
+        }
+    }
+
+    /**
+     * 파트 ETag 는 ListParts 로 다시 가져오므로 세션에 따로 보관하지 않는다.
+     */
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, int partCount) {
+        try {
+            List<CompletedPart> parts = s3.listPartsPaginator(ListPartsRequest.builder()
+                                                                              .bucket(bucket)
+                                                                              .key(key)
+                                                                              .uploadId(uploadId)
+                                                                              .build())
+                                          .parts().stream()
+                                          .filter(part -> part.partNumber() <= partCount)
+                                          .sorted(Comparator.comparing(Part::partNumber))
+                                          .map(part -> CompletedPart.builder()
+                                                                    .partNumber(part.partNumber())
+                                                                    .eTag(part.eTag())
+                                                                    .build())
+                                          .toList();
+
+            if (parts.size() != partCount) {
+                log.error("S3 파트 수 불일치: key={}, expected={}, actual={}", key, partCount, parts.size());
+                throw new BusinessException(ErrorCode.UPLOAD_INCOMPLETE);
+            }
+
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                                                     .bucket(bucket)
+                                                                     .key(key)
+                                                                     .uploadId(uploadId)
+                                                                     .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                                                                     .build());
+        } catch (NoSuchUploadException e) {
+            // 완료 요청 재시도: 이미 합쳐진 객체가 있으면 성공으로 간주
+            if (!exists(key)) {
+                log.error("S3 멀티파트 업로드를 찾을 수 없음: {}", key, e);
+                throw new BusinessException(ErrorCode.STORAGE_ERROR);
+            }
+        } catch (SdkException e) {
+            log.error("S3 멀티파트 완료 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.STORAGE_ERROR);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                                                               .bucket(bucket)
+                                                               .key(key)
+                                                               .uploadId(uploadId)
+                                                               .build());
+        } catch (NoSuchUploadException e) {
+            // 이미 정리됨
+        } catch (SdkException e) {
+            log.warn("S3 멀티파트 중단 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        presigner.close();
+        s3.close();
+    }
+}
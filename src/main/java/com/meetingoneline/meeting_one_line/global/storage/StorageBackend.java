@@ -0,0 +1,71 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 회의 녹음 파일 저장소
+ * - 모든 객체는 저장소 내부 key("{userId}/{uuid}_{파일명}")로 식별한다.
+ * - 로컬 디스크 / S3 호환(MinIO 등) 구현을 file.storage.type 으로 선택한다.
+ */
+public interface StorageBackend {
+
+    /**
+     * 스트리밍 저장 (길이를 알고 있는 입력 스트림을 메모리에 올리지 않고 전송)
+     */
+    void put(String key, InputStream in, long contentLength, String contentType);
+
+    /**
+     * 전체 읽기 (호출측에서 반드시 close)
+     */
+    InputStream get(String key);
+
+    /**
+     * [start, endInclusive] 구간 읽기 (호출측에서 반드시 close)
+     */
+    InputStream getRange(String key, long start, long endInclusive);
+
+    /**
+     * 객체 메타데이터, 없으면 empty
+     */
+    Optional<StoredObject> stat(String key);
+
+    default boolean exists(String key) {
+        return stat(key).isPresent();
+    }
+
+    void delete(String key);
+
+    /**
+     * AI 서버가 파일을 가져갈 위치
+     * 로컬: 절대 경로 / S3: 만료 시간이 있는 presigned GET URL
+     */
+    String locate(String key);
+
+    /**
+     * 같은 디스크에 있는 경우의 로컬 경로 (sendfile 등 zero-copy 전송용)
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    // --- 멀티파트 업로드 (청크 업로드 세션용) ---
+
+    /**
+     * 마지막 파트를 제외한 파트의 최소 크기 (S3: 5MB)
+     */
+    long minPartSize();
+
+    String createMultipartUpload(String key, String contentType);
+
+    /**
+     * 파트 업로드. 같은 partNumber 로 다시 호출하면 이전 시도를 덮어쓴다.
+     * @param offset 전체 객체 기준 파트 시작 위치 (로컬 구현에서 사용)
+     */
+    void uploadPart(String key, String uploadId, int partNumber, long offset, InputStream in, long length);
+
+    void completeMultipartUpload(String key, String uploadId, int partCount);
+
+    void abortMultipartUpload(String key, String uploadId);
+}
@@ -0,0 +1,67 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 저장소 구현 선택 (file.storage.type = local | s3)
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public StorageBackend localStorageBackend(@Value("${file.upload-dir:./uploads/meetings}") String uploadDir) {
+        return new LocalStorageBackend(Path.of(uploadDir));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public StorageBackend s3StorageBackend(
+            @Value("${file.storage.s3.endpoint:}") String endpoint,
+            @Value("${file.storage.s3.region:ap-northeast-2}") String region,
+            @Value("${file.storage.s3.bucket}") String bucket,
+            @Value("${file.storage.s3.access-key:}") String accessKey,
+            @Value("${file.storage.s3.secret-key:}") String secretKey,
+            @Value("${file.storage.s3.path-style-access:true}") boolean pathStyleAccess,
+            @Value("${file.storage.s3.presign-ttl-minutes:60}") long presignTtlMinutes
+    ) {
+        // 키를 지정하지 않으면 IAM Role / 환경 변수 등 기본 자격 증명 사용
+        AwsCredentialsProvider credentials = accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        // MinIO 등은 path-style (http://host/bucket/key) 접근이 필요
+        S3Configuration s3Configuration = S3Configuration.builder()
+                                                         .pathStyleAccessEnabled(pathStyleAccess)
+                                                         .build();
+
+        var clientBuilder = S3Client.builder()
+                                    .region(Region.of(region))
+                                    .credentialsProvider(credentials)
+                                    .serviceConfiguration(s3Configuration);
+        var presignerBuilder = S3Presigner.builder()
+                                          .region(Region.of(region))
+                                          .credentialsProvider(credentials)
+                                          .serviceConfiguration(s3Configuration);
+        if (!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        return new S3StorageBackend(clientBuilder.build(), presignerBuilder.build(), bucket, Duration.ofMinutes(presignTtlMinutes));
+    }
+}
@@ -0,0 +1,9 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장된 객체 메타데이터
+ */
+public record StoredObject(String key, long size, Instant lastModified) {
+}
@@ -0,0 +1,350 @@
+package com.meetingoneline.meeting_one_line.global.transcript;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 화자 한 명의 전사를 한 덩어리(byte[])로 압축 저장하는 형식
+ * 세그먼트마다 행을 두면 UUID PK/FK, 생성/수정 시각 등 행 오버헤드가 본문보다 커지므로
+ * 시작/끝 시각은 float 배열로, 텍스트는 BLOCK_SEGMENTS 개씩 묶은 블록으로 저장한다.
+ * 블록은 따로 Deflate 압축되므로 시간 구간을 읽을 때 해당 구간이 걸친 블록만 푼다.
+ *
+ * 레이아웃 (little-endian):
+ * magic(4) | version(1) | flags(1) | count(4) | blockSegments(4)
+ * | start float[count] | end float[count]
+ * | textOffsets int[count + 1]  (압축 전 텍스트 기준 UTF-8 byte 위치)
+ * | blockOffsets int[blocks + 1] (텍스트 영역 기준 블록 위치)
+ * | 텍스트 블록들
+ * 세그먼트는 시작 시각 순으로 저장된다. (null 시각은 NaN 으로 저장)
+ *
+ * open(Source) 로 열면 텍스트 블록 앞까지(색인, 세그먼트당 12 byte 남짓)만 읽고, 텍스트 블록은 처음 필요할 때 하나씩 읽는다.
+ */
+public final class PackedTranscript {
+
+    public static final int BLOCK_SEGMENTS = 64;
+
+    private static final int MAGIC = 0x31505254; // "TRP1"
+    private static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_BYTES = 14;
+
+    // open(byte[]) 이면 전체, open(Source) 면 텍스트 블록 앞까지
+    private final ByteBuffer buf;
+    // 텍스트 블록을 읽을 곳 (open(byte[]) 이면 null, buf 에서 바로 읽음)
+    private final Source source;
+    private final boolean deflated;
+    private final int count;
+    private final int blockSegments;
+    private final int startsAt;
+    private final int endsAt;
+    private final int textOffsetsAt;
+    private final int blockOffsetsAt;
+    private final int textAt;
+
+    // 마지막으로 푼 블록 (순서대로 읽을 때 블록마다 한 번만 풀도록)
+    private int cachedBlock = -1;
+    private byte[] cachedText;
+    private int inflatedBlocks;
+
+    // i 번째까지 끝 시각의 최댓값 (구간 시작 위치 탐색용, 처음 필요할 때 계산)
+    private float[] maxEnds;
+
+    private PackedTranscript(ByteBuffer buf, Source source) {
+        this.buf = buf;
+        this.source = source;
+        this.deflated = (buf.get(5) & FLAG_DEFLATE) != 0;
+        this.count = buf.getInt(6);
+        this.blockSegments = buf.getInt(10);
+
+        this.startsAt = HEADER_BYTES;
+        this.endsAt = startsAt + Float.BYTES * count;
+        this.textOffsetsAt = endsAt + Float.BYTES * count;
+        this.blockOffsetsAt = textOffsetsAt + Integer.BYTES * (count + 1);
+        this.textAt = indexBytes(count, blockSegments);
+    }
+
+    public static PackedTranscript open(byte[] packed) {
+        return new PackedTranscript(header(packed), null);
+    }
+
+    /**
+     * 색인만 먼저 읽고 텍스트 블록은 필요할 때 source 에서 읽음
+     * (DB 의 LONGBLOB 을 통째로 올리지 않도록, source 는 같은 내용을 일관되게 돌려줘야 한다)
+     */
+    public static PackedTranscript open(Source source) {
+        ByteBuffer header = header(source.read(0, HEADER_BYTES));
+        int indexBytes = indexBytes(header.getInt(6), header.getInt(10));
+        ByteBuffer index = ByteBuffer.wrap(source.read(0, indexBytes)).order(ByteOrder.LITTLE_ENDIAN);
+        if (index.capacity() < indexBytes) {
+            throw new IllegalArgumentException("압축 전사 형식이 아닙니다.");
+        }
+        return new PackedTranscript(index, source);
+    }
+
+    private static ByteBuffer header(byte[] packed) {
+        ByteBuffer buf = ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN);
+        if (packed.length < HEADER_BYTES || buf.getInt(0) != MAGIC || buf.get(4) != VERSION) {
+            throw new IllegalArgumentException("압축 전사 형식이 아닙니다.");
+        }
+        return buf;
+    }
+
+    // 텍스트 블록 앞까지의 크기 (머리말 + 시각 배열 + 텍스트/블록 위치)
+    private static int indexBytes(int count, int blockSegments) {
+        return HEADER_BYTES + Float.BYTES * count * 2 + Integer.BYTES * (count + 1)
+                + Integer.BYTES * (blockCount(count, blockSegments) + 1);
+    }
+
+    public static Builder builder(boolean compress) {
+        return new Builder(compress);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Float startTime(int index) {
+        return toFloat(buf.getFloat(startsAt + Float.BYTES * checkIndex(index)));
+    }
+
+    public Float endTime(int index) {
+        return toFloat(buf.getFloat(endsAt + Float.BYTES * checkIndex(index)));
+    }
+
+    /**
+     * 세그먼트 텍스트 (해당 블록만 풂)
+     */
+    public String text(int index) {
+        checkIndex(index);
+        int block = index / blockSegments;
+        byte[] text = blockText(block);
+        int base = textOffset(block * blockSegments);
+        int from = textOffset(index) - base;
+        int to = textOffset(index + 1) - base;
+        return new String(text, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * [from, to) 구간과 겹칠 수 있는 세그먼트 index 범위 [lo, hi)
+     * 시각 배열만 보므로 텍스트 블록은 풀지 않는다. 범위 안에 구간과 겹치지 않는 세그먼트가 섞일 수 있으니
+     * 호출측에서 시작/끝 시각으로 한 번 더 거른다.
+     */
+    public int[] range(float from, float to) {
+        // 시작 시각이 to 이상인 첫 세그먼트
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (buf.getFloat(startsAt + Float.BYTES * mid) < to) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int end = lo;
+
+        // 그 앞에서 끝 시각이 from 보다 큰 세그먼트가 처음 나오는 위치 (끝 시각 누적 최댓값으로 이분 탐색)
+        float[] max = maxEnds();
+        lo = 0;
+        hi = end;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (max[mid] <= from) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return new int[]{lo, end};
+    }
+
+    /**
+     * 지금까지 푼 텍스트 블록 수
+     */
+    public int inflatedBlocks() {
+        return inflatedBlocks;
+    }
+
+    private float[] maxEnds() {
+        if (maxEnds == null) {
+            maxEnds = new float[count];
+            float max = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                float end = buf.getFloat(endsAt + Float.BYTES * i);
+                if (end > max) {
+                    max = end;
+                }
+                maxEnds[i] = max;
+            }
+        }
+        return maxEnds;
+    }
+
+    private byte[] blockText(int block) {
+        if (block == cachedBlock) {
+            return cachedText;
+        }
+
+        int from = buf.getInt(blockOffsetsAt + Integer.BYTES * block);
+        int to = buf.getInt(blockOffsetsAt + Integer.BYTES * (block + 1));
+        int length = textOffset(Math.min(count, (block + 1) * blockSegments)) - textOffset(block * blockSegments);
+
+        byte[] packed = buf.array();
+        int packedAt = textAt + from;
+        if (source != null) {
+            packed = source.read(packedAt, to - from);
+            packedAt = 0;
+        }
+
+        byte[] text = new byte[length];
+        if (deflated) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(packed, packedAt, to - from);
+                int read = 0;
+                while (read < length) {
+                    int n = inflater.inflate(text, read, length - read);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IllegalArgumentException("압축 전사 블록이 손상되었습니다.");
+                    }
+                    read += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("압축 전사 블록이 손상되었습니다.", e);
+            } finally {
+                inflater.end();
+            }
+        } else {
+            System.arraycopy(packed, packedAt, text, 0, length);
+        }
+
+        cachedBlock = block;
+        cachedText = text;
+        inflatedBlocks++;
+        return text;
+    }
+
+    private int textOffset(int index) {
+        return buf.getInt(textOffsetsAt + Integer.BYTES * index);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    private static Float toFloat(float value) {
+        return Float.isNaN(value) ? null : value;
+    }
+
+    private static int blockCount(int count, int blockSegments) {
+        return (count + blockSegments - 1) / blockSegments;
+    }
+
+    /**
+     * 압축 전사 바이트를 부분적으로 읽는 곳
+     */
+    @FunctionalInterface
+    public interface Source {
+        /**
+         * @param offset 0 부터 시작하는 byte 위치
+         * @return offset 부터 최대 length byte
+         */
+        byte[] read(int offset, int length);
+    }
+
+    /**
+     * 세그먼트를 모아 압축 전사 생성 (입력 순서와 관계없이 시작 시각 순으로 저장)
+     */
+    public static final class Builder {
+        private final boolean compress;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Builder(boolean compress) {
+            this.compress = compress;
+        }
+
+        public Builder add(Float startTime, Float endTime, String text) {
+            entries.add(new Entry(startTime == null ? Float.NaN : startTime,
+                    endTime == null ? Float.NaN : endTime,
+                    (text == null ? "" : text).getBytes(StandardCharsets.UTF_8)));
+            return this;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public byte[] build() {
+            // 안정 정렬이라 같은 시작 시각은 입력 순서를 유지 (NaN 은 맨 뒤)
+            List<Entry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparingDouble(Entry::start));
+
+            int count = sorted.size();
+            int blocks = blockCount(count, BLOCK_SEGMENTS);
+            int[] textOffsets = new int[count + 1];
+            for (int i = 0; i < count; i++) {
+                textOffsets[i + 1] = textOffsets[i] + sorted.get(i).text().length;
+            }
+
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            int[] blockOffsets = new int[blocks + 1];
+            Deflater deflater = compress ? new Deflater() : null;
+            try {
+                for (int b = 0; b < blocks; b++) {
+                    ByteArrayOutputStream raw = new ByteArrayOutputStream();
+                    for (int i = b * BLOCK_SEGMENTS; i < Math.min(count, (b + 1) * BLOCK_SEGMENTS); i++) {
+                        raw.writeBytes(sorted.get(i).text());
+                    }
+                    text.writeBytes(deflater != null ? deflate(deflater, raw.toByteArray()) : raw.toByteArray());
+                    blockOffsets[b + 1] = text.size();
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+
+            ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES
+                                                 + 2 * Float.BYTES * count
+                                                 + Integer.BYTES * (count + 1)
+                                                 + Integer.BYTES * (blocks + 1)
+                                                 + text.size())
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).put(VERSION).put(compress ? FLAG_DEFLATE : 0).putInt(count).putInt(BLOCK_SEGMENTS);
+            sorted.forEach(entry -> out.putFloat(entry.start()));
+            sorted.forEach(entry -> out.putFloat(entry.end()));
+            Arrays.stream(textOffsets).forEach(out::putInt);
+            Arrays.stream(blockOffsets).forEach(out::putInt);
+            out.put(text.toByteArray());
+            return out.array();
+        }
+
+        private static byte[] deflate(Deflater deflater, byte[] raw) {
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        }
+
+        private record Entry(float start, float end, byte[] text) {
+        }
+    }
+}
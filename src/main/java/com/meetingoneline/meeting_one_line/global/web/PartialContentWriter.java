@@ -0,0 +1,281 @@
+package com.meetingoneline.meeting_one_line.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파일을 HTTP Range(206) / 조건부 요청(304)을 지원하며 전송
+ * - 로컬 파일이면 Tomcat sendfile 로 커넥터에 파일 구간만 넘기고(커널 zero-copy),
+ *   sendfile 이 없으면 FileChannel.transferTo 로 요청 구간만 전송한다.
+ * - 원격 저장소는 구간 스트림을 고정 크기 버퍼로 복사한다.
+ * - 어느 경우든 파일 앞부분을 읽거나 구간 크기만큼 힙을 잡지 않는다.
+ */
+@Slf4j
+public final class PartialContentWriter {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    // Tomcat 의 sendfile 요청 속성 (org.apache.tomcat.util.net.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private PartialContentWriter() {
+    }
+
+    /**
+     * 전송할 본문
+     */
+    public interface Body {
+        /**
+         * 같은 디스크에 있는 파일이면 경로 (zero-copy 전송)
+         */
+        Optional<Path> localFile();
+
+        /**
+         * [start, endInclusive] 구간 스트림
+         */
+        InputStream open(long start, long endInclusive) throws IOException;
+
+        static Body of(Path file) {
+            return new Body() {
+                @Override
+                public Optional<Path> localFile() {
+                    return Optional.of(file);
+                }
+
+                @Override
+                public InputStream open(long start, long endInclusive) throws IOException {
+                    return new FileRangeInputStream(FileChannel.open(file, StandardOpenOption.READ), start, endInclusive - start + 1);
+                }
+            };
+        }
+    }
+
+    /**
+     * 파일 구간 스트림 (FileChannel 위치 읽기, 구간 밖은 읽지 않음)
+     */
+    private static final class FileRangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        FileRangeInputStream(FileChannel channel, long start, long length) {
+            this.channel = channel;
+            this.position = start;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == 1 ? one[0] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+            if (n <= 0) {
+                return -1; // 파일이 전송 도중 잘린 경우
+            }
+            position += n;
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public static void write(HttpServletRequest request, HttpServletResponse response,
+                             Path file, long length, String contentType,
+                             String etag, Instant lastModified) throws IOException {
+        write(request, response, Body.of(file), length, contentType, etag, lastModified);
+    }
+
+    /**
+     * @param etag         따옴표를 포함한 ETag 값
+     * @param lastModified 파일 수정 시각
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response,
+                             Body body, long length, String contentType,
+                             String etag, Instant lastModified) throws IOException {
+        long lastModifiedMillis = lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModifiedMillis);
+
+        // 1. 조건부 요청 (If-None-Match 가 있으면 If-Modified-Since 는 무시)
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (matchesEtag(ifNoneMatch, etag)) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
+        } else if (lastModifiedMillis <= safeDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        // 2. Range 해석 (If-Range 가 현재 버전과 다르면 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModifiedMillis)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == null) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        // 3. 본문 전송
+        Optional<Path> localFile = body.localFile();
+        if (localFile.isEmpty()) {
+            try (InputStream in = body.open(start, end)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+
+        Path file = localFile.get();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 파일이 전송 도중 잘린 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * "bytes=a-b" / "bytes=a-" / "bytes=-n" 해석
+     * @return [start, end] / 만족 불가면 null / 여러 구간 요청이면 빈 배열(전체 전송)
+     */
+    static long[] parseRange(String header, long length) {
+        if (header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        Matcher matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return new long[0];
+        }
+
+        try {
+            long start;
+            long end;
+            if (matcher.group(1).isEmpty()) {
+                // 마지막 n 바이트
+                long suffix = Long.parseLong(matcher.group(2));
+                if (suffix == 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(matcher.group(1));
+                end = matcher.group(2).isEmpty() ? length - 1 : Math.min(Long.parseLong(matcher.group(2)), length - 1);
+            }
+
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModifiedMillis) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false; // 약한 검증자는 If-Range 에 쓸 수 없으므로 전체 200 응답
+        }
+        if (ifRange.startsWith("\"")) {
+            return etag != null && !etag.startsWith("W/") && ifRange.equals(etag); // If-Range 는 강한 비교
+        }
+        return lastModifiedMillis == safeDateHeader(request, HttpHeaders.IF_RANGE);
+    }
+
+    private static boolean matchesEtag(String header, String etag) {
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long safeDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
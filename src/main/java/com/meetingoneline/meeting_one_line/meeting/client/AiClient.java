@@ -2,6 +2,7 @@ package com.meetingoneline.meeting_one_line.meeting.client;
 
 import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
 import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,11 +11,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -26,6 +28,9 @@ public class AiClient {
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
+    @Value("${ai.server.request-timeout-seconds:30}")
+    private long requestTimeoutSeconds;
+
 
     /**
      * 유사성 검색 요청
@@ -71,39 +76,47 @@ public class AiClient {
 
 
     /**
-     * AI 서버 분석 요청 (비동기 fire-and-forget)
-     * @param onErrorFailHandler 실패 시 수행할 콜백 (예: DB 상태 변경)
+     * AI 서버 분석 요청
+     * AI 서버가 요청을 접수(2xx)하면 완료되는 Mono. 재시도/실패 처리는 outbox 디스패처가 담당한다.
      */
-    public void requestAnalysis(UUID userId, UUID meetingId, String filePath, String meetingTitle, Consumer<Throwable> onErrorFailHandler) {
-        Map<String, Object> requestBody = Map.of(
-                "userId", userId.toString(),
-                "meetingId", meetingId.toString(),
-                "filePath", filePath,
-                "meetingTitle", meetingTitle
-        );
+    public Mono<Void> requestAnalysis(UUID userId, UUID meetingId, String filePath, String meetingTitle) {
+        return requestAnalysis(userId, meetingId, filePath, meetingTitle, null);
+    }
+
+    /**
+     * AI 서버 분석 요청 (분할 분석 조각이면 chunk 정보 포함, 콜백에 chunkIndex 를 그대로 돌려받는다)
+     */
+    public Mono<Void> requestAnalysis(UUID userId, UUID meetingId, String filePath, String meetingTitle, ChunkInfo chunk) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("userId", userId.toString());
+        requestBody.put("meetingId", meetingId.toString());
+        requestBody.put("filePath", filePath);
+        requestBody.put("meetingTitle", meetingTitle);
+        if (chunk != null) {
+            requestBody.put("chunkIndex", chunk.index());
+            requestBody.put("chunkCount", chunk.count());
+            requestBody.put("offsetSeconds", chunk.offsetSeconds());
+        }
 
         log.info("### AI 서버에 분석 요청 시작: /ai/analyze {}", requestBody);
 
-        webClient.post()
-                 .uri("/ai/analyze")
-                 .contentType(MediaType.APPLICATION_JSON)
-                 .bodyValue(requestBody)
-                 .retrieve()
-                 .onStatus(
-                         status -> status.is4xxClientError() || status.is5xxServerError(),
-                         clientResponse -> clientResponse.bodyToMono(String.class)
-                                                         .flatMap(body -> {
-                                                             log.error("### AI 서버 오류 응답: {}", body);
-                                                             return Mono.error(new RuntimeException("AI 서버 오류: " + body));
-                                                         })
-                 )
-                 .bodyToMono(Void.class)
-                 .doOnError(error -> {
-                     log.error("### AI 서버 요청 실패 (meetingId={}): {}", meetingId, error.getMessage());
-                     if (onErrorFailHandler != null) onErrorFailHandler.accept(error);
-                 })
-                 .doOnSuccess(v -> log.info("### AI 서버 요청 완료 (meetingId={})", meetingId))
-                 .subscribe();
+        return webClient.post()
+                        .uri("/ai/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .onStatus(
+                                status -> status.is4xxClientError() || status.is5xxServerError(),
+                                clientResponse -> clientResponse.bodyToMono(String.class)
+                                                                .flatMap(body -> {
+                                                                    log.error("### AI 서버 오류 응답: {}", body);
+                                                                    return Mono.error(new RuntimeException("AI 서버 오류: " + body));
+                                                                })
+                        )
+                        .bodyToMono(Void.class)
+                        .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                        .doOnError(error -> log.error("### AI 서버 요청 실패 (meetingId={}): {}", meetingId, error.getMessage()))
+                        .doOnSuccess(v -> log.info("### AI 서버 요청 완료 (meetingId={})", meetingId));
     }
 
     public void requestUpsertSync(UUID userId, UUID meetingId,
@@ -169,4 +182,29 @@ public class AiClient {
                  .block(); // ✅ 동기 호출
     }
 
+    /**
+     * 임베딩 업서트 요청용 화자/세그먼트 payload 변환
+     */
+    public static List<Map<String, Object>> toSpeakerPayload(List<SpeakerEntity> speakers) {
+        return speakers.stream()
+                       .map(sp -> Map.<String, Object>ofEntries(
+                               Map.entry("speakerId", sp.getSpeakerId()),
+                               Map.entry("name", sp.getName() != null ? sp.getName() : ""),
+                               Map.entry("segments", sp.readSegments().stream()
+                                                       .map(seg -> Map.ofEntries(
+                                                               Map.entry("start", seg.getStartTime() != null ? seg.getStartTime() : 0.0),
+                                                               Map.entry("end", seg.getEndTime() != null ? seg.getEndTime() : 0.0),
+                                                               Map.entry("text", seg.getText() != null ? seg.getText() : "")
+                                                       ))
+                                                       .toList())
+                       )).toList();
+    }
+
+
+    /**
+     * 분할 분석 조각 정보
+     * @param offsetSeconds 원본 녹음 기준 조각 시작 위치
+     */
+    public record ChunkInfo(int index, int count, double offsetSeconds) {
+    }
 }
@@ -1,22 +1,43 @@
 package com.meetingoneline.meeting_one_line.meeting.controller;
 
 import com.meetingoneline.meeting_one_line.global.dto.ApiErrorResponse;
+import com.meetingoneline.meeting_one_line.global.web.PartialContentWriter;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.ExportFormat;
+import com.meetingoneline.meeting_one_line.meeting.service.CallbackIngestService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingAudioService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingExportService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingResponseCache;
 import com.meetingoneline.meeting_one_line.meeting.service.MeetingService;
+import com.meetingoneline.meeting_one_line.meeting.service.PartialTranscriptService;
+import com.meetingoneline.meeting_one_line.meeting.service.TranscriptWindowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,7 +45,16 @@ import java.util.UUID;
 @Tag(name = "Meetings", description = "회의 관리 API")
 public class MeetingController {
 
+    private static final String EXPORT_PERMIT_KEY = MeetingController.class.getName() + ".exportPermit";
+
     private final MeetingService meetingService;
+    private final MeetingAudioService meetingAudioService;
+    private final MeetingExportService meetingExportService;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+    private final MeetingResponseCache meetingResponseCache;
+    private final CallbackIngestService callbackIngestService;
+    private final PartialTranscriptService partialTranscriptService;
+    private final TranscriptWindowService transcriptWindowService;
 
     @Operation(
             summary = "회의 녹음 업로드 및 생성",
@@ -49,18 +79,23 @@ public class MeetingController {
             @AuthenticationPrincipal UUID userId,
             @RequestPart("title") String title,
             @RequestPart("date") String date,
-            @RequestPart("file") MultipartFile file
+            @RequestPart("file") MultipartFile file,
+            @RequestPart(value = "priority", required = false) String priority
     ) {
         LocalDateTime localDateTime = OffsetDateTime.parse(date).toLocalDateTime();
 
-        MeetingRequestDto.CreateRequest req = new MeetingRequestDto.CreateRequest(title, localDateTime, file);
+        MeetingRequestDto.CreateRequest req =
+                new MeetingRequestDto.CreateRequest(title, localDateTime, file, AnalysisPriority.from(priority));
         MeetingResponseDto.CreateResponse response = meetingService.uploadMeeting(userId, req);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @Operation(
             summary = "AI 분석 결과 콜백 (AI 서버 전용)",
-            description = "AI 서버가 분석 완료 후 회의 결과 데이터를 전달합니다.",
+            description = """
+                    AI 서버가 분석 완료 후 회의 결과 데이터를 전달합니다. 본문은 스트리밍으로 읽어 전사 길이와 관계없이 일정한 메모리로 저장합니다.
+                    inbox 사용 시(기본) 본문을 보관하고 바로 202 를 반환하며, 회의 반영은 비동기로 이뤄집니다. 같은 본문을 다시 보내도 한 번만 반영됩니다.
+                    """,
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -68,18 +103,50 @@ public class MeetingController {
                     )
             ),
             responses = {
-                    @ApiResponse(responseCode = "200", description = "회의록 결과 저장 성공",
+                    @ApiResponse(responseCode = "200", description = "회의록 결과 저장 성공 (inbox 미사용 시)",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.AiCallbackResponse.class))),
+                    @ApiResponse(responseCode = "202", description = "콜백 접수 (반영은 비동기)",
                             content = @Content(schema = @Schema(implementation = MeetingResponseDto.AiCallbackResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "본문 형식 오류",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
                     @ApiResponse(responseCode = "404", description = "회의 ID를 찾을 수 없음",
                             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
             }
     )
-    @PostMapping("/{id}/callback")
+    @PostMapping(value = "/{id}/callback", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<MeetingResponseDto.AiCallbackResponse> callbackMeeting(
             @PathVariable("id") UUID meetingId,
-            @RequestBody MeetingRequestDto.AiCallbackRequest request
+            HttpServletRequest request
+    ) throws IOException {
+        if (callbackIngestService.isInboxEnabled()) {
+            return ResponseEntity.accepted().body(callbackIngestService.enqueue(meetingId, request.getInputStream()));
+        }
+        MeetingResponseDto.AiCallbackResponse response = callbackIngestService.ingest(meetingId, request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "AI 부분 전사 콜백 (AI 서버 전용)",
+            description = """
+                AI 서버가 분석 진행 중 STT 세그먼트를 batch 로 전달합니다.
+                batch 는 `sequence` 기준으로 한 번만 반영되며(재전송 무시), 회의는 `PROCESSING` 상태를 유지합니다.
+                요약/키워드/피드백은 최종 콜백(`/callback`)으로 전달하고, 최종 콜백에서 `speakers` 를 생략하면 부분 전사로 쌓인 전사가 그대로 유지됩니다.
+                """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "반영 완료 또는 중복/완료된 회의라 무시",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.AiCallbackResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "sequence 누락",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "회의 ID를 찾을 수 없음",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @PostMapping(value = "/{id}/callback/partial", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MeetingResponseDto.AiCallbackResponse> partialCallbackMeeting(
+            @PathVariable("id") UUID meetingId,
+            @Valid @RequestBody MeetingRequestDto.PartialCallbackRequest request
     ) {
-        MeetingResponseDto.AiCallbackResponse response = meetingService.processCallback(meetingId, request);
+        MeetingResponseDto.AiCallbackResponse response = partialTranscriptService.append(meetingId, request);
         return ResponseEntity.ok(response);
     }
 
@@ -107,12 +174,46 @@ public class MeetingController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "회의록 목록 cursor 조회 (무한 스크롤)",
+            description = """
+                    저장된 회의록을 생성일 역순으로 조회합니다. 페이지 번호 대신 응답의 nextCursor 를 cursor 로 넘기면 이어서 조회하고,
+                    nextCursor 가 null 이면 목록의 끝입니다. 회의가 많아도 뒤쪽 조회가 느려지지 않습니다.
+                    전체 개수는 withTotal=true 일 때만 계산합니다. (첫 조회에서만 요청하는 것을 권장)
+                    keyword/title/summary/status 검색은 DB 조건 조회와 같습니다.
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.CursorListResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 cursor",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<MeetingResponseDto.CursorListResponse> scrollMeetings(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String summary,
+            @RequestParam(required = false) String status
+    ) {
+        MeetingResponseDto.CursorListResponse response =
+                meetingService.scrollMeetings(userId, size, cursor, withTotal, keyword, title, summary, status);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "회의록 상세 조회",
-            description = "특정 회의의 상세 정보 및 분석 결과를 조회합니다.",
+            description = "특정 회의의 상세 정보 및 분석 결과를 조회합니다. segments=false 면 세그먼트 없이 화자 목록만 반환합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공",
                             content = @Content(schema = @Schema(implementation = MeetingResponseDto.DetailResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
                     @ApiResponse(responseCode = "404", description = "회의록을 찾을 수 없습니다.",
                             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
                     @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.",
@@ -120,14 +221,147 @@ public class MeetingController {
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<MeetingResponseDto.DetailResponse> getMeetingDetail(
+    public ResponseEntity<?> getMeetingDetail(
             @AuthenticationPrincipal UUID userId,
-            @PathVariable("id") UUID meetingId
+            @PathVariable("id") UUID meetingId,
+            @RequestParam(defaultValue = "true") boolean segments,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
+        if (!segments) {
+            MeetingResponseDto.DetailResponse response = meetingService.getMeetingDetail(userId, meetingId, false);
+            return ResponseEntity.ok(response);
+        }
+
+        // 캐시에 있으면 DB 조회 없이 응답, 없으면 스냅샷(또는 원본 조립)으로 채움
+        MeetingResponseCache.Entry entry = meetingResponseCache.get(MeetingResponseCache.Kind.DETAIL, meetingId, userId,
+                () -> meetingDetailSnapshotService.isEnabled()
+                        ? meetingDetailSnapshotService.getDetail(userId, meetingId)
+                        : meetingResponseCache.json(userId, meetingService.getMeetingDetail(userId, meetingId, true)));
+
+        // gzip 으로 저장돼 있으면 클라이언트가 받을 수 있을 때 그대로 전송
+        boolean sendGzip = entry.gzip() && acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (webRequest.checkNotModified(entry.etag(sendGzip))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                           .contentType(MediaType.APPLICATION_JSON)
+                                                           .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (sendGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(sendGzip ? entry.body() : entry.json());
+    }
+
+    @Operation(
+            summary = "회의 전사 시간 구간 조회",
+            description = """
+                    전 화자의 세그먼트를 시작 시각 순으로 합쳐 [from, to) 구간(초)을 limit 개씩 조회합니다. (limit 기본 100, 최대 500)
+                    응답의 nextCursor 를 cursor 로 넘기면 이어서 조회하고, nextCursor 가 null 이면 구간의 끝입니다.
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.SegmentWindowResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 구간 / limit / cursor",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "회의록을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{id}/segments")
+    public ResponseEntity<MeetingResponseDto.SegmentWindowResponse> getSegments(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("id") UUID meetingId,
+            @RequestParam(required = false) Float from,
+            @RequestParam(required = false) Float to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
     ) {
-        MeetingResponseDto.DetailResponse response = meetingService.getMeetingDetail(userId, meetingId);
+        MeetingResponseDto.SegmentWindowResponse response =
+                transcriptWindowService.getSegments(userId, meetingId, from, to, limit, cursor);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "회의록 내보내기",
+            description = """
+                회의록을 txt / md / json(NDJSON) 형식으로 내려받습니다.
+                세그먼트를 DB 에서 읽는 즉시 응답으로 흘려보내므로 긴 회의도 전체를 모아 만들지 않습니다.
+                json 은 한 줄에 객체 하나 (첫 줄 회의 정보, 이후 시작 시각 순 세그먼트) 입니다.
+                """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "내보내기 스트림"),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 형식",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "회의록을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "503", description = "동시 내보내기 한도 초과",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportMeeting(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("id") UUID meetingId,
+            @RequestParam(defaultValue = "txt") String format,
+            HttpServletRequest request
+    ) {
+        MeetingExportService.Export export = meetingExportService.prepare(userId, meetingId, ExportFormat.from(format));
+        try {
+            // 본문을 쓰기 전에 요청이 끝나도(타임아웃, 연결 끊김 등) 내보내기 자리 반납 (write 가 이미 반납했으면 무시)
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT_KEY, new CallableProcessingInterceptor() {
+                @Override
+                public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                    export.permit().release();
+                }
+            });
+            return ResponseEntity.ok()
+                                 .contentType(MediaType.parseMediaType(export.format().getContentType()))
+                                 .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                                                            .filename(export.fileName(), StandardCharsets.UTF_8)
+                                                                                            .build()
+                                                                                            .toString())
+                                 .body(out -> meetingExportService.write(export, out));
+        } catch (RuntimeException e) {
+            export.permit().release();
+            throw e;
+        }
+    }
+
+    @Operation(
+            summary = "회의 녹음 재생",
+            description = """
+                저장된 회의 녹음 파일을 스트리밍합니다.
+                `Range: bytes={start}-{end}` 요청 시 206 Partial Content 로 해당 구간만 전송하며,
+                `If-None-Match` / `If-Modified-Since` 가 일치하면 304를 반환합니다.
+                """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "전체 파일 전송"),
+                    @ApiResponse(responseCode = "206", description = "요청 구간 전송"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "416", description = "유효하지 않은 Range"),
+                    @ApiResponse(responseCode = "404", description = "회의록 또는 녹음 파일을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{id}/audio")
+    public void streamAudio(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("id") UUID meetingId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        MeetingAudioService.AudioFile audio = meetingAudioService.getAudioFile(userId, meetingId);
+        PartialContentWriter.write(request, response, meetingAudioService.openBody(audio), audio.length(), audio.contentType(),
+                audio.etag(), audio.lastModified());
+    }
+
     @Operation(
             summary = "회의록 수정",
             description = "회의 제목, 요약문, 키워드 등을 수정합니다.(* segments 수정시, speakerId는 일치해야합니다.)",
@@ -183,6 +417,7 @@ public class MeetingController {
                 로그인한 사용자의 회의 중 **AI 분석이 아직 완료되지 않은(`UPLOADED`, `PROCESSING`) 회의 목록**을 반환합니다.
                 기본적으로 최근 1시간 이내(`created_at >= NOW() - INTERVAL 1 HOUR`) 생성된 회의만 포함됩니다.
                 프론트엔드는 이 API를 5초~10초 간격으로 호출하여 분석 완료 여부를 확인할 수 있습니다.
+                각 회의에는 업로드 시 파일 헤더에서 읽은 녹음 길이와 이를 바탕으로 추정한 분석 완료 예상 시각(`estimatedCompletedAt`)이 포함됩니다.
                 """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -0,0 +1,116 @@
+package com.meetingoneline.meeting_one_line.meeting.controller;
+
+import com.meetingoneline.meeting_one_line.global.dto.ApiErrorResponse;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.service.UploadSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.*;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/meetings/uploads")
+@Tag(name = "Meeting Uploads", description = "이어받기 가능한 청크 업로드 API")
+public class UploadSessionController {
+
+    private final UploadSessionService uploadSessionService;
+
+    @Operation(
+            summary = "청크 업로드 세션 생성",
+            description = "파일 메타데이터로 업로드 세션을 만들고 uploadId를 발급합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "세션 생성 성공",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.UploadSessionResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "413", description = "최대 파일 크기 초과",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @PostMapping
+    public ResponseEntity<MeetingResponseDto.UploadSessionResponse> createSession(
+            @AuthenticationPrincipal UUID userId,
+            @RequestBody MeetingRequestDto.CreateUploadSessionRequest request
+    ) {
+        LocalDateTime localDateTime = OffsetDateTime.parse(request.getDate()).toLocalDateTime();
+
+        MeetingResponseDto.UploadSessionResponse response = uploadSessionService.createSession(userId, request, localDateTime);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(
+            summary = "업로드 세션 상태 조회",
+            description = "연결이 끊긴 경우 receivedBytes 를 확인하고 해당 오프셋부터 이어서 업로드합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.UploadSessionResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "업로드 세션을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<MeetingResponseDto.UploadSessionResponse> getSession(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("uploadId") UUID uploadId
+    ) {
+        return ResponseEntity.ok(uploadSessionService.getSession(userId, uploadId));
+    }
+
+    @Operation(
+            summary = "청크 업로드",
+            description = """
+                요청 본문(application/octet-stream)을 `Content-Range: bytes {start}-{end}/{total}` 위치에 append 합니다.
+                start 는 반드시 현재 receivedBytes 와 같아야 하며, 다르면 409를 반환합니다.
+                """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "청크 저장 성공",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.UploadSessionResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 Content-Range",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "오프셋 불일치 또는 이미 완료된 세션",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<MeetingResponseDto.UploadSessionResponse> uploadChunk(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("uploadId") UUID uploadId,
+            @RequestHeader(HttpHeaders.CONTENT_RANGE) String contentRange,
+            HttpServletRequest request
+    ) throws IOException {
+        MeetingResponseDto.UploadSessionResponse response =
+                uploadSessionService.appendChunk(userId, uploadId, contentRange, request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "청크 업로드 완료",
+            description = "모든 청크가 수신되면 회의를 생성하고 AI 서버에 분석을 요청합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "업로드 완료",
+                            content = @Content(schema = @Schema(implementation = MeetingResponseDto.CreateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "아직 모든 청크가 업로드되지 않았습니다.",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<MeetingResponseDto.CreateResponse> complete(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable("uploadId") UUID uploadId
+    ) {
+        MeetingResponseDto.CreateResponse response = uploadSessionService.complete(userId, uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,6 +1,8 @@
 package com.meetingoneline.meeting_one_line.meeting.dto;
 
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
@@ -21,6 +23,34 @@ public class MeetingRequestDto {
 
         @Schema(description = "회의 음성 파일 (wav/mp3)", type = "string", format = "binary")
         private MultipartFile file;
+
+        @Schema(description = "분석 우선순위 (같은 사용자의 대기 요청 사이 순서, 생략 시 NORMAL)", example = "NORMAL")
+        private AnalysisPriority priority;
+    }
+
+    /**
+     * 청크 업로드 세션 생성 요청
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "청크 업로드 세션 생성 요청 DTO")
+    public static class CreateUploadSessionRequest {
+        @Schema(description = "회의 제목", example = "AI 기획 회의")
+        private String title;
+
+        @Schema(description = "회의 일시 (ISO-8601, offset 포함)", example = "2025-10-21T14:00:00+09:00")
+        private String date;
+
+        @Schema(description = "원본 파일명", example = "meeting.wav")
+        private String fileName;
+
+        @Schema(description = "전체 파일 크기 (byte)", example = "734003200")
+        private Long totalSize;
+
+        @Schema(description = "분석 우선순위 (LOW / NORMAL / HIGH, 생략 시 NORMAL)", example = "HIGH")
+        private String priority;
     }
 
     /**
@@ -44,6 +74,9 @@ public class MeetingRequestDto {
 
         private Feedback feedback;
 
+        @Schema(description = "분할 분석 조각 번호 (분할 분석 요청에 포함된 chunkIndex 를 그대로 반환, 전체 분석이면 생략)", example = "0")
+        private Integer chunkIndex;
+
         @Getter
         @NoArgsConstructor
         @AllArgsConstructor
@@ -113,6 +146,22 @@ public class MeetingRequestDto {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "MeetingRequestDto.PartialCallbackRequest", description = "AI 부분 전사 콜백 요청 DTO (분석 진행 중 세그먼트 batch 전달)")
+    public static class PartialCallbackRequest {
+        @NotNull(message = "sequence 는 필수입니다.")
+        @Schema(description = "batch 순번 (같은 회의/조각 안에서 유일, 재전송 시 같은 값)", example = "3")
+        private Long sequence;
+
+        @Schema(description = "분할 분석 조각 번호 (전체 분석이면 생략)", example = "0")
+        private Integer chunkIndex;
+
+        private List<AiCallbackRequest.Speaker> speakers;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -1,7 +1,13 @@
 package com.meetingoneline.meeting_one_line.meeting.dto;
 
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
 import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.UploadSessionEntity;
 import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingListQueryRepository;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import org.springframework.data.domain.Page;
@@ -26,6 +32,33 @@ public class MeetingResponseDto {
         private String message;
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "청크 업로드 세션 상태 응답 DTO")
+    public static class UploadSessionResponse {
+        @Schema(description = "업로드 세션 UUID", example = "5a0c1a7e-3f51-4a8e-9f0e-8a2d2f1f6b11")
+        private UUID uploadId;
+
+        @Schema(description = "세션 상태", example = "IN_PROGRESS")
+        private UploadSessionStatus status;
+
+        @Schema(description = "서버가 수신한 바이트 수 (다음 청크의 시작 오프셋)", example = "8388608")
+        private long receivedBytes;
+
+        @Schema(description = "전체 파일 크기 (byte)", example = "734003200")
+        private long totalSize;
+
+        public static UploadSessionResponse from(UploadSessionEntity session) {
+            return UploadSessionResponse.builder()
+                                        .uploadId(session.getId())
+                                        .status(session.getStatus())
+                                        .receivedBytes(session.getReceivedBytes())
+                                        .totalSize(session.getTotalSize())
+                                        .build();
+        }
+    }
+
     /**
      * ai 분석 후 > callback api 응답
      */
@@ -63,6 +96,12 @@ public class MeetingResponseDto {
 
             @Schema(description = "생성 시각")
             private LocalDateTime createdAt;
+
+            @Schema(description = "녹음 길이(초), 헤더를 해석하지 못한 파일은 null", example = "1830")
+            private Long audioDurationSeconds;
+
+            @Schema(description = "분석 완료 예상 시각 (녹음 길이 기반 추정, 대기열 시간은 제외)")
+            private LocalDateTime estimatedCompletedAt;
         }
     }
 
@@ -82,19 +121,28 @@ public class MeetingResponseDto {
         @Schema(description = "회의 상태", example = "completed")
         private RecordSaveStatus status;
 
-        @Schema(description = "회의 요약문")
+        @Schema(description = "회의 요약문 앞부분 (최대 200자)")
         private String summary;
 
         @Schema(description = "생성 시각")
         private LocalDateTime createdAt;
 
-        public static ListItem from(MeetingEntity entity) {
+        @Schema(description = "검색어가 일치한 요약/전사 부분 (일치 구간은 <em>, 검색하지 않았거나 제목/키워드에서만 일치하면 null)",
+                example = "다음 주까지 <em>회의록을</em> 공유하기로 했습니다")
+        private String highlight;
+
+        public static ListItem from(MeetingListQueryRepository.Row row) {
+            return from(row, null);
+        }
+
+        public static ListItem from(MeetingListQueryRepository.Row row, String highlight) {
             return ListItem.builder()
-                           .meetingId(entity.getId())
-                           .title(entity.getTitle())
-                           .status(entity.getStatus())
-                           .summary(entity.getSummary())
-                           .createdAt(entity.getCreatedAt())
+                           .meetingId(row.id())
+                           .title(row.title())
+                           .status(row.status())
+                           .summary(row.summaryPreview())
+                           .createdAt(row.createdAt())
+                           .highlight(highlight)
                            .build();
         }
     }
@@ -110,7 +158,7 @@ public class MeetingResponseDto {
         private int size;
         private int totalPages;
 
-        public static ListResponse from(Page<MeetingEntity> pageResult) {
+        public static ListResponse from(Page<MeetingListQueryRepository.Row> pageResult) {
             List<ListItem> items = pageResult.getContent().stream()
                                              .map(ListItem::from)
                                              .toList();
@@ -122,6 +170,33 @@ public class MeetingResponseDto {
                                .totalPages(pageResult.getTotalPages())
                                .build();
         }
+
+        public static ListResponse of(List<ListItem> items, int page, int size, long total) {
+            return ListResponse.builder()
+                               .content(items)
+                               .page(page)
+                               .size(size)
+                               .totalPages((int) ((total + size - 1) / size))
+                               .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "회의록 목록 cursor 조회 응답 DTO")
+    public static class CursorListResponse {
+        private List<ListItem> content;
+
+        @Schema(description = "요청한 개수 (최대 100)", example = "20")
+        private int size;
+
+        @Schema(description = "다음 목록 조회용 cursor (마지막 목록이면 null)", example = "MjAyNS0xMC0yMFQxNTowMHxjNDFiODliNy0wYjY5LTRjOTAtOWQzZi0zYTI1OGZlNjgyYzQ")
+        private String nextCursor;
+
+        @Schema(description = "조건에 맞는 전체 회의 수 (withTotal=true 일 때만, 아니면 null)", example = "1532")
+        private Long totalCount;
     }
 
     @Getter
@@ -154,6 +229,33 @@ public class MeetingResponseDto {
         @Schema(description = "파일 경로", example = "/data/uploads/meeting_123.wav")
         private String filePath;
 
+        /**
+         * 상세 응답 구성 (키워드/화자/세그먼트가 초기화된 회의 기준, MeetingRepository.findDetailById)
+         */
+        public static DetailResponse from(MeetingEntity entity) {
+            return from(entity, true);
+        }
+
+        /**
+         * @param withSegments false 면 화자 목록만 내려주고 세그먼트는 null (긴 회의는 /segments 로 구간 조회)
+         */
+        public static DetailResponse from(MeetingEntity entity, boolean withSegments) {
+            return DetailResponse.builder()
+                                 .meetingId(entity.getId())
+                                 .title(entity.getTitle())
+                                 .date(entity.getDate())
+                                 .status(entity.getStatus().name().toLowerCase())
+                                 .summary(entity.getSummary())
+                                 .keywords(entity.getKeywords().stream()
+                                                 .map(KeywordEntity::getKeyword)
+                                                 .toList())
+                                 .speakers(entity.getSpeakers().stream()
+                                                 .map(speaker -> Speaker.from(speaker, withSegments))
+                                                 .toList())
+                                 .filePath(entity.getFilePath())
+                                 .build();
+        }
+
         @Getter
         @Builder
         @NoArgsConstructor
@@ -163,6 +265,22 @@ public class MeetingResponseDto {
             private String speakerId;
             private String name;
             private List<Segment> segments;
+
+            public static Speaker from(SpeakerEntity speaker) {
+                return from(speaker, true);
+            }
+
+            public static Speaker from(SpeakerEntity speaker, boolean withSegments) {
+                return Speaker.builder()
+                              .speakerId(speaker.getSpeakerId())
+                              .name(speaker.getName())
+                              .segments(withSegments
+                                        ? speaker.readSegments().stream()
+                                                 .map(Segment::from)
+                                                 .toList()
+                                        : null)
+                              .build();
+            }
         }
 
         @Getter
@@ -174,6 +292,49 @@ public class MeetingResponseDto {
             private Float start;
             private Float end;
             private String text;
+
+            public static Segment from(SegmentEntity segment) {
+                return Segment.builder()
+                              .start(segment.getStartTime())
+                              .end(segment.getEndTime())
+                              .text(segment.getText())
+                              .build();
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "회의 전사 시간 구간 조회 응답 DTO")
+    public static class SegmentWindowResponse {
+        @Schema(description = "시작 시각 순으로 합친 전 화자 세그먼트")
+        private List<SegmentItem> segments;
+
+        @Schema(description = "다음 구간 조회용 cursor (마지막 구간이면 null)", example = "NDNmYTAwMDAuMQ")
+        private String nextCursor;
+
+        @Getter
+        @Builder
+        @NoArgsConstructor
+        @AllArgsConstructor
+        @Schema(description = "화자 세그먼트")
+        public static class SegmentItem {
+            @Schema(description = "화자 ID", example = "S1")
+            private String speakerId;
+
+            @Schema(description = "화자 이름", example = "김철수")
+            private String name;
+
+            @Schema(description = "시작 시각(초)", example = "500.0")
+            private Float start;
+
+            @Schema(description = "끝 시각(초)", example = "503.5")
+            private Float end;
+
+            @Schema(description = "발화 내용")
+            private String text;
         }
     }
 
@@ -0,0 +1,69 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisChunkStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 분할 분석 조각
+ * 긴 녹음을 나눈 조각 파일과, 모든 조각이 도착해 병합되기 전까지의 조각별 분석 결과를 보관한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "analysis_chunks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analysis_chunks_meeting_index", columnNames = {"meeting_id", "chunk_index"})
+})
+public class AnalysisChunkEntity extends BaseEntity {
+
+    @Column(name = "meeting_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID meetingId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+
+    // 원본 녹음 기준 조각 시작 위치 (세그먼트 시간 보정용)
+    @Column(name = "offset_ms", nullable = false)
+    private Long offsetMs;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AnalysisChunkStatus status;
+
+    // 조각 콜백 본문 (JSON)
+    @Column(columnDefinition = "LONGTEXT")
+    private String result;
+
+    public static AnalysisChunkEntity create(UUID meetingId, int chunkIndex, int chunkCount, String storageKey,
+                                             long offsetMs, long durationMs) {
+        AnalysisChunkEntity chunk = new AnalysisChunkEntity();
+        chunk.meetingId = meetingId;
+        chunk.chunkIndex = chunkIndex;
+        chunk.chunkCount = chunkCount;
+        chunk.storageKey = storageKey;
+        chunk.offsetMs = offsetMs;
+        chunk.durationMs = durationMs;
+        chunk.status = AnalysisChunkStatus.PENDING;
+
+        return chunk;
+    }
+
+    public void complete(String result) {
+        this.status = AnalysisChunkStatus.COMPLETED;
+        this.result = result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AI 분석 요청 outbox
+ * 회의 INSERT 와 같은 트랜잭션에서 기록되고, 디스패처가 꺼내 /ai/analyze 로 전달한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "analysis_outbox", indexes = {
+        @Index(name = "idx_analysis_outbox_claim", columnList = "status, available_at"),
+        @Index(name = "idx_analysis_outbox_user_claim", columnList = "user_id, status, available_at")
+})
+public class AnalysisOutboxEntity extends BaseEntity {
+
+    // 회의는 soft delete 되므로 연관관계 대신 ID 만 보관
+    @Column(name = "meeting_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID meetingId;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID userId;
+
+    // 분할 분석 조각 번호 (전체 분석 요청이면 null)
+    @Column(name = "chunk_index")
+    private Integer chunkIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AnalysisPriority priority;
+
+    // 녹음 길이로 추정한 분석 소요 시간 (짧은 작업 우선 정렬용)
+    @Column(name = "expected_cost_seconds", nullable = false)
+    private Long expectedCostSeconds;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // PENDING: 다음 시도 시각 / IN_FLIGHT: 점유(lease) 만료 시각 / AWAITING_CALLBACK: 콜백 대기 만료 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public static AnalysisOutboxEntity create(UUID meetingId, UUID userId, AnalysisPriority priority, Duration expectedCost) {
+        AnalysisOutboxEntity outbox = new AnalysisOutboxEntity();
+        outbox.meetingId = meetingId;
+        outbox.userId = userId;
+        outbox.priority = priority;
+        outbox.expectedCostSeconds = expectedCost.toSeconds();
+        outbox.status = OutboxStatus.PENDING;
+        outbox.attempts = 0;
+        outbox.availableAt = LocalDateTime.now();
+
+        return outbox;
+    }
+
+    public static AnalysisOutboxEntity createChunk(UUID meetingId, UUID userId, AnalysisPriority priority,
+                                                   Duration expectedCost, int chunkIndex) {
+        AnalysisOutboxEntity outbox = create(meetingId, userId, priority, expectedCost);
+        outbox.chunkIndex = chunkIndex;
+
+        return outbox;
+    }
+
+    /**
+     * 디스패처가 점유 (lease 만료 전까지 다른 노드가 가져가지 않음)
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.IN_FLIGHT;
+        this.attempts = attempts + 1;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * AI 서버가 접수함 → 콜백이 오거나 deadline 이 지날 때까지 분석 슬롯 점유
+     */
+    public void awaitCallback(LocalDateTime deadline) {
+        this.status = OutboxStatus.AWAITING_CALLBACK;
+        this.availableAt = deadline;
+        this.lastError = null;
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.availableAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
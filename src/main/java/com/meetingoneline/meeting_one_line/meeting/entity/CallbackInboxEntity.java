@@ -0,0 +1,100 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AI 콜백 inbox
+ * 콜백 본문을 저장소에 두고 이 행만 남긴 뒤 바로 202 로 응답하며, 워커가 꺼내 회의에 반영한다.
+ * 같은 회의에 같은 본문(SHA-256)이 다시 오면 유일 제약으로 한 번만 접수된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "callback_inbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_callback_inbox_meeting_hash", columnNames = {"meeting_id", "payload_hash"})
+}, indexes = {
+        @Index(name = "idx_callback_inbox_claim", columnList = "status, available_at")
+})
+public class CallbackInboxEntity extends BaseEntity {
+
+    @Column(name = "meeting_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID meetingId;
+
+    @Column(name = "payload_hash", nullable = false, length = 64)
+    private String payloadHash;
+
+    // 저장소 key (callbacks/{meetingId}/{hash}.json)
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+
+    @Column(name = "payload_size", nullable = false)
+    private Long payloadSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // PENDING: 다음 시도 시각 / IN_FLIGHT: 점유(lease) 만료 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public static CallbackInboxEntity create(UUID meetingId, String payloadHash, String storageKey, long payloadSize) {
+        CallbackInboxEntity inbox = new CallbackInboxEntity();
+        inbox.meetingId = meetingId;
+        inbox.payloadHash = payloadHash;
+        inbox.storageKey = storageKey;
+        inbox.payloadSize = payloadSize;
+        inbox.status = OutboxStatus.PENDING;
+        inbox.attempts = 0;
+        inbox.availableAt = LocalDateTime.now();
+
+        return inbox;
+    }
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.IN_FLIGHT;
+        this.attempts = attempts + 1;
+        this.availableAt = leaseUntil;
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.availableAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
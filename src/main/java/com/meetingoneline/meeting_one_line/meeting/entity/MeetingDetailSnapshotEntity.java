@@ -0,0 +1,80 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회의 상세 조회 응답 스냅샷 (읽기 모델)
+ * 상세 응답(DetailResponse)을 미리 직렬화한 JSON 을 회의 id 를 PK 로 저장해, 상세 조회를 PK 한 번으로 끝낸다.
+ * 원본(회의/키워드/화자/세그먼트)이 바뀌면 같은 트랜잭션에서 지우고 커밋 후 다시 만든다. (MeetingDetailSnapshotService)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "meeting_detail_snapshots", indexes = {
+        @Index(name = "idx_detail_snapshots_verified", columnList = "verified_at")
+})
+public class MeetingDetailSnapshotEntity {
+
+    @Id
+    @Column(name = "meeting_id", columnDefinition = "CHAR(36)")
+    private UUID meetingId;
+
+    // 소유자 확인용 (회의 행을 읽지 않도록)
+    @Column(name = "owner_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID ownerId;
+
+    // 스냅샷을 만든 시점의 meetings.detail_version
+    @Column(name = "source_version", nullable = false)
+    private Long sourceVersion;
+
+    // 스냅샷을 다시 쓸 때마다 1씩 증가
+    @Column(nullable = false)
+    private Long version;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    // payload 가 gzip 인지
+    @Column(nullable = false)
+    private Boolean compressed;
+
+    // 압축 전 JSON 의 SHA-256 (정합성 검사용)
+    @Column(name = "payload_hash", nullable = false, length = 64)
+    private String payloadHash;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+
+    @Column(name = "verified_at", nullable = false)
+    private LocalDateTime verifiedAt;
+
+    public static MeetingDetailSnapshotEntity create(UUID meetingId, UUID ownerId) {
+        MeetingDetailSnapshotEntity snapshot = new MeetingDetailSnapshotEntity();
+        snapshot.meetingId = meetingId;
+        snapshot.ownerId = ownerId;
+        snapshot.version = 0L;
+        return snapshot;
+    }
+
+    public void replace(long sourceVersion, byte[] payload, boolean compressed, String payloadHash) {
+        LocalDateTime now = LocalDateTime.now();
+        this.sourceVersion = sourceVersion;
+        this.version = version + 1;
+        this.payload = payload;
+        this.compressed = compressed;
+        this.payloadHash = payloadHash;
+        this.builtAt = now;
+        this.verifiedAt = now;
+    }
+
+    public void markVerified() {
+        this.verifiedAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,6 @@
 package com.meetingoneline.meeting_one_line.meeting.entity;
 
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
 import com.meetingoneline.meeting_one_line.global.entity.SoftDeletableEntity;
 import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
 import com.meetingoneline.meeting_one_line.user.UserEntity;
@@ -18,7 +19,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Setter
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+        @Index(name = "idx_meetings_content_hash", columnList = "content_hash, user_id"),
+        @Index(name = "idx_meetings_user_created", columnList = "user_id, deleted_at, created_at, id")
+})
 @SQLRestriction("deleted_at IS NULL")
 public class MeetingEntity extends SoftDeletableEntity {
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +45,33 @@ public class MeetingEntity extends SoftDeletableEntity {
     @Column(columnDefinition = "TEXT")
     private String summary;
 
+    // 현재 파일 SHA-256 (중복 업로드 판별, 오디오 ETag / 정규화 사본으로 교체되면 사본 기준)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 업로드 시 파일 헤더에서 읽은 오디오 정보 (해석 실패 시 null)
+    @Column(name = "audio_duration_ms")
+    private Long audioDurationMs;
+
+    @Column(name = "audio_sample_rate")
+    private Integer audioSampleRate;
+
+    @Column(name = "audio_channels")
+    private Integer audioChannels;
+
+    // 디스패처가 분석 요청을 점유해 PROCESSING 으로 바꾼 시각 (ETA 계산용)
+    @Column(name = "analysis_started_at")
+    private LocalDateTime analysisStartedAt;
+
+    // 마지막으로 반영한 AI 분석 결과의 SHA-256 (같은 콜백 재전송 시 저장 생략)
+    @Column(name = "result_hash", length = 64)
+    private String resultHash;
+
+    // 상세 조회 내용이 바뀔 때마다 1씩 증가 (MeetingDetailSnapshotService.markChanged 에서 SQL 로만 올림)
+    @Column(name = "detail_version", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long detailVersion;
+
     // 연관관계
     @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SpeakerEntity> speakers = new ArrayList<>();
@@ -62,6 +93,12 @@ public class MeetingEntity extends SoftDeletableEntity {
         return meeting;
     }
 
+    public void applyAudioMetadata(AudioMetadata audio) {
+        this.audioDurationMs = audio.durationMs();
+        this.audioSampleRate = audio.sampleRate();
+        this.audioChannels = audio.channels();
+    }
+
     /**
      * metting status 변경
      */
@@ -6,15 +6,24 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "segments")
+@Table(name = "segments", indexes = {
+        @Index(name = "idx_segments_meeting_start", columnList = "meeting_id, start_time")
+})
 public class SegmentEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "speaker_id", nullable = false)
     private SpeakerEntity speaker;
 
+    // 회의 전체 시간 구간 조회용 (화자를 거치지 않고 (meeting_id, start_time) 인덱스로 읽음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id")
+    private MeetingEntity meeting;
+
     @Column(name = "start_time", nullable = false)
     private Float startTime;
 
@@ -27,9 +36,23 @@ public class SegmentEntity extends BaseEntity {
     public static SegmentEntity create(SpeakerEntity speaker, Float startTime, Float endTime, String text){
         SegmentEntity seg = new SegmentEntity();
         seg.speaker = speaker;
+        seg.meeting = speaker.getMeeting();
         seg.startTime = startTime;
         seg.endTime = endTime;
         seg.text = text;
         return seg;
     }
+
+    /**
+     * 시작 시각(자연 키)은 두고 내용만 변경
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean update(Float endTime, String text) {
+        if (Objects.equals(this.endTime, endTime) && Objects.equals(this.text, text)) {
+            return false;
+        }
+        this.endTime = endTime;
+        this.text = text;
+        return true;
+    }
 }
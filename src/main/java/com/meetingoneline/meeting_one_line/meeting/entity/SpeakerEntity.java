@@ -1,10 +1,12 @@
 package com.meetingoneline.meeting_one_line.meeting.entity;
 
 import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Setter
@@ -24,8 +26,17 @@ public class SpeakerEntity extends BaseEntity {
     private String name;    // 유저가 지정한 이름
 
     @OneToMany(mappedBy = "speaker", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("startTime ASC")
     private List<SegmentEntity> segments = new ArrayList<>();
 
+    // 압축 전사 (PackedTranscript 형식, transcript.packed.enabled 일 때 세그먼트 행 대신 저장)
+    @Lob
+    @Column(name = "packed_segments", columnDefinition = "LONGBLOB")
+    private byte[] packedSegments;
+
+    @Column(name = "segment_count")
+    private Integer segmentCount;
+
     public static SpeakerEntity create(MeetingEntity meeting, String speakerId, String name){
         SpeakerEntity speaker = new SpeakerEntity();
         speaker.meeting = meeting;
@@ -34,4 +45,56 @@ public class SpeakerEntity extends BaseEntity {
 
         return speaker;
     }
+
+    /**
+     * 세그먼트 읽기 (압축 전사 + 아직 압축되지 않은 세그먼트 행, 시작 시각 순)
+     * 같은 트랜잭션에서 새로 추가한 세그먼트 행은 다시 읽기 전까지 목록 끝에 있다.
+     * 압축 전사에서 읽은 세그먼트는 저장되지 않는 읽기 전용 객체다.
+     */
+    public List<SegmentEntity> readSegments() {
+        // 세그먼트 행은 DB 에서 시작 시각 순으로 읽히므로(@OrderBy) 압축 전사와 합칠 때만 정렬
+        List<SegmentEntity> result = new ArrayList<>(segments);
+        if (packedSegments != null) {
+            PackedTranscript packed = PackedTranscript.open(packedSegments);
+            for (int i = 0; i < packed.size(); i++) {
+                result.add(SegmentEntity.create(this, packed.startTime(i), packed.endTime(i), packed.text(i)));
+            }
+            if (!segments.isEmpty()) {
+                result.sort(START_ORDER);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 세그먼트만 읽기 (압축 전사는 구간이 걸친 텍스트 블록만 풂)
+     */
+    public List<SegmentEntity> readSegments(float from, float to) {
+        List<SegmentEntity> result = new ArrayList<>();
+        for (SegmentEntity seg : segments) {
+            if (overlaps(seg.getStartTime(), seg.getEndTime(), from, to)) {
+                result.add(seg);
+            }
+        }
+        if (packedSegments != null) {
+            PackedTranscript packed = PackedTranscript.open(packedSegments);
+            int[] range = packed.range(from, to);
+            for (int i = range[0]; i < range[1]; i++) {
+                Float start = packed.startTime(i);
+                Float end = packed.endTime(i);
+                if (overlaps(start, end, from, to)) {
+                    result.add(SegmentEntity.create(this, start, end, packed.text(i)));
+                }
+            }
+        }
+        result.sort(START_ORDER);
+        return result;
+    }
+
+    private static final Comparator<SegmentEntity> START_ORDER =
+            Comparator.comparing(SegmentEntity::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static boolean overlaps(Float start, Float end, float from, float to) {
+        return start != null && start < to && (end == null ? start : end) > from;
+    }
 }
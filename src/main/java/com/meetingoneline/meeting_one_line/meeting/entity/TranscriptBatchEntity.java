@@ -0,0 +1,36 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 반영한 부분 전사 batch 기록
+ * AI 서버가 같은 batch 를 재전송해도 (meeting_id, chunk_index, sequence) 유일 제약으로 한 번만 반영된다.
+ * 행은 TranscriptBulkRepository 가 INSERT IGNORE 로 직접 넣고, 최종 콜백이 반영되면 지운다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "transcript_batches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transcript_batches_meeting_seq", columnNames = {"meeting_id", "chunk_index", "sequence"})
+})
+public class TranscriptBatchEntity extends BaseEntity {
+
+    @Column(name = "meeting_id", nullable = false, columnDefinition = "CHAR(36)")
+    private UUID meetingId;
+
+    // 분할 분석 조각 번호 (전체 분석이면 0)
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(name = "segment_count", nullable = false)
+    private Integer segmentCount;
+}
@@ -0,0 +1,97 @@
+package com.meetingoneline.meeting_one_line.meeting.entity;
+
+import com.meetingoneline.meeting_one_line.global.entity.BaseEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기(resumable) 청크 업로드 세션
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "upload_sessions")
+public class UploadSessionEntity extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false)
+    private LocalDateTime date;
+
+    @Column(name = "original_filename", nullable = false, length = 255)
+    private String originalFilename;
+
+    // 저장소 key
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    // 저장소 멀티파트 업로드 ID
+    @Column(name = "storage_upload_id", nullable = false, length = 1024)
+    private String storageUploadId;
+
+    // 지금까지 반영된 파트 수 (청크 1개 = 파트 1개)
+    @Column(name = "part_count", nullable = false)
+    private Integer partCount;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "received_bytes", nullable = false)
+    private Long receivedBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadSessionStatus status;
+
+    // 완료 시 등록할 분석 요청 우선순위 (도입 이전 세션은 null → NORMAL)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private AnalysisPriority priority;
+
+    // 완료 시 생성된 회의
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id")
+    private MeetingEntity meeting;
+
+    public static UploadSessionEntity create(UserEntity user, String title, LocalDateTime date,
+                                             String originalFilename, String filePath, String storageUploadId, long totalSize,
+                                             AnalysisPriority priority) {
+        UploadSessionEntity session = new UploadSessionEntity();
+        session.user = user;
+        session.title = title;
+        session.date = date;
+        session.originalFilename = originalFilename;
+        session.filePath = filePath;
+        session.storageUploadId = storageUploadId;
+        session.partCount = 0;
+        session.totalSize = totalSize;
+        session.receivedBytes = 0L;
+        session.status = UploadSessionStatus.IN_PROGRESS;
+        session.priority = priority;
+
+        return session;
+    }
+
+    public boolean isFullyReceived() {
+        return receivedBytes.equals(totalSize);
+    }
+
+    /**
+     * 업로드 완료 처리
+     */
+    public void complete(MeetingEntity meeting) {
+        this.meeting = meeting;
+        this.status = UploadSessionStatus.COMPLETED;
+    }
+}
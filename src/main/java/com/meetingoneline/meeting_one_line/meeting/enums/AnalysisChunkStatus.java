@@ -0,0 +1,9 @@
+package com.meetingoneline.meeting_one_line.meeting.enums;
+
+/**
+ * 분할 분석 조각 상태
+ * PENDING(결과 대기) → COMPLETED(결과 수신)
+ */
+public enum AnalysisChunkStatus {
+    PENDING, COMPLETED
+}
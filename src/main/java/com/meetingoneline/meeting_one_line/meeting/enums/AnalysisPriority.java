@@ -0,0 +1,27 @@
+package com.meetingoneline.meeting_one_line.meeting.enums;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+
+/**
+ * AI 분석 요청 우선순위
+ * 같은 사용자의 대기 요청 사이에서만 순서를 정한다. (사용자 사이 순서는 가상 완료 시각, AnalysisJobScheduler 참고)
+ */
+public enum AnalysisPriority {
+    LOW, NORMAL, HIGH;
+
+    /**
+     * 요청 값 → 우선순위 (생략 시 NORMAL)
+     */
+    public static AnalysisPriority from(String value) {
+        if (value == null || value.isBlank()) {
+            return NORMAL;
+        }
+        for (AnalysisPriority priority : values()) {
+            if (priority.name().equalsIgnoreCase(value.trim())) {
+                return priority;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_ANALYSIS_PRIORITY);
+    }
+}
@@ -0,0 +1,30 @@
+package com.meetingoneline.meeting_one_line.meeting.enums;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회의록 내보내기 형식
+ * JSON 은 한 줄에 객체 하나인 NDJSON (첫 줄 회의 정보, 이후 세그먼트) 이라 받는 쪽도 한 줄씩 처리할 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    TXT("txt", "text/plain;charset=UTF-8"),
+    MD("md", "text/markdown;charset=UTF-8"),
+    JSON("ndjson", "application/x-ndjson;charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.meetingoneline.meeting_one_line.meeting.enums;
+
+/**
+ * AI 분석 요청 outbox / 콜백 inbox 상태
+ * PENDING → IN_FLIGHT → DONE, 재시도 한도 초과 시 DEAD
+ * 분석 요청 outbox 는 AI 서버가 접수한 뒤 콜백이 올 때까지 AWAITING_CALLBACK (클러스터 동시 분석 슬롯 점유)
+ */
+public enum OutboxStatus {
+    PENDING, IN_FLIGHT, AWAITING_CALLBACK, DONE, DEAD
+}
@@ -0,0 +1,5 @@
+package com.meetingoneline.meeting_one_line.meeting.enums;
+
+public enum UploadSessionStatus {
+    IN_PROGRESS, COMPLETED, EXPIRED
+}
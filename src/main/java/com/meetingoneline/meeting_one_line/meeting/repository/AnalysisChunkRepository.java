@@ -0,0 +1,34 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AnalysisChunkRepository extends JpaRepository<AnalysisChunkEntity, UUID> {
+
+    boolean existsByMeetingId(UUID meetingId);
+
+    Optional<AnalysisChunkEntity> findByMeetingIdAndChunkIndex(UUID meetingId, Integer chunkIndex);
+
+    List<AnalysisChunkEntity> findByMeetingIdOrderByChunkIndex(UUID meetingId);
+
+    /**
+     * 회의의 모든 조각을 잠그고 조회
+     * 마지막 두 조각 콜백이 동시에 도착해도 병합이 정확히 한 번 일어나도록 같은 회의의 조각 콜백을 직렬화한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT c
+        FROM AnalysisChunkEntity c
+        WHERE c.meetingId = :meetingId
+        ORDER BY c.chunkIndex
+    """)
+    List<AnalysisChunkEntity> findByMeetingIdForUpdate(@Param("meetingId") UUID meetingId);
+}
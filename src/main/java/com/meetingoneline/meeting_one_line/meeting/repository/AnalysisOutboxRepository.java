@@ -0,0 +1,103 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalysisOutboxRepository extends JpaRepository<AnalysisOutboxEntity, UUID> {
+
+    /**
+     * 점유 후보 (잠그지 않고 id 만, 점유 순서대로)
+     * - 대기 중이며 재시도 시각이 지난 행 + lease 가 만료된 처리 중 행
+     * - 사용자마다 우선순위 → (대기 시작 + 예상 소요) 순으로 perUser 건까지만 후보로 삼아
+     *   한 사용자의 대량 업로드가 배치 전체를 차지하지 않게 한다.
+     * - 후보 전체는 사용자와 관계없이 (대기 시작 + 예상 소요) 가 이른 순: 짧은 작업이 먼저 나가되,
+     *   긴 작업도 기다린 만큼 앞당겨져 계속 밀리지 않는다.
+     */
+    @Query(value = """
+        SELECT c.id
+        FROM (
+            SELECT id,
+                   TIMESTAMPADD(SECOND, expected_cost_seconds, available_at) AS deadline,
+                   ROW_NUMBER() OVER (
+                       PARTITION BY user_id
+                       ORDER BY CASE priority WHEN 'HIGH' THEN 0 WHEN 'NORMAL' THEN 1 ELSE 2 END,
+                                TIMESTAMPADD(SECOND, expected_cost_seconds, available_at)
+                   ) AS user_rank
+            FROM analysis_outbox
+            WHERE status IN ('PENDING', 'IN_FLIGHT')
+              AND available_at <= :now
+        ) c
+        WHERE c.user_rank <= :perUser
+        ORDER BY c.deadline
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<String> findClaimCandidates(
+            @Param("now") LocalDateTime now,
+            @Param("perUser") int perUser,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 후보 행 점유
+     * SKIP LOCKED: 다른 노드가 잠근 행은 기다리지 않고 건너뛰어 여러 노드가 동시에 안전하게 꺼낸다.
+     * 후보 조회 뒤 다른 노드가 먼저 점유를 끝낸 행은 상태 조건으로 빠진다.
+     */
+    @Query(value = """
+        SELECT *
+        FROM analysis_outbox
+        WHERE id IN (:ids)
+          AND status IN ('PENDING', 'IN_FLIGHT')
+          AND available_at <= :now
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<AnalysisOutboxEntity> lockCandidates(
+            @Param("ids") Collection<String> ids,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 클러스터 전체에서 진행 중인 분석 수 (전송 중 + 콜백 대기, 만료된 점유는 제외)
+     */
+    @Query("""
+        SELECT COUNT(o)
+        FROM AnalysisOutboxEntity o
+        WHERE o.status IN (com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.IN_FLIGHT,
+                           com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.AWAITING_CALLBACK)
+          AND o.availableAt > :now
+    """)
+    long countActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 콜백 도착 → 해당 요청(전체 분석이면 chunkIndex -1)의 분석 슬롯 반환
+     */
+    @Modifying
+    @Query("""
+        UPDATE AnalysisOutboxEntity o
+        SET o.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.DONE
+        WHERE o.meetingId = :meetingId
+          AND COALESCE(o.chunkIndex, -1) = :chunkIndex
+          AND o.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.AWAITING_CALLBACK
+    """)
+    int releaseCallbackWait(@Param("meetingId") UUID meetingId, @Param("chunkIndex") int chunkIndex);
+
+    /**
+     * 콜백 대기 시간이 지난 요청의 분석 슬롯 반환 (콜백이 유실돼도 슬롯이 영구히 묶이지 않도록)
+     */
+    @Modifying
+    @Query("""
+        UPDATE AnalysisOutboxEntity o
+        SET o.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.DONE,
+            o.lastError = :error
+        WHERE o.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.AWAITING_CALLBACK
+          AND o.availableAt <= :now
+    """)
+    int expireCallbackWaits(@Param("now") LocalDateTime now, @Param("error") String error);
+}
@@ -0,0 +1,97 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.CallbackInboxEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CallbackInboxRepository extends JpaRepository<CallbackInboxEntity, UUID> {
+
+    /**
+     * 접수 여부 (최종 실패한 행은 제외 → 같은 본문 재전송으로 다시 시도할 수 있게)
+     */
+    boolean existsByMeetingIdAndPayloadHashAndStatusNot(UUID meetingId, String payloadHash, OutboxStatus status);
+
+    /**
+     * 최종 실패(DEAD)한 같은 본문이 다시 오면 그 행을 처음부터 다시 시도 (유일 제약 때문에 새 행은 만들 수 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE CallbackInboxEntity i
+        SET i.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.PENDING,
+            i.attempts = 0,
+            i.availableAt = :now,
+            i.storageKey = :storageKey,
+            i.payloadSize = :payloadSize,
+            i.lastError = NULL
+        WHERE i.meetingId = :meetingId
+          AND i.payloadHash = :payloadHash
+          AND i.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.DEAD
+    """)
+    int reviveDead(
+            @Param("meetingId") UUID meetingId,
+            @Param("payloadHash") String payloadHash,
+            @Param("storageKey") String storageKey,
+            @Param("payloadSize") long payloadSize,
+            @Param("now") LocalDateTime now
+    );
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+
+    /**
+     * 처리 가능한 inbox 행 점유
+     * - 대기 중이며 재시도 시각이 지난 행 + lease 가 만료된 처리 중 행 (SKIP LOCKED 로 노드 간 중복 점유 방지)
+     * - 같은 회의에 먼저 접수된 미처리 행이 있으면 건너뛰어 회의별로 접수 순서대로 반영한다.
+     *   (failed 콜백 뒤에 온 completed 재전송이 먼저 반영됐다가 덮이는 일이 없도록)
+     */
+    @Query(value = """
+        SELECT i.*
+        FROM callback_inbox i
+        WHERE i.status IN ('PENDING', 'IN_FLIGHT')
+          AND i.available_at <= :now
+          AND NOT EXISTS (
+              SELECT 1
+              FROM callback_inbox p
+              WHERE p.meeting_id = i.meeting_id
+                AND p.status IN ('PENDING', 'IN_FLIGHT')
+                AND p.created_at < i.created_at
+          )
+        ORDER BY i.created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<CallbackInboxEntity> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 처리 중인 점유의 lease 연장 (같은 시도의 점유가 유지되고 있을 때만)
+     */
+    @Modifying
+    @Query("""
+        UPDATE CallbackInboxEntity i
+        SET i.availableAt = :leaseUntil
+        WHERE i.id = :id
+          AND i.attempts = :attempt
+          AND i.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.IN_FLIGHT
+    """)
+    int extendLease(@Param("id") UUID id, @Param("attempt") int attempt, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 보관 기간이 지난 처리 완료 행 정리 (재전송 중복 판별은 보관 기간 동안만 유지)
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM CallbackInboxEntity i
+        WHERE i.status = com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus.DONE
+          AND i.processedAt < :cutoff
+    """)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
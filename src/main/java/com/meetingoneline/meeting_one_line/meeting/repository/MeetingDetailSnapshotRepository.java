@@ -0,0 +1,25 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingDetailSnapshotEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MeetingDetailSnapshotRepository extends JpaRepository<MeetingDetailSnapshotEntity, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM MeetingDetailSnapshotEntity s WHERE s.meetingId IN :meetingIds")
+    int deleteByMeetingIds(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    /**
+     * 정합성 검사 대상 (가장 오래전에 검사한 스냅샷부터)
+     */
+    @Query("SELECT s.meetingId FROM MeetingDetailSnapshotEntity s ORDER BY s.verifiedAt ASC")
+    List<UUID> findLeastRecentlyVerified(Pageable pageable);
+}
@@ -0,0 +1,103 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회의 목록 조회 전용 (목록에 필요한 컬럼만 constructor expression 으로 읽음)
+ * 목록 응답은 다섯 필드뿐이라 MeetingEntity 를 만들지 않는다. 요약(TEXT)은 DB 에서 앞부분만 잘라 읽고,
+ * 결과가 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다. (dirty checking / 1차 캐시 대상 아님)
+ * 조건은 MeetingSpecification 을 그대로 쓰므로 @SQLRestriction(삭제 제외)도 똑같이 붙는다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingListQueryRepository {
+
+    public static final int SUMMARY_PREVIEW_LENGTH = 200;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 목록 한 페이지 (첫 페이지가 size 보다 적게 채워지면 COUNT 생략)
+     */
+    public Page<Row> findPage(Specification<MeetingEntity> spec, Pageable pageable) {
+        List<Row> rows = findRows(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(spec));
+    }
+
+    /**
+     * 정렬 순서대로 offset 부터 limit 개
+     */
+    public List<Row> findRows(Specification<MeetingEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Row> query = cb.createQuery(Row.class);
+        Root<MeetingEntity> root = query.from(MeetingEntity.class);
+
+        query.select(cb.construct(Row.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("status"),
+                cb.substring(root.<String>get("summary"), 1, SUMMARY_PREVIEW_LENGTH),
+                root.get("createdAt")));
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                            .setFirstResult(Math.toIntExact(offset))
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+    /**
+     * id 로 조회 (순서 보장 안 함, 삭제된 회의는 빠짐)
+     */
+    public List<Row> findRowsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return findRows((root, query, cb) -> root.get("id").in(ids), Sort.unsorted(), 0, ids.size());
+    }
+
+    public long count(Specification<MeetingEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<MeetingEntity> root = query.from(MeetingEntity.class);
+
+        query.select(cb.count(root));
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * 목록 한 행
+     * @param summaryPreview 요약 앞부분 (최대 SUMMARY_PREVIEW_LENGTH 자)
+     */
+    public record Row(UUID id, String title, RecordSaveStatus status, String summaryPreview, LocalDateTime createdAt) {
+    }
+}
@@ -1,14 +1,19 @@
 package com.meetingoneline.meeting_one_line.meeting.repository;
 
 import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
 import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
 import com.meetingoneline.meeting_one_line.user.UserEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +21,51 @@ import java.util.UUID;
 public interface MeetingRepository extends JpaRepository<MeetingEntity, UUID>, JpaSpecificationExecutor<MeetingEntity> {
     Optional<MeetingEntity> findByIdAndDeletedAtIsNull(UUID id);
 
+    /**
+     * 회의 행을 잠그고 조회
+     * 같은 회의의 부분 전사 batch 를 직렬화해 화자 행이 중복 생성되지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MeetingEntity m WHERE m.id = :id")
+    Optional<MeetingEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * 회의 상세 조회용 fetch plan (화자 수와 관계없이 쿼리 3번)
+     * 키워드/화자/세그먼트는 모두 List(bag) 라 한 쿼리에서 둘 이상 fetch join 할 수 없으므로
+     * 같은 영속성 컨텍스트에서 컬렉션을 하나씩 fetch join 해 초기화한다. 세그먼트는 DB 에서 시작 시각 순으로 정렬된다.
+     */
+    default Optional<MeetingEntity> findDetailById(UUID id) {
+        return findDetailById(id, true);
+    }
+
+    /**
+     * @param withSegments false 면 세그먼트 쿼리를 생략 (쿼리 2번)
+     */
+    default Optional<MeetingEntity> findDetailById(UUID id, boolean withSegments) {
+        Optional<MeetingEntity> meeting = findWithKeywordsById(id);
+        if (meeting.isPresent()) {
+            findWithSpeakersById(id);
+            if (withSegments) {
+                fetchSpeakerSegments(id);
+            }
+        }
+        return meeting;
+    }
+
+    @Query("SELECT m FROM MeetingEntity m LEFT JOIN FETCH m.keywords WHERE m.id = :id")
+    Optional<MeetingEntity> findWithKeywordsById(@Param("id") UUID id);
+
+    @Query("SELECT m FROM MeetingEntity m LEFT JOIN FETCH m.speakers WHERE m.id = :id")
+    Optional<MeetingEntity> findWithSpeakersById(@Param("id") UUID id);
+
+    @Query("""
+        SELECT s FROM SpeakerEntity s
+        LEFT JOIN FETCH s.segments g
+        WHERE s.meeting.id = :meetingId
+        ORDER BY g.startTime
+    """)
+    List<SpeakerEntity> fetchSpeakerSegments(@Param("meetingId") UUID meetingId);
+
     @Query("""
         SELECT m
         FROM MeetingEntity m
@@ -29,4 +79,101 @@ public interface MeetingRepository extends JpaRepository<MeetingEntity, UUID>, J
             @Param("excludedStatuses") List<RecordSaveStatus> excludedStatuses,
             @Param("cutoffTime") LocalDateTime cutoffTime
     );
+
+    /**
+     * 중복 판별 키 (엔티티를 영속성 컨텍스트에 올리지 않고 읽음, 잠금 전에 조회)
+     */
+    @Query("SELECT m.contentHash AS contentHash, m.user.id AS userId FROM MeetingEntity m WHERE m.id = :id")
+    Optional<DuplicateKey> findDuplicateKeyById(@Param("id") UUID id);
+
+    /**
+     * 같은 내용(SHA-256)의 회의를 모두 잠그고 조회 (id 순으로 잠가 교착 방지)
+     * 같은 파일을 동시에 올린 두 회의가 서로를 원본으로 삼아 상대 파일을 지우지 않도록 중복 판별을 직렬화한다.
+     * @param userId null 이면 전체 사용자 대상
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT m
+        FROM MeetingEntity m
+        WHERE m.contentHash = :contentHash
+          AND (:userId IS NULL OR m.user.id = :userId)
+        ORDER BY m.id
+    """)
+    List<MeetingEntity> lockByContentHash(@Param("contentHash") String contentHash, @Param("userId") UUID userId);
+
+    /**
+     * 다른(삭제되지 않은) 회의가 같은 파일을 참조 중인지 확인
+     */
+    boolean existsByFilePathAndIdNot(String filePath, UUID id);
+
+    boolean existsByFilePath(String filePath);
+
+    /**
+     * UPLOADED 인 회의만 PROCESSING 으로 변경하고 분석 시작 시각 기록
+     * (콜백이 먼저 도착해 완료된 회의를 되돌리지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE MeetingEntity m
+        SET m.status = com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus.PROCESSING,
+            m.analysisStartedAt = :startedAt
+        WHERE m.id IN :ids
+          AND m.status = com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus.UPLOADED
+    """)
+    int markProcessing(
+            @Param("ids") List<UUID> ids,
+            @Param("startedAt") LocalDateTime startedAt
+    );
+
+    /**
+     * 상세 조회 내용 변경 표시 (회의 행 잠금도 겸함, 스냅샷 재생성과 직렬화)
+     * @param ids 회의 id 문자열 (CHAR(36))
+     */
+    @Modifying
+    @Query(value = "UPDATE meetings SET detail_version = detail_version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int bumpDetailVersion(@Param("ids") Collection<String> ids);
+
+    /**
+     * 현재 상세 버전 (삭제된 회의는 empty)
+     */
+    @Query("SELECT m.detailVersion FROM MeetingEntity m WHERE m.id = :id")
+    Optional<Long> findDetailVersion(@Param("id") UUID id);
+
+    /**
+     * 회의 파일을 정규화 사본으로 교체 (원본 미보관 정책, 내용 해시도 사본 기준으로 교체 → 오디오 ETag 가 바뀜)
+     * 그 사이 파일이 바뀌었으면(중복 공유 등) 교체하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE MeetingEntity m
+        SET m.filePath = :normalizedPath,
+            m.contentHash = :contentHash,
+            m.audioSampleRate = :sampleRate,
+            m.audioChannels = 1
+        WHERE m.id = :id
+          AND m.filePath = :originalPath
+    """)
+    int replaceFilePath(
+            @Param("id") UUID id,
+            @Param("originalPath") String originalPath,
+            @Param("normalizedPath") String normalizedPath,
+            @Param("contentHash") String contentHash,
+            @Param("sampleRate") Integer sampleRate
+    );
+
+    /**
+     * 검색 색인 대조용 (삭제되지 않은 회의의 id 와 상세 버전)
+     */
+    @Query("SELECT m.id AS id, m.detailVersion AS detailVersion FROM MeetingEntity m")
+    List<IndexVersion> findIndexVersions();
+
+    interface IndexVersion {
+        UUID getId();
+        long getDetailVersion();
+    }
+
+    interface DuplicateKey {
+        String getContentHash();
+        UUID getUserId();
+    }
 }
@@ -5,6 +5,9 @@ import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
 import com.meetingoneline.meeting_one_line.user.UserEntity;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 public class MeetingSpecification {
 
     public static Specification<MeetingEntity> byUser(UserEntity user) {
@@ -29,4 +32,14 @@ public class MeetingSpecification {
     public static Specification<MeetingEntity> hasStatus(RecordSaveStatus status) {
         return (root, query, cb) -> cb.equal(root.get("status"), status);
     }
+
+    /**
+     * (createdAt, id) 역순에서 주어진 위치 다음 행 (cursor 조회)
+     */
+    public static Specification<MeetingEntity> createdBefore(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))
+        );
+    }
 }
@@ -0,0 +1,114 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface SegmentRepository extends JpaRepository<SegmentEntity, UUID> {
+
+    /**
+     * 회의 전사의 시간 구간 조회 (시작 시각이 [from, to) 인 세그먼트 행)
+     * (meeting_id, start_time) 인덱스 순서 그대로 읽고 limit 에서 멈추므로 회의 길이와 관계없이 구간 크기만큼만 읽는다.
+     * 같은 시작 시각은 id 순 (보조 인덱스에 PK 가 붙어 있어 정렬이 추가되지 않음)
+     */
+    @Query("""
+        SELECT s.speakerId AS speakerId, s.name AS name, g.startTime AS startTime, g.endTime AS endTime, g.text AS text
+        FROM SegmentEntity g
+        JOIN g.speaker s
+        WHERE g.meeting.id = :meetingId
+          AND g.startTime >= :from
+          AND g.startTime < :to
+        ORDER BY g.startTime ASC, g.id ASC
+    """)
+    List<WindowRow> findWindow(
+            @Param("meetingId") UUID meetingId,
+            @Param("from") Float from,
+            @Param("to") Float to,
+            Pageable pageable
+    );
+
+    /**
+     * 회의 전체 세그먼트 행을 시작 시각 순으로 한 방향 스트리밍 (내보내기용)
+     * fetch size 만큼씩 드라이버가 받아오므로 결과 전체를 메모리에 올리지 않는다. 호출측 트랜잭션 안에서 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT s.speakerId AS speakerId, s.name AS name, g.startTime AS startTime, g.endTime AS endTime, g.text AS text
+        FROM SegmentEntity g
+        JOIN g.speaker s
+        WHERE g.meeting.id = :meetingId
+        ORDER BY g.startTime ASC, g.id ASC
+    """)
+    Stream<WindowRow> streamByMeetingId(@Param("meetingId") UUID meetingId);
+
+    /**
+     * 압축 전사를 가진 화자 (압축 전사 본문은 읽지 않음, readPackedRange 로 필요한 부분만 읽는다)
+     */
+    @Query("""
+        SELECT s.id AS id, s.speakerId AS speakerId, s.name AS name
+        FROM SpeakerEntity s
+        WHERE s.meeting.id = :meetingId
+          AND s.packedSegments IS NOT NULL
+        ORDER BY s.speakerId ASC
+    """)
+    List<PackedSpeaker> findPackedSpeakerHeads(@Param("meetingId") UUID meetingId);
+
+    /**
+     * 압축 전사의 일부 (PackedTranscript.Source 용)
+     * @param from 1 부터 시작하는 byte 위치 (SQL SUBSTRING)
+     */
+    @Query(value = "SELECT SUBSTRING(packed_segments, :from, :length) FROM speakers WHERE id = :speakerId", nativeQuery = true)
+    byte[] readPackedRange(@Param("speakerId") String speakerId, @Param("from") int from, @Param("length") int length);
+
+    /**
+     * 압축 전사를 부분적으로 읽는 PackedTranscript.Source
+     * 여러 번 나눠 읽으므로 한 트랜잭션(일관된 읽기) 안에서 써야 한다.
+     */
+    default PackedTranscript.Source packedSource(UUID speakerId) {
+        String id = speakerId.toString();
+        return (offset, length) -> readPackedRange(id, offset + 1, length);
+    }
+
+    /**
+     * meeting_id 가 추가되기 전에 저장된 세그먼트 행 채우기 (한 번에 batchSize 행)
+     * @return 채운 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE segments
+        SET meeting_id = (SELECT s.meeting_id FROM speakers s WHERE s.id = segments.speaker_id)
+        WHERE meeting_id IS NULL
+        LIMIT :batchSize
+    """, nativeQuery = true)
+    int backfillMeetingIds(@Param("batchSize") int batchSize);
+
+    interface PackedSpeaker {
+        UUID getId();
+        String getSpeakerId();
+        String getName();
+    }
+
+    interface WindowRow {
+        String getSpeakerId();
+        String getName();
+        Float getStartTime();
+        Float getEndTime();
+        String getText();
+    }
+}
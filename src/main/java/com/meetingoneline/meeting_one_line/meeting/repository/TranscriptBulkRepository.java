@@ -0,0 +1,605 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 전사 결과(화자/세그먼트/키워드) 일괄 저장
+ * 엔티티 cascade 로 저장하면 세그먼트 수만큼 INSERT 가 한 건씩 나가므로, 콜백 저장은 JDBC batch 로 처리한다.
+ * 기존 전사가 있으면 자연 키(speakerId, 시작 시각 / 키워드)로 비교해 바뀐 행만 INSERT/UPDATE/DELETE 한다.
+ * (MariaDB 드라이버 bulk 프로토콜로 batch 가 한 번의 왕복으로 전송됨)
+ * JPA 트랜잭션과 같은 커넥션에서 실행되므로 콜백 트랜잭션이 롤백되면 함께 롤백된다.
+ * transcript.packed.enabled 면 세그먼트 행 대신 화자 행의 압축 전사(PackedTranscript)로 저장한다.
+ * (부분 전사 batch 는 행으로 쌓았다가 최종 콜백에서 화자별로 압축)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranscriptBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_KEYWORD =
+            "INSERT INTO keywords (id, created_at, updated_at, meeting_id, keyword) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SPEAKER =
+            "INSERT INTO speakers (id, created_at, updated_at, meeting_id, speaker_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SEGMENT =
+            "INSERT INTO segments (id, created_at, updated_at, speaker_id, meeting_id, start_time, end_time, text) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SEGMENT =
+            "UPDATE segments SET updated_at = ?, end_time = ?, text = ? WHERE id = ?";
+
+    private static final String INSERT_PACKED_SPEAKER =
+            "INSERT INTO speakers (id, created_at, updated_at, meeting_id, speaker_id, packed_segments, segment_count) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PACKED_SPEAKER =
+            "UPDATE speakers SET updated_at = ?, packed_segments = ?, segment_count = ? WHERE id = ?";
+
+    // 재전송된 batch 는 유일 제약에 걸려 0 행이 된다 (MariaDB)
+    private static final String CLAIM_BATCH =
+            "INSERT IGNORE INTO transcript_batches (id, created_at, updated_at, meeting_id, chunk_index, sequence, segment_count) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] KEYWORD_TYPES = {Types.CHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.CHAR, Types.VARCHAR};
+    private static final int[] SPEAKER_TYPES = {Types.CHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.CHAR, Types.VARCHAR};
+    private static final int[] SEGMENT_TYPES = {Types.CHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.CHAR, Types.CHAR, Types.FLOAT, Types.FLOAT, Types.LONGVARCHAR};
+    private static final int[] UPDATE_SEGMENT_TYPES = {Types.TIMESTAMP, Types.FLOAT, Types.LONGVARCHAR, Types.CHAR};
+    private static final int[] INSERT_PACKED_SPEAKER_TYPES = {Types.CHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.CHAR, Types.VARCHAR, Types.LONGVARBINARY, Types.INTEGER};
+    private static final int[] UPDATE_PACKED_SPEAKER_TYPES = {Types.TIMESTAMP, Types.LONGVARBINARY, Types.INTEGER, Types.CHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transcript.packed.enabled:false}")
+    private boolean packed;
+
+    @Value("${transcript.packed.compress:true}")
+    private boolean compress;
+
+    /**
+     * 키워드를 새 목록과 비교해 없어진 것만 지우고 새로 생긴 것만 추가
+     * @return 추가 + 삭제 건수
+     */
+    public int reconcileKeywords(UUID meetingId, List<String> keywords) {
+        Map<String, Deque<String>> existing = new HashMap<>();
+        jdbcTemplate.query("SELECT id, keyword FROM keywords WHERE meeting_id = ?",
+                rs -> {
+                    existing.computeIfAbsent(rs.getString("keyword"), k -> new ArrayDeque<>()).add(rs.getString("id"));
+                },
+                meetingId.toString());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        for (String keyword : keywords == null ? List.<String>of() : keywords) {
+            Deque<String> ids = existing.get(keyword);
+            if (ids == null || ids.poll() == null) {
+                inserts.add(new Object[]{UUID.randomUUID().toString(), now, now, meetingId.toString(), keyword});
+            }
+        }
+        List<Object[]> deletes = new ArrayList<>();
+        existing.values().forEach(ids -> ids.forEach(id -> deletes.add(new Object[]{id})));
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM keywords WHERE id = ?", deletes);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_KEYWORD, inserts, KEYWORD_TYPES);
+        }
+        return inserts.size() + deletes.size();
+    }
+
+    /**
+     * 부분 전사 batch 반영 기록
+     * @return 처음 받은 batch 면 true, 이미 반영한 batch 면 false
+     */
+    public boolean claimBatch(UUID meetingId, int chunkIndex, long sequence, int segmentCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(CLAIM_BATCH, UUID.randomUUID().toString(), now, now,
+                meetingId.toString(), chunkIndex, sequence, segmentCount) == 1;
+    }
+
+    public void deleteBatches(UUID meetingId) {
+        jdbcTemplate.update("DELETE FROM transcript_batches WHERE meeting_id = ?", meetingId.toString());
+    }
+
+    /**
+     * 회의의 화자/세그먼트를 새 결과와 비교해 바뀐 것만 반영하는 writer
+     * 들어오는 세그먼트마다 (화자, 시작 시각)으로 기존 전사에서 짝을 찾아
+     * 없으면 추가, 끝/내용이 다르면 수정, 같으면 건너뛰며 finish() 에서 짝이 없던 기존 세그먼트를 삭제한다.
+     * 행 저장이면 기존 세그먼트를 먼저 읽어 두고 변경 행을 BATCH_SIZE 단위로 보내고,
+     * 압축 저장이면 화자를 열 때 그 화자의 기존 전사만 읽고, 닫을 때 바뀐 화자만 다시 압축해 바로 화자 행에 쓴다.
+     */
+    public DiffWriter diffWriter(UUID meetingId) {
+        String meeting = meetingId.toString();
+        Map<String, Deque<String>> speakers = new HashMap<>();
+        // 화자 행 id -> 압축 전사 세그먼트 수 (blob 은 화자를 열 때 읽음)
+        Map<String, Integer> packedCounts = new HashMap<>();
+        jdbcTemplate.query("SELECT id, speaker_id, segment_count, packed_segments IS NOT NULL AS has_packed FROM speakers WHERE meeting_id = ?",
+                rs -> {
+                    speakers.computeIfAbsent(rs.getString("speaker_id"), k -> new ArrayDeque<>()).add(rs.getString("id"));
+                    if (rs.getBoolean("has_packed")) {
+                        packedCounts.put(rs.getString("id"), rs.getInt("segment_count"));
+                    }
+                },
+                meeting);
+
+        // 한 화자라도 이미 압축돼 있으면 압축 writer 로 맞춤 (압축 전사는 행 writer 가 비교할 수 없음)
+        if (packed || !packedCounts.isEmpty()) {
+            return new PackedDiffWriter(meeting, speakers, packedCounts, countSegmentRows(meeting));
+        }
+        return new RowDiffWriter(meeting, speakers, loadSegmentRows(meeting));
+    }
+
+    /**
+     * 부분 전사로 쌓인 세그먼트 행을 화자별 압축 전사로 합침 (압축 저장일 때만)
+     * 최종 콜백에 speakers 가 없어 diffWriter 를 거치지 않는 경우에 사용한다.
+     * @return 압축한 화자 수
+     */
+    public int compact(UUID meetingId) {
+        if (!packed) {
+            return 0;
+        }
+        String meeting = meetingId.toString();
+        Map<String, Map<Float, Deque<StoredSegment>>> rows = loadSegmentRows(meeting);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, byte[]> packedSpeakers = new HashMap<>();
+        jdbcTemplate.query("SELECT id, packed_segments FROM speakers WHERE meeting_id = ? AND packed_segments IS NOT NULL",
+                rs -> {
+                    packedSpeakers.put(rs.getString("id"), rs.getBytes("packed_segments"));
+                },
+                meeting);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        for (Map.Entry<String, Map<Float, Deque<StoredSegment>>> speaker : rows.entrySet()) {
+            PackedTranscript.Builder builder = PackedTranscript.builder(compress);
+            addPacked(builder, packedSpeakers.get(speaker.getKey()));
+            speaker.getValue().forEach((start, segments) ->
+                    segments.forEach(seg -> builder.add(start, seg.end(), seg.text())));
+            updates.add(new Object[]{now, builder.build(), builder.size(), speaker.getKey()});
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_PACKED_SPEAKER, updates, UPDATE_PACKED_SPEAKER_TYPES);
+        jdbcTemplate.update("""
+                DELETE g FROM segments g
+                JOIN speakers s ON s.id = g.speaker_id
+                WHERE s.meeting_id = ?
+                """, meeting);
+        return updates.size();
+    }
+
+    // 화자 행 id -> 시작 시각 -> 세그먼트 행
+    private Map<String, Map<Float, Deque<StoredSegment>>> loadSegmentRows(String meetingId) {
+        Map<String, Map<Float, Deque<StoredSegment>>> segments = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT g.id, g.speaker_id, g.start_time, g.end_time, g.text
+                        FROM segments g
+                        JOIN speakers s ON s.id = g.speaker_id
+                        WHERE s.meeting_id = ?
+                        """,
+                rs -> {
+                    segments.computeIfAbsent(rs.getString("speaker_id"), k -> new HashMap<>())
+                            .computeIfAbsent(rs.getFloat("start_time"), k -> new ArrayDeque<>())
+                            .add(new StoredSegment(rs.getString("id"), rs.getFloat("end_time"), rs.getString("text")));
+                },
+                meetingId);
+        return segments;
+    }
+
+    // 화자 행 id -> 세그먼트 행 수
+    private Map<String, Integer> countSegmentRows(String meetingId) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT g.speaker_id, COUNT(*) AS cnt
+                        FROM segments g
+                        JOIN speakers s ON s.id = g.speaker_id
+                        WHERE s.meeting_id = ?
+                        GROUP BY g.speaker_id
+                        """,
+                rs -> {
+                    counts.put(rs.getString("speaker_id"), rs.getInt("cnt"));
+                },
+                meetingId);
+        return counts;
+    }
+
+    // 화자 한 명의 세그먼트 행 (시작 시각 -> 행)
+    private Map<Float, Deque<StoredSegment>> loadSpeakerSegmentRows(String speakerRowId) {
+        Map<Float, Deque<StoredSegment>> segments = new HashMap<>();
+        jdbcTemplate.query("SELECT id, start_time, end_time, text FROM segments WHERE speaker_id = ?",
+                rs -> {
+                    segments.computeIfAbsent(rs.getFloat("start_time"), k -> new ArrayDeque<>())
+                            .add(new StoredSegment(rs.getString("id"), rs.getFloat("end_time"), rs.getString("text")));
+                },
+                speakerRowId);
+        return segments;
+    }
+
+    private static void addPacked(PackedTranscript.Builder builder, byte[] blob) {
+        if (blob == null) {
+            return;
+        }
+        PackedTranscript transcript = PackedTranscript.open(blob);
+        for (int i = 0; i < transcript.size(); i++) {
+            builder.add(transcript.startTime(i), transcript.endTime(i), transcript.text(i));
+        }
+    }
+
+    /**
+     * 기존 전사 뒤에 이어 쓰는 writer
+     * 이미 저장된 화자(speakerId)는 새 행을 만들지 않고 그 화자 행에 세그먼트를 붙인다.
+     */
+    public SpeakerWriter appendWriter(UUID meetingId) {
+        Map<String, String> known = new HashMap<>();
+        jdbcTemplate.query("SELECT id, speaker_id FROM speakers WHERE meeting_id = ?",
+                rs -> {
+                    known.putIfAbsent(rs.getString("speaker_id"), rs.getString("id"));
+                },
+                meetingId.toString());
+        return new SpeakerWriter(meetingId.toString(), known);
+    }
+
+    /**
+     * 화자/세그먼트를 BATCH_SIZE 단위로 모아 이어 쓰는 writer
+     * 세그먼트가 아무리 많아도 메모리에는 한 batch 만 유지된다.
+     */
+    public class SpeakerWriter {
+        private final String meetingId;
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        private final List<Object[]> speakers = new ArrayList<>();
+        private final List<Object[]> segments = new ArrayList<>();
+        // speakerId -> 화자 행 id
+        private final Map<String, String> known;
+        private String currentSpeaker;
+        private int written;
+
+        private SpeakerWriter(String meetingId, Map<String, String> known) {
+            this.meetingId = meetingId;
+            this.known = known;
+        }
+
+        /**
+         * 이후 segment 는 이 화자에 속한다
+         */
+        public void speaker(String speakerId) {
+            if (known.containsKey(speakerId)) {
+                currentSpeaker = known.get(speakerId);
+                return;
+            }
+            currentSpeaker = UUID.randomUUID().toString();
+            speakers.add(new Object[]{currentSpeaker, now, now, meetingId, speakerId});
+            known.put(speakerId, currentSpeaker);
+        }
+
+        public void segment(MeetingRequestDto.AiCallbackRequest.Segment seg) {
+            if (currentSpeaker == null) {
+                throw new IllegalStateException("speaker() 호출 전에 segment 를 쓸 수 없습니다.");
+            }
+            segments.add(new Object[]{UUID.randomUUID().toString(), now, now, currentSpeaker, meetingId,
+                    seg.getStart(), seg.getEnd(), seg.getText()});
+            if (segments.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 남은 행 저장
+         * @return 저장한 세그먼트 수
+         */
+        public int finish() {
+            flush();
+            return written;
+        }
+
+        // 세그먼트의 FK 가 가리키는 화자 행을 먼저 저장
+        private void flush() {
+            if (!speakers.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SPEAKER, speakers, SPEAKER_TYPES);
+                speakers.clear();
+            }
+            if (!segments.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SEGMENT, segments, SEGMENT_TYPES);
+                written += segments.size();
+                segments.clear();
+            }
+        }
+    }
+
+    private record StoredSegment(String id, Float end, String text) {
+    }
+
+    /**
+     * 기존 전사와 비교해 반영하는 writer
+     * speaker() 로 화자를 연 뒤 그 화자의 segment() 를 이어서 넘기고, 마지막에 finish() 를 호출한다.
+     */
+    public interface DiffWriter {
+
+        /**
+         * 이후 segment 는 이 화자에 속한다
+         */
+        void speaker(String speakerId);
+
+        void segment(MeetingRequestDto.AiCallbackRequest.Segment seg);
+
+        /**
+         * 남은 변경을 저장하고, 짝이 없던 기존 세그먼트/화자 삭제
+         * @return 변경된 세그먼트 수 (추가 + 수정 + 삭제)
+         */
+        int finish();
+
+        int inserted();
+
+        int updated();
+
+        int deleted();
+    }
+
+    private class RowDiffWriter implements DiffWriter {
+        private final String meetingId;
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // speakerId -> 아직 짝이 없는 기존 화자 행 id
+        private final Map<String, Deque<String>> existingSpeakers;
+        // 화자 행 id -> 시작 시각 -> 아직 짝이 없는 기존 세그먼트
+        private final Map<String, Map<Float, Deque<StoredSegment>>> existingSegments;
+        private final List<Object[]> speakerInserts = new ArrayList<>();
+        private final List<Object[]> segmentInserts = new ArrayList<>();
+        private final List<Object[]> segmentUpdates = new ArrayList<>();
+        private String currentSpeaker;
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        private RowDiffWriter(String meetingId, Map<String, Deque<String>> existingSpeakers,
+                              Map<String, Map<Float, Deque<StoredSegment>>> existingSegments) {
+            this.meetingId = meetingId;
+            this.existingSpeakers = existingSpeakers;
+            this.existingSegments = existingSegments;
+        }
+
+        @Override
+        public void speaker(String speakerId) {
+            Deque<String> rows = existingSpeakers.get(speakerId);
+            String row = rows == null ? null : rows.poll();
+            if (row != null) {
+                currentSpeaker = row;
+                return;
+            }
+            currentSpeaker = UUID.randomUUID().toString();
+            speakerInserts.add(new Object[]{currentSpeaker, now, now, meetingId, speakerId});
+        }
+
+        @Override
+        public void segment(MeetingRequestDto.AiCallbackRequest.Segment seg) {
+            if (currentSpeaker == null) {
+                throw new IllegalStateException("speaker() 호출 전에 segment 를 쓸 수 없습니다.");
+            }
+            Map<Float, Deque<StoredSegment>> byStart = existingSegments.get(currentSpeaker);
+            Deque<StoredSegment> candidates = byStart == null ? null : byStart.get(seg.getStart());
+            StoredSegment stored = candidates == null ? null : candidates.poll();
+
+            if (stored == null) {
+                segmentInserts.add(new Object[]{UUID.randomUUID().toString(), now, now, currentSpeaker, meetingId,
+                        seg.getStart(), seg.getEnd(), seg.getText()});
+                inserted++;
+            } else if (!Objects.equals(stored.end(), seg.getEnd()) || !Objects.equals(stored.text(), seg.getText())) {
+                segmentUpdates.add(new Object[]{now, seg.getEnd(), seg.getText(), stored.id()});
+                updated++;
+            }
+
+            if (segmentInserts.size() + segmentUpdates.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public int finish() {
+            flush();
+
+            List<Object[]> segmentDeletes = new ArrayList<>();
+            existingSegments.values().forEach(byStart -> byStart.values().forEach(
+                    rows -> rows.forEach(row -> segmentDeletes.add(new Object[]{row.id()}))));
+            List<Object[]> speakerDeletes = new ArrayList<>();
+            existingSpeakers.values().forEach(rows -> rows.forEach(row -> speakerDeletes.add(new Object[]{row})));
+
+            if (!segmentDeletes.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM segments WHERE id = ?", segmentDeletes);
+                deleted += segmentDeletes.size();
+            }
+            if (!speakerDeletes.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM speakers WHERE id = ?", speakerDeletes);
+            }
+            return inserted + updated + deleted;
+        }
+
+        @Override
+        public int inserted() {
+            return inserted;
+        }
+
+        @Override
+        public int updated() {
+            return updated;
+        }
+
+        @Override
+        public int deleted() {
+            return deleted;
+        }
+
+        // 세그먼트의 FK 가 가리키는 화자 행을 먼저 저장
+        private void flush() {
+            if (!speakerInserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SPEAKER, speakerInserts, SPEAKER_TYPES);
+                speakerInserts.clear();
+            }
+            if (!segmentInserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SEGMENT, segmentInserts, SEGMENT_TYPES);
+                segmentInserts.clear();
+            }
+            if (!segmentUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SEGMENT, segmentUpdates, UPDATE_SEGMENT_TYPES);
+                segmentUpdates.clear();
+            }
+        }
+    }
+
+    /**
+     * 압축 저장용 writer
+     * 화자 하나의 세그먼트를 모았다가 다음 화자로 넘어갈 때 기존 전사(압축 전사 + 남은 세그먼트 행)와 비교해
+     * 바뀌었으면 다시 압축해 바로 화자 행에 쓰고, 그 화자의 세그먼트 행은 지운다.
+     * 기존 전사도 화자를 열 때 그 화자 것만 읽으므로 메모리에는 화자 한 명 분량만 유지된다.
+     */
+    private class PackedDiffWriter implements DiffWriter {
+        private final String meetingId;
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // speakerId -> 아직 짝이 없는 기존 화자 행 id
+        private final Map<String, Deque<String>> existingSpeakers;
+        // 화자 행 id -> 아직 읽지 않은 압축 전사의 세그먼트 수
+        private final Map<String, Integer> packedCounts;
+        // 화자 행 id -> 아직 압축되지 않은 세그먼트 행 수
+        private final Map<String, Integer> rowCounts;
+
+        private String currentSpeaker;
+        private String currentSpeakerId;
+        private boolean currentIsNew;
+        private boolean currentHadRows;
+        private boolean currentWasPacked;
+        private Map<Float, Deque<StoredSegment>> previous;
+        private PackedTranscript.Builder builder;
+        private int currentChanges;
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        private PackedDiffWriter(String meetingId, Map<String, Deque<String>> existingSpeakers,
+                                 Map<String, Integer> packedCounts, Map<String, Integer> rowCounts) {
+            this.meetingId = meetingId;
+            this.existingSpeakers = existingSpeakers;
+            this.packedCounts = packedCounts;
+            this.rowCounts = rowCounts;
+        }
+
+        @Override
+        public void speaker(String speakerId) {
+            closeSpeaker();
+
+            Deque<String> rows = existingSpeakers.get(speakerId);
+            String row = rows == null ? null : rows.poll();
+            currentIsNew = row == null;
+            currentSpeaker = currentIsNew ? UUID.randomUUID().toString() : row;
+            currentSpeakerId = speakerId;
+
+            currentHadRows = rowCounts.remove(currentSpeaker) != null;
+            previous = currentHadRows ? loadSpeakerSegmentRows(currentSpeaker) : new HashMap<>();
+            currentWasPacked = packedCounts.remove(currentSpeaker) != null;
+            if (currentWasPacked) {
+                byte[] blob = jdbcTemplate.queryForObject("SELECT packed_segments FROM speakers WHERE id = ?", byte[].class, currentSpeaker);
+                PackedTranscript transcript = PackedTranscript.open(blob);
+                for (int i = 0; i < transcript.size(); i++) {
+                    previous.computeIfAbsent(transcript.startTime(i), k -> new ArrayDeque<>())
+                            .add(new StoredSegment(null, transcript.endTime(i), transcript.text(i)));
+                }
+            }
+
+            builder = PackedTranscript.builder(compress);
+            currentChanges = 0;
+        }
+
+        @Override
+        public void segment(MeetingRequestDto.AiCallbackRequest.Segment seg) {
+            if (builder == null) {
+                throw new IllegalStateException("speaker() 호출 전에 segment 를 쓸 수 없습니다.");
+            }
+            builder.add(seg.getStart(), seg.getEnd(), seg.getText());
+
+            Deque<StoredSegment> candidates = previous.get(seg.getStart());
+            StoredSegment stored = candidates == null ? null : candidates.poll();
+            if (stored == null) {
+                inserted++;
+                currentChanges++;
+            } else if (!Objects.equals(stored.end(), seg.getEnd()) || !Objects.equals(stored.text(), seg.getText())) {
+                updated++;
+                currentChanges++;
+            }
+        }
+
+        @Override
+        public int finish() {
+            closeSpeaker();
+
+            // 짝이 없던 기존 화자는 세그먼트와 함께 삭제
+            List<Object[]> speakerDeletes = new ArrayList<>();
+            List<Object[]> rowDeletes = new ArrayList<>();
+            existingSpeakers.values().forEach(rows -> rows.forEach(row -> {
+                speakerDeletes.add(new Object[]{row});
+                Integer rowCount = rowCounts.remove(row);
+                if (rowCount != null) {
+                    deleted += rowCount;
+                    rowDeletes.add(new Object[]{row});
+                }
+                Integer packedCount = packedCounts.remove(row);
+                if (packedCount != null) {
+                    deleted += packedCount;
+                }
+            }));
+
+            if (!rowDeletes.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM segments WHERE speaker_id = ?", rowDeletes);
+            }
+            if (!speakerDeletes.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM speakers WHERE id = ?", speakerDeletes);
+            }
+            return inserted + updated + deleted;
+        }
+
+        @Override
+        public int inserted() {
+            return inserted;
+        }
+
+        @Override
+        public int updated() {
+            return updated;
+        }
+
+        @Override
+        public int deleted() {
+            return deleted;
+        }
+
+        // 현재 화자를 기존 전사와 비교해 바뀌었으면 압축해서 바로 기록
+        private void closeSpeaker() {
+            if (builder == null) {
+                return;
+            }
+
+            int removed = previous.values().stream().mapToInt(Deque::size).sum();
+            deleted += removed;
+            currentChanges += removed;
+
+            if (currentIsNew) {
+                jdbcTemplate.update(INSERT_PACKED_SPEAKER,
+                        new Object[]{currentSpeaker, now, now, meetingId, currentSpeakerId, builder.build(), builder.size()},
+                        INSERT_PACKED_SPEAKER_TYPES);
+            } else if (currentChanges > 0 || currentHadRows || !currentWasPacked) {
+                jdbcTemplate.update(UPDATE_PACKED_SPEAKER,
+                        new Object[]{now, builder.build(), builder.size(), currentSpeaker},
+                        UPDATE_PACKED_SPEAKER_TYPES);
+            }
+            if (currentHadRows) {
+                jdbcTemplate.update("DELETE FROM segments WHERE speaker_id = ?", currentSpeaker);
+            }
+
+            builder = null;
+            previous = null;
+        }
+    }
+}
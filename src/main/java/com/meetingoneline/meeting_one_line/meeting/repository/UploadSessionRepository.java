@@ -0,0 +1,58 @@
+package com.meetingoneline.meeting_one_line.meeting.repository;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.UploadSessionEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSessionEntity, UUID> {
+
+    /**
+     * 수신 오프셋 전진 및 파트 수 증가 (compare-and-set)
+     * 동시에 같은 오프셋으로 들어온 청크 중 하나만 반영되도록 기대 오프셋이 일치할 때만 갱신
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE UploadSessionEntity s
+        SET s.receivedBytes = :newOffset,
+            s.partCount = s.partCount + 1,
+            s.updatedAt = :now
+        WHERE s.id = :id
+          AND s.receivedBytes = :expectedOffset
+          AND s.status = :status
+    """)
+    int advanceOffset(
+            @Param("id") UUID id,
+            @Param("expectedOffset") long expectedOffset,
+            @Param("newOffset") long newOffset,
+            @Param("status") UploadSessionStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 방치된 세션 만료 표시 (이후 청크 append 는 status 조건에 걸려 반영되지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE UploadSessionEntity s
+        SET s.status = :expired
+        WHERE s.status = :status
+          AND s.updatedAt < :cutoff
+    """)
+    int markExpired(
+            @Param("status") UploadSessionStatus status,
+            @Param("expired") UploadSessionStatus expired,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    List<UploadSessionEntity> findByStatus(UploadSessionStatus status);
+}
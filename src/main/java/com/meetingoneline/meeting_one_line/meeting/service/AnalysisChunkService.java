@@ -0,0 +1,356 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.audio.AudioHeaderParser;
+import com.meetingoneline.meeting_one_line.global.audio.WavSplitter;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.global.storage.StoredObject;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisChunkStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisChunkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 긴 녹음 분할 분석
+ * 1. 디스패처가 전체 분석 요청을 꺼내면 WAV 를 window 단위(무음 지점)로 잘라 조각 파일과 조각별 outbox 를 등록
+ * 2. 조각 요청은 일반 요청과 같은 스케줄러로 여러 AI 워커에 병렬 전달
+ * 3. 조각 콜백은 결과를 보관만 하고, 마지막 조각이 도착하면 시간 오프셋을 적용해 병합 후 한 번에 반영
+ *
+ * 현재는 PCM WAV 만 분할하며, 그 외 형식과 짧은 녹음은 기존처럼 한 번에 분석한다.
+ * 화자 ID 는 AI 서버가 조각 사이에서 일관되게 부여한다고 가정하고 같은 ID 끼리 합친다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisChunkService {
+
+    private static final int MAX_KEYWORDS = 20;
+
+    private final AnalysisChunkRepository analysisChunkRepository;
+    private final AnalysisOutboxService analysisOutboxService;
+    private final AnalysisEtaEstimator analysisEtaEstimator;
+    private final AnalysisResultWriter analysisResultWriter;
+    private final AudioMetadataService audioMetadataService;
+    private final StorageBackend storageBackend;
+    private final ObjectMapper objectMapper;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @Value("${ai.chunking.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ai.chunking.window-minutes:10}")
+    private long windowMinutes;
+
+    @Value("${ai.chunking.min-duration-minutes:20}")
+    private long minDurationMinutes;
+
+    @Value("${ai.chunking.silence-search-seconds:5}")
+    private long silenceSearchSeconds;
+
+    /**
+     * 분할 대상이면 조각 파일 저장 + 조각별 분석 요청 등록 (트랜잭션 밖, 디스패처 스레드에서 호출)
+     * 이미 분할된 회의(이전 시도에서 등록 후 전달 완료 기록 전에 중단된 경우)도 true
+     * @return true 면 원본 전체 분석 요청은 보내지 않는다
+     */
+    public boolean splitIfEligible(AnalysisOutboxService.ClaimedJob job, MeetingEntity meeting, String filePath) {
+        if (!enabled || meeting.getAudioDurationMs() == null
+                || meeting.getAudioDurationMs() < Duration.ofMinutes(minDurationMinutes).toMillis()) {
+            return false;
+        }
+        if (analysisChunkRepository.existsByMeetingId(meeting.getId())) {
+            return true;
+        }
+
+        try {
+            long size = storageBackend.stat(filePath).map(StoredObject::size).orElse(-1L);
+            if (size <= 0) {
+                return false;
+            }
+            AudioHeaderParser.Source source = audioMetadataService.source(filePath, size, null);
+            AudioHeaderParser.WavLayout wav = AudioHeaderParser.wavLayout(source);
+            if (wav == null || !WavSplitter.isSplittable(wav)) {
+                return false;
+            }
+
+            List<WavSplitter.Piece> pieces = WavSplitter.plan(source, wav,
+                    Duration.ofMinutes(windowMinutes), Duration.ofSeconds(silenceSearchSeconds));
+            if (pieces.size() < 2) {
+                return false;
+            }
+
+            // 조각 파일 = 44바이트 헤더 + 원본 PCM 구간 (구간 스트림을 그대로 저장소로 전송)
+            List<AnalysisChunkEntity> chunks = new ArrayList<>();
+            List<Duration> expectedCost = new ArrayList<>();
+            for (WavSplitter.Piece piece : pieces) {
+                String chunkKey = filePath + ".chunk-" + piece.index() + ".wav";
+                try (InputStream in = new SequenceInputStream(
+                        new ByteArrayInputStream(WavSplitter.header(wav, piece.dataLength())),
+                        storageBackend.getRange(filePath, piece.dataStart(), piece.dataStart() + piece.dataLength() - 1))) {
+                    storageBackend.put(chunkKey, in, WavSplitter.headerLength() + piece.dataLength(), "audio/wav");
+                }
+                chunks.add(AnalysisChunkEntity.create(meeting.getId(), piece.index(), pieces.size(), chunkKey,
+                        piece.offsetMs(), piece.durationMs()));
+                expectedCost.add(analysisEtaEstimator.expectedProcessing(piece.durationMs()));
+            }
+
+            analysisOutboxService.enqueueChunks(job.userId(), job.priority(), chunks, expectedCost);
+            log.info("✂️ 분할 분석 등록: meetingId={}, chunks={}", meeting.getId(), pieces.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 분할 실패 시 전체 분석으로 진행
+            log.warn("⚠️ 녹음 분할 실패 - 전체 분석으로 진행 (meetingId={}): {}", meeting.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<AnalysisChunkEntity> findChunk(UUID meetingId, int chunkIndex) {
+        return analysisChunkRepository.findByMeetingIdAndChunkIndex(meetingId, chunkIndex);
+    }
+
+    /**
+     * 조각 콜백 처리
+     * 같은 회의의 조각 행을 잠가 마지막 조각 병합이 정확히 한 번만 일어나게 한다.
+     * 재전송은 멱등: 이미 병합/실패로 끝난 회의, 이미 받은 조각의 콜백은 아무것도 바꾸지 않고 접수 응답만 한다.
+     */
+    @Transactional
+    public MeetingResponseDto.AiCallbackResponse processChunkCallback(MeetingEntity meeting, MeetingRequestDto.AiCallbackRequest request) {
+        List<AnalysisChunkEntity> chunks = analysisChunkRepository.findByMeetingIdForUpdate(meeting.getId());
+
+        // 병합 완료 또는 다른 조각 실패로 이미 종료된 회의의 늦은 조각 콜백은 무시 (조각 행은 종료 시 정리됨)
+        if (chunks.isEmpty() && (meeting.getStatus() == RecordSaveStatus.COMPLETED || meeting.getStatus() == RecordSaveStatus.FAILED)) {
+            log.info("⏭️ 종료된 회의의 조각 콜백 무시: meetingId={}, status={}, chunk={}",
+                    meeting.getId(), meeting.getStatus(), request.getChunkIndex());
+            return callbackResponse("이미 종료된 분석입니다.");
+        }
+
+        AnalysisChunkEntity chunk = chunks.stream()
+                                          .filter(c -> c.getChunkIndex().equals(request.getChunkIndex()))
+                                          .findFirst()
+                                          .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_CHUNK_NOT_FOUND));
+
+        // 이미 받은 조각의 재전송은 저장된 결과를 덮어쓰지 않음
+        if (chunk.getStatus() == AnalysisChunkStatus.COMPLETED) {
+            log.info("⏭️ 이미 수신한 조각 콜백 무시: meetingId={}, chunk={}", meeting.getId(), chunk.getChunkIndex());
+            return callbackResponse("이미 저장된 조각입니다.");
+        }
+
+        if (RecordSaveStatus.FAILED.name().equalsIgnoreCase(request.getStatus())) {
+            meeting.updateStatusAndSummary(RecordSaveStatus.FAILED.name(), request.getSummary());
+            meetingDetailSnapshotService.markChanged(meeting.getId());
+            discardAfterCommit(chunks);
+            log.error("❌ 분할 분석 조각 실패: meetingId={}, chunk={}", meeting.getId(), chunk.getChunkIndex());
+            return callbackResponse("분할 분석 실패가 기록되었습니다.");
+        }
+
+        try {
+            chunk.complete(objectMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("조각 결과 직렬화 실패", e);
+        }
+
+        long received = chunks.stream().filter(c -> c.getStatus() == AnalysisChunkStatus.COMPLETED).count();
+        if (received < chunks.size()) {
+            log.info("🧩 분할 분석 조각 수신: meetingId={}, {}/{}", meeting.getId(), received, chunks.size());
+            return callbackResponse("분할 분석 조각 결과가 저장되었습니다. (" + received + "/" + chunks.size() + ")");
+        }
+
+        analysisResultWriter.apply(meeting, merge(chunks));
+        discardAfterCommit(chunks);
+        log.info("✅ 회의({}) 분할 분석 {}개 조각 병합 완료", meeting.getId(), chunks.size());
+        return callbackResponse("회의록 및 피드백 결과가 성공적으로 저장되었습니다.");
+    }
+
+    /**
+     * 회의 삭제 시 남은 조각 정리
+     */
+    @Transactional
+    public void discard(UUID meetingId) {
+        discardAfterCommit(analysisChunkRepository.findByMeetingIdOrderByChunkIndex(meetingId));
+    }
+
+    /**
+     * 조각 결과 병합
+     * - 세그먼트: 조각 시작 위치만큼 시간 보정, 같은 화자 ID 끼리 시간순으로 이어붙임
+     * - 요약: 조각 순서대로 연결 / 키워드: 순서 유지 합집합
+     * - 피드백: 액션 아이템·후속 질문은 이어붙여 순번 재부여, 토픽 비중은 조각 길이 비율로 환산
+     */
+    MeetingRequestDto.AiCallbackRequest merge(List<AnalysisChunkEntity> chunks) {
+        long totalMs = Math.max(1, chunks.stream().mapToLong(AnalysisChunkEntity::getDurationMs).sum());
+
+        List<String> summaries = new ArrayList<>();
+        Set<String> keywords = new LinkedHashSet<>();
+        Map<String, List<MeetingRequestDto.AiCallbackRequest.Segment>> segmentsBySpeaker = new LinkedHashMap<>();
+        List<MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem> actionItems = new ArrayList<>();
+        List<MeetingRequestDto.AiCallbackRequest.Feedback.Topic> topics = new ArrayList<>();
+        Map<String, List<String>> questionsByCategory = new LinkedHashMap<>();
+        boolean hasFeedback = false;
+
+        for (AnalysisChunkEntity chunk : chunks) {
+            MeetingRequestDto.AiCallbackRequest part = readResult(chunk);
+            float offset = chunk.getOffsetMs() / 1000f;
+
+            if (part.getSummary() != null && !part.getSummary().isBlank()) {
+                summaries.add(part.getSummary().trim());
+            }
+            if (part.getKeywords() != null) {
+                keywords.addAll(part.getKeywords());
+            }
+            if (part.getSpeakers() != null) {
+                for (var speaker : part.getSpeakers()) {
+                    List<MeetingRequestDto.AiCallbackRequest.Segment> merged =
+                            segmentsBySpeaker.computeIfAbsent(speaker.getSpeakerId(), id -> new ArrayList<>());
+                    if (speaker.getSegments() != null) {
+                        for (var seg : speaker.getSegments()) {
+                            merged.add(MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                                                   .start(seg.getStart() != null ? seg.getStart() + offset : offset)
+                                                                                   .end(seg.getEnd() != null ? seg.getEnd() + offset : offset)
+                                                                                   .text(seg.getText())
+                                                                                   .build());
+                        }
+                    }
+                }
+            }
+
+            var feedback = part.getFeedback();
+            if (feedback == null) {
+                continue;
+            }
+            hasFeedback = true;
+            if (feedback.getActionItems() != null) {
+                for (var item : feedback.getActionItems()) {
+                    actionItems.add(MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem.builder()
+                                                                                           .name(item.getName())
+                                                                                           .content(item.getContent())
+                                                                                           .orderIndex(actionItems.size() + 1)
+                                                                                           .build());
+                }
+            }
+            if (feedback.getTopics() != null) {
+                for (var topic : feedback.getTopics()) {
+                    Integer proportion = topic.getProportion() != null
+                            ? (int) Math.round(topic.getProportion() * (double) chunk.getDurationMs() / totalMs)
+                            : null;
+                    topics.add(MeetingRequestDto.AiCallbackRequest.Feedback.Topic.builder()
+                                                                                 .title(topic.getTitle())
+                                                                                 .importance(topic.getImportance())
+                                                                                 .summary(topic.getSummary())
+                                                                                 .proportion(proportion)
+                                                                                 .build());
+                }
+            }
+            if (feedback.getFollowUpCategories() != null) {
+                for (var category : feedback.getFollowUpCategories()) {
+                    List<String> questions = questionsByCategory.computeIfAbsent(category.getCategory(), c -> new ArrayList<>());
+                    if (category.getQuestions() != null) {
+                        category.getQuestions().forEach(q -> questions.add(q.getQuestion()));
+                    }
+                }
+            }
+        }
+
+        List<MeetingRequestDto.AiCallbackRequest.Speaker> speakers = segmentsBySpeaker.entrySet().stream()
+                .map(entry -> MeetingRequestDto.AiCallbackRequest.Speaker.builder()
+                                                                        .speakerId(entry.getKey())
+                                                                        .segments(entry.getValue())
+                                                                        .build())
+                .toList();
+
+        MeetingRequestDto.AiCallbackRequest.Feedback feedback = null;
+        if (hasFeedback) {
+            List<MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory> categories = questionsByCategory.entrySet().stream()
+                    .map(entry -> MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.builder()
+                                                                                               .category(entry.getKey())
+                                                                                               .questions(numbered(entry.getValue()))
+                                                                                               .build())
+                    .toList();
+            feedback = MeetingRequestDto.AiCallbackRequest.Feedback.builder()
+                                                                   .actionItems(actionItems)
+                                                                   .topics(topics)
+                                                                   .followUpCategories(categories)
+                                                                   .build();
+        }
+
+        return MeetingRequestDto.AiCallbackRequest.builder()
+                                                  .status(RecordSaveStatus.COMPLETED.name().toLowerCase())
+                                                  .summary(String.join("\n\n", summaries))
+                                                  .keywords(keywords.stream().limit(MAX_KEYWORDS).toList())
+                                                  .speakers(speakers)
+                                                  .feedback(feedback)
+                                                  .build();
+    }
+
+    private static List<MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.Question> numbered(List<String> questions) {
+        List<MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.Question> result = new ArrayList<>();
+        for (String question : questions) {
+            result.add(MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.Question.builder()
+                                                                                             .question(question)
+                                                                                             .orderIndex(result.size() + 1)
+                                                                                             .build());
+        }
+        return result;
+    }
+
+    private MeetingRequestDto.AiCallbackRequest readResult(AnalysisChunkEntity chunk) {
+        try {
+            return objectMapper.readValue(chunk.getResult(), MeetingRequestDto.AiCallbackRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("조각 결과 역직렬화 실패 (chunk=" + chunk.getChunkIndex() + ")", e);
+        }
+    }
+
+    /**
+     * 조각 행은 지금 삭제하고, 조각 파일은 커밋 후 삭제 (롤백되면 파일 유지)
+     */
+    private void discardAfterCommit(List<AnalysisChunkEntity> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        List<String> keys = chunks.stream().map(AnalysisChunkEntity::getStorageKey).toList();
+        analysisChunkRepository.deleteAll(chunks);
+
+        Runnable deleteFiles = () -> keys.forEach(key -> {
+            try {
+                storageBackend.delete(key);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 조각 파일 삭제 실패: {}", key, e);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFiles.run();
+                }
+            });
+        } else {
+            deleteFiles.run();
+        }
+    }
+
+    private static MeetingResponseDto.AiCallbackResponse callbackResponse(String message) {
+        return MeetingResponseDto.AiCallbackResponse.builder()
+                                                    .message(message)
+                                                    .build();
+    }
+}
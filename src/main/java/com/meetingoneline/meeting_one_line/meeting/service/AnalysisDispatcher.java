@@ -0,0 +1,162 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.client.AiClient;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AI 분석 outbox 디스패처
+ * 주기적으로 스케줄러에 여유가 있는 만큼 outbox 를 점유해 AnalysisJobScheduler 에 넘긴다.
+ * 점유는 SKIP LOCKED 로 이뤄지므로 여러 노드에서 동시에 실행해도 같은 요청을 중복 전송하지 않는다.
+ * 접수된 요청의 분석 슬롯은 콜백(CallbackIngestService)이 반환하고, 콜백이 오지 않으면 sweepCallbackWaits 가 반환한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisDispatcher {
+
+    private final AnalysisOutboxService analysisOutboxService;
+    private final MeetingRepository meetingRepository;
+    private final MeetingDeduplicationService meetingDeduplicationService;
+    private final StorageBackend storageBackend;
+    private final AiClient aiClient;
+    private final AnalysisJobScheduler analysisJobScheduler;
+    private final AnalysisChunkService analysisChunkService;
+    private final AudioNormalizationService audioNormalizationService;
+
+    @Value("${ai.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${ai.outbox.claim-per-user:2}")
+    private int claimPerUser;
+
+    @Scheduled(fixedDelayString = "${ai.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        // 노드 안에서 바로 처리하지 못할 만큼 점유하면 대기 중 lease 가 만료되므로 여유만큼만 가져온다
+        int capacity = Math.min(batchSize, analysisJobScheduler.freeCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<AnalysisOutboxService.ClaimedJob> jobs;
+        try {
+            jobs = analysisOutboxService.claim(capacity, claimPerUser);
+        } catch (RuntimeException e) {
+            log.error("❌ outbox 점유 실패", e);
+            return;
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        log.info("📤 AI 분석 요청 {}건 스케줄러 등록", jobs.size());
+        for (AnalysisOutboxService.ClaimedJob job : jobs) {
+            analysisJobScheduler.submit(job.userId(), job.priority(), job.expectedCost(), () -> dispatch(job));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.outbox.callback-sweep-interval-ms:60000}")
+    public void sweepCallbackWaits() {
+        try {
+            int expired = analysisOutboxService.expireCallbackWaits();
+            if (expired > 0) {
+                log.warn("⚠️ 콜백이 오지 않은 AI 분석 요청 {}건의 슬롯 반환", expired);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ 콜백 대기 만료 처리 실패", e);
+        }
+    }
+
+    /**
+     * 요청 1건 전달 (성공/실패 결과는 outbox 에 기록한 뒤 그대로 전파)
+     */
+    Mono<Void> dispatch(AnalysisOutboxService.ClaimedJob job) {
+        return Mono.fromCallable(() -> prepare(job))
+                   .subscribeOn(Schedulers.boundedElastic())
+                   .flatMap(target -> aiClient.requestAnalysis(job.userId(), job.meetingId(), target.fileLocation(), target.title(), target.chunk())
+                                              .thenReturn(true))
+                   .defaultIfEmpty(false)
+                   // 결과 기록(JDBC)은 Netty 이벤트 루프가 아닌 별도 스레드에서 수행
+                   .publishOn(Schedulers.boundedElastic())
+                   .flatMap(sent -> Mono.<Void>fromRunnable(() -> {
+                       if (sent) {
+                           analysisOutboxService.markDelivered(job);
+                       } else {
+                           analysisOutboxService.markSkipped(job);
+                       }
+                   }))
+                   .onErrorResume(error -> Mono.fromRunnable(() -> analysisOutboxService.markFailed(job, error))
+                                               .subscribeOn(Schedulers.boundedElastic())
+                                               .then(Mono.error(error)));
+    }
+
+    /**
+     * 전송 대상 확정
+     * 첫 시도에서만 중복 업로드를 확인하며, 분석 결과를 복제했거나 회의가 삭제됐으면 null(전송 생략)
+     * 정규화 대상이면 16kHz 모노 사본을 만들어 보내고, 긴 녹음은 여기서 조각으로 나눠 조각별 요청을 등록하고, 원본 전체 요청은 보내지 않는다(null)
+     */
+    private DispatchTarget prepare(AnalysisOutboxService.ClaimedJob job) {
+        UUID meetingId = job.meetingId();
+
+        MeetingEntity meeting = meetingRepository.findById(meetingId).orElse(null);
+        if (meeting == null) {
+            log.info("삭제된 회의라 분석 요청 생략 (meetingId={})", meetingId);
+            return null;
+        }
+
+        if (job.chunkIndex() != null) {
+            AnalysisChunkEntity chunk = analysisChunkService.findChunk(meetingId, job.chunkIndex()).orElse(null);
+            if (chunk == null) {
+                log.info("정리된 조각이라 분석 요청 생략 (meetingId={}, chunk={})", meetingId, job.chunkIndex());
+                return null;
+            }
+            return new DispatchTarget(storageBackend.locate(chunk.getStorageKey()), meeting.getTitle(),
+                    new AiClient.ChunkInfo(chunk.getChunkIndex(), chunk.getChunkCount(), chunk.getOffsetMs() / 1000.0));
+        }
+
+        String filePath = meeting.getFilePath();
+
+        if (job.attempt() == 1) {
+            MeetingDeduplicationService.Reuse reuse = meetingDeduplicationService.reuseExisting(meetingId);
+            if (reuse != null) {
+                meetingDeduplicationService.deleteIfUnreferenced(reuse.discardedFilePath());
+
+                var cloned = reuse.cloned();
+                if (cloned != null) {
+                    // 분석 요청 없이 검색용 임베딩만 등록
+                    try {
+                        aiClient.requestUpsertSync(job.userId(), meetingId, cloned.title(), cloned.summary(), cloned.keywords(), cloned.speakers());
+                    } catch (RuntimeException e) {
+                        log.warn("⚠️ 복제 회의 임베딩 업서트 실패 (meetingId={}): {}", meetingId, e.getMessage());
+                    }
+                    return null;
+                }
+                filePath = reuse.sharedFilePath();
+            }
+        }
+
+        // 다운믹스/리샘플 사본이 있으면 그 파일로 분석 (분할도 사본 기준)
+        filePath = audioNormalizationService.prepareForAnalysis(meeting, filePath);
+
+        if (analysisChunkService.splitIfEligible(job, meeting, filePath)) {
+            return null;
+        }
+
+        return new DispatchTarget(storageBackend.locate(filePath), meeting.getTitle(), null);
+    }
+
+    private record DispatchTarget(String fileLocation, String title, AiClient.ChunkInfo chunk) {
+    }
+}
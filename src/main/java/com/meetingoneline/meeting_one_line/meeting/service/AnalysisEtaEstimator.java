@@ -0,0 +1,56 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 녹음 길이로 AI 분석 소요 시간 추정
+ * 예상 소요 = overhead + 녹음 길이 × realtime-factor (길이를 모르면 unknown-duration 으로 가정)
+ * 스케줄링(짧은 작업 우선)과 분석 완료 예상 시각에 같은 값을 쓴다.
+ */
+@Component
+public class AnalysisEtaEstimator {
+
+    private final double realtimeFactor;
+    private final Duration overhead;
+    private final Duration unknownDuration;
+
+    public AnalysisEtaEstimator(@Value("${ai.eta.realtime-factor:0.3}") double realtimeFactor,
+                                @Value("${ai.eta.overhead-seconds:20}") long overheadSeconds,
+                                @Value("${ai.eta.unknown-duration-seconds:1800}") long unknownDurationSeconds) {
+        this.realtimeFactor = realtimeFactor;
+        this.overhead = Duration.ofSeconds(overheadSeconds);
+        this.unknownDuration = Duration.ofSeconds(unknownDurationSeconds);
+    }
+
+    /**
+     * 예상 분석 소요 시간
+     * @param audioDurationMs 녹음 길이 (모르면 null)
+     */
+    public Duration expectedProcessing(Long audioDurationMs) {
+        Duration audio = audioDurationMs != null ? Duration.ofMillis(audioDurationMs) : unknownDuration;
+        return overhead.plusMillis((long) (audio.toMillis() * realtimeFactor));
+    }
+
+    /**
+     * 분석 완료 예상 시각 (대기 중이면 지금 시작한다고 가정, 완료/실패면 null)
+     */
+    public LocalDateTime estimateCompletion(MeetingEntity meeting, LocalDateTime now) {
+        Duration expected = expectedProcessing(meeting.getAudioDurationMs());
+
+        if (meeting.getStatus() == RecordSaveStatus.UPLOADED) {
+            return now.plus(expected);
+        }
+        if (meeting.getStatus() == RecordSaveStatus.PROCESSING) {
+            LocalDateTime startedAt = meeting.getAnalysisStartedAt() != null ? meeting.getAnalysisStartedAt() : now;
+            LocalDateTime eta = startedAt.plus(expected);
+            return eta.isBefore(now) ? now : eta; // 예상보다 늦어지는 경우
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * AI 분석 요청 스케줄러 (프로세스 내)
+ * - 노드 안 동시 전송 상한 (ai.scheduler.max-concurrency): /ai/analyze 접수 응답을 기다리는 요청 수만 센다.
+ *   AI 서버에서 분석이 끝날 때(콜백)까지의 클러스터 전체 동시 분석 수는 outbox 점유 단계에서 제한한다. (ai.outbox.max-active)
+ * - 같은 사용자 대기열 안에서는 우선순위 → (도착 시각 + 예상 소요) 순
+ * - 사용자 사이에서는 각 대기열 맨 앞 요청 중 가상 완료 시각이 가장 이른 것부터 (전체 대기열 기준 짧은 작업 우선)
+ *   가상 완료 시각 = max(도착 시각, 그 사용자의 가상 시계) + 예상 소요, 요청이 시작될 때마다 사용자 시계가 그만큼 전진한다.
+ *   한가한 사용자의 짧은 회의가 먼저 나가고, 대량 업로드한 사용자는 앞선 요청의 소요만큼 뒤로 밀려 다른 사용자를 막지 않으며,
+ *   긴 회의도 도착 시각 기준이라 기다린 만큼 앞으로 당겨져 무한히 밀리지 않는다.
+ *
+ * 메트릭: ai.analysis.queue.depth / ai.analysis.queue.users / ai.analysis.inflight (gauge),
+ *        ai.analysis.queue.wait (대기 시간), ai.analysis.request (요청 처리 시간, outcome 태그)
+ */
+@Slf4j
+@Service
+public class AnalysisJobScheduler {
+
+    private static final Comparator<QueuedJob> USER_QUEUE_ORDER =
+            Comparator.comparing(QueuedJob::priority, Comparator.reverseOrder())
+                      .thenComparingLong(QueuedJob::virtualDeadline)
+                      .thenComparingLong(QueuedJob::sequence);
+
+    private final int maxConcurrency;
+    private final int queueCapacity;
+
+    private final Map<UUID, PriorityQueue<QueuedJob>> queues = new HashMap<>();
+    // 사용자별 가상 시계 (마지막으로 시작한 요청의 가상 완료 시각, nanoTime 기준)
+    private final Map<UUID, Long> virtualClocks = new HashMap<>();
+    private long sequence;
+    private int queued;
+    private int inFlight;
+
+    private final Timer waitTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public AnalysisJobScheduler(MeterRegistry meterRegistry,
+                                @Value("${ai.scheduler.max-concurrency:4}") int maxConcurrency,
+                                @Value("${ai.scheduler.queue-capacity:100}") int queueCapacity) {
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder("ai.analysis.queue.depth", this, s -> s.snapshot().queued())
+             .description("AI 분석 대기 요청 수")
+             .register(meterRegistry);
+        Gauge.builder("ai.analysis.queue.users", this, s -> s.snapshot().waitingUsers())
+             .description("대기 요청이 있는 사용자 수")
+             .register(meterRegistry);
+        Gauge.builder("ai.analysis.inflight", this, s -> s.snapshot().inFlight())
+             .description("AI 서버로 전송 중인 요청 수")
+             .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("ai.analysis.queue.wait")
+                              .description("스케줄러 대기 시간")
+                              .publishPercentileHistogram()
+                              .register(meterRegistry);
+        this.successTimer = Timer.builder("ai.analysis.request")
+                                 .tag("outcome", "success")
+                                 .register(meterRegistry);
+        this.failureTimer = Timer.builder("ai.analysis.request")
+                                 .tag("outcome", "failure")
+                                 .register(meterRegistry);
+    }
+
+    /**
+     * 새로 받을 수 있는 요청 수 (outbox 점유량 조절용)
+     */
+    public synchronized int freeCapacity() {
+        return Math.max(0, queueCapacity + maxConcurrency - queued - inFlight);
+    }
+
+    /**
+     * 요청 등록 (실행 슬롯이 비어 있으면 바로 시작)
+     * @param task 구독 시 요청을 보내고, 완료/실패 시 종료되는 작업
+     */
+    public void submit(UUID userId, AnalysisPriority priority, Duration expectedCost, Supplier<Mono<Void>> task) {
+        synchronized (this) {
+            long now = System.nanoTime();
+            QueuedJob job = new QueuedJob(userId, priority, now + expectedCost.toNanos(), expectedCost.toNanos(), sequence++, now, task);
+            queues.computeIfAbsent(userId, id -> new PriorityQueue<>(USER_QUEUE_ORDER)).add(job);
+            queued++;
+        }
+        drain();
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(queued, queues.size(), inFlight);
+    }
+
+    /**
+     * 빈 슬롯만큼 가상 완료 시각이 이른 사용자부터 꺼내 실행
+     */
+    private void drain() {
+        List<QueuedJob> ready = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < maxConcurrency && !queues.isEmpty()) {
+                UUID userId = null;
+                long earliest = Long.MAX_VALUE;
+                for (Map.Entry<UUID, PriorityQueue<QueuedJob>> entry : queues.entrySet()) {
+                    long finish = virtualFinish(entry.getKey(), entry.getValue().peek());
+                    if (userId == null || finish - earliest < 0) {
+                        userId = entry.getKey();
+                        earliest = finish;
+                    }
+                }
+
+                PriorityQueue<QueuedJob> queue = queues.get(userId);
+                QueuedJob job = queue.poll();
+                if (queue.isEmpty()) {
+                    queues.remove(userId);
+                }
+                virtualClocks.put(userId, earliest);
+                queued--;
+                inFlight++;
+                ready.add(job);
+            }
+
+            // 대기 요청이 없고 시계가 현재를 지난 사용자는 다음 요청부터 도착 시각 기준으로 시작
+            long now = System.nanoTime();
+            virtualClocks.entrySet().removeIf(e -> e.getValue() - now <= 0 && !queues.containsKey(e.getKey()));
+        }
+
+        // 작업 시작은 락 밖에서
+        ready.forEach(this::start);
+    }
+
+    private long virtualFinish(UUID userId, QueuedJob head) {
+        Long clock = virtualClocks.get(userId);
+        long start = clock != null && clock - head.enqueuedAt() > 0 ? clock : head.enqueuedAt();
+        return start + head.cost();
+    }
+
+    private void start(QueuedJob job) {
+        long startedAt = System.nanoTime();
+        waitTimer.record(Duration.ofNanos(startedAt - job.enqueuedAt()));
+
+        Mono<Void> task;
+        try {
+            task = job.task().get();
+        } catch (RuntimeException e) {
+            log.error("❌ 분석 작업 생성 실패 (userId={})", job.userId(), e);
+            finish(failureTimer, startedAt);
+            return;
+        }
+
+        task.subscribe(
+                null,
+                error -> finish(failureTimer, startedAt),
+                () -> finish(successTimer, startedAt)
+        );
+    }
+
+    private void finish(Timer timer, long startedAt) {
+        timer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    private record QueuedJob(UUID userId, AnalysisPriority priority, long virtualDeadline, long cost, long sequence,
+                             long enqueuedAt, Supplier<Mono<Void>> task) {
+    }
+
+    public record Snapshot(int queued, int waitingUsers, int inFlight) {
+    }
+}
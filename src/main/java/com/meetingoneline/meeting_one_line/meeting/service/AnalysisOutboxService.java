@@ -0,0 +1,217 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisOutboxEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisChunkRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisOutboxRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 분석 outbox 의 DB 단계 (점유 / 전달 완료 / 실패 기록 / 콜백 대기 해제)
+ * 각 단계는 짧은 트랜잭션으로 끝나고, AI 서버 호출은 디스패처가 트랜잭션 밖에서 수행한다.
+ * AI 서버가 접수한 요청은 콜백이 올 때까지 AWAITING_CALLBACK 으로 남아 클러스터 동시 분석 수(ai.outbox.max-active)에 포함된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisOutboxService {
+
+    private final AnalysisOutboxRepository analysisOutboxRepository;
+    private final AnalysisChunkRepository analysisChunkRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @Value("${ai.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${ai.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${ai.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${ai.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${ai.outbox.max-active:8}")
+    private int maxActive;
+
+    @Value("${ai.outbox.callback-timeout-seconds:1800}")
+    private long callbackTimeoutSeconds;
+
+    /**
+     * 회의 등록 트랜잭션 안에서 호출 (회의와 outbox 가 함께 커밋/롤백)
+     */
+    @Transactional
+    public void enqueue(UUID meetingId, UUID userId, AnalysisPriority priority, Duration expectedCost) {
+        analysisOutboxRepository.save(AnalysisOutboxEntity.create(meetingId, userId, priority, expectedCost));
+    }
+
+    /**
+     * 분할 분석 조각과 조각별 분석 요청을 한 트랜잭션으로 등록
+     * @param expectedCost 조각 길이로 추정한 소요 시간 (조각 순서와 같은 순서)
+     */
+    @Transactional
+    public void enqueueChunks(UUID userId, AnalysisPriority priority, List<AnalysisChunkEntity> chunks,
+                              List<Duration> expectedCost) {
+        analysisChunkRepository.saveAll(chunks);
+        for (int i = 0; i < chunks.size(); i++) {
+            AnalysisChunkEntity chunk = chunks.get(i);
+            analysisOutboxRepository.save(AnalysisOutboxEntity.createChunk(
+                    chunk.getMeetingId(), userId, priority, expectedCost.get(i), chunk.getChunkIndex()));
+        }
+    }
+
+    /**
+     * 처리할 요청 점유 후 회의를 PROCESSING 으로 변경
+     * 사용자당 최대 perUser 건을 후보로 삼아, 전체 후보 중 (대기 시작 + 예상 소요) 가 이른 순으로 limit 건까지 점유한다.
+     * 클러스터 전체 진행 중 분석(전송 중 + 콜백 대기)이 max-active 에 닿으면 점유하지 않는다.
+     * 여러 노드가 같은 순간 세면 노드 수만큼 잠시 넘을 수 있다. (다음 주기부터는 다시 상한 안으로)
+     */
+    @Transactional
+    public List<ClaimedJob> claim(int limit, int perUser) {
+        LocalDateTime now = LocalDateTime.now();
+        if (limit > 0) {
+            limit = Math.min(limit, maxActive - (int) analysisOutboxRepository.countActive(now));
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<String> candidates = analysisOutboxRepository.findClaimCandidates(now, perUser, limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> order = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.put(candidates.get(i), i);
+        }
+        List<AnalysisOutboxEntity> rows = new ArrayList<>(analysisOutboxRepository.lockCandidates(candidates, now));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        rows.sort(Comparator.comparing(row -> order.get(row.getId().toString())));
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        rows.forEach(row -> row.claim(leaseUntil));
+
+        List<UUID> meetingIds = rows.stream().map(AnalysisOutboxEntity::getMeetingId).toList();
+        meetingRepository.markProcessing(meetingIds, now);
+        meetingDetailSnapshotService.markChanged(meetingIds);
+
+        return rows.stream()
+                   .map(row -> new ClaimedJob(row.getId(), row.getMeetingId(), row.getUserId(), row.getPriority(),
+                                                 Duration.ofSeconds(row.getExpectedCostSeconds()), row.getChunkIndex(), row.getAttempts()))
+                   .toList();
+    }
+
+    /**
+     * AI 서버가 요청을 접수함 → 콜백이 오거나 대기 시간(예상 소요 + callback-timeout)이 지날 때까지 슬롯 점유
+     */
+    @Transactional
+    public void markDelivered(ClaimedJob job) {
+        LocalDateTime deadline = LocalDateTime.now().plus(job.expectedCost()).plusSeconds(callbackTimeoutSeconds);
+        analysisOutboxRepository.findById(job.outboxId())
+                                .filter(row -> isCurrentClaim(row, job))
+                                .ifPresent(row -> row.awaitCallback(deadline));
+    }
+
+    /**
+     * 보낼 요청이 없어 끝남 (결과 복제 / 삭제된 회의 / 조각으로 분할) → 콜백을 기다리지 않음
+     */
+    @Transactional
+    public void markSkipped(ClaimedJob job) {
+        analysisOutboxRepository.findById(job.outboxId())
+                                .filter(row -> isCurrentClaim(row, job))
+                                .ifPresent(AnalysisOutboxEntity::markDone);
+    }
+
+    /**
+     * 콜백 도착 → 분석 슬롯 반환
+     * @param chunkIndex 분할 분석 조각 번호 (전체 분석이면 null)
+     */
+    @Transactional
+    public void releaseCallbackWait(UUID meetingId, Integer chunkIndex) {
+        analysisOutboxRepository.releaseCallbackWait(meetingId, chunkIndex != null ? chunkIndex : -1);
+    }
+
+    /**
+     * 콜백 대기 시간이 지난 요청의 슬롯 반환 (회의 상태는 그대로 두어 늦게 온 콜백도 반영되게 함)
+     */
+    @Transactional
+    public int expireCallbackWaits() {
+        return analysisOutboxRepository.expireCallbackWaits(LocalDateTime.now(), "콜백 대기 시간 초과");
+    }
+
+    /**
+     * 전달 실패 → 지수 백오프(full jitter)로 재시도 예약, 한도 초과 시 DEAD + 회의 FAILED
+     */
+    @Transactional
+    public void markFailed(ClaimedJob job, Throwable error) {
+        AnalysisOutboxEntity row = analysisOutboxRepository.findById(job.outboxId())
+                                                           .filter(r -> isCurrentClaim(r, job))
+                                                           .orElse(null);
+        if (row == null) {
+            return;
+        }
+
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (row.getAttempts() >= maxAttempts) {
+            row.markDead(message);
+            meetingRepository.findById(row.getMeetingId()).ifPresent(meeting -> {
+                meeting.updateStatusAndSummary(RecordSaveStatus.FAILED.name(), "AI 서버 분석 요청 실패");
+                meetingDetailSnapshotService.markChanged(meeting.getId());
+                log.error("❌ AI 분석 요청 최종 실패 (meetingId={}, attempts={}): {}", row.getMeetingId(), row.getAttempts(), message);
+            });
+            return;
+        }
+
+        Duration delay = backoff(row.getAttempts(), backoffBaseMs, backoffMaxMs);
+        row.retryAt(LocalDateTime.now().plus(delay), message);
+        log.warn("⚠️ AI 분석 요청 실패 - {}ms 후 재시도 (meetingId={}, attempt={}): {}",
+                delay.toMillis(), row.getMeetingId(), row.getAttempts(), message);
+    }
+
+    /**
+     * lease 만료로 다른 디스패처가 다시 가져간 행이면 결과를 반영하지 않음
+     */
+    private boolean isCurrentClaim(AnalysisOutboxEntity row, ClaimedJob job) {
+        return row.getStatus() == OutboxStatus.IN_FLIGHT && row.getAttempts() == job.attempt();
+    }
+
+    /**
+     * full jitter: [0, min(max, base * 2^(attempt-1))] 사이 임의 지연
+     */
+    static Duration backoff(int attempt, long baseMs, long maxMs) {
+        long exponential = baseMs << Math.min(Math.max(attempt - 1, 0), 20);
+        long cap = Math.min(maxMs, exponential);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /**
+     * 점유된 분석 요청
+     * @param chunkIndex 분할 분석 조각 번호 (전체 분석이면 null)
+     * @param attempt    이번 시도 번호 (1부터)
+     */
+    public record ClaimedJob(UUID outboxId, UUID meetingId, UUID userId, AnalysisPriority priority,
+                             Duration expectedCost, Integer chunkIndex, int attempt) {
+    }
+}
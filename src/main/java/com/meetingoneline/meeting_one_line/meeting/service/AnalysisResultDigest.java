@@ -0,0 +1,146 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * AI 분석 결과 내용 해시 (SHA-256)
+ * DTO 콜백과 스트리밍 콜백이 같은 값을 내도록 필드를 정해진 순서로 길이와 함께 넣는다. (JSON 공백/필드 순서와 무관)
+ */
+class AnalysisResultDigest implements CallbackStreamReader.SpeakerSink {
+
+    private final MessageDigest sha;
+
+    private AnalysisResultDigest() {
+        try {
+            this.sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * speakers 를 제외한 필드로 시작
+     * 이후 speaker()/segment() 로 전사를 이어서 넣는다.
+     */
+    static AnalysisResultDigest start(String status, String summary, List<String> keywords,
+                                      MeetingRequestDto.AiCallbackRequest.Feedback feedback, boolean hasSpeakers) {
+        AnalysisResultDigest digest = new AnalysisResultDigest();
+        digest.put(status);
+        digest.put(summary);
+        digest.putStrings(keywords);
+        digest.putFeedback(feedback);
+        digest.put(hasSpeakers ? 1 : 0);
+        return digest;
+    }
+
+    static String of(MeetingRequestDto.AiCallbackRequest request) {
+        AnalysisResultDigest digest = start(request.getStatus(), request.getSummary(), request.getKeywords(),
+                request.getFeedback(), request.getSpeakers() != null);
+        if (request.getSpeakers() != null) {
+            for (MeetingRequestDto.AiCallbackRequest.Speaker speaker : request.getSpeakers()) {
+                digest.speaker(speaker.getSpeakerId());
+                if (speaker.getSegments() != null) {
+                    speaker.getSegments().forEach(digest::segment);
+                }
+            }
+        }
+        return digest.hex();
+    }
+
+    @Override
+    public void speaker(String speakerId) {
+        put('S');
+        put(speakerId);
+    }
+
+    @Override
+    public void segment(MeetingRequestDto.AiCallbackRequest.Segment segment) {
+        put('G');
+        put(segment.getStart());
+        put(segment.getEnd());
+        put(segment.getText());
+    }
+
+    String hex() {
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    private void putFeedback(MeetingRequestDto.AiCallbackRequest.Feedback feedback) {
+        if (feedback == null) {
+            put(-1);
+            return;
+        }
+        if (feedback.getActionItems() != null) {
+            for (var item : feedback.getActionItems()) {
+                put('A');
+                put(item.getName());
+                put(item.getContent());
+                put(item.getOrderIndex());
+            }
+        }
+        if (feedback.getTopics() != null) {
+            for (var topic : feedback.getTopics()) {
+                put('T');
+                put(topic.getTitle());
+                put(topic.getImportance());
+                put(topic.getSummary());
+                put(topic.getProportion());
+            }
+        }
+        if (feedback.getFollowUpCategories() != null) {
+            for (var category : feedback.getFollowUpCategories()) {
+                put('C');
+                put(category.getCategory());
+                if (category.getQuestions() != null) {
+                    for (var question : category.getQuestions()) {
+                        put('Q');
+                        put(question.getQuestion());
+                        put(question.getOrderIndex());
+                    }
+                }
+            }
+        }
+    }
+
+    private void putStrings(List<String> values) {
+        if (values == null) {
+            put(-1);
+            return;
+        }
+        put(values.size());
+        values.forEach(this::put);
+    }
+
+    private void put(String value) {
+        if (value == null) {
+            put(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        put(bytes.length);
+        sha.update(bytes);
+    }
+
+    private void put(Float value) {
+        put(value == null ? 0x7fc00001 : Float.floatToIntBits(value));
+    }
+
+    private void put(Integer value) {
+        put(value == null ? Integer.MIN_VALUE : value.intValue());
+    }
+
+    private void put(char tag) {
+        sha.update((byte) tag);
+    }
+
+    private void put(int value) {
+        sha.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+    }
+}
@@ -0,0 +1,192 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.feedback.entity.FeedbackEntity;
+import com.meetingoneline.meeting_one_line.feedback.repository.FeedbackRepository;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.TranscriptBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * AI 분석 결과(콜백 본문)를 회의에 반영
+ * 단일 분석 콜백과 분할 분석 병합 결과가 같은 경로로 저장된다.
+ * 결과에 speakers 가 없으면(부분 전사 콜백으로 이미 쌓인 경우) 화자/세그먼트는 그대로 두고 나머지만 반영한다.
+ * 기존 결과와 자연 키로 비교해 바뀐 행만 저장하며, 마지막으로 반영한 결과와 내용 해시가 같으면 아무것도 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisResultWriter {
+
+    private final MeetingRepository meetingRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final TranscriptBulkRepository transcriptBulkRepository;
+    private final CallbackStreamReader callbackStreamReader;
+    private final TranscriptReconciler transcriptReconciler;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    /**
+     * 상태/요약/키워드/화자/세그먼트/피드백을 결과 내용으로 맞춤
+     */
+    @Transactional
+    public void apply(MeetingEntity meeting, MeetingRequestDto.AiCallbackRequest request) {
+        transcriptBulkRepository.deleteBatches(meeting.getId());
+
+        String hash = AnalysisResultDigest.of(request);
+        if (hash.equals(meeting.getResultHash())) {
+            log.info("⏭️ 회의({}) 분석 결과가 마지막 반영분과 같아 저장 생략", meeting.getId());
+            return;
+        }
+
+        // 1. 회의 상태 및 요약문 업데이트
+        meeting.updateStatusAndSummary(request.getStatus(), request.getSummary());
+        meetingDetailSnapshotService.markChanged(meeting.getId());
+
+        // 2~4. 키워드/화자/세그먼트 비교 반영
+        if (canBulkReplace(meeting)) {
+            transcriptBulkRepository.reconcileKeywords(meeting.getId(), request.getKeywords());
+            if (request.getSpeakers() != null) {
+                TranscriptBulkRepository.DiffWriter writer = transcriptBulkRepository.diffWriter(meeting.getId());
+                for (MeetingRequestDto.AiCallbackRequest.Speaker speaker : request.getSpeakers()) {
+                    writer.speaker(speaker.getSpeakerId());
+                    if (speaker.getSegments() != null) {
+                        speaker.getSegments().forEach(writer::segment);
+                    }
+                }
+                writer.finish();
+                logDiff(meeting.getId(), writer);
+            } else {
+                // 부분 전사로 쌓인 세그먼트 행을 압축 (압축 저장일 때만)
+                transcriptBulkRepository.compact(meeting.getId());
+            }
+        } else {
+            TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+            transcriptReconciler.reconcileKeywords(meeting, request.getKeywords(), changes);
+            if (request.getSpeakers() != null) {
+                transcriptReconciler.reconcileSpeakers(meeting, request.getSpeakers(), changes);
+            }
+            log.info("📝 회의({}) 전사 반영: {}", meeting.getId(), changes);
+        }
+
+        // 5. 피드백 데이터 생성 또는 갱신
+        writeFeedback(meeting, request.getFeedback());
+
+        meeting.setResultHash(hash);
+        meetingRepository.save(meeting);
+    }
+
+    /**
+     * 스트리밍 콜백 반영 (본문을 DTO 로 만들지 않음)
+     * 세그먼트는 payload 를 다시 읽으며 batch 단위로 바로 저장하므로 본문 크기가 힙에 올라오지 않는다.
+     * (기존 전사와 비교하기 위한 기존 행 색인만 메모리에 둔다)
+     * @param payload 콜백 본문 임시 파일
+     * @return 변경된 세그먼트 수
+     */
+    @Transactional
+    public int applyStreamed(UUID meetingId, CallbackStreamReader.Header header, Path payload) throws IOException {
+        // 진행 중인 부분 전사 batch 와 직렬화
+        MeetingEntity meeting = meetingRepository.findByIdForUpdate(meetingId)
+                                                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+        transcriptBulkRepository.deleteBatches(meetingId);
+
+        String hash = digest(header, payload);
+        if (hash.equals(meeting.getResultHash())) {
+            log.info("⏭️ 회의({}) 분석 결과가 마지막 반영분과 같아 저장 생략", meetingId);
+            return 0;
+        }
+
+        meeting.updateStatusAndSummary(header.status(), header.summary());
+        meetingDetailSnapshotService.markChanged(meetingId);
+        transcriptBulkRepository.reconcileKeywords(meetingId, header.keywords());
+
+        int segments = 0;
+        if (header.hasSpeakers()) {
+            TranscriptBulkRepository.DiffWriter writer = transcriptBulkRepository.diffWriter(meetingId);
+            try (InputStream in = Files.newInputStream(payload)) {
+                callbackStreamReader.readSpeakers(in, new CallbackStreamReader.SpeakerSink() {
+                    @Override
+                    public void speaker(String speakerId) {
+                        writer.speaker(speakerId);
+                    }
+
+                    @Override
+                    public void segment(MeetingRequestDto.AiCallbackRequest.Segment segment) {
+                        writer.segment(segment);
+                    }
+                });
+            }
+            segments = writer.finish();
+            logDiff(meetingId, writer);
+        } else {
+            transcriptBulkRepository.compact(meetingId);
+        }
+
+        writeFeedback(meeting, header.feedback());
+        meeting.setResultHash(hash);
+        meetingRepository.save(meeting);
+        return segments;
+    }
+
+    /**
+     * 스트리밍 콜백 내용 해시 (speakers 를 한 번 더 읽음)
+     */
+    private String digest(CallbackStreamReader.Header header, Path payload) throws IOException {
+        AnalysisResultDigest digest = AnalysisResultDigest.start(header.status(), header.summary(), header.keywords(),
+                header.feedback(), header.hasSpeakers());
+        if (header.hasSpeakers()) {
+            try (InputStream in = Files.newInputStream(payload)) {
+                callbackStreamReader.readSpeakers(in, digest);
+            }
+        }
+        return digest.hex();
+    }
+
+    private static void logDiff(UUID meetingId, TranscriptBulkRepository.DiffWriter writer) {
+        log.info("📝 회의({}) 전사 반영: inserted={}, updated={}, deleted={}",
+                meetingId, writer.inserted(), writer.updated(), writer.deleted());
+    }
+
+    /**
+     * 화자/키워드 컬렉션을 아직 읽지 않았으면 JDBC 경로
+     * (컬렉션이 로딩돼 있으면 JDBC 로 바꾼 행과 영속성 컨텍스트가 어긋나므로 엔티티 경로 사용)
+     */
+    private static boolean canBulkReplace(MeetingEntity meeting) {
+        return !Hibernate.isInitialized(meeting.getSpeakers())
+                && !Hibernate.isInitialized(meeting.getKeywords());
+    }
+
+    /**
+     * 피드백 생성 또는 항목 비교 반영
+     */
+    private void writeFeedback(MeetingEntity meeting, MeetingRequestDto.AiCallbackRequest.Feedback feedbackDto) {
+        if (feedbackDto == null) {
+            return;
+        }
+
+        FeedbackEntity feedback = feedbackRepository.findByMeetingId(meeting.getId()).orElse(null);
+
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+        if (feedback == null) {
+            feedback = FeedbackEntity.create(meeting);
+            transcriptReconciler.reconcileFeedback(feedback, feedbackDto, changes);
+            feedbackRepository.save(feedback);
+        } else {
+            transcriptReconciler.reconcileFeedback(feedback, feedbackDto, changes);
+        }
+
+        log.info("🧠 회의({})의 피드백 데이터 갱신 완료 ({})", meeting.getId(), changes);
+    }
+}
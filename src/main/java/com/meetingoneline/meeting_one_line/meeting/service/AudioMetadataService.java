@@ -0,0 +1,95 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.audio.AudioHeaderParser;
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.audio.HeadCapturingInputStream;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 저장된 녹음 파일의 길이/샘플레이트/채널 수 추출
+ * 업로드 중 복사해 둔 앞부분으로 먼저 해석하고, 그 밖의 구간(MP4 moov, ID3v1 등)만 저장소에서 구간 읽기 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioMetadataService {
+
+    // 대부분의 WAV/MP3 헤더와 faststart MP4 의 moov 가 들어가는 크기
+    public static final int HEAD_BYTES = 64 * 1024;
+
+    private final StorageBackend storageBackend;
+
+    public static HeadCapturingInputStream captureHead(InputStream in) {
+        return new HeadCapturingInputStream(in, HEAD_BYTES);
+    }
+
+    /**
+     * 헤더 해석 (실패해도 업로드는 막지 않고 UNKNOWN)
+     * @param head 업로드 중 복사한 앞부분 (없으면 null → 저장소에서 읽음)
+     */
+    public AudioMetadata probe(String storageKey, long size, byte[] head) {
+        try {
+            AudioMetadata metadata = AudioHeaderParser.parse(source(storageKey, size, head));
+            log.info("🎧 오디오 정보: key={}, format={}, durationMs={}, sampleRate={}, channels={}",
+                    storageKey, metadata.format(), metadata.durationMs(), metadata.sampleRate(), metadata.channels());
+            return metadata;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 오디오 헤더 해석 실패 (key={}): {}", storageKey, e.getMessage());
+            return AudioMetadata.UNKNOWN;
+        }
+    }
+
+    /**
+     * 저장소 객체를 구간 읽기하는 Source (앞부분은 한 번 읽어 재사용)
+     */
+    public AudioHeaderParser.Source source(String storageKey, long size, byte[] head) {
+        return new StorageSource(storageKey, size, head);
+    }
+
+    private class StorageSource implements AudioHeaderParser.Source {
+        private final String storageKey;
+        private final long size;
+        private byte[] head;
+
+        StorageSource(String storageKey, long size, byte[] head) {
+            this.storageKey = storageKey;
+            this.size = size;
+            this.head = head;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) throws IOException {
+            if (offset >= size || length <= 0) {
+                return new byte[0];
+            }
+            if (head == null) {
+                head = range(0, HEAD_BYTES);
+            }
+            long end = Math.min(size, offset + length);
+            if (end <= head.length) {
+                byte[] out = new byte[(int) (end - offset)];
+                System.arraycopy(head, (int) offset, out, 0, out.length);
+                return out;
+            }
+            return range(offset, (int) (end - offset));
+        }
+
+        private byte[] range(long offset, int length) throws IOException {
+            long endInclusive = Math.min(size, offset + length) - 1;
+            try (InputStream in = storageBackend.getRange(storageKey, offset, endInclusive)) {
+                return in.readNBytes((int) (endInclusive - offset + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.audio.AudioHeaderParser;
+import com.meetingoneline.meeting_one_line.global.audio.PcmNormalizer;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.global.storage.StoredObject;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 전 녹음 정규화 (PCM WAV → 16kHz 모노 16bit)
+ * STT 에 필요 없는 채널/샘플레이트를 미리 줄여 AI 서버 다운로드·디코딩 비용을 낮춘다.
+ * 변환은 CPU 작업이라 디스패처 동시 전송 수와 별개로 전용 워커 수만큼만 동시에 실행한다.
+ * 결과는 "{원본 key}.normalized.wav" 에 저장하고, keep-original=false 면 원본을 지우고 회의 파일을 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioNormalizationService {
+
+    private static final String NORMALIZED_SUFFIX = ".normalized.wav";
+
+    private final StorageBackend storageBackend;
+    private final AudioMetadataService audioMetadataService;
+    private final MeetingDeduplicationService meetingDeduplicationService;
+
+    @Value("${ai.normalize.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ai.normalize.target-sample-rate:16000}")
+    private int targetSampleRate;
+
+    @Value("${ai.normalize.keep-original:true}")
+    private boolean keepOriginal;
+
+    @Value("${ai.normalize.worker-threads:2}")
+    private int workerThreads;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "audio-normalize-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdownNow();
+    }
+
+    public static String normalizedKey(String filePath) {
+        return filePath + NORMALIZED_SUFFIX;
+    }
+
+    /**
+     * AI 서버에 보낼 파일 key (디스패처 스레드에서 호출, 변환이 끝날 때까지 대기)
+     * 변환 대상이 아니거나 실패하면 원본 key 를 그대로 돌려준다.
+     */
+    public String prepareForAnalysis(MeetingEntity meeting, String filePath) {
+        if (!enabled) {
+            return filePath;
+        }
+
+        Future<String> result = workers.submit(() -> normalize(filePath));
+        String analysisPath;
+        try {
+            analysisPath = result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return filePath;
+        } catch (ExecutionException e) {
+            log.warn("⚠️ 녹음 정규화 실패 - 원본으로 분석 (meetingId={}): {}", meeting.getId(), e.getCause().getMessage());
+            return filePath;
+        }
+
+        if (!analysisPath.equals(filePath) && !keepOriginal) {
+            replaceOriginal(meeting, filePath, analysisPath);
+        }
+        return analysisPath;
+    }
+
+    /**
+     * 회의 삭제 시 정규화 사본 정리
+     */
+    public void discard(String filePath) {
+        storageBackend.delete(normalizedKey(filePath));
+    }
+
+    /**
+     * 워커 스레드: 변환 후 저장, 대상이 아니면 원본 key
+     */
+    private String normalize(String filePath) throws IOException {
+        long size = storageBackend.stat(filePath).map(StoredObject::size).orElse(-1L);
+        if (size <= 0) {
+            return filePath;
+        }
+        AudioHeaderParser.WavLayout wav = AudioHeaderParser.wavLayout(audioMetadataService.source(filePath, size, null));
+        if (wav == null || !PcmNormalizer.isSupported(wav) || !PcmNormalizer.needsConversion(wav, targetSampleRate)) {
+            return filePath;
+        }
+
+        String key = normalizedKey(filePath);
+        long length = PcmNormalizer.outputLength(wav, targetSampleRate);
+
+        // 이전 시도에서 끝까지 저장된 사본이 있으면 재사용 (중간에 끊긴 사본은 크기가 달라 다시 변환)
+        if (storageBackend.stat(key).map(StoredObject::size).orElse(-1L) == length) {
+            return key;
+        }
+
+        long started = System.nanoTime();
+        try (InputStream pcm = storageBackend.getRange(filePath, wav.dataOffset(), wav.dataOffset() + wav.dataSize() - 1);
+             InputStream normalized = PcmNormalizer.normalize(pcm, wav, targetSampleRate)) {
+            storageBackend.put(key, normalized, length, "audio/wav");
+        }
+
+        log.info("🎚️ 녹음 정규화: {} ({}Hz {}ch {}bit, {}B) → {} ({}Hz mono, {}B), {}ms",
+                filePath, wav.sampleRate(), wav.channels(), wav.bitsPerSample(), size,
+                key, targetSampleRate, length, (System.nanoTime() - started) / 1_000_000);
+        return key;
+    }
+
+    /**
+     * 원본 미보관 정책: 회의 파일과 내용 해시를 정규화 사본으로 교체하고 원본 삭제
+     * 중복 업로드로 다른 회의가 같은 원본을 공유 중이면 유지한다. (확인과 교체는 중복 판별과 같은 잠금 안에서)
+     */
+    private void replaceOriginal(MeetingEntity meeting, String filePath, String normalizedPath) {
+        String contentHash;
+        try {
+            contentHash = meetingDeduplicationService.sha256(normalizedPath);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 정규화 사본 해시 계산 실패 - 원본 유지 (meetingId={}): {}", meeting.getId(), e.getMessage());
+            return;
+        }
+        if (meetingDeduplicationService.replaceFile(meeting.getId(), filePath, normalizedPath, contentHash, targetSampleRate)) {
+            // 커밋 후 다시 확인하고 삭제
+            meetingDeduplicationService.deleteIfUnreferenced(filePath);
+            log.info("🗑 정규화 후 원본 정리: {}", filePath);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.CallbackInboxEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.CallbackInboxRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AI 콜백 inbox 의 DB 단계 (접수 / 점유 / 처리 완료 / 실패 기록)
+ * 각 단계는 짧은 트랜잭션으로 끝나고, 본문 반영은 CallbackInboxWorker 가 별도 트랜잭션으로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallbackInboxService {
+
+    private static final List<OutboxStatus> BACKLOG_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+
+    private final CallbackInboxRepository callbackInboxRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @Value("${ai.callback-inbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${ai.callback-inbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${ai.callback-inbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${ai.callback-inbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${ai.callback-inbox.retention-hours:72}")
+    private long retentionHours;
+
+    /**
+     * 같은 본문이 이미 접수돼 처리 중이거나 처리 완료됐는지 (최종 실패한 본문은 다시 받음)
+     */
+    public boolean isReceived(UUID meetingId, String payloadHash) {
+        return callbackInboxRepository.existsByMeetingIdAndPayloadHashAndStatusNot(meetingId, payloadHash, OutboxStatus.DEAD);
+    }
+
+    /**
+     * 콜백 접수 (최종 실패한 같은 본문의 재전송이면 그 행을 attempts=0 으로 되살림)
+     * @return 새로 접수했으면 true, 같은 본문이 이미 접수돼 있으면 false (동시에 도착한 재전송 포함)
+     */
+    public boolean append(UUID meetingId, String payloadHash, String storageKey, long payloadSize) {
+        if (callbackInboxRepository.reviveDead(meetingId, payloadHash, storageKey, payloadSize, LocalDateTime.now()) == 1) {
+            log.info("🔁 최종 실패했던 AI 콜백 재접수 (meetingId={}, hash={})", meetingId, payloadHash);
+            return true;
+        }
+        try {
+            callbackInboxRepository.saveAndFlush(CallbackInboxEntity.create(meetingId, payloadHash, storageKey, payloadSize));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 처리할 콜백 점유
+     */
+    @Transactional
+    public List<ClaimedCallback> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CallbackInboxEntity> rows = callbackInboxRepository.lockAvailable(now, limit);
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        rows.forEach(row -> row.claim(leaseUntil));
+
+        return rows.stream()
+                   .map(row -> new ClaimedCallback(row.getId(), row.getMeetingId(), row.getStorageKey(), row.getAttempts()))
+                   .toList();
+    }
+
+    /**
+     * 처리 완료 기록
+     * @return 기록했으면 true, lease 가 만료돼 다른 워커가 다시 가져간 행이면 false (본문은 그 워커가 쓰므로 지우면 안 됨)
+     */
+    @Transactional
+    public boolean markDone(ClaimedCallback callback) {
+        return callbackInboxRepository.findById(callback.inboxId())
+                                      .filter(row -> isCurrentClaim(row, callback))
+                                      .map(row -> {
+                                          row.markDone();
+                                          return true;
+                                      })
+                                      .orElse(false);
+    }
+
+    /**
+     * 처리 중인 점유의 lease 연장 (큰 본문 반영이 lease 보다 오래 걸려도 다른 워커가 가져가지 않도록)
+     * 조건부 UPDATE 로 available_at 만 바꿔 동시에 기록되는 완료 상태를 덮지 않는다.
+     * @return 연장했으면 true, 이미 점유를 잃었으면 false
+     */
+    @Transactional
+    public boolean extendLease(ClaimedCallback callback) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds);
+        return callbackInboxRepository.extendLease(callback.inboxId(), callback.attempt(), leaseUntil) == 1;
+    }
+
+    /**
+     * 반영 실패 → 지수 백오프(full jitter)로 재시도 예약
+     * 다시 해도 실패할 오류(본문 형식 오류, 삭제된 회의)이거나 한도 초과면 DEAD + 회의 FAILED
+     * 이미 분석이 완료된 회의는 FAILED 로 바꾸지 않는다. (늦게 온 조각/중복 콜백 실패가 완료된 결과를 덮지 않도록)
+     * @param permanent 재시도해도 결과가 같은 오류인지
+     * @return DEAD 로 처리했으면 true
+     */
+    @Transactional
+    public boolean markFailed(ClaimedCallback callback, Throwable error, boolean permanent) {
+        CallbackInboxEntity row = callbackInboxRepository.findById(callback.inboxId())
+                                                         .filter(r -> isCurrentClaim(r, callback))
+                                                         .orElse(null);
+        if (row == null) {
+            return false;
+        }
+
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (permanent || row.getAttempts() >= maxAttempts) {
+            row.markDead(message);
+            meetingRepository.findById(row.getMeetingId())
+                             .filter(meeting -> meeting.getStatus() != RecordSaveStatus.COMPLETED)
+                             .ifPresent(meeting -> {
+                                 meeting.updateStatusAndSummary(RecordSaveStatus.FAILED.name(), "AI 분석 결과 저장 실패");
+                                 meetingDetailSnapshotService.markChanged(meeting.getId());
+                             });
+            log.error("❌ AI 콜백 반영 최종 실패 (meetingId={}, attempts={}): {}", row.getMeetingId(), row.getAttempts(), message);
+            return true;
+        }
+
+        Duration delay = AnalysisOutboxService.backoff(row.getAttempts(), backoffBaseMs, backoffMaxMs);
+        row.retryAt(LocalDateTime.now().plus(delay), message);
+        log.warn("⚠️ AI 콜백 반영 실패 - {}ms 후 재시도 (meetingId={}, attempt={}): {}",
+                delay.toMillis(), row.getMeetingId(), row.getAttempts(), message);
+        return false;
+    }
+
+    /**
+     * 처리 대기 중인 콜백 수 (메트릭용)
+     */
+    public long backlog() {
+        return callbackInboxRepository.countByStatusIn(BACKLOG_STATUSES);
+    }
+
+    @Transactional
+    public int purgeProcessed() {
+        return callbackInboxRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(retentionHours));
+    }
+
+    /**
+     * lease 만료로 다른 워커가 다시 가져간 행이면 결과를 반영하지 않음
+     */
+    private boolean isCurrentClaim(CallbackInboxEntity row, ClaimedCallback callback) {
+        return row.getStatus() == OutboxStatus.IN_FLIGHT && row.getAttempts() == callback.attempt();
+    }
+
+    /**
+     * 점유된 콜백
+     * @param attempt 이번 시도 번호 (1부터)
+     */
+    public record ClaimedCallback(UUID inboxId, UUID meetingId, String storageKey, int attempt) {
+    }
+}
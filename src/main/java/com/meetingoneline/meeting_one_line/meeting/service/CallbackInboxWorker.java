@@ -0,0 +1,253 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 콜백 inbox 워커
+ * 주기적으로 워커 여유만큼 inbox 를 점유해 전용 스레드에서 회의에 반영한다. (AI 서버 요청 스레드는 DB 를 기다리지 않음)
+ * 점유는 SKIP LOCKED 로 이뤄지므로 여러 노드에서 동시에 실행해도 같은 콜백을 중복 반영하지 않고,
+ * lease 만료로 다시 반영되더라도 결과 해시 비교(AnalysisResultWriter)로 같은 내용은 쓰지 않는다.
+ * 반영 중에는 lease 의 1/3 마다 lease 를 연장해 큰 본문도 다른 노드가 중간에 가져가지 않게 하고,
+ * 그래도 점유를 잃었으면(완료 기록 실패) 본문은 새 점유자가 쓰므로 지우지 않는다.
+ *
+ * 메트릭: ai.callback.inbox.backlog / ai.callback.inbox.inflight (gauge),
+ *        ai.callback.inbox.process (반영 시간, outcome 태그), ai.callback.inbox.dead (최종 실패 수)
+ */
+@Slf4j
+@Service
+public class CallbackInboxWorker {
+
+    private final CallbackInboxService callbackInboxService;
+    private final CallbackIngestService callbackIngestService;
+    private final StorageBackend storageBackend;
+
+    private final boolean enabled;
+    private final int workerThreads;
+    private final long leaseSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 마지막 점유 주기에 센 대기 건수 (scrape 마다 DB 를 조회하지 않도록)
+    private final AtomicLong backlog = new AtomicLong();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter deadCounter;
+
+    private ExecutorService workers;
+    private ScheduledExecutorService leaseKeeper;
+
+    public CallbackInboxWorker(CallbackInboxService callbackInboxService,
+                               CallbackIngestService callbackIngestService,
+                               StorageBackend storageBackend,
+                               MeterRegistry meterRegistry,
+                               @Value("${ai.callback-inbox.enabled:true}") boolean enabled,
+                               @Value("${ai.callback-inbox.worker-threads:4}") int workerThreads,
+                               @Value("${ai.callback-inbox.lease-seconds:300}") long leaseSeconds) {
+        this.callbackInboxService = callbackInboxService;
+        this.callbackIngestService = callbackIngestService;
+        this.storageBackend = storageBackend;
+        this.enabled = enabled;
+        this.workerThreads = workerThreads;
+        this.leaseSeconds = leaseSeconds;
+
+        Gauge.builder("ai.callback.inbox.backlog", backlog, AtomicLong::get)
+             .description("반영 대기 중인 AI 콜백 수")
+             .register(meterRegistry);
+        Gauge.builder("ai.callback.inbox.inflight", inFlight, AtomicInteger::get)
+             .description("이 노드에서 반영 중인 AI 콜백 수")
+             .register(meterRegistry);
+
+        this.successTimer = Timer.builder("ai.callback.inbox.process")
+                                 .tag("outcome", "success")
+                                 .register(meterRegistry);
+        this.failureTimer = Timer.builder("ai.callback.inbox.process")
+                                 .tag("outcome", "failure")
+                                 .register(meterRegistry);
+        this.deadCounter = Counter.builder("ai.callback.inbox.dead")
+                                  .description("재시도를 포기한 AI 콜백 수")
+                                  .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "callback-inbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        leaseKeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "callback-inbox-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdownNow();
+        leaseKeeper.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.callback-inbox.poll-interval-ms:500}")
+    public void drain() {
+        if (!enabled) {
+            return;
+        }
+
+        List<CallbackInboxService.ClaimedCallback> callbacks;
+        try {
+            backlog.set(callbackInboxService.backlog());
+            int capacity = workerThreads - inFlight.get();
+            if (capacity <= 0) {
+                return;
+            }
+            callbacks = callbackInboxService.claim(capacity);
+        } catch (RuntimeException e) {
+            log.error("❌ 콜백 inbox 점유 실패", e);
+            return;
+        }
+
+        for (CallbackInboxService.ClaimedCallback callback : callbacks) {
+            inFlight.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    process(callback);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    @Scheduled(cron = "${ai.callback-inbox.cleanup-cron:0 30 * * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = callbackInboxService.purgeProcessed();
+        if (deleted > 0) {
+            log.info("🧹 처리 완료된 콜백 inbox {}건 정리", deleted);
+        }
+    }
+
+    /**
+     * 콜백 1건 반영 (성공/실패 결과는 inbox 에 기록)
+     */
+    void process(CallbackInboxService.ClaimedCallback callback) {
+        long startedAt = System.nanoTime();
+        Path temp = null;
+        ScheduledFuture<?> heartbeat = keepLease(callback);
+        try {
+            Optional<Path> local = storageBackend.localPath(callback.storageKey());
+            Path payload;
+            if (local.isPresent()) {
+                payload = local.get();
+            } else {
+                temp = Files.createTempFile("ai-callback-", ".json");
+                try (InputStream in = storageBackend.get(callback.storageKey())) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                payload = temp;
+            }
+
+            callbackIngestService.process(callback.meetingId(), payload);
+            heartbeat.cancel(false);
+            if (callbackInboxService.markDone(callback)) {
+                storageBackend.delete(callback.storageKey());
+            } else {
+                log.warn("⚠️ 반영 중 점유를 잃어 본문을 남겨 둠 (inboxId={}, attempt={})", callback.inboxId(), callback.attempt());
+            }
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.warn("⚠️ AI 콜백 반영 실패 (meetingId={}, attempt={})", callback.meetingId(), callback.attempt(), e);
+            try {
+                if (callbackInboxService.markFailed(callback, e, isPermanent(e))) {
+                    deadCounter.increment();
+                }
+            } catch (RuntimeException recordError) {
+                log.error("❌ 콜백 inbox 실패 기록 실패 (inboxId={})", callback.inboxId(), recordError);
+            }
+        } finally {
+            heartbeat.cancel(false);
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 반영이 끝날 때까지 lease 의 1/3 마다 연장
+     */
+    private ScheduledFuture<?> keepLease(CallbackInboxService.ClaimedCallback callback) {
+        long period = Math.max(1, leaseSeconds / 3);
+        return leaseKeeper.scheduleAtFixedRate(() -> {
+            boolean extended;
+            try {
+                extended = callbackInboxService.extendLease(callback);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 콜백 inbox lease 연장 실패 - 다음 주기에 재시도 (inboxId={}): {}", callback.inboxId(), e.getMessage());
+                return;
+            }
+            if (!extended) {
+                log.warn("⚠️ 콜백 inbox 점유를 잃음 (inboxId={}, attempt={})", callback.inboxId(), callback.attempt());
+                // 예외로 끝나면 이후 주기 실행이 취소됨
+                throw new IllegalStateException("callback inbox lease lost");
+            }
+        }, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 다시 시도해도 결과가 같은 오류 (본문 형식 오류, 삭제된 회의/조각)
+     */
+    private static boolean isPermanent(Throwable error) {
+        if (error instanceof JsonProcessingException) {
+            return true;
+        }
+        if (error instanceof BusinessException business) {
+            ErrorCode code = business.getCode();
+            return code == ErrorCode.INVALID_CALLBACK_PAYLOAD
+                    || code == ErrorCode.MEETING_NOT_FOUND
+                    || code == ErrorCode.ANALYSIS_CHUNK_NOT_FOUND;
+        }
+        return false;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("⚠️ 콜백 임시 파일 삭제 실패: {}", temp, e);
+        }
+    }
+}
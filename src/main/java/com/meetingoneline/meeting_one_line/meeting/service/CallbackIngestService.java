@@ -0,0 +1,167 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * AI 콜백 스트리밍 수신
+ * 본문을 임시 파일로 받아 둔 뒤(메모리에 올리지 않음) CallbackStreamReader 로 두 번 읽어 반영한다.
+ * 수 시간 분량 전사도 DTO/엔티티 그래프를 만들지 않으므로 콜백당 힙 사용량이 전사 길이와 무관하다.
+ * inbox 사용 시(ai.callback-inbox.enabled) 요청 스레드는 본문 보관과 접수만 하고 반영은 CallbackInboxWorker 가 한다.
+ * 콜백이 도착하면 AI 서버의 분석은 끝난 것이므로 반영 전에 해당 요청의 분석 슬롯(outbox)을 먼저 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallbackIngestService {
+
+    private final CallbackStreamReader callbackStreamReader;
+    private final AnalysisResultWriter analysisResultWriter;
+    private final MeetingService meetingService;
+    private final ObjectMapper objectMapper;
+    private final MeetingRepository meetingRepository;
+    private final CallbackInboxService callbackInboxService;
+    private final AnalysisOutboxService analysisOutboxService;
+    private final StorageBackend storageBackend;
+
+    @Value("${ai.callback-inbox.enabled:true}")
+    private boolean inboxEnabled;
+
+    public boolean isInboxEnabled() {
+        return inboxEnabled;
+    }
+
+    /**
+     * 본문을 저장소에 보관하고 inbox 에 접수 (DB 에는 inbox 행 한 건만 씀)
+     * 같은 회의에 같은 본문이 다시 오면 새로 접수하지 않는다.
+     */
+    public MeetingResponseDto.AiCallbackResponse enqueue(UUID meetingId, InputStream body) {
+        if (!meetingRepository.existsById(meetingId)) {
+            throw new BusinessException(ErrorCode.MEETING_NOT_FOUND);
+        }
+
+        Path payload = null;
+        try {
+            payload = Files.createTempFile("ai-callback-", ".json");
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(body, sha);
+                 OutputStream out = Files.newOutputStream(payload)) {
+                in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(sha.digest());
+
+            // 형식 오류는 재시도해도 같으므로 접수 전에 거절 (DB 접근 없이 한 번 읽기만)
+            CallbackStreamReader.Header header;
+            try (InputStream in = Files.newInputStream(payload)) {
+                header = callbackStreamReader.readHeader(in);
+            }
+            analysisOutboxService.releaseCallbackWait(meetingId, header.chunkIndex());
+
+            if (callbackInboxService.isReceived(meetingId, hash)) {
+                log.info("⏭️ 이미 접수된 AI 콜백 (meetingId={}, hash={})", meetingId, hash);
+                return response("이미 접수된 콜백입니다.");
+            }
+
+            String key = "callbacks/" + meetingId + "/" + hash + ".json";
+            long size = Files.size(payload);
+            try (InputStream in = Files.newInputStream(payload)) {
+                storageBackend.put(key, in, size, MediaType.APPLICATION_JSON_VALUE);
+            }
+            boolean accepted = callbackInboxService.append(meetingId, hash, key, size);
+
+            log.info("📥 AI 콜백 접수: meetingId={}, size={}B, new={}", meetingId, size, accepted);
+            return response(accepted ? "콜백이 접수되었습니다." : "이미 접수된 콜백입니다.");
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ AI 콜백 본문 해석 실패 (meetingId={}): {}", meetingId, e.getOriginalMessage());
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_PAYLOAD);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("❌ AI 콜백 접수 실패 (meetingId={})", meetingId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(payload);
+        }
+    }
+
+    public MeetingResponseDto.AiCallbackResponse ingest(UUID meetingId, InputStream body) {
+        Path payload = null;
+        try {
+            payload = Files.createTempFile("ai-callback-", ".json");
+            try (OutputStream out = Files.newOutputStream(payload)) {
+                body.transferTo(out);
+            }
+            return process(meetingId, payload);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ AI 콜백 본문 해석 실패 (meetingId={}): {}", meetingId, e.getOriginalMessage());
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_PAYLOAD);
+        } catch (IOException e) {
+            log.error("❌ AI 콜백 수신 실패 (meetingId={})", meetingId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(payload);
+        }
+    }
+
+    /**
+     * 저장된 콜백 본문 반영
+     */
+    MeetingResponseDto.AiCallbackResponse process(UUID meetingId, Path payload) throws IOException {
+        CallbackStreamReader.Header header;
+        try (InputStream in = Files.newInputStream(payload)) {
+            header = callbackStreamReader.readHeader(in);
+        }
+        log.info("AI 콜백 수신: meetingId={}, status={}, chunk={}, size={}B",
+                meetingId, header.status(), header.chunkIndex(), Files.size(payload));
+        // inbox 경로는 접수 시 이미 반환됨 (두 번 불려도 대기 중인 행이 없으면 아무것도 바꾸지 않음)
+        analysisOutboxService.releaseCallbackWait(meetingId, header.chunkIndex());
+
+        // 분할 분석 조각은 조각 길이로 크기가 제한되므로 기존 경로로 보관/병합
+        if (header.chunkIndex() != null) {
+            MeetingRequestDto.AiCallbackRequest request = objectMapper.readValue(payload.toFile(), MeetingRequestDto.AiCallbackRequest.class);
+            return meetingService.processCallback(meetingId, request);
+        }
+
+        int segments = analysisResultWriter.applyStreamed(meetingId, header, payload);
+        log.info("✅ 회의({}) 분석 및 피드백 저장 완료 (segments={})", meetingId, segments);
+
+        return response("회의록 및 피드백 결과가 성공적으로 저장되었습니다.");
+    }
+
+    private static MeetingResponseDto.AiCallbackResponse response(String message) {
+        return MeetingResponseDto.AiCallbackResponse.builder()
+                                                    .message(message)
+                                                    .build();
+    }
+
+    private static void deleteQuietly(Path payload) {
+        if (payload == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(payload);
+        } catch (IOException e) {
+            log.warn("⚠️ 콜백 임시 파일 삭제 실패: {}", payload, e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 콜백 본문 스트리밍 파서 (Jackson JsonParser)
+ * 본문 전체를 DTO 로 바인딩하지 않고 두 번에 나눠 읽는다.
+ * 1. readHeader: speakers 배열은 건너뛰고 상태/요약/키워드/피드백/조각 번호와 speakers 유무만 읽음
+ * 2. readSpeakers: speakers 배열만 세그먼트 단위로 읽어 바로 writer 로 넘김
+ * 필드 순서에 의존하지 않도록 같은 본문을 두 번 읽으므로 호출측은 다시 읽을 수 있는 입력(임시 파일 등)을 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CallbackStreamReader {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * speakers 를 제외한 콜백 필드
+     * @param hasSpeakers 본문에 speakers 가 있는지 (없으면 부분 전사로 쌓인 전사를 유지)
+     */
+    public record Header(String status, String summary, List<String> keywords,
+                         MeetingRequestDto.AiCallbackRequest.Feedback feedback, Integer chunkIndex,
+                         boolean hasSpeakers) {
+    }
+
+    /**
+     * 세그먼트를 받는 쪽 (TranscriptBulkRepository.SpeakerWriter)
+     */
+    public interface SpeakerSink {
+        void speaker(String speakerId);
+
+        void segment(MeetingRequestDto.AiCallbackRequest.Segment segment);
+    }
+
+    public Header readHeader(InputStream in) throws IOException {
+        String status = null;
+        String summary = null;
+        List<String> keywords = null;
+        MeetingRequestDto.AiCallbackRequest.Feedback feedback = null;
+        Integer chunkIndex = null;
+        boolean hasSpeakers = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "status" -> status = parser.getValueAsString();
+                    case "summary" -> summary = parser.getValueAsString();
+                    case "chunkIndex" -> chunkIndex = parser.getIntValue();
+                    case "keywords" -> keywords = objectMapper.readValue(parser, STRING_LIST);
+                    case "feedback" -> feedback = objectMapper.readValue(parser, MeetingRequestDto.AiCallbackRequest.Feedback.class);
+                    case "speakers" -> {
+                        hasSpeakers = true;
+                        parser.skipChildren();
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new Header(status, summary, keywords, feedback, chunkIndex, hasSpeakers);
+    }
+
+    /**
+     * speakers 배열을 읽으며 화자/세그먼트를 하나씩 sink 로 전달
+     * 화자 객체에서 segments 가 speakerId 보다 먼저 나오면 그 화자의 세그먼트만 모아 두었다가 전달한다.
+     */
+    public void readSpeakers(InputStream in, SpeakerSink sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"speakers".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readSpeaker(parser, sink);
+                }
+            }
+        }
+    }
+
+    private void readSpeaker(JsonParser parser, SpeakerSink sink) throws IOException {
+        String speakerId = null;
+        List<MeetingRequestDto.AiCallbackRequest.Segment> early = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("speakerId".equals(field)) {
+                speakerId = parser.getValueAsString();
+                sink.speaker(speakerId);
+                if (early != null) {
+                    early.forEach(sink::segment);
+                    early = null;
+                }
+            } else if ("segments".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    var segment = objectMapper.readValue(parser, MeetingRequestDto.AiCallbackRequest.Segment.class);
+                    if (speakerId != null) {
+                        sink.segment(segment);
+                    } else {
+                        if (early == null) {
+                            early = new ArrayList<>();
+                        }
+                        early.add(segment);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (speakerId == null) {
+            throw new JsonParseException(parser, "speakerId 가 없는 화자 항목");
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        JsonToken actual = parser.nextToken();
+        if (actual != expected) {
+            throw new JsonParseException(parser, "콜백 본문 형식 오류: " + expected + " 위치에 " + actual);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.global.storage.StoredObject;
+import com.meetingoneline.meeting_one_line.global.web.PartialContentWriter;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 회의 녹음 파일 재생용 메타데이터 조회
+ * 실제 바이트 전송은 컨트롤러에서 트랜잭션 밖에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingAudioService {
+
+    private final MeetingRepository meetingRepository;
+    private final StorageBackend storageBackend;
+
+    @Transactional(readOnly = true)
+    public AudioFile getAudioFile(UUID userId, UUID meetingId) {
+        MeetingEntity meeting = meetingRepository.findById(meetingId)
+                                                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        // 본인 회의가 아니면 접근 불가
+        if (!meeting.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (meeting.getFilePath() == null) {
+            throw new BusinessException(ErrorCode.AUDIO_FILE_NOT_FOUND);
+        }
+
+        String storageKey = meeting.getFilePath();
+        StoredObject stored = storageBackend.stat(storageKey)
+                                            .orElseThrow(() -> {
+                                                log.warn("⚠️ 녹음 파일을 찾을 수 없음: meetingId={}, key={}", meetingId, storageKey);
+                                                return new BusinessException(ErrorCode.AUDIO_FILE_NOT_FOUND);
+                                            });
+
+        // 내용 해시가 있으면 강한 ETag, 없으면 크기+수정시각 기반 약한 ETag
+        String etag = meeting.getContentHash() != null
+                ? "\"" + meeting.getContentHash() + "\""
+                : "W/\"" + Long.toHexString(stored.size()) + "-" + Long.toHexString(stored.lastModified().toEpochMilli()) + "\"";
+
+        MediaType contentType = MediaTypeFactory.getMediaType(storageKey)
+                                                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        return new AudioFile(storageKey, stored.size(), contentType.toString(), etag, stored.lastModified());
+    }
+
+    /**
+     * 저장소 구간 읽기 본문 (로컬 저장소면 sendfile 대상 경로 제공)
+     */
+    public PartialContentWriter.Body openBody(AudioFile audio) {
+        return new PartialContentWriter.Body() {
+            @Override
+            public Optional<Path> localFile() {
+                return storageBackend.localPath(audio.storageKey());
+            }
+
+            @Override
+            public InputStream open(long start, long endInclusive) {
+                return storageBackend.getRange(audio.storageKey(), start, endInclusive);
+            }
+        };
+    }
+
+    public record AudioFile(String storageKey, long length, String contentType, String etag, Instant lastModified) {
+    }
+}
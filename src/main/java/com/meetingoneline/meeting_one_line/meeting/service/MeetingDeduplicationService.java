@@ -0,0 +1,261 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.feedback.entity.*;
+import com.meetingoneline.meeting_one_line.feedback.repository.FeedbackRepository;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.client.AiClient;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 업로드 녹음 파일 내용 기반(SHA-256) 중복 제거
+ * - 같은 내용의 파일이 이미 있으면 새 파일은 지우고 기존 파일을 공유
+ * - 기존 회의 분석이 끝나 있으면 /ai/analyze 재호출 없이 전사/화자/피드백을 복제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingDeduplicationService {
+
+    private final MeetingRepository meetingRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final StorageBackend storageBackend;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    // user: 사용자별 중복 판별, global: 전체 사용자 대상, none: 사용 안 함
+    @Value("${file.dedup.scope:user}")
+    private String scope;
+
+    @Value("${file.dedup.clone-analysis:true}")
+    private boolean cloneAnalysis;
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 이미 저장소에 있는 파일의 해시 계산 (청크 업로드 누적 해시가 끊긴 세션만, 1회 스트리밍 읽기)
+     */
+    public String sha256(String storageKey) {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(storageBackend.get(storageKey), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            log.error("파일 해시 계산 실패: {}", storageKey, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return toHex(digest);
+    }
+
+    public boolean isEnabled() {
+        return !"none".equalsIgnoreCase(scope);
+    }
+
+    /**
+     * 방금 등록된 회의와 같은 내용의 기존 회의를 찾아 파일을 공유(+분석 복제)
+     * 같은 내용의 회의 행을 모두 잠근 뒤 판별하므로 동시에 올라온 같은 파일은 한쪽만 상대 파일을 공유한다.
+     * (뒤에 잠금을 얻은 쪽은 이미 같은 파일을 가리키므로 재사용 없음)
+     * @return 중복이 없으면 null
+     */
+    @Transactional
+    public Reuse reuseExisting(UUID meetingId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        MeetingRepository.DuplicateKey key = meetingRepository.findDuplicateKeyById(meetingId)
+                                                              .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+        if (key.getContentHash() == null) {
+            return null;
+        }
+
+        List<MeetingEntity> group = lockGroup(key);
+        MeetingEntity target = group.stream()
+                                    .filter(meeting -> meeting.getId().equals(meetingId))
+                                    .findFirst()
+                                    .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        // 분석이 끝난 회의 우선, 그다음 먼저 올라온 회의
+        Optional<MeetingEntity> candidate = group.stream()
+                                                 .filter(meeting -> !meeting.getId().equals(meetingId))
+                                                 .min(Comparator.comparing((MeetingEntity meeting) -> meeting.getStatus() != RecordSaveStatus.COMPLETED)
+                                                                .thenComparing(MeetingEntity::getCreatedAt));
+        if (candidate.isEmpty()) {
+            return null;
+        }
+
+        MeetingEntity source = candidate.get();
+        if (source.getFilePath().equals(target.getFilePath())) {
+            return null; // 이미 공유 중 (재시도 또는 동시 업로드의 다른 쪽이 먼저 공유)
+        }
+        if (!storageBackend.exists(source.getFilePath())) {
+            log.warn("⚠️ 중복 원본 파일이 없어 재사용하지 않음: {}", source.getFilePath());
+            return null;
+        }
+
+        // 1. 파일 공유: 새로 저장한 사본은 커밋 후 호출측에서 삭제 (다른 회의가 참조하면 남김)
+        String duplicatePath = target.getFilePath();
+        target.setFilePath(source.getFilePath());
+        if (meetingRepository.existsByFilePathAndIdNot(duplicatePath, target.getId())) {
+            duplicatePath = null;
+        }
+        log.info("♻️ 중복 업로드 감지: meetingId={} → 원본 meetingId={} 파일 공유 ({} 제거 예정)", meetingId, source.getId(), duplicatePath);
+
+        // 2. 분석 결과 복제
+        if (!cloneAnalysis || source.getStatus() != RecordSaveStatus.COMPLETED) {
+            return new Reuse(duplicatePath, source.getFilePath(), null);
+        }
+
+        copyTranscript(source, target);
+        feedbackRepository.findByMeetingId(source.getId())
+                          .ifPresent(feedback -> feedbackRepository.save(copyFeedback(feedback, target)));
+        target.updateStatusAndSummary(RecordSaveStatus.COMPLETED.name(), source.getSummary());
+        meetingDetailSnapshotService.markChanged(target.getId());
+
+        log.info("♻️ 분석 결과 복제 완료: {} → {}", source.getId(), meetingId);
+
+        return new Reuse(duplicatePath, source.getFilePath(), new ClonedAnalysis(
+                target.getTitle(),
+                target.getSummary(),
+                target.getKeywords().stream().map(KeywordEntity::getKeyword).toList(),
+                AiClient.toSpeakerPayload(target.getSpeakers())
+        ));
+    }
+
+    /**
+     * 중복 사본 삭제 (재사용 트랜잭션 커밋 후, 그사이 참조하게 된 회의가 없을 때만)
+     */
+    @Transactional(readOnly = true)
+    public void deleteIfUnreferenced(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        if (meetingRepository.existsByFilePath(filePath)) {
+            log.info("중복 사본을 다른 회의가 참조 중이라 삭제하지 않음: {}", filePath);
+            return;
+        }
+        log.info("🗑 중복 사본 삭제: {}", filePath);
+        storageBackend.delete(filePath);
+    }
+
+    /**
+     * 회의 파일 교체 (정규화 사본 등, 내용 해시도 새 파일 기준)
+     * 중복 판별과 같은 잠금(같은 내용의 회의 행)을 잡은 채 참조 확인과 교체를 하므로,
+     * 확인 직후 다른 회의가 원본을 공유하게 되는 일이 없다. 원본 삭제는 커밋 후 deleteIfUnreferenced 로.
+     * @return 교체했으면 true (다른 회의가 원본을 참조 중이거나 그사이 파일이 바뀌었으면 false)
+     */
+    @Transactional
+    public boolean replaceFile(UUID meetingId, String originalPath, String newPath, String newContentHash, Integer sampleRate) {
+        MeetingRepository.DuplicateKey key = meetingRepository.findDuplicateKeyById(meetingId).orElse(null);
+        if (key == null) {
+            return false;
+        }
+        if (key.getContentHash() != null) {
+            lockGroup(key);
+        } else {
+            meetingRepository.findByIdForUpdate(meetingId);
+        }
+
+        if (meetingRepository.existsByFilePathAndIdNot(originalPath, meetingId)) {
+            log.info("♻️ 다른 회의가 참조 중인 원본이라 유지: {}", originalPath);
+            return false;
+        }
+        if (meetingRepository.replaceFilePath(meetingId, originalPath, newPath, newContentHash, sampleRate) != 1) {
+            return false;
+        }
+        meetingDetailSnapshotService.markChanged(meetingId);
+        return true;
+    }
+
+    /**
+     * 같은 내용의 회의 행 잠금 (중복 판별/파일 교체 직렬화)
+     */
+    private List<MeetingEntity> lockGroup(MeetingRepository.DuplicateKey key) {
+        UUID userScope = "global".equalsIgnoreCase(scope) ? null : key.getUserId();
+        return meetingRepository.lockByContentHash(key.getContentHash(), userScope);
+    }
+
+    private void copyTranscript(MeetingEntity source, MeetingEntity target) {
+        for (KeywordEntity keyword : source.getKeywords()) {
+            target.getKeywords().add(KeywordEntity.create(target, keyword.getKeyword()));
+        }
+
+        for (SpeakerEntity speaker : source.getSpeakers()) {
+            SpeakerEntity copy = SpeakerEntity.create(target, speaker.getSpeakerId(), speaker.getName());
+            // 압축 전사는 그대로 복사 (불변 byte[])
+            copy.setPackedSegments(speaker.getPackedSegments());
+            copy.setSegmentCount(speaker.getSegmentCount());
+            for (SegmentEntity seg : speaker.getSegments()) {
+                copy.getSegments().add(SegmentEntity.create(copy, seg.getStartTime(), seg.getEndTime(), seg.getText()));
+            }
+            target.getSpeakers().add(copy);
+        }
+    }
+
+    private FeedbackEntity copyFeedback(FeedbackEntity source, MeetingEntity target) {
+        FeedbackEntity copy = FeedbackEntity.create(target);
+
+        for (ActionItemEntity item : source.getActionItems()) {
+            copy.getActionItems().add(ActionItemEntity.create(copy, item.getName(), item.getContent(),
+                    item.getOrderIndex() != null ? item.getOrderIndex() : 0));
+        }
+        for (TopicEntity topic : source.getTopics()) {
+            copy.getTopics().add(TopicEntity.create(copy, topic.getTitle(), topic.getImportance(), topic.getSummary(), topic.getProportion()));
+        }
+        for (FollowUpCategoryEntity category : source.getFollowUpCategories()) {
+            FollowUpCategoryEntity categoryCopy = FollowUpCategoryEntity.create(copy, category.getCategory());
+            for (FollowUpQuestionEntity question : category.getQuestions()) {
+                categoryCopy.getQuestions().add(FollowUpQuestionEntity.create(categoryCopy, question.getQuestion(),
+                        question.getOrderIndex() != null ? question.getOrderIndex() : 0));
+            }
+            copy.getFollowUpCategories().add(categoryCopy);
+        }
+        return copy;
+    }
+
+    /**
+     * 중복 재사용 결과
+     * @param discardedFilePath 공유 파일로 대체되어 지워도 되는 새 사본 경로 (다른 회의가 참조 중이면 null)
+     * @param sharedFilePath 앞으로 참조할 기존 파일 경로
+     * @param cloned 분석 결과까지 복제된 경우에만 존재
+     */
+    public record Reuse(String discardedFilePath, String sharedFilePath, ClonedAnalysis cloned) {
+    }
+
+    /**
+     * 복제된 분석 결과 (AI 서버 임베딩 업서트용)
+     */
+    public record ClonedAnalysis(String title, String summary, List<String> keywords, List<Map<String, Object>> speakers) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingDetailSnapshotEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingDetailSnapshotRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회의 상세 조회 읽기 모델 (MeetingDetailSnapshotEntity)
+ *
+ * - 쓰기: 상세 내용을 바꾸는 트랜잭션은 markChanged 를 호출한다. 같은 트랜잭션에서 스냅샷을 지우고
+ *   meetings.detail_version 을 올리므로 커밋 후 옛 스냅샷이 읽히는 일은 없고, 커밋 직후 새 트랜잭션에서 다시 만든다.
+ * - 읽기: 스냅샷 PK 조회 한 번으로 직렬화된 JSON 을 그대로 내려준다. 없으면 그 자리에서 만든다.
+ * - 재생성은 회의 행을 잠근 채 원본을 읽으므로 동시에 진행 중인 변경보다 옛 내용으로 덮어쓰지 않는다.
+ * - 상세/피드백 응답 캐시(MeetingResponseCache)도 markChanged / invalidate 에서 함께 지우고, 검색 색인(MeetingSearchService)에 다시 색인을 요청한다.
+ * - 정합성 검사: 주기적으로 오래 검사하지 않은 스냅샷을 원본으로 다시 만들어 해시를 비교하고, 다르면 교체한다.
+ *   (markChanged 를 거치지 않은 변경 감지, meeting.detail.snapshot.drift 카운터)
+ */
+@Slf4j
+@Service
+public class MeetingDetailSnapshotService {
+
+    private static final String PENDING_KEY = MeetingDetailSnapshotService.class.getName() + ".pending";
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingDetailSnapshotRepository snapshotRepository;
+    private final MeetingResponseCache responseCache;
+    private final MeetingSearchService searchService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+    private final Counter driftCounter;
+
+    @Value("${meeting.detail-snapshot.enabled:true}")
+    private boolean enabled;
+
+    // 이 크기 이상인 JSON 만 gzip 으로 저장 (작은 응답은 압축 이득보다 해제 비용이 큼)
+    @Value("${meeting.detail-snapshot.compress-min-bytes:8192}")
+    private int compressMinBytes;
+
+    @Value("${meeting.detail-snapshot.verify-batch-size:20}")
+    private int verifyBatchSize;
+
+    public MeetingDetailSnapshotService(MeetingRepository meetingRepository,
+                                        MeetingDetailSnapshotRepository snapshotRepository,
+                                        MeetingResponseCache responseCache,
+                                        MeetingSearchService searchService,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.meetingRepository = meetingRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.responseCache = responseCache;
+        this.searchService = searchService;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.driftCounter = Counter.builder("meeting.detail.snapshot.drift")
+                                   .description("정합성 검사에서 원본과 달라 다시 만든 상세 스냅샷 수")
+                                   .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional
+    public void markChanged(UUID meetingId) {
+        markChanged(List.of(meetingId));
+    }
+
+    /**
+     * 상세 내용 변경 표시 (호출한 트랜잭션 안에서 스냅샷 삭제, 커밋 후 재생성)
+     */
+    @Transactional
+    public void markChanged(Collection<UUID> meetingIds) {
+        responseCache.evict(meetingIds);
+        searchService.markDirty(meetingIds);
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        bumpVersion(meetingIds);
+        if (!enabled) {
+            return;
+        }
+        snapshotRepository.deleteByMeetingIds(meetingIds);
+
+        // 한 트랜잭션에서 여러 번 호출돼도 회의마다 한 번만 재생성
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<UUID> ids = new LinkedHashSet<>();
+            pending = ids;
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(MeetingDetailSnapshotService.this::rebuildQuietly);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+        }
+        pending.addAll(meetingIds);
+    }
+
+    /**
+     * 스냅샷 삭제만 (다음 조회 때 다시 만듦)
+     * 부분 전사처럼 짧은 간격으로 계속 바뀌는 동안 batch 마다 전체를 다시 직렬화하지 않도록
+     */
+    @Transactional
+    public void invalidate(UUID meetingId) {
+        responseCache.evict(List.of(meetingId));
+        searchService.markDirty(List.of(meetingId));
+        bumpVersion(List.of(meetingId));
+        if (enabled) {
+            snapshotRepository.deleteByMeetingIds(List.of(meetingId));
+        }
+    }
+
+    /**
+     * 응답 캐시(MeetingResponseCache) 키도 detail_version 을 쓰므로 스냅샷을 쓰지 않아도 올린다
+     */
+    private void bumpVersion(Collection<UUID> meetingIds) {
+        meetingRepository.bumpDetailVersion(meetingIds.stream().map(UUID::toString).toList());
+    }
+
+    /**
+     * 상세 조회 (스냅샷 PK 조회 한 번, 없으면 만들어서 반환)
+     */
+    public MeetingResponseCache.Entry getDetail(UUID userId, UUID meetingId) {
+        MeetingResponseCache.Entry entry = snapshotRepository.findById(meetingId)
+                                                       .map(MeetingDetailSnapshotService::toEntry)
+                                                       .or(() -> rebuild(meetingId))
+                                                       .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        if (!entry.ownerId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return entry;
+    }
+
+    /**
+     * 원본으로 스냅샷 다시 만들기 (새 트랜잭션)
+     * @return 회의가 없으면 empty (남아 있던 스냅샷은 삭제)
+     */
+    public Optional<MeetingResponseCache.Entry> rebuild(UUID meetingId) {
+        return requiresNew.execute(status -> build(meetingId).map(Built::entry));
+    }
+
+    /**
+     * 정합성 검사
+     */
+    @Scheduled(fixedDelayString = "${meeting.detail-snapshot.verify-interval-ms:300000}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        for (UUID meetingId : snapshotRepository.findLeastRecentlyVerified(PageRequest.of(0, verifyBatchSize))) {
+            try {
+                Optional<Built> built = requiresNew.execute(status -> build(meetingId));
+                if (built.isPresent() && built.get().drifted()) {
+                    driftCounter.increment();
+                    responseCache.evict(List.of(meetingId));
+                    log.warn("⚠️ 회의({}) 상세 스냅샷이 원본과 달라 다시 만듦", meetingId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 회의({}) 상세 스냅샷 검사 실패", meetingId, e);
+            }
+        }
+    }
+
+    private void rebuildQuietly(UUID meetingId) {
+        try {
+            rebuild(meetingId);
+        } catch (RuntimeException e) {
+            // 스냅샷은 이미 지워졌으므로 다음 조회 때 다시 만든다
+            log.warn("⚠️ 회의({}) 상세 스냅샷 생성 실패", meetingId, e);
+        }
+    }
+
+    private Optional<Built> build(UUID meetingId) {
+        // 변경 트랜잭션(markChanged 의 detail_version 갱신)과 직렬화
+        Optional<MeetingEntity> locked = meetingRepository.findByIdForUpdate(meetingId);
+        if (locked.isEmpty()) {
+            snapshotRepository.deleteByMeetingIds(List.of(meetingId));
+            return Optional.empty();
+        }
+        MeetingEntity meeting = meetingRepository.findDetailById(meetingId).orElseThrow();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(MeetingResponseDto.DetailResponse.from(meeting));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상세 응답 직렬화 실패", e);
+        }
+        String hash = MeetingResponseCache.sha256(json);
+
+        Optional<MeetingDetailSnapshotEntity> existing = snapshotRepository.findById(meetingId);
+        if (existing.isPresent()
+                && existing.get().getPayloadHash().equals(hash)
+                && existing.get().getSourceVersion() == meeting.getDetailVersion()) {
+            existing.get().markVerified();
+            return Optional.of(new Built(toEntry(existing.get()), false));
+        }
+
+        boolean compress = json.length >= compressMinBytes;
+        MeetingDetailSnapshotEntity snapshot = existing.orElseGet(
+                () -> MeetingDetailSnapshotEntity.create(meetingId, meeting.getUser().getId()));
+        snapshot.replace(meeting.getDetailVersion(), compress ? gzip(json) : json, compress, hash);
+        snapshotRepository.save(snapshot);
+
+        return Optional.of(new Built(toEntry(snapshot), existing.isPresent()));
+    }
+
+    private static MeetingResponseCache.Entry toEntry(MeetingDetailSnapshotEntity snapshot) {
+        return new MeetingResponseCache.Entry(snapshot.getOwnerId(), snapshot.getPayload(), snapshot.getCompressed(), snapshot.getPayloadHash());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param drifted 이미 있던 스냅샷을 교체했는지 (정합성 검사에서는 원본과 어긋나 있었다는 뜻)
+     */
+    private record Built(MeetingResponseCache.Entry entry, boolean drifted) {
+    }
+}
@@ -0,0 +1,433 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.ExportFormat;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.SegmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 회의록 내보내기 (txt / md / json(NDJSON))
+ * 상세 조회처럼 엔티티 그래프와 DTO 를 모두 만든 뒤 직렬화하지 않고,
+ * 세그먼트 행을 한 방향 스트림으로 읽는 즉시 응답 스트림에 쓴다. (버퍼는 고정 크기 Writer 하나)
+ * 압축 전사 화자는 본문을 통째로 읽지 않고 색인과 텍스트 블록을 차례로 부분 조회해 세그먼트 행과 시작 시각 순으로 합친다.
+ *
+ * 스트리밍 중에는 DB 커넥션을 계속 잡고 있으므로 동시 내보내기 수를 export.max-concurrent 로 제한한다.
+ * 자리는 응답을 시작하기 전(prepare)에 잡아 한도 초과를 503 으로 돌려주고, write 가 끝나거나
+ * 본문을 쓰지 못한 채 요청이 끝나면(Permit.release, 컨트롤러의 비동기 완료 처리) 한 번만 반납한다.
+ */
+@Slf4j
+@Service
+public class MeetingExportService {
+
+    private static final int WRITE_BUFFER_CHARS = 8192;
+
+    private final MeetingRepository meetingRepository;
+    private final SegmentRepository segmentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+
+    public MeetingExportService(MeetingRepository meetingRepository,
+                                SegmentRepository segmentRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${export.max-concurrent:4}") int maxConcurrent) {
+        this.meetingRepository = meetingRepository;
+        this.segmentRepository = segmentRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 권한 확인 + 회의 머리말 조회 후 내보내기 자리 확보
+     * 반환한 Export 의 자리는 write 가 반납하고, write 를 부르지 못하면 호출측이 permit().release() 로 반납해야 한다.
+     */
+    @Transactional(readOnly = true)
+    public Export prepare(UUID userId, UUID meetingId, ExportFormat format) {
+        MeetingEntity meeting = meetingRepository.findByIdAndDeletedAtIsNull(meetingId)
+                                                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+        if (!meeting.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        List<String> keywords = meeting.getKeywords().stream().map(KeywordEntity::getKeyword).toList();
+
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.EXPORT_BUSY);
+        }
+        return new Export(meeting.getId(), format, meeting.getTitle(), meeting.getDate(),
+                meeting.getStatus().name().toLowerCase(), meeting.getSummary(), keywords, new Permit(permits));
+    }
+
+    /**
+     * 본문 쓰기 (StreamingResponseBody 스레드에서 호출, 끝나면 자리 반납)
+     */
+    public void write(Export export, OutputStream out) throws IOException {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+            TranscriptFormatter formatter = formatter(export.format(), writer);
+            formatter.header(export);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SegmentRepository.WindowRow> rows = segmentRepository.streamByMeetingId(export.meetingId())) {
+                    writeSegments(formatter, rows.iterator(), packedSources(export.meetingId()));
+                }
+            });
+            formatter.finish();
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 끊은 경우 등
+            log.warn("⚠️ 회의록 내보내기 중단 (meetingId={}): {}", export.meetingId(), e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            export.permit().release();
+        }
+    }
+
+    /**
+     * 압축 전사 화자마다 부분 조회로 여는 출처 (화자 ID 순)
+     */
+    private List<SegmentSource> packedSources(UUID meetingId) {
+        List<SegmentRepository.PackedSpeaker> speakers = segmentRepository.findPackedSpeakerHeads(meetingId);
+        List<SegmentSource> sources = new ArrayList<>(speakers.size());
+        for (int i = 0; i < speakers.size(); i++) {
+            SegmentRepository.PackedSpeaker speaker = speakers.get(i);
+            sources.add(new PackedSource(speaker, PackedTranscript.open(segmentRepository.packedSource(speaker.getId())), i + 1));
+        }
+        return sources;
+    }
+
+    /**
+     * 세그먼트 행 스트림과 압축 전사 화자들을 시작 시각 순으로 합치며 쓰기
+     * 같은 시작 시각은 세그먼트 행 → 압축 전사(화자 ID 순)
+     */
+    private static void writeSegments(TranscriptFormatter formatter, Iterator<SegmentRepository.WindowRow> rows,
+                                      List<SegmentSource> packedSources) {
+        PriorityQueue<SegmentSource> queue = new PriorityQueue<>(
+                Comparator.comparingDouble(SegmentSource::start).thenComparingInt(SegmentSource::order));
+        SegmentSource rowSource = new RowSource(rows);
+        if (rowSource.advance()) {
+            queue.add(rowSource);
+        }
+        for (SegmentSource source : packedSources) {
+            if (source.advance()) {
+                queue.add(source);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            SegmentSource source = queue.poll();
+            try {
+                formatter.segment(source.current());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (source.advance()) {
+                queue.add(source);
+            }
+        }
+    }
+
+    private TranscriptFormatter formatter(ExportFormat format, Writer writer) throws IOException {
+        return switch (format) {
+            case TXT -> new TextFormatter(writer);
+            case MD -> new MarkdownFormatter(writer);
+            case JSON -> new NdjsonFormatter(objectMapper, writer);
+        };
+    }
+
+    private static String timestamp(Float seconds) {
+        if (seconds == null) {
+            return "--:--:--";
+        }
+        long total = (long) Math.floor(seconds);
+        return String.format("%02d:%02d:%02d", total / 3600, total % 3600 / 60, total % 60);
+    }
+
+    private static String speakerLabel(Segment segment) {
+        return segment.name() == null || segment.name().isBlank() ? segment.speakerId() : segment.name();
+    }
+
+    /**
+     * 내보낼 회의 머리말 (세그먼트는 write 에서 스트리밍)
+     */
+    public record Export(UUID meetingId, ExportFormat format, String title, LocalDateTime date,
+                         String status, String summary, List<String> keywords, Permit permit) {
+
+        public String fileName() {
+            String base = title == null || title.isBlank() ? meetingId.toString() : title.replaceAll("[\\\\/:*?\"<>|\\r\\n]", "_");
+            return base + "." + format.getExtension();
+        }
+    }
+
+    /**
+     * 내보내기 자리 하나 (여러 번 불러도 한 번만 반납)
+     */
+    public static final class Permit {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private record Segment(String speakerId, String name, Float start, Float end, String text) {
+    }
+
+    private interface TranscriptFormatter {
+        void header(Export export) throws IOException;
+
+        void segment(Segment segment) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 시작 시각 순으로 세그먼트를 하나씩 내주는 출처 (세그먼트 행 스트림 또는 압축 전사 화자 하나)
+     */
+    private interface SegmentSource {
+        boolean advance();
+
+        Segment current();
+
+        int order();
+
+        default double start() {
+            Float start = current().start();
+            return start == null ? Double.POSITIVE_INFINITY : start;
+        }
+    }
+
+    private static final class RowSource implements SegmentSource {
+        private final Iterator<SegmentRepository.WindowRow> rows;
+        private Segment current;
+
+        private RowSource(Iterator<SegmentRepository.WindowRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean advance() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            SegmentRepository.WindowRow row = rows.next();
+            current = new Segment(row.getSpeakerId(), row.getName(), row.getStartTime(), row.getEndTime(), row.getText());
+            return true;
+        }
+
+        @Override
+        public Segment current() {
+            return current;
+        }
+
+        @Override
+        public int order() {
+            return 0;
+        }
+    }
+
+    private static final class PackedSource implements SegmentSource {
+        private final SegmentRepository.PackedSpeaker speaker;
+        private final PackedTranscript transcript;
+        private final int order;
+        private int index = -1;
+        private Segment current;
+
+        private PackedSource(SegmentRepository.PackedSpeaker speaker, PackedTranscript transcript, int order) {
+            this.speaker = speaker;
+            this.transcript = transcript;
+            this.order = order;
+        }
+
+        @Override
+        public boolean advance() {
+            if (++index >= transcript.size()) {
+                return false;
+            }
+            current = new Segment(speaker.getSpeakerId(), speaker.getName(),
+                    transcript.startTime(index), transcript.endTime(index), transcript.text(index));
+            return true;
+        }
+
+        @Override
+        public Segment current() {
+            return current;
+        }
+
+        @Override
+        public int order() {
+            return order;
+        }
+    }
+
+    /**
+     * [00:01:23] 김철수: 발화 내용
+     */
+    private static final class TextFormatter implements TranscriptFormatter {
+        private final Writer writer;
+
+        private TextFormatter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(Export export) throws IOException {
+            writer.write(export.title() == null ? "" : export.title());
+            writer.write("\n일시: " + (export.date() == null ? "" : export.date()));
+            if (!export.keywords().isEmpty()) {
+                writer.write("\n키워드: " + String.join(", ", export.keywords()));
+            }
+            if (export.summary() != null && !export.summary().isBlank()) {
+                writer.write("\n\n[요약]\n" + export.summary());
+            }
+            writer.write("\n\n[전사]\n");
+        }
+
+        @Override
+        public void segment(Segment segment) throws IOException {
+            writer.write('[');
+            writer.write(timestamp(segment.start()));
+            writer.write("] ");
+            writer.write(speakerLabel(segment));
+            writer.write(": ");
+            writer.write(segment.text() == null ? "" : segment.text());
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    private static final class MarkdownFormatter implements TranscriptFormatter {
+        private final Writer writer;
+
+        private MarkdownFormatter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(Export export) throws IOException {
+            writer.write("# " + (export.title() == null ? "" : export.title()) + "\n\n");
+            writer.write("- 일시: " + (export.date() == null ? "" : export.date()) + "\n");
+            if (!export.keywords().isEmpty()) {
+                writer.write("- 키워드: " + String.join(", ", export.keywords()) + "\n");
+            }
+            if (export.summary() != null && !export.summary().isBlank()) {
+                writer.write("\n## 요약\n\n" + export.summary() + "\n");
+            }
+            writer.write("\n## 전사\n\n");
+        }
+
+        @Override
+        public void segment(Segment segment) throws IOException {
+            writer.write("- **[");
+            writer.write(timestamp(segment.start()));
+            writer.write("] ");
+            writer.write(speakerLabel(segment));
+            writer.write("** ");
+            writer.write(segment.text() == null ? "" : segment.text().replace("\n", " "));
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    /**
+     * 첫 줄 {"type":"meeting",...}, 이후 한 줄에 세그먼트 하나 {"type":"segment",...}
+     */
+    private static final class NdjsonFormatter implements TranscriptFormatter {
+        private final JsonGenerator generator;
+
+        private NdjsonFormatter(ObjectMapper objectMapper, Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(Export export) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "meeting");
+            generator.writeStringField("meetingId", export.meetingId().toString());
+            generator.writeStringField("title", export.title());
+            generator.writeStringField("date", export.date() == null ? null : export.date().toString());
+            generator.writeStringField("status", export.status());
+            generator.writeStringField("summary", export.summary());
+            generator.writeArrayFieldStart("keywords");
+            for (String keyword : export.keywords()) {
+                generator.writeString(keyword);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void segment(Segment segment) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "segment");
+            generator.writeStringField("speakerId", segment.speakerId());
+            generator.writeStringField("name", segment.name());
+            writeNumberOrNull("start", segment.start());
+            writeNumberOrNull("end", segment.end());
+            generator.writeStringField("text", segment.text());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+
+        private void writeNumberOrNull(String field, Float value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.UploadSessionEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.UploadSessionRepository;
+import com.meetingoneline.meeting_one_line.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 업로드 파이프라인의 DB 단계
+ * 파일이 이미 저장소에 저장된 뒤 호출되며, 트랜잭션은 INSERT/UPDATE 만 감싼다.
+ * 회의와 AI 분석 요청 outbox 를 같은 트랜잭션으로 기록해 분석 요청이 유실되지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingRegistrationService {
+
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AnalysisOutboxService analysisOutboxService;
+    private final AnalysisEtaEstimator analysisEtaEstimator;
+
+    /**
+     * 저장된 파일로 회의 엔티티 생성 (status = UPLOADED)
+     */
+    @Transactional
+    public MeetingEntity register(UUID userId, String title, LocalDateTime date, String filePath,
+                                  String contentHash, AudioMetadata audio, AnalysisPriority priority) {
+        MeetingEntity meeting = MeetingEntity.create(userRepository.getReferenceById(userId), title, date, filePath);
+        meeting.setContentHash(contentHash);
+        meeting.applyAudioMetadata(audio);
+        meetingRepository.save(meeting);
+        enqueueAnalysis(meeting, userId, priority);
+        return meeting;
+    }
+
+    /**
+     * 청크 업로드 세션 완료 처리
+     * 세션 완료 표시와 회의 생성을 한 트랜잭션으로 묶어 완료 요청 재시도 시 회의가 중복 생성되지 않게 한다.
+     * 이미 완료된 세션이면 기존 회의를 created = false 로 반환
+     */
+    @Transactional
+    public Registration registerFromUploadSession(UUID userId, UUID uploadId, String contentHash, AudioMetadata audio) {
+        UploadSessionEntity session = uploadSessionRepository.findById(uploadId)
+                                                             .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (!session.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (session.getStatus() == UploadSessionStatus.COMPLETED) {
+            MeetingEntity existing = meetingRepository.findById(session.getMeeting().getId())
+                                                      .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+            return new Registration(existing, false);
+        }
+        if (session.getStatus() == UploadSessionStatus.EXPIRED) {
+            throw new BusinessException(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+        if (!session.isFullyReceived()) {
+            throw new BusinessException(ErrorCode.UPLOAD_INCOMPLETE);
+        }
+
+        MeetingEntity meeting = MeetingEntity.create(session.getUser(), session.getTitle(), session.getDate(), session.getFilePath());
+        meeting.setContentHash(contentHash);
+        meeting.applyAudioMetadata(audio);
+        meetingRepository.save(meeting);
+        enqueueAnalysis(meeting, userId, session.getPriority());
+        session.complete(meeting);
+
+        log.info("✅ 청크 업로드 완료: uploadId={}, meetingId={}", uploadId, meeting.getId());
+        return new Registration(meeting, true);
+    }
+
+    /**
+     * 우선순위가 없으면 (우선순위 도입 이전 세션 등) NORMAL
+     */
+    private void enqueueAnalysis(MeetingEntity meeting, UUID userId, AnalysisPriority priority) {
+        analysisOutboxService.enqueue(meeting.getId(), userId, priority != null ? priority : AnalysisPriority.NORMAL,
+                analysisEtaEstimator.expectedProcessing(meeting.getAudioDurationMs()));
+    }
+
+    public record Registration(MeetingEntity meeting, boolean created) {
+    }
+}
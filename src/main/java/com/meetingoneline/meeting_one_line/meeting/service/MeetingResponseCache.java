@@ -0,0 +1,183 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 회의 상세 / 피드백 응답 로컬 캐시 (직렬화된 JSON + ETag)
+ *
+ * - 회의 id, 응답 종류, 상세 버전(meetings.detail_version)으로 찾고, 항목마다 본문 해시로 만든 강한 ETag 를 가진다.
+ *   조회마다 버전만 PK 로 읽고(한 컬럼), 캐시에 있으면 본문은 DB 를 거치지 않고 304/200 응답.
+ * - 버전: 상세 내용을 바꾸는 쓰기는 모두 MeetingDetailSnapshotService.markChanged / invalidate 를 거치고, 같은 트랜잭션에서 버전을 올린다.
+ *   그래서 무효화 이벤트를 놓치거나 늦게 받아도 커밋된 변경 이후에는 옛 응답을 쓰지 않는다.
+ * - 무효화: markChanged / invalidate 에서 evict 를 불러 그 회의의 옛 버전 항목을 지운다. (메모리 정리 목적, 정합성은 버전 키가 보장)
+ * - 크기: 본문 바이트 합(max-weight-bytes)으로 제한하고, 작은 본문도 max-weight-bytes / max-entries 만큼으로 계산해 항목 수도 max-entries 를 넘지 않는다.
+ * - 다른 노드에는 CacheInvalidationBus 로 알리고, 다른 노드가 알린 회의는 여기서 지운다. (이벤트를 놓친 옛 항목은 expire-after-write 로 정리)
+ */
+@Slf4j
+@Service
+public class MeetingResponseCache {
+
+    public enum Kind { DETAIL, FEEDBACK }
+
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeetingRepository meetingRepository;
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+
+    public MeetingResponseCache(ObjectMapper objectMapper,
+                                CacheInvalidationBus invalidationBus,
+                                MeetingRepository meetingRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${meeting.response-cache.enabled:true}") boolean enabled,
+                                @Value("${meeting.response-cache.max-entries:10000}") int maxEntries,
+                                @Value("${meeting.response-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                                @Value("${meeting.response-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.meetingRepository = meetingRepository;
+        this.enabled = enabled;
+        int minWeight = (int) Math.max(1, maxWeightBytes / maxEntries);
+        this.cache = Caffeine.newBuilder()
+                             .maximumWeight(maxWeightBytes)
+                             .weigher((Key key, Entry entry) -> Math.max(minWeight, entry.body().length))
+                             .expireAfterWrite(expireAfterWrite)
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "meeting.response");
+        invalidationBus.register(CacheInvalidationBus.MEETING, key -> evictNow(List.of(UUID.fromString(key))));
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader 로 만들어 넣음)
+     * @param userId 본인 회의만 허용하는 응답이면 요청자, 아니면 null
+     */
+    public Entry get(Kind kind, UUID meetingId, UUID userId, Supplier<Entry> loader) {
+        Entry entry = lookup(kind, meetingId, loader);
+        if (userId != null && entry.ownerId() != null && !entry.ownerId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return entry;
+    }
+
+    private Entry lookup(Kind kind, UUID meetingId, Supplier<Entry> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // 없는(삭제된) 회의는 캐시하지 않고 loader 가 404 를 내도록
+        Optional<Long> version = meetingRepository.findDetailVersion(meetingId);
+        if (version.isEmpty()) {
+            return loader.get();
+        }
+        return cache.get(new Key(meetingId, kind, version.get()), key -> loader.get());
+    }
+
+    /**
+     * 회의 응답 무효화 (트랜잭션 안이면 지금 한 번, 커밋 후 한 번 더) + 다른 노드에 발행
+     */
+    public void evict(Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        invalidationBus.publish(CacheInvalidationBus.MEETING, meetingIds.stream().map(UUID::toString).toList());
+        if (!enabled) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(meetingIds);
+        evictNow(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(ids);
+                }
+            });
+        }
+    }
+
+    private void evictNow(List<UUID> meetingIds) {
+        Set<UUID> ids = Set.copyOf(meetingIds);
+        cache.asMap().keySet().removeIf(key -> ids.contains(key.meetingId()));
+    }
+
+    /**
+     * 응답 DTO 를 직렬화해 캐시 항목으로
+     */
+    public Entry json(UUID ownerId, Object response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Entry(ownerId, json, false, sha256(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(UUID meetingId, Kind kind, long version) {
+    }
+
+    /**
+     * 캐시된 응답
+     * @param body JSON (gzip 이면 압축된 JSON)
+     * @param hash 압축 전 JSON 의 SHA-256
+     */
+    public record Entry(UUID ownerId, byte[] body, boolean gzip, String hash) {
+
+        /**
+         * 강한 ETag (같은 JSON 이라도 gzip 으로 보내는 표현은 바이트가 다르므로 구분)
+         */
+        public String etag(boolean gzipped) {
+            return "\"" + hash + (gzipped ? "-gzip" : "") + "\"";
+        }
+
+        /**
+         * 압축 해제한 JSON (gzip 을 받지 않는 클라이언트용)
+         */
+        public byte[] json() {
+            if (!gzip) {
+                return body;
+            }
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
+import com.meetingoneline.meeting_one_line.global.search.KoreanNGramAnalyzer;
+import com.meetingoneline.meeting_one_line.global.search.MergingPassageFormatter;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 회의 전문 검색 색인 (Lucene, 노드 로컬 디스크)
+ *
+ * - 제목 / 요약 / 키워드 / 전사 텍스트를 한국어 n-gram(KoreanNGramAnalyzer)으로 색인하고 BM25 점수 순으로 찾는다.
+ * - 색인 파일은 search.index.path 에 두고 메모리 매핑(MMapDirectory)으로 읽는다.
+ * - 갱신: 회의 내용이 바뀌면 markDirty (MeetingDetailSnapshotService.markChanged / invalidate 에서 호출, 다른 노드 변경은 CacheInvalidationBus)
+ *   → 커밋 후 대기열에 넣고 flush 가 주기적으로 원본을 다시 읽어 문서를 교체(삭제된 회의는 문서 삭제)한다.
+ * - 삭제한 회의는 remove 로 커밋 직후 이 노드 색인에서 바로 뺀다. (다른 노드는 다음 flush 까지 total 에 잡힐 수 있음)
+ * - 기동 시 색인에 저장된 회의별 detail_version 을 DB 와 대조해 어긋난 회의만 다시 색인한다. 대조가 끝나기 전에는 search 가 empty.
+ * - 페이지는 앞에서 MAX_RESULT_WINDOW 건까지만 내려준다. (깊은 페이지는 Lucene 이 그만큼 큰 우선순위 큐를 만듦)
+ */
+@Slf4j
+@Service
+public class MeetingSearchService {
+
+    static final String ID = "id";
+    static final String USER_ID = "userId";
+    static final String STATUS = "status";
+    static final String VERSION = "version";
+    static final String TITLE = "title";
+    static final String SUMMARY = "summary";
+    static final String KEYWORDS = "keywords";
+    static final String TRANSCRIPT = "transcript";
+
+    // 검색 결과로 내려줄 수 있는 최대 순위 (page * size 가 이를 넘는 부분은 빈 페이지)
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    // 필드별 가중치 (제목 > 키워드 > 요약 > 전사)
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(TITLE, 3f, KEYWORDS, 2f, SUMMARY, 1.5f, TRANSCRIPT, 1f);
+
+    // 하이라이트를 저장된 위치(offset)로 바로 계산하도록 (다시 분석하지 않음)
+    private static final FieldType TEXT_WITH_OFFSETS = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        TEXT_WITH_OFFSETS.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_WITH_OFFSETS.freeze();
+    }
+
+    private final MeetingRepository meetingRepository;
+    private final TransactionTemplate readOnly;
+    private final boolean enabled;
+    private final int highlightMaxLength;
+    private final Analyzer analyzer = new KoreanNGramAnalyzer();
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    public MeetingSearchService(MeetingRepository meetingRepository,
+                                PlatformTransactionManager transactionManager,
+                                CacheInvalidationBus invalidationBus,
+                                @Value("${search.index.enabled:true}") boolean enabled,
+                                @Value("${search.index.path:./data/search-index}") String indexPath,
+                                @Value("${search.index.highlight-max-length:200000}") int highlightMaxLength) throws IOException {
+        this.meetingRepository = meetingRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.enabled = enabled;
+        this.highlightMaxLength = highlightMaxLength;
+
+        if (enabled) {
+            Path path = Files.createDirectories(Path.of(indexPath));
+            this.writer = new IndexWriter(new MMapDirectory(path), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+            invalidationBus.register(CacheInvalidationBus.MEETING, key -> pending.add(UUID.fromString(key)));
+        } else {
+            this.writer = null;
+            this.searcherManager = null;
+        }
+    }
+
+    /**
+     * 다시 색인할 회의 (트랜잭션 안이면 커밋 후 대기열에)
+     */
+    public void markDirty(Collection<UUID> meetingIds) {
+        if (!enabled || meetingIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<UUID> ids = List.copyOf(meetingIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.addAll(ids);
+                }
+            });
+        } else {
+            pending.addAll(meetingIds);
+        }
+    }
+
+    /**
+     * 삭제한 회의 문서를 커밋 직후 바로 색인에서 뺌 (flush 를 기다리는 동안 검색 total 에 잡히지 않도록)
+     * 실패해도 invalidate 로 대기열에 들어간 회의라 다음 flush 에서 다시 지운다.
+     */
+    public void remove(UUID meetingId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteDocument(meetingId);
+                }
+            });
+        } else {
+            deleteDocument(meetingId);
+        }
+    }
+
+    /**
+     * 대기열 반영 (첫 실행에서는 DB 와 대조)
+     */
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!ready) {
+                reconcile();
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<UUID> ids = new ArrayList<>(pending);
+            pending.removeAll(ids);
+            for (UUID meetingId : ids) {
+                try {
+                    reindex(meetingId);
+                } catch (RuntimeException e) {
+                    // 다음 기동 시 대조에서 다시 색인된다
+                    log.warn("⚠️ 회의({}) 검색 색인 실패", meetingId, e);
+                }
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("❌ 검색 색인 반영 실패", e);
+        }
+    }
+
+    /**
+     * 회의 검색 (BM25 순, 하이라이트 포함)
+     * keyword 는 모든 필드, title / summary 는 해당 필드에서 찾는다. 여러 단어면 모두 포함해야 한다.
+     * 앞에서 MAX_RESULT_WINDOW 건을 넘는 페이지는 hits 가 비어 있다. (total 은 그대로)
+     * @return 색인을 쓸 수 없으면(비활성 / 기동 대조 중) empty
+     */
+    public Optional<Result> search(UUID userId, String keyword, String title, String summary, RecordSaveStatus status, int page, int size) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(USER_ID, userId.toString())), BooleanClause.Occur.FILTER);
+        if (status != null) {
+            builder.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        addWords(builder, keyword, TEXT_FIELDS.keySet());
+        addWords(builder, title, List.of(TITLE));
+        addWords(builder, summary, List.of(SUMMARY));
+        Query query = builder.build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                long total = searcher.count(query);
+                long from = (long) (page - 1) * size;
+                if (from >= MAX_RESULT_WINDOW) {
+                    return Optional.of(new Result(List.of(), total));
+                }
+                TopDocs top = searcher.search(query, (int) Math.min(from + size, MAX_RESULT_WINDOW));
+                ScoreDoc[] pageDocs = Arrays.copyOfRange(top.scoreDocs, (int) Math.min(from, top.scoreDocs.length), top.scoreDocs.length);
+
+                String[] snippets = highlight(searcher, query, new TopDocs(top.totalHits, pageDocs));
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(pageDocs.length);
+                for (int i = 0; i < pageDocs.length; i++) {
+                    String id = storedFields.document(pageDocs[i].doc, Set.of(ID)).get(ID);
+                    hits.add(new Hit(UUID.fromString(id), pageDocs[i].score, snippets[i]));
+                }
+                return Optional.of(new Result(hits, total));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (enabled) {
+            searcherManager.close();
+            writer.close();
+        }
+    }
+
+    private void addWords(BooleanQuery.Builder builder, String text, Collection<String> fields) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String word : KoreanNGramAnalyzer.words(text)) {
+            List<Query> perField = new ArrayList<>();
+            for (String field : fields) {
+                BooleanQuery.Builder grams = new BooleanQuery.Builder();
+                KoreanNGramAnalyzer.grams(word).forEach(gram -> grams.add(new TermQuery(new Term(field, gram)), BooleanClause.Occur.MUST));
+                perField.add(new BoostQuery(grams.build(), TEXT_FIELDS.get(field)));
+            }
+            builder.add(new DisjunctionMaxQuery(perField, 0.1f), BooleanClause.Occur.MUST);
+        }
+    }
+
+    /**
+     * 요약에서 찾았으면 요약, 아니면 전사 텍스트 snippet (일치 구간은 <em>)
+     */
+    private String[] highlight(IndexSearcher searcher, Query query, TopDocs topDocs) throws IOException {
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                                                           .withFormatter(new MergingPassageFormatter())
+                                                           .withMaxLength(highlightMaxLength)
+                                                           .withMaxNoHighlightPassages(0)
+                                                           .build();
+        Map<String, String[]> highlights = highlighter.highlightFields(new String[]{SUMMARY, TRANSCRIPT}, query, topDocs, new int[]{1, 1});
+        String[] snippets = new String[topDocs.scoreDocs.length];
+        for (int i = 0; i < snippets.length; i++) {
+            String summary = highlights.get(SUMMARY)[i];
+            snippets[i] = summary != null ? summary : highlights.get(TRANSCRIPT)[i];
+        }
+        return snippets;
+    }
+
+    private void reindex(UUID meetingId) {
+        Optional<Document> document = readOnly.execute(status -> meetingRepository.findDetailById(meetingId).map(this::toDocument));
+        try {
+            if (document.isPresent()) {
+                writer.updateDocument(new Term(ID, meetingId.toString()), document.get());
+            } else {
+                writer.deleteDocuments(new Term(ID, meetingId.toString()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteDocument(UUID meetingId) {
+        try {
+            writer.deleteDocuments(new Term(ID, meetingId.toString()));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("⚠️ 삭제된 회의({}) 색인 제거 실패", meetingId, e);
+        }
+    }
+
+    /**
+     * 색인에 저장된 detail_version 과 DB 를 대조해 어긋난 회의만 다시 색인, DB 에 없는 회의 문서는 삭제
+     */
+    private void reconcile() throws IOException {
+        Map<UUID, Long> indexed = new HashMap<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                StoredFields storedFields = leaf.reader().storedFields();
+                for (int doc = 0; doc < leaf.reader().maxDoc(); doc++) {
+                    if (liveDocs == null || liveDocs.get(doc)) {
+                        Document stored = storedFields.document(doc, Set.of(ID, VERSION));
+                        indexed.put(UUID.fromString(stored.get(ID)), stored.getField(VERSION).numericValue().longValue());
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+
+        int stale = 0;
+        for (MeetingRepository.IndexVersion row : meetingRepository.findIndexVersions()) {
+            Long version = indexed.remove(row.getId());
+            if (version == null || version != row.getDetailVersion()) {
+                pending.add(row.getId());
+                stale++;
+            }
+        }
+        // 남은 것은 삭제된 회의
+        for (UUID removed : indexed.keySet()) {
+            writer.deleteDocuments(new Term(ID, removed.toString()));
+        }
+        writer.commit();
+        searcherManager.maybeRefresh();
+        ready = true;
+        log.info("🔎 검색 색인 대조 완료 - 다시 색인 {}건, 삭제 {}건", stale, indexed.size());
+    }
+
+    private Document toDocument(MeetingEntity meeting) {
+        MeetingResponseDto.DetailResponse detail = MeetingResponseDto.DetailResponse.from(meeting);
+        String transcript = detail.getSpeakers().stream()
+                                  .flatMap(speaker -> speaker.getSegments().stream())
+                                  .map(MeetingResponseDto.DetailResponse.Segment::getText)
+                                  .collect(Collectors.joining("\n"));
+        String keywords = meeting.getKeywords().stream()
+                                 .map(KeywordEntity::getKeyword)
+                                 .collect(Collectors.joining(" "));
+
+        Document document = new Document();
+        document.add(new StringField(ID, meeting.getId().toString(), Field.Store.YES));
+        document.add(new StringField(USER_ID, meeting.getUser().getId().toString(), Field.Store.NO));
+        document.add(new StringField(STATUS, meeting.getStatus().name(), Field.Store.NO));
+        document.add(new StoredField(VERSION, meeting.getDetailVersion()));
+        document.add(new Field(TITLE, meeting.getTitle(), TEXT_WITH_OFFSETS));
+        document.add(new Field(KEYWORDS, keywords, TEXT_WITH_OFFSETS));
+        document.add(new Field(SUMMARY, meeting.getSummary() != null ? meeting.getSummary() : "", TEXT_WITH_OFFSETS));
+        document.add(new Field(TRANSCRIPT, transcript, TEXT_WITH_OFFSETS));
+        return document;
+    }
+
+    /**
+     * @param total 조건에 맞는 전체 회의 수 (다른 노드에서 삭제한 회의가 아직 색인에 남아 있으면 그만큼 많을 수 있음)
+     */
+    public record Result(List<Hit> hits, long total) {
+    }
+
+    /**
+     * @param highlight 요약 또는 전사 텍스트에서 일치한 부분 (일치 구간은 <em>, 없으면 null)
+     */
+    public record Hit(UUID meetingId, float score, String highlight) {
+    }
+}
@@ -1,41 +1,53 @@
 package com.meetingoneline.meeting_one_line.meeting.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.meetingoneline.meeting_one_line.feedback.entity.*;
-import com.meetingoneline.meeting_one_line.feedback.repository.FeedbackRepository;
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.audio.HeadCapturingInputStream;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
 import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
 import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
 import com.meetingoneline.meeting_one_line.meeting.client.AiClient;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
 import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
 import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
-import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
 import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
 import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingListQueryRepository;
 import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
 import com.meetingoneline.meeting_one_line.meeting.repository.MeetingSpecification;
 import com.meetingoneline.meeting_one_line.user.UserEntity;
 import com.meetingoneline.meeting_one_line.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -43,16 +55,34 @@ import java.util.UUID;
 @Transactional
 public class MeetingService {
 
+    // 생성일이 같으면 id 로 순서 고정 (idx_meetings_user_created 순서와 같음)
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final MeetingRepository meetingRepository;
+    private final MeetingListQueryRepository meetingListQueryRepository;
     private final UserRepository userRepository;
-    private final FeedbackRepository feedbackRepository;
+    private final MeetingRegistrationService meetingRegistrationService;
     private final AiClient aiClient;
     private final ObjectMapper objectMapper;
+    private final StorageBackend storageBackend;
+    private final AudioMetadataService audioMetadataService;
+    private final AnalysisEtaEstimator analysisEtaEstimator;
+    private final AnalysisResultWriter analysisResultWriter;
+    private final AnalysisChunkService analysisChunkService;
+    private final AudioNormalizationService audioNormalizationService;
+    private final TranscriptReconciler transcriptReconciler;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeetingSearchService meetingSearchService;
 
-    @Value("${file.upload-dir:./uploads/meetings}")
-    private String uploadDir;
-
-    @Transactional
+    /**
+     * 회의 녹음 업로드
+     * 1. 파일 저장 (트랜잭션 없음) → 2. 회의 + 분석 요청 outbox INSERT (짧은 트랜잭션)
+     * 대용량 파일 전송 동안 JDBC 커넥션을 점유하지 않도록 메서드 자체는 트랜잭션 밖에서 실행한다.
+     * AI 서버 전달은 AnalysisDispatcher 가 outbox 에서 꺼내 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingResponseDto.CreateResponse uploadMeeting(UUID userId, MeetingRequestDto.CreateRequest request) {
         UserEntity user = userRepository.findById(userId)
                                         .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -62,159 +92,78 @@ public class MeetingService {
             throw new BusinessException(ErrorCode.INVALID_FILE);
         }
 
-        try {
-            // 1. 경로 폴더 없으면 추가
-            File baseDir = new File(uploadDir).getAbsoluteFile();
-            if (!baseDir.exists()) {
-                boolean created = baseDir.mkdirs();
-                log.info("📁 기본 업로드 폴더 생성됨: {} (성공여부: {})", baseDir, created);
-            }
-
-            // 2. 유저별 폴더
-            File userDir = new File(baseDir, userId.toString());
-            if (!userDir.exists()) {
-                boolean created = userDir.mkdirs();
-                log.info("사용자 업로드 폴더 생성됨: {} (성공여부: {})", userDir, created);
-            }
-
-            // 3. 파일명 생성
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            File destination = new File(userDir, fileName);
-
-            log.info("💾 파일 저장 시도: {}", destination.getAbsolutePath());
-            file.transferTo(destination);
-
-            // 4.DB 저장
-            MeetingEntity meeting = MeetingEntity.create(user, request.getTitle(), request.getDate(), destination.getAbsolutePath());
-            MeetingEntity saved = meetingRepository.save(meeting);
-
-            // 5. AI 서버 분석 요청 시도
-            try {
-                aiClient.requestAnalysis(
-                        userId,
-                        meeting.getId(),
-                        destination.getAbsolutePath(),
-                        saved.getTitle(),
-                        error -> updateMeetingStatus(meeting.getId(), RecordSaveStatus.FAILED, "AI 서버 요청 실패")
-                );
-                meeting.updateStatusAndSummary(RecordSaveStatus.PROCESSING.name(), null);
-            } catch (Exception e) {
-                log.error("❌ AI 서버 요청 실패 - meetingId={}", meeting.getId(), e);
-                meeting.updateStatusAndSummary(RecordSaveStatus.FAILED.name(), "AI 서버 분석 요청 실패");
-            }
+        // 1. 파일 저장 (저장하면서 SHA-256 계산, 헤더 해석용 앞부분 복사)
+        MessageDigest digest = MeetingDeduplicationService.newDigest();
+        StoredFile stored = storeFile(user.getId(), file, digest);
+        String storageKey = stored.storageKey();
+        String contentHash = MeetingDeduplicationService.toHex(digest);
+        AudioMetadata audio = audioMetadataService.probe(storageKey, file.getSize(), stored.head());
 
+        // 2. DB 저장 (분석 요청 outbox 포함)
+        MeetingEntity saved;
+        try {
+            saved = meetingRegistrationService.register(user.getId(), request.getTitle(), request.getDate(), storageKey,
+                    contentHash, audio, request.getPriority());
+        } catch (RuntimeException e) {
+            log.error("❌ 회의 저장 실패 - 저장된 파일 정리: {}", storageKey);
+            storageBackend.delete(storageKey);
+            throw e;
+        }
+        // 새 회의는 캐시된 응답이 없지만, 목록 등 회의 단위로 모아 둔 다른 노드 캐시에 알림
+        cacheInvalidationBus.publish(CacheInvalidationBus.MEETING, List.of(saved.getId().toString()));
+        meetingSearchService.markDirty(List.of(saved.getId()));
+
+        return MeetingResponseDto.CreateResponse.builder()
+                                               .meetingId(saved.getId())
+                                               .status(RecordSaveStatus.UPLOADED)
+                                               .message("파일 업로드 완료 및 분석 요청 전송됨")
+                                               .build();
+    }
 
-            return MeetingResponseDto.CreateResponse.builder()
-                                                   .meetingId(UUID.fromString(saved.getId().toString()))
-                                                   .status(RecordSaveStatus.UPLOADED)
-                                                   .message("파일 업로드 완료 및 분석 요청 전송됨")
-                                                   .build();
-
+    /**
+     * 저장소에 녹음 파일 스트리밍 저장
+     * @return 저장소 key ("{userId}/{uuid}_{파일명}") 와 파일 앞부분
+     */
+    private StoredFile storeFile(UUID userId, MultipartFile file, MessageDigest digest) {
+        // 경로 조작 방지: 디렉토리 부분은 버리고 파일명만 사용
+        String originalFilename = file.getOriginalFilename() != null
+                ? Paths.get(file.getOriginalFilename()).getFileName().toString()
+                : "recording";
+        String storageKey = userId + "/" + UUID.randomUUID() + "_" + originalFilename;
+        String contentType = file.getContentType() != null ? file.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+        log.info("💾 파일 저장 시도: {}", storageKey);
+        try (HeadCapturingInputStream head = AudioMetadataService.captureHead(file.getInputStream());
+             InputStream in = new DigestInputStream(head, digest)) {
+            storageBackend.put(storageKey, in, file.getSize(), contentType);
+            return new StoredFile(storageKey, head.head());
         } catch (IOException e) {
             log.error("파일 저장 중 오류 발생", e);
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
 
+    private record StoredFile(String storageKey, byte[] head) {
+    }
+
     /**
      * 회의 분석 callback
+     * 부분 전사(PartialTranscriptService) / 스트리밍 결과 저장(AnalysisResultWriter.applyStreamed)과 같은 회의를 동시에 쓰지 않도록 회의 행을 잠근다.
      */
     @Transactional
     public MeetingResponseDto.AiCallbackResponse processCallback(UUID meetingId, MeetingRequestDto.AiCallbackRequest request) {
-        MeetingEntity meeting = meetingRepository.findById(meetingId)
+        MeetingEntity meeting = meetingRepository.findByIdForUpdate(meetingId)
                                                  .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
 
-        log.info("AI 콜백 수신: meetingId={}, status={}, summary={}", meetingId, request.getStatus(), request.getSummary());
-
-        // 1. 회의 상태 및 요약문 업데이트
-        meeting.updateStatusAndSummary(request.getStatus(), request.getSummary());
-
-        // 2. 기존 데이터 초기화
-        meeting.getSpeakers().clear();
-        meeting.getKeywords().clear();
-
-        // 3. 키워드 갱신
-        if (request.getKeywords() != null) {
-            for (String keyword : request.getKeywords()) {
-                meeting.getKeywords().add(KeywordEntity.create(meeting, keyword));
-            }
-        }
+        log.info("AI 콜백 수신: meetingId={}, status={}, chunk={}", meetingId, request.getStatus(), request.getChunkIndex());
 
-        // 4. 화자 및 세그먼트 갱신
-        if (request.getSpeakers() != null) {
-            for (MeetingRequestDto.AiCallbackRequest.Speaker speakerReq : request.getSpeakers()) {
-                SpeakerEntity speaker = SpeakerEntity.create(meeting, speakerReq.getSpeakerId(), null);
-
-                if (speakerReq.getSegments() != null) {
-                    for (MeetingRequestDto.AiCallbackRequest.Segment seg : speakerReq.getSegments()) {
-                        speaker.getSegments().add(
-                                SegmentEntity.create(speaker, seg.getStart(), seg.getEnd(), seg.getText())
-                        );
-                    }
-                }
-
-                meeting.getSpeakers().add(speaker);
-            }
+        // 분할 분석의 조각 결과는 모든 조각이 도착할 때까지 모아 두었다가 병합
+        if (request.getChunkIndex() != null) {
+            return analysisChunkService.processChunkCallback(meeting, request);
         }
 
-        // 5. 피드백 데이터 생성 또는 갱신
-        if (request.getFeedback() != null) {
-            var feedbackDto = request.getFeedback();
-
-            FeedbackEntity feedback = meeting.getId() != null
-                    ? feedbackRepository.findByMeetingId(meeting.getId()).orElse(null)
-                    : null;
-
-            if (feedback == null) {
-                feedback = FeedbackEntity.create(meeting);
-            } else {
-                feedback.getActionItems().clear();
-                feedback.getTopics().clear();
-                feedback.getFollowUpCategories().clear();
-            }
-
-            // Action Items
-            if (feedbackDto.getActionItems() != null) {
-                for (var ai : feedbackDto.getActionItems()) {
-                    feedback.getActionItems().add(
-                            ActionItemEntity.create(feedback, ai.getName(), ai.getContent(), ai.getOrderIndex())
-                    );
-                }
-            }
-
-            // Topics
-            if (feedbackDto.getTopics() != null) {
-                for (var topic : feedbackDto.getTopics()) {
-                    feedback.getTopics().add(
-                            TopicEntity.create(feedback, topic.getTitle(), topic.getImportance(), topic.getSummary(), topic.getProportion())
-                    );
-                }
-            }
-
-            // Follow-up Categories & Questions
-            if (feedbackDto.getFollowUpCategories() != null) {
-                for (var cat : feedbackDto.getFollowUpCategories()) {
-                    FollowUpCategoryEntity categoryEntity = FollowUpCategoryEntity.create(feedback, cat.getCategory());
-
-                    if (cat.getQuestions() != null) {
-                        for (var q : cat.getQuestions()) {
-                            categoryEntity.getQuestions().add(
-                                    FollowUpQuestionEntity.create(categoryEntity, q.getQuestion(), q.getOrderIndex())
-                            );
-                        }
-                    }
-
-                    feedback.getFollowUpCategories().add(categoryEntity);
-                }
-            }
-
-            feedbackRepository.save(feedback);
-
-            log.info("🧠 회의({})의 피드백 데이터 갱신 완료", meetingId);
-        }
-
-        meetingRepository.save(meeting);
+        analysisResultWriter.apply(meeting, request);
         log.info("✅ 회의({}) 분석 및 피드백 저장 완료", meetingId);
 
         return MeetingResponseDto.AiCallbackResponse.builder()
@@ -242,13 +191,17 @@ public class MeetingService {
             return objectMapper.readValue(responseBody, MeetingResponseDto.ListResponse.class);
 
         } catch (Exception e) {
-            log.error("AI 서버 회의록 목록 조회 중 오류 발생", e);
-            throw new RuntimeException("AI 서버 회의록 목록 조회 실패", e);
+            // AI 서버를 쓸 수 없으면 로컬 검색 색인으로 조회
+            log.error("AI 서버 회의록 목록 조회 중 오류 발생 - 로컬 조회로 대체", e);
+            return getMeetings2(userId, page, size, keyword, title, summary, status);
         }
     }
 
     /**
      * 회의 목록 조건 조회
+     * 검색어(keyword / title / summary)가 있으면 검색 색인(MeetingSearchService)으로 BM25 순 + 하이라이트,
+     * 색인을 쓸 수 없거나 검색어가 없으면 DB 조건 조회(생성일 역순)
+     * 목록 행은 엔티티 대신 필요한 컬럼만 읽는다 (MeetingListQueryRepository)
      * @param keyword 회의 키워드
      * @param summary 회의 내용
      * @param status 회의 분석 상태
@@ -267,9 +220,86 @@ public class MeetingService {
         UserEntity user = userRepository.findById(userId)
                                         .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        RecordSaveStatus recordStatus = parseStatus(status);
+
+        boolean textSearch = Stream.of(keyword, title, summary).anyMatch(text -> text != null && !text.isBlank());
+        Optional<MeetingSearchService.Result> found = textSearch
+                ? meetingSearchService.search(userId, keyword, title, summary, recordStatus, page, size)
+                : Optional.empty();
+        if (found.isPresent()) {
+            return toListResponse(found.get(), page, size);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size, LIST_SORT);
+        Page<MeetingListQueryRepository.Row> result = meetingListQueryRepository.findPage(listSpec(user, keyword, title, summary, recordStatus), pageable);
 
-        // JPA Specification 사용 (동적 쿼리)
+        return MeetingResponseDto.ListResponse.from(result);
+    }
+
+    /**
+     * 회의 목록 cursor 조회 (생성일 역순)
+     * OFFSET 대신 마지막으로 내려준 (createdAt, id) 다음부터 읽으므로 깊이 넘겨도 조회 비용이 같고,
+     * 전체 개수(COUNT)는 withTotal 일 때만 센다. 검색어 조건은 DB 조건 조회와 같다. (색인 / AI 검색 순위 아님)
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     */
+    @Transactional(readOnly = true)
+    public MeetingResponseDto.CursorListResponse scrollMeetings(
+            UUID userId,
+            int size,
+            String cursor,
+            boolean withTotal,
+            String keyword,
+            String title,
+            String summary,
+            String status
+    ) {
+        UserEntity user = userRepository.findById(userId)
+                                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Specification<MeetingEntity> filter = listSpec(user, keyword, title, summary, parseStatus(status));
+
+        Specification<MeetingEntity> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            ListCursor position = ListCursor.decode(cursor);
+            spec = and(spec, MeetingSpecification.createdBefore(position.createdAt(), position.id()));
+        }
+
+        // 한 건 더 읽어 다음 페이지가 있는지 확인 (COUNT 없이)
+        List<MeetingListQueryRepository.Row> rows = meetingListQueryRepository.findRows(spec, LIST_SORT, 0, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<MeetingListQueryRepository.Row> content = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MeetingListQueryRepository.Row last = content.get(content.size() - 1);
+            nextCursor = new ListCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return MeetingResponseDto.CursorListResponse.builder()
+                                                    .content(content.stream().map(MeetingResponseDto.ListItem::from).toList())
+                                                    .size(limit)
+                                                    .nextCursor(nextCursor)
+                                                    .totalCount(withTotal ? meetingListQueryRepository.count(filter) : null)
+                                                    .build();
+    }
+
+    private RecordSaveStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return RecordSaveStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException ignored) {
+            log.warn("⚠️ 잘못된 status 파라미터: {}", status);
+            return null;
+        }
+    }
+
+    /**
+     * 목록 DB 조건 (JPA Specification 사용, 동적 쿼리)
+     */
+    private Specification<MeetingEntity> listSpec(UserEntity user, String keyword, String title, String summary,
+                                                  RecordSaveStatus recordStatus) {
         Specification<MeetingEntity> spec = null;
 
         // 기본 필터: 유저 조건 추가
@@ -280,18 +310,24 @@ public class MeetingService {
         spec = and(spec, title != null && !title.isBlank() ? MeetingSpecification.titleContains(title) : null);
         spec = and(spec, summary != null && !summary.isBlank() ? MeetingSpecification.summaryContains(summary) : null);
 
-        if (status != null && !status.isBlank()) {
-            try {
-                RecordSaveStatus recordStatus = RecordSaveStatus.valueOf(status.toUpperCase());
-                spec = and(spec, MeetingSpecification.hasStatus(recordStatus));
-            } catch (IllegalArgumentException ignored) {
-                log.warn("⚠️ 잘못된 status 파라미터: {}", status);
-            }
-        }
-
-        Page<MeetingEntity> result = meetingRepository.findAll(spec, pageable);
+        return and(spec, recordStatus != null ? MeetingSpecification.hasStatus(recordStatus) : null);
+    }
 
-        return MeetingResponseDto.ListResponse.from(result);
+    /**
+     * 검색 결과 순서대로 회의 행을 붙여 목록 응답 구성 (색인 반영 전에 삭제된 회의는 제외)
+     */
+    private MeetingResponseDto.ListResponse toListResponse(MeetingSearchService.Result result, int page, int size) {
+        Map<UUID, MeetingListQueryRepository.Row> meetings = meetingListQueryRepository.findRowsByIds(
+                result.hits().stream().map(MeetingSearchService.Hit::meetingId).toList()
+        ).stream().collect(Collectors.toMap(MeetingListQueryRepository.Row::id, Function.identity()));
+
+        List<MeetingResponseDto.ListItem> items = result.hits().stream()
+                                                        .filter(hit -> meetings.containsKey(hit.meetingId()))
+                                                        .map(hit -> MeetingResponseDto.ListItem.from(meetings.get(hit.meetingId()), hit.highlight()))
+                                                        .toList();
+        // 색인이 아직 반영하지 못한 삭제 회의는 이 페이지에서 빠졌으므로 전체 개수에서도 뺀다
+        long total = result.total() - (result.hits().size() - items.size());
+        return MeetingResponseDto.ListResponse.of(items, page, size, total);
     }
 
     private <T> Specification<T> and(Specification<T> base, Specification<T> next) {
@@ -302,52 +338,28 @@ public class MeetingService {
 
     /**
      * 회의 상세 조회
+     * 회의+키워드 / 화자 / 세그먼트를 각각 한 번씩 읽어 화자 수와 관계없이 쿼리 3번으로 끝낸다. (MeetingRepository.findDetailById)
+     * 소유자 확인은 회의 행의 user_id 로 하므로 사용자 조회를 하지 않는다.
      */
     @Transactional(readOnly = true)
     public MeetingResponseDto.DetailResponse getMeetingDetail(UUID userId, UUID meetingId) {
-        // 1. 유저 및 회의 검증
-        UserEntity user = userRepository.findById(userId)
-                                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return getMeetingDetail(userId, meetingId, true);
+    }
 
-        MeetingEntity meeting = meetingRepository.findById(meetingId)
+    /**
+     * @param withSegments false 면 화자 목록만 (세그먼트는 /segments 구간 조회로)
+     */
+    @Transactional(readOnly = true)
+    public MeetingResponseDto.DetailResponse getMeetingDetail(UUID userId, UUID meetingId, boolean withSegments) {
+        MeetingEntity meeting = meetingRepository.findDetailById(meetingId, withSegments)
                                                  .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        // 본인 회의가 아니면 접근 불가
-        if (!meeting.getUser().getId().equals(user.getId())) {
+        // 본인 회의가 아니면 접근 불가 (지연 로딩 프록시의 id 는 조회 없이 읽힘)
+        if (!meeting.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 2. 키워드 및 화자 데이터 변환
-        var keywords = meeting.getKeywords().stream()
-                              .map(KeywordEntity::getKeyword)
-                              .toList();
-
-        var speakers = meeting.getSpeakers().stream()
-                              .map(speaker -> MeetingResponseDto.DetailResponse.Speaker.builder()
-                                                                                       .speakerId(speaker.getSpeakerId())
-                                                                                       .name(speaker.getName())
-                                                                                       .segments(speaker.getSegments().stream()
-                                                                                                        .sorted(Comparator.comparing(SegmentEntity::getStartTime))
-                                                                                       .map(seg -> MeetingResponseDto.DetailResponse.Segment.builder()
-                                                                                                                                                             .start(seg.getStartTime())
-                                                                                                                                                             .end(seg.getEndTime())
-                                                                                                                                                             .text(seg.getText())
-                                                                                                                                                             .build())
-                                                                                                        .toList())
-                                                                                       .build())
-                              .toList();
-
-        // 3. 응답 구성
-        return MeetingResponseDto.DetailResponse.builder()
-                                                .meetingId(meeting.getId())
-                                                .title(meeting.getTitle())
-                                                .date(meeting.getDate())
-                                                .status(meeting.getStatus().name().toLowerCase())
-                                                .summary(meeting.getSummary())
-                                                .keywords(keywords)
-                                                .speakers(speakers)
-                                                .filePath(meeting.getFilePath())
-                                                .build();
+        return MeetingResponseDto.DetailResponse.from(meeting, withSegments);
     }
 
     @Transactional
@@ -372,12 +384,12 @@ public class MeetingService {
             meeting.updateStatusAndSummary(meeting.getStatus().name(), request.getSummary());
         }
 
+        // 키워드/세그먼트는 기존 행과 비교해 바뀐 것만 반영
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+
         // 키워드 수정
         if (request.getKeywords() != null) {
-            meeting.getKeywords().clear();
-            request.getKeywords().forEach(keyword ->
-                    meeting.getKeywords().add(KeywordEntity.create(meeting, keyword))
-            );
+            transcriptReconciler.reconcileKeywords(meeting, request.getKeywords(), changes);
         }
 
         // 화자 및 세그먼트 수정
@@ -392,40 +404,24 @@ public class MeetingService {
                                speaker.setName(speakerReq.getName());
                            }
 
-                           // 세그먼트 수정 (기존 전체 삭제 후 새로 추가)
+                           // 세그먼트 수정 (시작 시각 기준으로 바뀐 세그먼트만 반영)
                            if (speakerReq.getSegments() != null) {
-                               speaker.getSegments().clear();
-                               for (MeetingRequestDto.UpdateRequest.SpeakerUpdate.SegmentUpdate segReq : speakerReq.getSegments()) {
-                                   SegmentEntity newSegment = SegmentEntity.create(
-                                           speaker,
-                                           segReq.getStart(),
-                                           segReq.getEnd(),
-                                           segReq.getText()
-                                   );
-                                   speaker.getSegments().add(newSegment);
-                               }
+                               var segments = speakerReq.getSegments().stream()
+                                                        .map(seg -> new TranscriptReconciler.SegmentValue(seg.getStart(), seg.getEnd(), seg.getText()))
+                                                        .toList();
+                               transcriptReconciler.reconcileSegments(speaker, segments, changes);
                            }
                        });
             }
         }
+        log.info("✏️ 회의({}) 수정 반영: {}", meetingId, changes);
 
         meetingRepository.save(meeting);
+        meetingDetailSnapshotService.markChanged(meetingId);
 
         // AI 서버 요청
         try {
-            var speakers = meeting.getSpeakers().stream()
-                                  .map(sp -> Map.ofEntries(
-                                          Map.entry("speakerId", sp.getSpeakerId()),
-                                          Map.entry("name", sp.getName() != null ? sp.getName() : ""),
-                                          Map.entry("segments", sp.getSegments().stream()
-                                                                  .map(seg -> Map.ofEntries(
-                                                                          Map.entry("start", seg.getStartTime() != null ? seg.getStartTime() : 0.0),
-                                                                          Map.entry("end", seg.getEndTime() != null ? seg.getEndTime() : 0.0),
-                                                                          Map.entry("text", seg.getText() != null ? seg.getText() : "")
-                                                                  ))
-                                                                  .toList())
-                                  )).toList();
-
+            var speakers = AiClient.toSpeakerPayload(meeting.getSpeakers());
 
             aiClient.requestUpsertSync(
                     userId,
@@ -460,14 +456,20 @@ public class MeetingService {
 
         // Soft Delete 처리
         meeting.delete();
-
-        // 로컬 파일 삭제 시도 (선택)
-        File file = new File(meeting.getFilePath());
-        if (file.exists()) {
-            boolean deleted = file.delete();
-            log.info("🗑 파일 삭제됨: {} (성공여부: {})", file.getAbsolutePath(), deleted);
+        meetingDetailSnapshotService.invalidate(meetingId);
+        meetingSearchService.remove(meetingId);
+
+        // 저장소 파일 삭제 시도 (선택) - 중복 업로드로 다른 회의가 공유 중인 파일은 유지
+        if (meetingRepository.existsByFilePathAndIdNot(meeting.getFilePath(), meeting.getId())) {
+            log.info("♻️ 다른 회의가 참조 중인 파일이라 삭제하지 않음: {}", meeting.getFilePath());
+        } else {
+            storageBackend.delete(meeting.getFilePath());
+            audioNormalizationService.discard(meeting.getFilePath());
         }
 
+        // 분할 분석 진행 중이던 조각 파일 정리
+        analysisChunkService.discard(meetingId);
+
         // AI 서버 임베딩 삭제 요청
         try {
             aiClient.requestDeleteEmbeddingSync(userId, meetingId);
@@ -491,6 +493,7 @@ public class MeetingService {
         meetingRepository.findById(meetingId).ifPresent(meeting -> {
             meeting.updateStatusAndSummary(status.name(), summary);
             meetingRepository.save(meeting);
+            meetingDetailSnapshotService.markChanged(meetingId);
             log.warn("### 회의({}) 상태 변경됨 → {}", meetingId, status);
         });
     }
@@ -505,7 +508,8 @@ public class MeetingService {
                 RecordSaveStatus.FAILED
         );
 
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(1);
 
         List<MeetingEntity> recentMeetings = meetingRepository.findRecentIncompleteMeetings(user, excludedStatuses, cutoff);
 
@@ -516,6 +520,8 @@ public class MeetingService {
                                                                                                                         .title(meeting.getTitle())
                                                                                                                         .status(meeting.getStatus())
                                                                                                                         .createdAt(meeting.getCreatedAt())
+                                                                                                                        .audioDurationSeconds(meeting.getAudioDurationMs() != null ? meeting.getAudioDurationMs() / 1000 : null)
+                                                                                                                        .estimatedCompletedAt(analysisEtaEstimator.estimateCompletion(meeting, now))
                                                                                                                         .build())
                               .toList();
 
@@ -524,5 +530,25 @@ public class MeetingService {
                                                                .build();
     }
 
+    /**
+     * 목록에서 이어서 조회할 위치 (마지막으로 내려준 회의의 생성일, id)
+     * 클라이언트가 해석하지 않도록 base64url 로 감싼다.
+     */
+    record ListCursor(LocalDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
+        static ListCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int bar = raw.indexOf('|');
+                return new ListCursor(LocalDateTime.parse(raw.substring(0, bar)), UUID.fromString(raw.substring(bar + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BusinessException(ErrorCode.INVALID_LIST_CURSOR);
+            }
+        }
+    }
 }
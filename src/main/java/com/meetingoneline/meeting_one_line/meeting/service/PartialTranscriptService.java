@@ -0,0 +1,106 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.TranscriptBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 부분 전사 콜백 (분석 진행 중 세그먼트 batch 이어 쓰기)
+ * AI 서버가 STT 진행에 맞춰 보내는 batch 를 sequence 기준으로 한 번씩만 반영해, 분석이 끝나기 전에도 회의 상세에서 전사를 볼 수 있게 한다.
+ * 요약/키워드/피드백은 기존 최종 콜백(/callback)이 붙이며, 최종 콜백에 speakers 가 없으면 여기서 쌓은 전사를 그대로 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartialTranscriptService {
+
+    private final MeetingRepository meetingRepository;
+    private final TranscriptBulkRepository transcriptBulkRepository;
+    private final AnalysisChunkService analysisChunkService;
+    private final MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @Transactional
+    public MeetingResponseDto.AiCallbackResponse append(UUID meetingId, MeetingRequestDto.PartialCallbackRequest request) {
+        // 같은 회의의 batch/최종 콜백을 직렬화 (화자 행 중복 생성 방지)
+        MeetingEntity meeting = meetingRepository.findByIdForUpdate(meetingId)
+                                                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        // 최종 콜백 이후 늦게 도착한 batch 는 완성된 전사를 건드리지 않도록 무시
+        if (meeting.getStatus() == RecordSaveStatus.COMPLETED || meeting.getStatus() == RecordSaveStatus.FAILED) {
+            log.info("⏭️ 분석이 끝난 회의({})의 부분 전사 무시: seq={}", meetingId, request.getSequence());
+            return response("이미 분석이 끝난 회의입니다.");
+        }
+
+        int chunkIndex = request.getChunkIndex() == null ? 0 : request.getChunkIndex();
+        List<MeetingRequestDto.AiCallbackRequest.Speaker> speakers = request.getSpeakers() == null ? List.of() : request.getSpeakers();
+
+        if (!transcriptBulkRepository.claimBatch(meetingId, chunkIndex, request.getSequence(), countSegments(speakers))) {
+            log.info("⏭️ 이미 반영한 부분 전사: meetingId={}, chunk={}, seq={}", meetingId, chunkIndex, request.getSequence());
+            return response("이미 반영된 부분 전사입니다.");
+        }
+
+        // 분할 분석 조각이면 세그먼트 시간을 원본 녹음 기준으로 보정
+        float offset = request.getChunkIndex() == null ? 0f : chunkOffsetSeconds(meetingId, chunkIndex);
+
+        TranscriptBulkRepository.SpeakerWriter writer = transcriptBulkRepository.appendWriter(meetingId);
+        for (MeetingRequestDto.AiCallbackRequest.Speaker speaker : speakers) {
+            writer.speaker(speaker.getSpeakerId());
+            if (speaker.getSegments() == null) {
+                continue;
+            }
+            for (MeetingRequestDto.AiCallbackRequest.Segment seg : speaker.getSegments()) {
+                writer.segment(offset == 0f ? seg : shift(seg, offset));
+            }
+        }
+        int written = writer.finish();
+        // 전사가 바뀌었으므로 이후 최종 콜백은 해시 비교로 생략하지 않음
+        meeting.setResultHash(null);
+        meetingDetailSnapshotService.invalidate(meetingId);
+
+        log.info("📝 회의({}) 부분 전사 반영: chunk={}, seq={}, segments={}", meetingId, chunkIndex, request.getSequence(), written);
+        return response("부분 전사가 저장되었습니다.");
+    }
+
+    private float chunkOffsetSeconds(UUID meetingId, int chunkIndex) {
+        AnalysisChunkEntity chunk = analysisChunkService.findChunk(meetingId, chunkIndex)
+                                                        .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_CHUNK_NOT_FOUND));
+        return chunk.getOffsetMs() / 1000f;
+    }
+
+    private static MeetingRequestDto.AiCallbackRequest.Segment shift(MeetingRequestDto.AiCallbackRequest.Segment seg, float offset) {
+        return MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                          .start(seg.getStart() == null ? null : seg.getStart() + offset)
+                                                          .end(seg.getEnd() == null ? null : seg.getEnd() + offset)
+                                                          .text(seg.getText())
+                                                          .build();
+    }
+
+    private static int countSegments(List<MeetingRequestDto.AiCallbackRequest.Speaker> speakers) {
+        int count = 0;
+        for (MeetingRequestDto.AiCallbackRequest.Speaker speaker : speakers) {
+            if (speaker.getSegments() != null) {
+                count += speaker.getSegments().size();
+            }
+        }
+        return count;
+    }
+
+    private static MeetingResponseDto.AiCallbackResponse response(String message) {
+        return MeetingResponseDto.AiCallbackResponse.builder()
+                                                    .message(message)
+                                                    .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.meeting.repository.SegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * segments.meeting_id 채우기
+ * 시간 구간 조회는 (meeting_id, start_time) 인덱스만 보므로 컬럼 추가 전에 저장된 행은 기동 시 한 번 채운다.
+ * 짧은 트랜잭션으로 batch-size 행씩 나눠 갱신해 운영 중인 쓰기를 오래 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SegmentMeetingBackfill {
+
+    private final SegmentRepository segmentRepository;
+
+    @Value("${transcript.window.backfill-batch-size:5000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        int updated;
+        do {
+            updated = segmentRepository.backfillMeetingIds(batchSize);
+            total += updated;
+        } while (updated >= batchSize);
+
+        if (total > 0) {
+            log.info("🧩 세그먼트 meeting_id 채움: {}건", total);
+        }
+    }
+}
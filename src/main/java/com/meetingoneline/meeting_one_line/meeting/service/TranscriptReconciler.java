@@ -0,0 +1,206 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.feedback.entity.*;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 영속 상태의 회의 결과를 새 내용과 비교해 바뀐 행만 반영 (엔티티 경로)
+ * 컬렉션을 비우고 다시 채우면 orphanRemoval 로 행마다 DELETE + INSERT 가 나가므로, 자연 키로 짝을 맞춰
+ * 없어진 행만 지우고 새 행만 추가하며 값이 달라진 행만 수정한다. (같은 값이면 dirty checking 에 걸리지 않아 UPDATE 도 없음)
+ * 자연 키: 키워드=문자열, 화자=speakerId, 세그먼트=시작 시각, 액션 아이템/후속 질문=orderIndex, 토픽=제목, 후속 카테고리=카테고리명
+ * 압축 전사(transcript.packed.enabled 또는 이미 압축된 화자)는 같은 방식으로 비교한 뒤 바뀌었을 때만 화자 단위로 다시 압축한다.
+ */
+@Component
+public class TranscriptReconciler {
+
+    @Value("${transcript.packed.enabled:false}")
+    private boolean packed;
+
+    @Value("${transcript.packed.compress:true}")
+    private boolean compress;
+
+    /**
+     * 비교할 세그먼트 값 (콜백/수정 요청 공통)
+     */
+    public record SegmentValue(Float start, Float end, String text) {
+    }
+
+    /**
+     * 반영 건수
+     */
+    @Getter
+    public static class Changes {
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        public boolean isEmpty() {
+            return inserted == 0 && updated == 0 && deleted == 0;
+        }
+
+        private void add(Changes other) {
+            inserted += other.inserted;
+            updated += other.updated;
+            deleted += other.deleted;
+        }
+
+        @Override
+        public String toString() {
+            return "inserted=" + inserted + ", updated=" + updated + ", deleted=" + deleted;
+        }
+    }
+
+    public void reconcileKeywords(MeetingEntity meeting, List<String> keywords, Changes changes) {
+        diff(meeting.getKeywords(), keywords, KeywordEntity::getKeyword, Function.identity(),
+                (entity, value) -> false,
+                value -> KeywordEntity.create(meeting, value),
+                changes);
+    }
+
+    /**
+     * 화자 전체 비교 (요청에 없는 화자는 세그먼트와 함께 삭제, 남는 화자의 사용자 지정 이름은 유지)
+     */
+    public void reconcileSpeakers(MeetingEntity meeting, List<MeetingRequestDto.AiCallbackRequest.Speaker> speakers, Changes changes) {
+        diff(meeting.getSpeakers(), speakers, SpeakerEntity::getSpeakerId, MeetingRequestDto.AiCallbackRequest.Speaker::getSpeakerId,
+                (speaker, value) -> {
+                    reconcileSegments(speaker, toSegmentValues(value.getSegments()), changes);
+                    return false;
+                },
+                value -> {
+                    SpeakerEntity speaker = SpeakerEntity.create(meeting, value.getSpeakerId(), null);
+                    reconcileSegments(speaker, toSegmentValues(value.getSegments()), changes);
+                    return speaker;
+                },
+                changes);
+    }
+
+    public void reconcileSegments(SpeakerEntity speaker, List<SegmentValue> segments, Changes changes) {
+        if (packed || speaker.getPackedSegments() != null) {
+            reconcilePacked(speaker, segments, changes);
+            return;
+        }
+        diff(speaker.getSegments(), segments, SegmentEntity::getStartTime, SegmentValue::start,
+                (segment, value) -> segment.update(value.end(), value.text()),
+                value -> SegmentEntity.create(speaker, value.start(), value.end(), value.text()),
+                changes);
+    }
+
+    /**
+     * 압축 전사 비교 (읽기 전용 사본으로 건수만 세고, 바뀌었거나 남은 세그먼트 행이 있으면 다시 압축)
+     */
+    private void reconcilePacked(SpeakerEntity speaker, List<SegmentValue> segments, Changes changes) {
+        Changes speakerChanges = new Changes();
+        diff(speaker.readSegments(), segments, SegmentEntity::getStartTime, SegmentValue::start,
+                (segment, value) -> segment.update(value.end(), value.text()),
+                value -> SegmentEntity.create(speaker, value.start(), value.end(), value.text()),
+                speakerChanges);
+        changes.add(speakerChanges);
+
+        if (speakerChanges.isEmpty() && speaker.getSegments().isEmpty() && speaker.getPackedSegments() != null) {
+            return;
+        }
+
+        PackedTranscript.Builder builder = PackedTranscript.builder(compress);
+        for (SegmentValue value : segments == null ? List.<SegmentValue>of() : segments) {
+            builder.add(value.start(), value.end(), value.text());
+        }
+        speaker.setPackedSegments(builder.build());
+        speaker.setSegmentCount(builder.size());
+        speaker.getSegments().clear();
+    }
+
+    public void reconcileFeedback(FeedbackEntity feedback, MeetingRequestDto.AiCallbackRequest.Feedback dto, Changes changes) {
+        diff(feedback.getActionItems(), dto.getActionItems(), ActionItemEntity::getOrderIndex,
+                MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem::getOrderIndex,
+                (item, value) -> item.update(value.getName(), value.getContent()),
+                value -> ActionItemEntity.create(feedback, value.getName(), value.getContent(), value.getOrderIndex()),
+                changes);
+
+        diff(feedback.getTopics(), dto.getTopics(), TopicEntity::getTitle,
+                MeetingRequestDto.AiCallbackRequest.Feedback.Topic::getTitle,
+                (topic, value) -> topic.update(value.getImportance(), value.getSummary(), value.getProportion()),
+                value -> TopicEntity.create(feedback, value.getTitle(), value.getImportance(), value.getSummary(), value.getProportion()),
+                changes);
+
+        diff(feedback.getFollowUpCategories(), dto.getFollowUpCategories(), FollowUpCategoryEntity::getCategory,
+                MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory::getCategory,
+                (category, value) -> {
+                    reconcileQuestions(category, value.getQuestions(), changes);
+                    return false;
+                },
+                value -> {
+                    FollowUpCategoryEntity category = FollowUpCategoryEntity.create(feedback, value.getCategory());
+                    reconcileQuestions(category, value.getQuestions(), changes);
+                    return category;
+                },
+                changes);
+    }
+
+    public static List<SegmentValue> toSegmentValues(List<MeetingRequestDto.AiCallbackRequest.Segment> segments) {
+        if (segments == null) {
+            return List.of();
+        }
+        return segments.stream()
+                       .map(seg -> new SegmentValue(seg.getStart(), seg.getEnd(), seg.getText()))
+                       .toList();
+    }
+
+    private void reconcileQuestions(FollowUpCategoryEntity category,
+                                    List<MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.Question> questions,
+                                    Changes changes) {
+        diff(category.getQuestions(), questions, FollowUpQuestionEntity::getOrderIndex,
+                MeetingRequestDto.AiCallbackRequest.Feedback.FollowUpCategory.Question::getOrderIndex,
+                (question, value) -> question.update(value.getQuestion()),
+                value -> FollowUpQuestionEntity.create(category, value.getQuestion(), value.getOrderIndex()),
+                changes);
+    }
+
+    /**
+     * 자연 키로 기존 행과 새 값을 짝지음
+     * 같은 키가 여러 번 나오면 순서대로 짝지으며, 짝이 없는 기존 행은 컬렉션에서 빼서 orphanRemoval 로 삭제한다.
+     * @param update 기존 행에 새 값 반영, 실제로 바뀌었으면 true
+     * @param values null 이면 빈 목록으로 본다
+     */
+    private static <E, V, K> void diff(List<E> entities, List<V> values,
+                                       Function<E, K> entityKey, Function<V, K> valueKey,
+                                       BiPredicate<E, V> update, Function<V, E> create,
+                                       Changes changes) {
+        Map<K, Deque<E>> existing = new HashMap<>();
+        for (E entity : entities) {
+            existing.computeIfAbsent(entityKey.apply(entity), k -> new ArrayDeque<>()).add(entity);
+        }
+
+        List<E> added = new ArrayList<>();
+        Set<E> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (V value : values == null ? List.<V>of() : values) {
+            Deque<E> candidates = existing.get(valueKey.apply(value));
+            E entity = candidates == null ? null : candidates.poll();
+            if (entity == null) {
+                added.add(create.apply(value));
+                changes.inserted++;
+            } else {
+                matched.add(entity);
+                if (update.test(entity, value)) {
+                    changes.updated++;
+                }
+            }
+        }
+
+        int before = entities.size();
+        entities.removeIf(entity -> !matched.contains(entity));
+        changes.deleted += before - entities.size();
+        entities.addAll(added);
+    }
+}
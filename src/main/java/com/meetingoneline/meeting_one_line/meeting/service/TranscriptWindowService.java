@@ -0,0 +1,182 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.SegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회의 전사 시간 구간 조회
+ * 긴 회의도 상세 조회처럼 전체 전사를 내려주지 않고, 전 화자의 세그먼트를 시작 시각 순으로 합쳐 limit 개씩 내려준다.
+ * 세그먼트 행은 (meeting_id, start_time) 인덱스로, 압축 전사는 구간이 걸친 블록만 풀어 읽는다.
+ * 압축 전사는 본문(LONGBLOB)을 통째로 읽지 않고 화자마다 색인(세그먼트당 12 byte 남짓)과 걸친 텍스트 블록만 부분 조회한다.
+ * (한 페이지 비용은 화자 수 × 색인 크기 + limit 개가 걸친 블록 수로 제한됨)
+ *
+ * cursor 는 "마지막으로 내려준 시작 시각 + 그 시각에서 이미 내려준 개수" 라서
+ * 같은 시작 시각의 세그먼트가 페이지 경계에 걸려도 빠지거나 중복되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TranscriptWindowService {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+    // cursor 의 skip 상한 (같은 시작 시각 세그먼트가 이보다 많을 일은 없으므로, 넘으면 조작된 cursor 로 보고 거절)
+    static final int MAX_CURSOR_SKIP = MAX_LIMIT * 4;
+
+    // 같은 시작 시각은 세그먼트 행(id 순) → 압축 전사(화자 ID 순)
+    private static final Comparator<MeetingResponseDto.SegmentWindowResponse.SegmentItem> START_ORDER =
+            Comparator.comparing(MeetingResponseDto.SegmentWindowResponse.SegmentItem::getStart);
+
+    private final MeetingRepository meetingRepository;
+    private final SegmentRepository segmentRepository;
+
+    /**
+     * @param from   구간 시작(초, 포함), null 이면 0
+     * @param to     구간 끝(초, 미포함), null 이면 끝까지
+     * @param limit  최대 세그먼트 수 (기본 100, 최대 500)
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     */
+    @Transactional(readOnly = true)
+    public MeetingResponseDto.SegmentWindowResponse getSegments(UUID userId, UUID meetingId,
+                                                                Float from, Float to, Integer limit, String cursor) {
+        MeetingEntity meeting = meetingRepository.findByIdAndDeletedAtIsNull(meetingId)
+                                                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+        if (!meeting.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        float start = from == null ? 0f : from;
+        float end = to == null ? Float.MAX_VALUE : to; // JDBC 로 Infinity 를 넘기지 않도록
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (Float.isNaN(start) || Float.isNaN(end) || start > end || size < 1 || size > MAX_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        int skip = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor position = Cursor.decode(cursor);
+            if (position.start() > start) {
+                start = position.start();
+                skip = position.skip();
+            } else if (position.start() == start) {
+                skip = position.skip();
+            }
+        }
+        if (start >= end) {
+            return MeetingResponseDto.SegmentWindowResponse.builder().segments(List.of()).build();
+        }
+
+        // 각 출처에서 skip + size + 1 개면 합친 결과의 앞부분이 정확하다 (다음 페이지 존재 여부 확인용 +1)
+        int fetch = skip + size + 1;
+        List<MeetingResponseDto.SegmentWindowResponse.SegmentItem> merged = new ArrayList<>(fetch);
+        segmentRepository.findWindow(meetingId, start, end, PageRequest.of(0, fetch))
+                         .forEach(row -> merged.add(item(row.getSpeakerId(), row.getName(),
+                                 row.getStartTime(), row.getEndTime(), row.getText())));
+        List<MeetingResponseDto.SegmentWindowResponse.SegmentItem> packed = new ArrayList<>();
+        for (SegmentRepository.PackedSpeaker speaker : segmentRepository.findPackedSpeakerHeads(meetingId)) {
+            addPacked(packed, speaker, segmentRepository.packedSource(speaker.getId()), start, end, fetch);
+        }
+        packed.sort(Comparator.comparing(MeetingResponseDto.SegmentWindowResponse.SegmentItem::getStart)
+                              .thenComparing(MeetingResponseDto.SegmentWindowResponse.SegmentItem::getSpeakerId));
+        merged.addAll(packed);
+        merged.sort(START_ORDER);
+
+        // 이전 페이지에서 cursor 시작 시각으로 이미 내려준 세그먼트 건너뛰기
+        int offset = 0;
+        while (offset < skip && offset < merged.size() && merged.get(offset).getStart() == start) {
+            offset++;
+        }
+        List<MeetingResponseDto.SegmentWindowResponse.SegmentItem> page =
+                merged.subList(offset, Math.min(merged.size(), offset + size));
+
+        String nextCursor = null;
+        if (merged.size() > offset + size) {
+            float last = page.get(page.size() - 1).getStart();
+            // 마지막 시작 시각이 cursor 시작 시각과 같으면 이번에 건너뛴 개수도 포함
+            int sameStart = last == start ? offset : 0;
+            for (MeetingResponseDto.SegmentWindowResponse.SegmentItem item : page) {
+                if (item.getStart() == last) {
+                    sameStart++;
+                }
+            }
+            nextCursor = new Cursor(last, sameStart).encode();
+        }
+
+        return MeetingResponseDto.SegmentWindowResponse.builder()
+                                                       .segments(List.copyOf(page))
+                                                       .nextCursor(nextCursor)
+                                                       .build();
+    }
+
+    /**
+     * 압축 전사에서 시작 시각이 [from, to) 인 세그먼트를 최대 max 개
+     */
+    private static void addPacked(List<MeetingResponseDto.SegmentWindowResponse.SegmentItem> out,
+                                  SegmentRepository.PackedSpeaker speaker, PackedTranscript.Source source,
+                                  float from, float to, int max) {
+        PackedTranscript transcript = PackedTranscript.open(source);
+        int[] range = transcript.range(from, to);
+        int added = 0;
+        for (int i = range[0]; i < range[1] && added < max; i++) {
+            Float start = transcript.startTime(i);
+            if (start == null || start < from) {
+                continue;
+            }
+            out.add(item(speaker.getSpeakerId(), speaker.getName(), start, transcript.endTime(i), transcript.text(i)));
+            added++;
+        }
+    }
+
+    private static MeetingResponseDto.SegmentWindowResponse.SegmentItem item(String speakerId, String name,
+                                                                             Float start, Float end, String text) {
+        return MeetingResponseDto.SegmentWindowResponse.SegmentItem.builder()
+                                                                   .speakerId(speakerId)
+                                                                   .name(name)
+                                                                   .start(start)
+                                                                   .end(end)
+                                                                   .text(text)
+                                                                   .build();
+    }
+
+    /**
+     * 이어서 조회할 위치 (시작 시각, 그 시각에서 이미 내려준 개수)
+     * 클라이언트가 해석하지 않도록 base64url 로 감싼다.
+     */
+    record Cursor(float start, int skip) {
+
+        String encode() {
+            String raw = Integer.toHexString(Float.floatToIntBits(start)) + "." + skip;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int dot = raw.indexOf('.');
+                float start = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, dot), 16));
+                int skip = Integer.parseInt(raw.substring(dot + 1));
+                if (Float.isNaN(start) || skip < 0 || skip > MAX_CURSOR_SKIP) {
+                    throw new IllegalArgumentException(raw);
+                }
+                return new Cursor(start, skip);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BusinessException(ErrorCode.INVALID_SEGMENT_CURSOR);
+            }
+        }
+    }
+}
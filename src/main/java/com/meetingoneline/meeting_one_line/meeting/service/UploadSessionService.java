@@ -0,0 +1,368 @@
+package com.meetingoneline.meeting_one_line.meeting.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.UploadSessionEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.UploadSessionRepository;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import com.meetingoneline.meeting_one_line.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이어받기 가능한 청크 업로드
+ * 1. 세션 생성 → 2. Content-Range 단위로 PUT → 3. 완료 시 회의 생성 및 분석 요청
+ *
+ * 청크 1개는 저장소 멀티파트 업로드의 파트 1개에 대응하며,
+ * 본문은 multipart 임시 파일을 거치지 않고 요청 스트림에서 저장소로 바로 전송한다.
+ *
+ * 중복 판별용 SHA-256 은 청크를 받는 동안 순서대로 누적한다. (세션별 누적 상태는 노드 메모리에만 보관)
+ * 재시작이나 다른 노드 경유로 누적이 끊긴 세션만 완료 시 병합된 파일을 한 번 다시 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+)$");
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UserRepository userRepository;
+    private final MeetingRegistrationService meetingRegistrationService;
+    private final MeetingDeduplicationService meetingDeduplicationService;
+    private final AudioMetadataService audioMetadataService;
+    private final StorageBackend storageBackend;
+
+    @Value("${spring.servlet.multipart.max-file-size:1GB}")
+    private DataSize maxFileSize;
+
+    @Value("${file.upload-session.ttl-hours:24}")
+    private long sessionTtlHours;
+
+    // 세션별 누적 해시 (이 노드가 0 번째 바이트부터 빠짐없이 받은 구간까지)
+    private final Cache<UUID, RunningDigest> runningDigests = Caffeine.newBuilder()
+                                                                      .expireAfterAccess(Duration.ofDays(1))
+                                                                      .maximumSize(10_000)
+                                                                      .build();
+
+    /**
+     * 업로드 세션 생성
+     */
+    @Transactional
+    public MeetingResponseDto.UploadSessionResponse createSession(UUID userId,
+                                                                  MeetingRequestDto.CreateUploadSessionRequest request,
+                                                                  LocalDateTime date) {
+        UserEntity user = userRepository.findById(userId)
+                                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        if (request.getFileName() == null || request.getFileName().isBlank()
+                || request.getTotalSize() == null || request.getTotalSize() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+        if (request.getTotalSize() > maxFileSize.toBytes()) {
+            throw new BusinessException(ErrorCode.UPLOAD_TOO_LARGE);
+        }
+
+        AnalysisPriority priority = AnalysisPriority.from(request.getPriority());
+
+        // 경로 조작 방지: 디렉토리 부분은 버리고 파일명만 사용
+        String originalFilename = Paths.get(request.getFileName()).getFileName().toString();
+
+        String storageKey = userId + "/" + UUID.randomUUID() + "_" + originalFilename;
+        String contentType = MediaTypeFactory.getMediaType(originalFilename)
+                                             .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                                             .toString();
+        String storageUploadId = storageBackend.createMultipartUpload(storageKey, contentType);
+
+        UploadSessionEntity session = uploadSessionRepository.save(
+                UploadSessionEntity.create(user, request.getTitle(), date, originalFilename, storageKey, storageUploadId,
+                        request.getTotalSize(), priority)
+        );
+
+        log.info("📦 청크 업로드 세션 생성: uploadId={}, totalSize={}", session.getId(), session.getTotalSize());
+        return MeetingResponseDto.UploadSessionResponse.from(session);
+    }
+
+    /**
+     * 세션 상태 조회 (재개 시 receivedBytes 부터 이어서 전송)
+     */
+    @Transactional(readOnly = true)
+    public MeetingResponseDto.UploadSessionResponse getSession(UUID userId, UUID uploadId) {
+        return MeetingResponseDto.UploadSessionResponse.from(getOwnedSession(userId, uploadId));
+    }
+
+    /**
+     * 청크 append
+     * 트랜잭션 밖에서 저장소에 파트로 쓰고, 쓰기가 끝난 뒤 오프셋만 CAS 방식으로 갱신한다.
+     * 같은 오프셋으로 재시도하면 같은 파트 번호로 덮어쓴다.
+     */
+    public MeetingResponseDto.UploadSessionResponse appendChunk(UUID userId, UUID uploadId, String contentRange, InputStream body) {
+        UploadSessionEntity session = getOwnedSession(userId, uploadId);
+
+        if (session.getStatus() != UploadSessionStatus.IN_PROGRESS) {
+            throw new BusinessException(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+
+        long[] range = parseContentRange(contentRange);
+        long start = range[0];
+        long length = range[1] - range[0] + 1;
+
+        if (range[2] != session.getTotalSize() || range[1] >= session.getTotalSize()) {
+            throw new BusinessException(ErrorCode.INVALID_CONTENT_RANGE);
+        }
+        if (start != session.getReceivedBytes()) {
+            throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+        }
+
+        boolean lastChunk = range[1] + 1 == session.getTotalSize();
+        if (!lastChunk && length < storageBackend.minPartSize()) {
+            throw new BusinessException(ErrorCode.UPLOAD_CHUNK_TOO_SMALL);
+        }
+
+        RunningDigest running = start == 0
+                ? runningDigests.get(uploadId, id -> new RunningDigest())
+                : runningDigests.getIfPresent(uploadId);
+        if (running == null) {
+            writePart(session, start, body, length);
+        } else {
+            synchronized (running) { // 같은 세션의 청크는 이 노드에서 한 번에 하나씩
+                if (running.offset > start) {
+                    throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH); // 이미 받은 구간
+                }
+                if (running.offset < start) {
+                    runningDigests.invalidate(uploadId); // 중간 청크를 다른 노드가 받음 → 완료 시 다시 읽기
+                    writePart(session, start, body, length);
+                } else {
+                    HashingInputStream hashing = new HashingInputStream(body, running.copy());
+                    writePart(session, start, hashing, length);
+                    if (hashing.count == length) {
+                        running.offset = start + length;
+                        running.digest = hashing.digest;
+                    } else {
+                        runningDigests.invalidate(uploadId);
+                    }
+                }
+            }
+        }
+
+        return MeetingResponseDto.UploadSessionResponse.builder()
+                                                       .uploadId(uploadId)
+                                                       .status(UploadSessionStatus.IN_PROGRESS)
+                                                       .receivedBytes(start + length)
+                                                       .totalSize(session.getTotalSize())
+                                                       .build();
+    }
+
+    /**
+     * 업로드 완료 → 회의 생성 및 AI 분석 요청 outbox 등록
+     * 이미 완료된 세션이면 같은 회의를 그대로 반환 (재시도 안전)
+     */
+    public MeetingResponseDto.CreateResponse complete(UUID userId, UUID uploadId) {
+        // 파트 병합, 중복 판별용 해시, 헤더 해석은 트랜잭션 밖에서 수행 (해시는 청크 수신 중 누적한 값, 누적이 끊긴 경우만 한 번의 스트리밍 읽기)
+        UploadSessionEntity session = getOwnedSession(userId, uploadId);
+        String contentHash = null;
+        AudioMetadata audio = AudioMetadata.UNKNOWN;
+        if (session.getStatus() == UploadSessionStatus.IN_PROGRESS && session.isFullyReceived()) {
+            storageBackend.completeMultipartUpload(session.getFilePath(), session.getStorageUploadId(), session.getPartCount());
+            contentHash = runningHash(uploadId, session.getTotalSize());
+            if (contentHash == null) {
+                contentHash = meetingDeduplicationService.sha256(session.getFilePath());
+            }
+            audio = audioMetadataService.probe(session.getFilePath(), session.getTotalSize(), null);
+        }
+
+        MeetingRegistrationService.Registration registration =
+                meetingRegistrationService.registerFromUploadSession(userId, uploadId, contentHash, audio);
+        runningDigests.invalidate(uploadId);
+        MeetingEntity meeting = registration.meeting();
+
+        if (!registration.created()) {
+            return MeetingResponseDto.CreateResponse.builder()
+                                                   .meetingId(meeting.getId())
+                                                   .status(meeting.getStatus())
+                                                   .message("이미 완료된 업로드입니다.")
+                                                   .build();
+        }
+
+        return MeetingResponseDto.CreateResponse.builder()
+                                               .meetingId(meeting.getId())
+                                               .status(RecordSaveStatus.UPLOADED)
+                                               .message("파일 업로드 완료 및 분석 요청 전송됨")
+                                               .build();
+    }
+
+    /**
+     * 방치된 세션과 부분 파일 정리
+     * 1. 짧은 트랜잭션으로 만료 대상을 EXPIRED 로 표시 (커밋)
+     * 2. 트랜잭션 밖에서 저장소 멀티파트 업로드를 취소하고 행 삭제
+     * 저장소 정리가 실패한 세션은 EXPIRED 로 남아 다음 실행에서 다시 시도한다.
+     */
+    @Scheduled(cron = "${file.upload-session.cleanup-cron:0 0 * * * *}")
+    public void cleanupExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(sessionTtlHours);
+        uploadSessionRepository.markExpired(UploadSessionStatus.IN_PROGRESS, UploadSessionStatus.EXPIRED, cutoff);
+
+        for (UploadSessionEntity session : uploadSessionRepository.findByStatus(UploadSessionStatus.EXPIRED)) {
+            try {
+                storageBackend.abortMultipartUpload(session.getFilePath(), session.getStorageUploadId());
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 만료된 업로드 세션 저장소 정리 실패 (다음 실행에서 재시도): uploadId={}", session.getId(), e);
+                continue;
+            }
+            uploadSessionRepository.deleteById(session.getId());
+            runningDigests.invalidate(session.getId());
+            log.info("🗑 만료된 업로드 세션 정리: uploadId={}", session.getId());
+        }
+    }
+
+    /**
+     * 저장소에 파트로 쓰고 오프셋 전진 (CAS 에 지면 UPLOAD_OFFSET_MISMATCH)
+     */
+    private void writePart(UploadSessionEntity session, long start, InputStream body, long length) {
+        storageBackend.uploadPart(session.getFilePath(), session.getStorageUploadId(),
+                session.getPartCount() + 1, start, body, length);
+
+        int updated = uploadSessionRepository.advanceOffset(
+                session.getId(), start, start + length, UploadSessionStatus.IN_PROGRESS, LocalDateTime.now()
+        );
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+        }
+    }
+
+    /**
+     * 전체 길이까지 누적된 해시 (누적이 끊긴 세션이면 null)
+     */
+    private String runningHash(UUID uploadId, long totalSize) {
+        RunningDigest running = runningDigests.getIfPresent(uploadId);
+        if (running == null) {
+            return null;
+        }
+        synchronized (running) {
+            return running.offset == totalSize ? MeetingDeduplicationService.toHex(running.copy()) : null;
+        }
+    }
+
+    private UploadSessionEntity getOwnedSession(UUID userId, UUID uploadId) {
+        UploadSessionEntity session = uploadSessionRepository.findById(uploadId)
+                                                             .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (!session.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return session;
+    }
+
+    /**
+     * "bytes {start}-{end}/{total}" → [start, end, total]
+     */
+    private long[] parseContentRange(String contentRange) {
+        if (contentRange == null) {
+            throw new BusinessException(ErrorCode.INVALID_CONTENT_RANGE);
+        }
+        Matcher matcher = CONTENT_RANGE.matcher(contentRange.trim());
+        if (!matcher.matches()) {
+            throw new BusinessException(ErrorCode.INVALID_CONTENT_RANGE);
+        }
+
+        try {
+            long start = Long.parseLong(matcher.group(1));
+            long end = Long.parseLong(matcher.group(2));
+            long total = Long.parseLong(matcher.group(3));
+            if (end < start) {
+                throw new BusinessException(ErrorCode.INVALID_CONTENT_RANGE);
+            }
+            return new long[]{start, end, total};
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_CONTENT_RANGE);
+        }
+    }
+
+    /**
+     * 세션의 누적 해시 상태 (offset 까지 반영됨)
+     */
+    private static final class RunningDigest {
+        private long offset;
+        private MessageDigest digest = MeetingDeduplicationService.newDigest();
+
+        MessageDigest copy() {
+            try {
+                return (MessageDigest) digest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException("SHA-256 digest not cloneable", e);
+            }
+        }
+    }
+
+    /**
+     * 저장소로 넘어가는 바이트를 해시에 반영하면서 센다.
+     * 저장소가 청크 길이만큼 정확히 읽었을 때만 누적 해시를 갱신한다.
+     */
+    private static final class HashingInputStream extends FilterInputStream {
+        private final MessageDigest digest;
+        private long count;
+
+        HashingInputStream(InputStream in, MessageDigest digest) {
+            super(in);
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                digest.update((byte) b);
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                digest.update(b, off, n);
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            return 0; // 건너뛴 바이트는 해시에 반영되지 않으므로 건너뛰지 않음
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AudioHeaderParserTest {
+
+    @Test
+    @DisplayName("WAV: fmt 청크와 data 크기로 길이 계산 (중간 LIST 청크는 건너뜀)")
+    void parse_wav() throws IOException {
+        byte[] wav = wav(16000, 1, 16, 64000, 64000);
+
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(wav));
+
+        assertThat(metadata).isEqualTo(new AudioMetadata("wav", 2000L, 16000, 1));
+    }
+
+    @Test
+    @DisplayName("WAV: 녹음 중 잘린 파일처럼 data 크기가 0xFFFFFFFF 면 파일 끝까지로 계산")
+    void parse_wav_unknownDataSize() throws IOException {
+        byte[] wav = wav(48000, 2, 16, 0xFFFFFFFFL, 192000);
+
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(wav));
+
+        assertThat(metadata.durationMs()).isEqualTo(1000L);
+        assertThat(metadata.channels()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("MP3(CBR): ID3v2 태그 뒤 첫 프레임의 비트레이트로 길이 계산")
+    void parse_mp3_cbr() throws IOException {
+        // MPEG1 Layer III, 128kbps, 44100Hz, stereo → 프레임 417 바이트
+        byte[] frame = new byte[417];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB;
+        frame[2] = (byte) 0x90;
+        frame[3] = (byte) 0x00;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[]{'I', 'D', '3', 3, 0, 0, 0, 0, 0, 100});
+        out.write(new byte[100]);
+        for (int i = 0; i < 300; i++) {
+            out.write(frame);
+        }
+
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(out.toByteArray()));
+
+        assertThat(metadata).isEqualTo(new AudioMetadata("mp3", 300L * 417 * 8 / 128, 44100, 2));
+    }
+
+    @Test
+    @DisplayName("MP3(VBR): Xing 헤더의 총 프레임 수로 길이 계산")
+    void parse_mp3_xing() throws IOException {
+        // MPEG1 Layer III, 128kbps, 44100Hz, mono → Xing 헤더는 4 + 17 바이트 뒤
+        byte[] frame = new byte[417];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB;
+        frame[2] = (byte) 0x90;
+        frame[3] = (byte) 0xC0;
+        ByteBuffer xing = ByteBuffer.wrap(frame, 21, 12);
+        xing.put("Xing".getBytes(StandardCharsets.US_ASCII)).putInt(0x1).putInt(1000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(frame);
+        frame[21] = 0; // 두 번째 프레임은 일반 프레임
+        out.write(frame);
+
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(out.toByteArray()));
+
+        assertThat(metadata).isEqualTo(new AudioMetadata("mp3", 1000L * 1152 * 1000 / 44100, 44100, 1));
+    }
+
+    @Test
+    @DisplayName("MP4: moov 가 파일 끝에 있어도 박스 헤더만 따라가 mvhd/stsd 를 읽음")
+    void parse_mp4_moovAtEnd() throws IOException {
+        byte[] mvhd = ByteBuffer.allocate(100).putInt(0).putInt(0).putInt(0).putInt(1000).putInt(61000).array();
+        byte[] hdlr = ByteBuffer.allocate(25).putInt(0).putInt(0).put("soun".getBytes(StandardCharsets.US_ASCII)).array();
+        byte[] stsd = ByteBuffer.allocate(44)
+                                .putInt(0).putInt(1)
+                                .putInt(36).put("mp4a".getBytes(StandardCharsets.US_ASCII))
+                                .put(new byte[6]).putShort((short) 1).put(new byte[8])
+                                .putShort((short) 2).putShort((short) 16).putShort((short) 0).putShort((short) 0)
+                                .putInt(48000 << 16)
+                                .array();
+
+        byte[] moov = box("moov",
+                box("mvhd", mvhd),
+                box("trak", box("mdia",
+                        box("hdlr", hdlr),
+                        box("minf", box("stbl", box("stsd", stsd))))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(box("ftyp", "M4A \0\0\0\0".getBytes(StandardCharsets.US_ASCII)));
+        out.write(box("mdat", new byte[1024 * 1024]));
+        out.write(moov);
+        byte[] file = out.toByteArray();
+
+        AtomicLong bytesRead = new AtomicLong();
+        AudioHeaderParser.Source source = AudioHeaderParser.Source.of(file);
+        AudioHeaderParser.Source counting = new AudioHeaderParser.Source() {
+            @Override
+            public long size() {
+                return source.size();
+            }
+
+            @Override
+            public byte[] read(long offset, int length) throws IOException {
+                byte[] bytes = source.read(offset, length);
+                bytesRead.addAndGet(bytes.length);
+                return bytes;
+            }
+        };
+
+        AudioMetadata metadata = AudioHeaderParser.parse(counting);
+
+        assertThat(metadata).isEqualTo(new AudioMetadata("mp4", 61000L, 48000, 2));
+        assertThat(bytesRead.get()).isLessThan(4096);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 UNKNOWN")
+    void parse_unknown() throws IOException {
+        byte[] bytes = "OggS not supported yet".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(AudioHeaderParser.parse(AudioHeaderParser.Source.of(bytes))).isEqualTo(AudioMetadata.UNKNOWN);
+    }
+
+    private static byte[] wav(int sampleRate, int channels, int bitsPerSample, long declaredDataSize, int actualDataSize) {
+        int blockAlign = channels * bitsPerSample / 8;
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 24 + 8 + 4 + 8 + actualDataSize).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(0).put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        buffer.put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+              .putShort((short) 1).putShort((short) channels).putInt(sampleRate)
+              .putInt(sampleRate * blockAlign).putShort((short) blockAlign).putShort((short) bitsPerSample);
+        // 홀수 크기 청크 + 패딩 바이트
+        buffer.put("LIST".getBytes(StandardCharsets.US_ASCII)).putInt(3).put(new byte[4]);
+        buffer.put("data".getBytes(StandardCharsets.US_ASCII)).putInt((int) declaredDataSize);
+        return buffer.array();
+    }
+
+    private static byte[] box(String type, byte[]... children) {
+        int size = 8;
+        for (byte[] child : children) {
+            size += child.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size).putInt(size).put(type.getBytes(StandardCharsets.US_ASCII));
+        for (byte[] child : children) {
+            buffer.put(child);
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,111 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PcmNormalizerTest {
+
+    @Test
+    @DisplayName("48kHz 스테레오 → 16kHz 모노, 길이와 음량 유지")
+    void normalize_downmixAndResample() throws IOException {
+        byte[] wav = sineWav(48000, 2, 440, false);
+
+        byte[] out = normalize(wav);
+
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(out));
+        assertThat(metadata).isEqualTo(new AudioMetadata("wav", 1000L, 16000, 1));
+        assertThat(rms(out)).isCloseTo(0.5 / Math.sqrt(2), within(0.01));
+    }
+
+    @Test
+    @DisplayName("44.1kHz 처럼 정수배가 아닌 샘플레이트도 변환")
+    void normalize_fractionalRatio() throws IOException {
+        byte[] out = normalize(sineWav(44100, 1, 1000, false));
+
+        assertThat(AudioHeaderParser.parse(AudioHeaderParser.Source.of(out)).durationMs()).isEqualTo(1000L);
+        assertThat(rms(out)).isCloseTo(0.5 / Math.sqrt(2), within(0.01));
+    }
+
+    @Test
+    @DisplayName("새 나이퀴스트(8kHz)를 넘는 성분은 걸러져 aliasing 되지 않음")
+    void normalize_antiAliasing() throws IOException {
+        byte[] out = normalize(sineWav(48000, 1, 12000, false));
+
+        assertThat(rms(out)).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("다운믹스는 채널 평균 (위상이 반대인 두 채널은 상쇄)")
+    void normalize_downmixAverages() throws IOException {
+        byte[] out = normalize(sineWav(16000, 2, 440, true));
+
+        assertThat(rms(out)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 16kHz 모노 16bit 면 변환 대상이 아님")
+    void needsConversion() throws IOException {
+        AudioHeaderParser.WavLayout mono = AudioHeaderParser.wavLayout(AudioHeaderParser.Source.of(sineWav(16000, 1, 440, false)));
+        AudioHeaderParser.WavLayout stereo = AudioHeaderParser.wavLayout(AudioHeaderParser.Source.of(sineWav(16000, 2, 440, false)));
+
+        assertThat(PcmNormalizer.needsConversion(mono, 16000)).isFalse();
+        assertThat(PcmNormalizer.needsConversion(stereo, 16000)).isTrue();
+    }
+
+    private static byte[] normalize(byte[] wav) throws IOException {
+        AudioHeaderParser.WavLayout layout = AudioHeaderParser.wavLayout(AudioHeaderParser.Source.of(wav));
+        try (InputStream in = PcmNormalizer.normalize(
+                new ByteArrayInputStream(wav, (int) layout.dataOffset(), (int) layout.dataSize()), layout, 16000)) {
+            byte[] out = in.readAllBytes();
+            assertThat((long) out.length).isEqualTo(PcmNormalizer.outputLength(layout, 16000));
+            return out;
+        }
+    }
+
+    /**
+     * 필터 가장자리 영향을 피하려고 앞뒤 100 샘플을 뺀 RMS
+     */
+    private static double rms(byte[] wav) {
+        ByteBuffer buf = ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+        double sum = 0;
+        int count = 0;
+        for (int i = 44 + 200; i + 2 <= wav.length - 200; i += 2) {
+            double v = buf.getShort(i) / 32768.0;
+            sum += v * v;
+            count++;
+        }
+        return Math.sqrt(sum / count);
+    }
+
+    /**
+     * 1초 길이, 진폭 0.5 사인파 16bit PCM
+     */
+    private static byte[] sineWav(int sampleRate, int channels, double frequency, boolean invertRight) {
+        int dataSize = sampleRate * channels * 2;
+        ByteBuffer buf = ByteBuffer.allocate(44 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataSize)
+           .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+           .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+           .putShort((short) 1).putShort((short) channels).putInt(sampleRate).putInt(sampleRate * channels * 2)
+           .putShort((short) (channels * 2)).putShort((short) 16)
+           .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataSize);
+
+        for (int i = 0; i < sampleRate; i++) {
+            double v = 0.5 * Math.sin(2 * Math.PI * frequency * i / sampleRate);
+            buf.putShort((short) Math.round(v * 32767));
+            if (channels == 2) {
+                buf.putShort((short) Math.round((invertRight ? -v : v) * 32767));
+            }
+        }
+        return buf.array();
+    }
+}
@@ -0,0 +1,103 @@
+package com.meetingoneline.meeting_one_line.global.audio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WavSplitterTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final int BYTES_PER_MS = SAMPLE_RATE * 2 / 1000;
+
+    @Test
+    @DisplayName("목표 지점 주변의 무음 구간에서 자르고, 조각 구간은 빈틈없이 이어짐")
+    void plan_cutsAtSilence() throws IOException {
+        // 25초 녹음, 10.2~10.3초 / 20.6~20.7초 무음
+        byte[] wav = wav(25_000, new long[][]{{10_200, 10_300}, {20_600, 20_700}});
+        AudioHeaderParser.Source source = AudioHeaderParser.Source.of(wav);
+        AudioHeaderParser.WavLayout layout = AudioHeaderParser.wavLayout(source);
+
+        List<WavSplitter.Piece> pieces = WavSplitter.plan(source, layout, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        assertThat(pieces).hasSize(3);
+        assertThat(pieces.get(1).offsetMs()).isBetween(10_200L, 10_300L);
+        assertThat(pieces.get(2).offsetMs()).isBetween(20_600L, 20_700L);
+
+        long expectedStart = layout.dataOffset();
+        for (WavSplitter.Piece piece : pieces) {
+            assertThat(piece.dataStart()).isEqualTo(expectedStart);
+            assertThat(piece.dataLength() % layout.blockAlign()).isZero();
+            expectedStart += piece.dataLength();
+        }
+        assertThat(expectedStart).isEqualTo(layout.dataOffset() + layout.dataSize());
+    }
+
+    @Test
+    @DisplayName("마지막 조각이 너무 짧아지면 앞 조각에 붙임")
+    void plan_mergesShortTail() throws IOException {
+        byte[] wav = wav(11_000, new long[0][]);
+        AudioHeaderParser.Source source = AudioHeaderParser.Source.of(wav);
+
+        List<WavSplitter.Piece> pieces = WavSplitter.plan(source, AudioHeaderParser.wavLayout(source),
+                Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        assertThat(pieces).hasSize(1);
+        assertThat(pieces.get(0).durationMs()).isEqualTo(11_000L);
+    }
+
+    @Test
+    @DisplayName("조각 헤더 + 원본 구간은 그 자체로 올바른 WAV")
+    void header_producesPlayableChunk() throws IOException {
+        byte[] wav = wav(25_000, new long[][]{{10_200, 10_300}});
+        AudioHeaderParser.Source source = AudioHeaderParser.Source.of(wav);
+        AudioHeaderParser.WavLayout layout = AudioHeaderParser.wavLayout(source);
+        WavSplitter.Piece piece = WavSplitter.plan(source, layout, Duration.ofSeconds(10), Duration.ofSeconds(1)).get(1);
+
+        byte[] header = WavSplitter.header(layout, piece.dataLength());
+        byte[] chunk = Arrays.copyOf(header, (int) (header.length + piece.dataLength()));
+        System.arraycopy(wav, (int) piece.dataStart(), chunk, header.length, (int) piece.dataLength());
+
+        assertThat(header).hasSize((int) WavSplitter.headerLength());
+        AudioMetadata metadata = AudioHeaderParser.parse(AudioHeaderParser.Source.of(chunk));
+        assertThat(metadata.durationMs()).isEqualTo(piece.durationMs());
+        assertThat(metadata.sampleRate()).isEqualTo(SAMPLE_RATE);
+        assertThat(metadata.channels()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("압축 WAV(ADPCM 등)는 분할 대상이 아님")
+    void isSplittable_pcmOnly() {
+        assertThat(WavSplitter.isSplittable(new AudioHeaderParser.WavLayout(1, 1, 16000, 32000, 2, 16, 44, 32000))).isTrue();
+        assertThat(WavSplitter.isSplittable(new AudioHeaderParser.WavLayout(0x11, 1, 16000, 8000, 256, 4, 60, 8000))).isFalse();
+    }
+
+    /**
+     * 16kHz mono 16bit PCM, silent 구간 외에는 0 이 아닌 잡음
+     */
+    private static byte[] wav(long durationMs, long[][] silent) {
+        int dataSize = (int) (durationMs * BYTES_PER_MS);
+        ByteBuffer buf = ByteBuffer.allocate(44 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataSize)
+           .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+           .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+           .putShort((short) 1).putShort((short) 1).putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+           .putShort((short) 2).putShort((short) 16)
+           .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataSize);
+
+        for (int i = 0; i < dataSize / 2; i++) {
+            long ms = i * 1000L / SAMPLE_RATE;
+            boolean quiet = Arrays.stream(silent).anyMatch(range -> ms >= range[0] && ms < range[1]);
+            buf.putShort(quiet ? 0 : (short) (2000 + (i * 7919) % 8000));
+        }
+        return buf.array();
+    }
+}
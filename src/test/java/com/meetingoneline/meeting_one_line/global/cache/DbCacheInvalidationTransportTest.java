@@ -0,0 +1,121 @@
+package com.meetingoneline.meeting_one_line.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DbCacheInvalidationTransportTest {
+
+    private final CacheInvalidationRepository repository = mock(CacheInvalidationRepository.class);
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findMaxId()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("기동 전 로그는 건너뛰고 이후 행을 id 순으로 한 번씩 전달")
+    void poll_deliversNewRowsOnce() {
+        DbCacheInvalidationTransport transport = transport(Duration.ofSeconds(60));
+        transport.poll();
+        verify(repository, never()).findAfter(anyLong(), any());
+
+        when(repository.findAfter(eq(10L), any())).thenReturn(List.of(row(11, "a"), row(12, "b")));
+        transport.poll();
+        when(repository.findAfter(eq(12L), any())).thenReturn(List.of());
+        transport.poll();
+
+        assertThat(received).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("빈 번호는 grace 동안 다시 읽어 늦게 커밋된 행도 전달하고, 이미 전달한 행은 다시 전달하지 않음")
+    void poll_waitsForGap() {
+        DbCacheInvalidationTransport transport = transport(Duration.ofSeconds(60));
+        transport.poll();
+
+        // 12 는 아직 커밋되지 않은 트랜잭션
+        when(repository.findAfter(eq(10L), any())).thenReturn(List.of(row(11, "a"), row(13, "c")));
+        transport.poll();
+        when(repository.findAfterExcluding(eq(11L), eq(List.of(13L)), any())).thenReturn(List.of(row(12, "b")));
+        transport.poll();
+        transport.poll();
+
+        assertThat(received).containsExactly("a", "c", "b");
+        assertThat(ReflectionTestUtils.getField(transport, "floor")).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("grace 가 지나면 채워지지 않는 번호(롤백)는 건너뜀")
+    void poll_skipsGapAfterGrace() {
+        DbCacheInvalidationTransport transport = transport(Duration.ZERO);
+        transport.poll();
+
+        when(repository.findAfter(eq(10L), any())).thenReturn(List.of(row(11, "a"), row(13, "c")));
+        transport.poll();
+
+        assertThat(received).containsExactly("a", "c");
+        assertThat(ReflectionTestUtils.getField(transport, "floor")).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("한 번에 batch-size 보다 많이 쌓였으면 끝까지 이어 읽음")
+    void poll_readsAllPages() {
+        DbCacheInvalidationTransport transport = transport(Duration.ofSeconds(60), 2);
+        transport.poll();
+
+        when(repository.findAfter(eq(10L), any())).thenReturn(List.of(row(11, "a"), row(12, "b")));
+        when(repository.findAfter(eq(12L), any())).thenReturn(List.of(row(13, "c")));
+        transport.poll();
+
+        assertThat(received).containsExactly("a", "b", "c");
+        assertThat(ReflectionTestUtils.getField(transport, "floor")).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("빈 번호 너머가 이미 전달한 행으로 batch-size 만큼 차 있어도 새 행을 전달")
+    void poll_excludesDeliveredBeyondGap() {
+        DbCacheInvalidationTransport transport = transport(Duration.ofSeconds(60), 2);
+        transport.poll();
+
+        // 11 은 오래 걸리는 트랜잭션, 12/13 은 먼저 커밋
+        when(repository.findAfter(eq(10L), any())).thenReturn(List.of(row(12, "b"), row(13, "c")));
+        transport.poll();
+
+        when(repository.findAfterExcluding(eq(10L), eq(List.of(12L, 13L)), any())).thenReturn(List.of(row(14, "d")));
+        transport.poll();
+
+        when(repository.findAfterExcluding(eq(10L), eq(List.of(12L, 13L, 14L)), any())).thenReturn(List.of(row(11, "a")));
+        transport.poll();
+
+        assertThat(received).containsExactly("b", "c", "d", "a");
+        assertThat(ReflectionTestUtils.getField(transport, "floor")).isEqualTo(14L);
+    }
+
+    private DbCacheInvalidationTransport transport(Duration grace) {
+        return transport(grace, 100);
+    }
+
+    private DbCacheInvalidationTransport transport(Duration grace, int batchSize) {
+        DbCacheInvalidationTransport transport = new DbCacheInvalidationTransport(repository, batchSize, grace, Duration.ofHours(24));
+        transport.subscribe(event -> received.add(event.key()));
+        return transport;
+    }
+
+    private static CacheInvalidationEntity row(long id, String key) {
+        CacheInvalidationEntity entity = CacheInvalidationEntity.from(
+                new CacheInvalidation(CacheInvalidationBus.MEETING, key, "node", System.currentTimeMillis()));
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
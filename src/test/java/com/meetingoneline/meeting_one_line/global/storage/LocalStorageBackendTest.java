@@ -0,0 +1,70 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalStorageBackendTest extends StorageBackendContractTest {
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalStorageBackend(root);
+    }
+
+    @Override
+    protected StorageBackend storage() {
+        return storage;
+    }
+
+    @Test
+    @DisplayName("저장소 root 밖을 가리키는 key 는 거부")
+    void rejectsTraversal() {
+        assertThatThrownBy(() -> storage.put("../escape.wav", new ByteArrayInputStream(new byte[1]), 1, "audio/wav"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("root 밖의 절대 경로 key 는 거부하고 root 하위 절대 경로는 허용")
+    void rejectsAbsoluteOutsideRoot() {
+        Path outside = root.getParent().resolve("outside.wav").toAbsolutePath();
+
+        assertThatThrownBy(() -> storage.get(outside.toString()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.INVALID_FILE);
+
+        storage.put("u/a.wav", new ByteArrayInputStream(new byte[1]), 1, "audio/wav");
+        assertThat(storage.stat(root.resolve("u/a.wav").toAbsolutePath().toString())).isPresent();
+    }
+
+    @Test
+    @DisplayName("중간에 .. 을 섞어 root 밖으로 나가는 key 는 거부")
+    void rejectsNestedTraversal() {
+        assertThatThrownBy(() -> storage.delete("u/../../escape.wav"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.INVALID_FILE);
+    }
+
+    @Test
+    @DisplayName("로컬 저장소는 sendfile 용 로컬 경로를 제공")
+    void localPath() {
+        storage.put("u/a.wav", new ByteArrayInputStream(new byte[1]), 1, "audio/wav");
+
+        assertThat(storage.localPath("u/a.wav")).contains(root.resolve("u/a.wav"));
+        assertThat(storage.localPath("u/missing.wav")).isEmpty();
+    }
+}
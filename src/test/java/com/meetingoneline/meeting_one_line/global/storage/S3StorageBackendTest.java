@@ -0,0 +1,40 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 로컬 MinIO 대상 S3 구현 검증
+ * docker compose --profile s3 up -d 후 STORAGE_S3_TEST_ENDPOINT=http://localhost:9000 로 실행
+ */
+@EnabledIfEnvironmentVariable(named = "STORAGE_S3_TEST_ENDPOINT", matches = ".+")
+class S3StorageBackendTest extends StorageBackendContractTest {
+
+    private static StorageBackend storage;
+
+    @BeforeAll
+    static void setUp() {
+        storage = new StorageConfig().s3StorageBackend(
+                System.getenv("STORAGE_S3_TEST_ENDPOINT"),
+                "ap-northeast-2",
+                System.getenv().getOrDefault("STORAGE_S3_TEST_BUCKET", "meeting-one-line"),
+                System.getenv().getOrDefault("STORAGE_S3_TEST_ACCESS_KEY", "minioadmin"),
+                System.getenv().getOrDefault("STORAGE_S3_TEST_SECRET_KEY", "minioadmin"),
+                true,
+                5
+        );
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (storage instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    protected StorageBackend storage() {
+        return storage;
+    }
+}
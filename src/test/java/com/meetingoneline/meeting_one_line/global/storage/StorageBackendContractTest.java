@@ -0,0 +1,100 @@
+package com.meetingoneline.meeting_one_line.global.storage;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 저장소 구현 공통 동작 검증 (구현체별 하위 클래스에서 실행)
+ */
+abstract class StorageBackendContractTest {
+
+    protected abstract StorageBackend storage();
+
+    private String newKey() {
+        return "test/" + UUID.randomUUID() + "_audio.wav";
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+
+    private void put(String key, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.US_ASCII);
+        storage().put(key, new ByteArrayInputStream(bytes), bytes.length, "audio/wav");
+    }
+
+    @Test
+    @DisplayName("저장 후 전체 / 구간 읽기")
+    void putAndGet() throws IOException {
+        String key = newKey();
+        put(key, "0123456789");
+
+        assertThat(read(storage().get(key))).isEqualTo("0123456789");
+        assertThat(read(storage().getRange(key, 3, 6))).isEqualTo("3456");
+        assertThat(storage().stat(key)).get().extracting(StoredObject::size).isEqualTo(10L);
+
+        storage().delete(key);
+    }
+
+    @Test
+    @DisplayName("삭제 후에는 존재하지 않음")
+    void delete() {
+        String key = newKey();
+        put(key, "data");
+
+        storage().delete(key);
+
+        assertThat(storage().exists(key)).isFalse();
+        assertThatThrownBy(() -> storage().get(key))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ErrorCode.STORAGE_OBJECT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드: 재전송된 파트는 덮어쓰고 완료 시 하나의 객체로 합쳐짐")
+    void multipartUpload() throws IOException {
+        String key = newKey();
+        int partSize = (int) Math.max(storage().minPartSize(), 4);
+        byte[] first = new byte[partSize];
+        Arrays.fill(first, (byte) 'a');
+        byte[] second = "tail".getBytes(StandardCharsets.US_ASCII);
+
+        String uploadId = storage().createMultipartUpload(key, "audio/wav");
+        storage().uploadPart(key, uploadId, 1, 0, new ByteArrayInputStream(new byte[partSize]), partSize);
+        storage().uploadPart(key, uploadId, 1, 0, new ByteArrayInputStream(first), partSize);
+        storage().uploadPart(key, uploadId, 2, partSize, new ByteArrayInputStream(second), second.length);
+        storage().completeMultipartUpload(key, uploadId, 2);
+
+        assertThat(read(storage().get(key))).isEqualTo("a".repeat(partSize) + "tail");
+
+        // 완료 요청 재시도는 성공으로 처리
+        storage().completeMultipartUpload(key, uploadId, 2);
+
+        storage().delete(key);
+    }
+
+    @Test
+    @DisplayName("중단된 멀티파트 업로드는 객체를 남기지 않음")
+    void abortMultipartUpload() {
+        String key = newKey();
+        String uploadId = storage().createMultipartUpload(key, "audio/wav");
+        storage().uploadPart(key, uploadId, 1, 0, new ByteArrayInputStream(new byte[4]), 4);
+
+        storage().abortMultipartUpload(key, uploadId);
+
+        assertThat(storage().exists(key)).isFalse();
+    }
+}
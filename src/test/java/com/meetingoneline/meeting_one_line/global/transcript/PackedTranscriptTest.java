@@ -0,0 +1,116 @@
+package com.meetingoneline.meeting_one_line.global.transcript;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PackedTranscriptTest {
+
+    @Test
+    @DisplayName("입력 순서와 관계없이 시작 시각 순으로 저장되고 시각/텍스트가 그대로 복원됨")
+    void roundTrip_sortedByStart() {
+        byte[] packed = PackedTranscript.builder(true)
+                                        .add(3.0f, 4.0f, "셋째")
+                                        .add(0.0f, 1.5f, "첫째")
+                                        .add(1.5f, 2.0f, "")
+                                        .add(null, null, null)
+                                        .build();
+
+        PackedTranscript transcript = PackedTranscript.open(packed);
+
+        assertThat(transcript.size()).isEqualTo(4);
+        assertThat(transcript.startTime(0)).isEqualTo(0.0f);
+        assertThat(transcript.text(0)).isEqualTo("첫째");
+        assertThat(transcript.text(1)).isEmpty();
+        assertThat(transcript.endTime(2)).isEqualTo(4.0f);
+        assertThat(transcript.text(2)).isEqualTo("셋째");
+        assertThat(transcript.startTime(3)).isNull();
+    }
+
+    @Test
+    @DisplayName("압축하면 반복되는 텍스트가 많은 전사의 크기가 줄어듦")
+    void compress_smallerThanRaw() {
+        PackedTranscript.Builder raw = PackedTranscript.builder(false);
+        PackedTranscript.Builder deflated = PackedTranscript.builder(true);
+        for (int i = 0; i < 1000; i++) {
+            raw.add(i * 2f, i * 2f + 1.5f, "안건 " + i + "에 대해 논의하겠습니다");
+            deflated.add(i * 2f, i * 2f + 1.5f, "안건 " + i + "에 대해 논의하겠습니다");
+        }
+
+        byte[] rawBytes = raw.build();
+        byte[] deflatedBytes = deflated.build();
+
+        assertThat(deflatedBytes.length).isLessThan(rawBytes.length / 2);
+        assertThat(PackedTranscript.open(deflatedBytes).text(999)).isEqualTo("안건 999에 대해 논의하겠습니다");
+    }
+
+    @Test
+    @DisplayName("시간 구간 조회는 구간이 걸친 텍스트 블록만 풂")
+    void range_inflatesOnlyCoveredBlocks() {
+        PackedTranscript.Builder builder = PackedTranscript.builder(true);
+        for (int i = 0; i < PackedTranscript.BLOCK_SEGMENTS * 10; i++) {
+            builder.add(i * 2f, i * 2f + 1.5f, "발화 " + i);
+        }
+        PackedTranscript transcript = PackedTranscript.open(builder.build());
+
+        // 발화 100 (200.0~201.5) 중간부터 발화 104 시작 전까지
+        int[] range = transcript.range(201.0f, 208.0f);
+        for (int i = range[0]; i < range[1]; i++) {
+            transcript.text(i);
+        }
+
+        assertThat(range).containsExactly(100, 104);
+        assertThat(transcript.inflatedBlocks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Source 로 열면 색인과 구간이 걸친 텍스트 블록만 읽음")
+    void openSource_readsIndexAndCoveredBlocks() {
+        PackedTranscript.Builder builder = PackedTranscript.builder(true);
+        for (int i = 0; i < PackedTranscript.BLOCK_SEGMENTS * 10; i++) {
+            builder.add(i * 2f, i * 2f + 1.5f, "발화 " + i + " 내용입니다");
+        }
+        byte[] packed = builder.build();
+        AtomicInteger bytesRead = new AtomicInteger();
+        PackedTranscript transcript = PackedTranscript.open((offset, length) -> {
+            byte[] part = Arrays.copyOfRange(packed, offset, Math.min(packed.length, offset + length));
+            bytesRead.addAndGet(part.length);
+            return part;
+        });
+
+        int[] range = transcript.range(201.0f, 208.0f);
+        List<String> texts = new ArrayList<>();
+        for (int i = range[0]; i < range[1]; i++) {
+            texts.add(transcript.text(i));
+        }
+
+        assertThat(texts).containsExactly("발화 100 내용입니다", "발화 101 내용입니다", "발화 102 내용입니다", "발화 103 내용입니다");
+        assertThat(transcript.inflatedBlocks()).isEqualTo(1);
+        assertThat(bytesRead.get()).isLessThan(packed.length / 2);
+    }
+
+    @Test
+    @DisplayName("앞의 긴 세그먼트가 구간까지 이어지면 범위에 포함")
+    void range_includesLongEarlierSegment() {
+        PackedTranscript transcript = PackedTranscript.open(PackedTranscript.builder(false)
+                                                                            .add(0.0f, 100.0f, "긴 발화")
+                                                                            .add(10.0f, 11.0f, "짧은 발화")
+                                                                            .add(50.0f, 51.0f, "구간 밖")
+                                                                            .build());
+
+        assertThat(transcript.range(20.0f, 30.0f)).containsExactly(0, 2);
+    }
+
+    @Test
+    @DisplayName("형식이 다른 데이터는 거절")
+    void open_rejectsUnknownFormat() {
+        assertThatThrownBy(() -> PackedTranscript.open(new byte[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.meetingoneline.meeting_one_line.global.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PartialContentWriterTest {
+
+    private static final String ETAG = "\"abc\"";
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = tempDir.resolve("audio.wav");
+        Files.writeString(file, "0123456789", StandardCharsets.US_ASCII);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        PartialContentWriter.write(request, response, file, 10, "audio/wav", ETAG, LAST_MODIFIED);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Range 없으면 전체 파일 200")
+    void fullContent() throws IOException {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/audio"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청 시 해당 구간만 206")
+    void partialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("로컬 파일 본문은 요청 구간만 스트림으로 읽음")
+    void localFileBody_open() throws IOException {
+        try (InputStream in = PartialContentWriter.Body.of(file).open(2, 5)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("2345");
+        }
+    }
+
+    @Test
+    @DisplayName("suffix Range 는 마지막 n 바이트")
+    void suffixRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 는 416")
+    void unsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("ETag 일치 시 본문 없이 304")
+    void notModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range 가 다른 버전이면 Range 무시하고 전체 전송")
+    void ifRangeMismatch() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("If-Range 가 약한 ETag 이면 같은 값이어도 전체 전송")
+    void ifRangeWeakEtag() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 시 본문 대신 요청 속성으로 구간 전달")
+    void sendfile() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/audio");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,190 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisChunkStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisChunkRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisChunkService;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisEtaEstimator;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisOutboxService;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisResultWriter;
+import com.meetingoneline.meeting_one_line.meeting.service.AudioMetadataService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisChunkServiceTest {
+
+    @Mock
+    private AnalysisChunkRepository analysisChunkRepository;
+
+    @Mock
+    private AnalysisOutboxService analysisOutboxService;
+
+    @Mock
+    private AnalysisEtaEstimator analysisEtaEstimator;
+
+    @Mock
+    private AnalysisResultWriter analysisResultWriter;
+
+    @Mock
+    private AudioMetadataService audioMetadataService;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private AnalysisChunkService analysisChunkService;
+
+    private MeetingEntity meeting;
+    private List<AnalysisChunkEntity> chunks;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+        UUID meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+
+        chunks = List.of(
+                AnalysisChunkEntity.create(meetingId, 0, 2, "u/a.wav.chunk-0.wav", 0, 600_000),
+                AnalysisChunkEntity.create(meetingId, 1, 2, "u/a.wav.chunk-1.wav", 600_000, 200_000)
+        );
+        when(analysisChunkRepository.findByMeetingIdForUpdate(meetingId)).thenReturn(chunks);
+    }
+
+    @Test
+    @DisplayName("모든 조각이 도착하기 전에는 결과를 반영하지 않음")
+    void processChunkCallback_waitsForAllChunks() {
+        analysisChunkService.processChunkCallback(meeting, callback(0, "앞부분", "A", 1.0f, 30));
+
+        assertThat(chunks.get(0).getStatus()).isEqualTo(AnalysisChunkStatus.COMPLETED);
+        verify(analysisResultWriter, never()).apply(any(), any());
+        verify(analysisChunkRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("마지막 조각 도착 시 시간 오프셋을 적용해 병합하고 조각 정리")
+    void processChunkCallback_mergesWithOffsets() {
+        analysisChunkService.processChunkCallback(meeting, callback(1, "뒷부분", "A", 5.0f, 100));
+        analysisChunkService.processChunkCallback(meeting, callback(0, "앞부분", "A", 1.0f, 100));
+
+        ArgumentCaptor<MeetingRequestDto.AiCallbackRequest> merged = ArgumentCaptor.forClass(MeetingRequestDto.AiCallbackRequest.class);
+        verify(analysisResultWriter).apply(eq(meeting), merged.capture());
+
+        MeetingRequestDto.AiCallbackRequest result = merged.getValue();
+        assertThat(result.getStatus()).isEqualTo("completed");
+        assertThat(result.getSummary()).isEqualTo("앞부분\n\n뒷부분");
+        assertThat(result.getKeywords()).containsExactly("키워드0", "공통", "키워드1");
+        assertThat(result.getSpeakers()).hasSize(1);
+        assertThat(result.getSpeakers().get(0).getSegments())
+                .extracting(MeetingRequestDto.AiCallbackRequest.Segment::getStart)
+                .containsExactly(1.0f, 605.0f);
+        assertThat(result.getFeedback().getActionItems())
+                .extracting(MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem::getOrderIndex)
+                .containsExactly(1, 2);
+        // 토픽 비중은 조각 길이(600초 / 200초) 비율로 환산
+        assertThat(result.getFeedback().getTopics())
+                .extracting(MeetingRequestDto.AiCallbackRequest.Feedback.Topic::getProportion)
+                .containsExactly(75, 25);
+        verify(analysisChunkRepository).deleteAll(chunks);
+        verify(storageBackend).delete("u/a.wav.chunk-0.wav");
+        verify(storageBackend).delete("u/a.wav.chunk-1.wav");
+    }
+
+    @Test
+    @DisplayName("조각 하나라도 실패하면 회의를 FAILED 로 종료")
+    void processChunkCallback_failure() {
+        MeetingRequestDto.AiCallbackRequest failed = MeetingRequestDto.AiCallbackRequest.builder()
+                                                                                        .status("failed")
+                                                                                        .chunkIndex(1)
+                                                                                        .build();
+
+        analysisChunkService.processChunkCallback(meeting, failed);
+
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.FAILED);
+        verify(analysisResultWriter, never()).apply(any(), any());
+        verify(analysisChunkRepository).deleteAll(chunks);
+    }
+
+    @Test
+    @DisplayName("병합이 끝난 회의의 늦은 조각 콜백은 오류 없이 무시")
+    void processChunkCallback_afterMerge_ignored() {
+        meeting.updateStatusAndSummary(RecordSaveStatus.COMPLETED.name(), "병합된 요약");
+        when(analysisChunkRepository.findByMeetingIdForUpdate(meeting.getId())).thenReturn(List.of());
+
+        MeetingResponseDto.AiCallbackResponse response =
+                analysisChunkService.processChunkCallback(meeting, callback(1, "뒷부분", "A", 5.0f, 100));
+
+        assertThat(response.getMessage()).isEqualTo("이미 종료된 분석입니다.");
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
+        assertThat(meeting.getSummary()).isEqualTo("병합된 요약");
+        verify(analysisResultWriter, never()).apply(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 받은 조각의 재전송은 저장된 결과를 바꾸지 않음")
+    void processChunkCallback_duplicate_ignored() {
+        analysisChunkService.processChunkCallback(meeting, callback(0, "앞부분", "A", 1.0f, 30));
+        String stored = chunks.get(0).getResult();
+
+        MeetingResponseDto.AiCallbackResponse response =
+                analysisChunkService.processChunkCallback(meeting, callback(0, "다른 내용", "A", 1.0f, 30));
+
+        assertThat(response.getMessage()).isEqualTo("이미 저장된 조각입니다.");
+        assertThat(chunks.get(0).getResult()).isEqualTo(stored);
+        verify(analysisResultWriter, never()).apply(any(), any());
+    }
+
+    private static MeetingRequestDto.AiCallbackRequest callback(int chunkIndex, String summary, String speakerId,
+                                                                float start, int proportion) {
+        return MeetingRequestDto.AiCallbackRequest.builder()
+                .status("completed")
+                .chunkIndex(chunkIndex)
+                .summary(summary)
+                .keywords(List.of("키워드" + chunkIndex, "공통"))
+                .speakers(List.of(MeetingRequestDto.AiCallbackRequest.Speaker.builder()
+                        .speakerId(speakerId)
+                        .segments(List.of(MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                .start(start).end(start + 2).text("발화 " + chunkIndex)
+                                .build()))
+                        .build()))
+                .feedback(MeetingRequestDto.AiCallbackRequest.Feedback.builder()
+                        .actionItems(List.of(MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem.builder()
+                                .name("담당" + chunkIndex).content("할 일").orderIndex(1).build()))
+                        .topics(List.of(MeetingRequestDto.AiCallbackRequest.Feedback.Topic.builder()
+                                .title("주제" + chunkIndex).importance("high").summary("요약").proportion(proportion).build()))
+                        .followUpCategories(List.of())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.client.AiClient;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisChunkService;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisDispatcher;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisJobScheduler;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisOutboxService;
+import com.meetingoneline.meeting_one_line.meeting.service.AudioNormalizationService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDeduplicationService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisDispatcherTest {
+
+    @Mock
+    private AnalysisOutboxService analysisOutboxService;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingDeduplicationService meetingDeduplicationService;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private AiClient aiClient;
+
+    @Mock
+    private AnalysisChunkService analysisChunkService;
+
+    @Mock
+    private AudioNormalizationService audioNormalizationService;
+
+    @Spy
+    private AnalysisJobScheduler analysisJobScheduler = new AnalysisJobScheduler(new SimpleMeterRegistry(), 2, 10);
+
+    @InjectMocks
+    private AnalysisDispatcher analysisDispatcher;
+
+    private UUID userId;
+    private UUID meetingId;
+    private AnalysisOutboxService.ClaimedJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(analysisDispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(analysisDispatcher, "claimPerUser", 2);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        MeetingEntity meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), userId + "/a.wav");
+        meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+
+        job = new AnalysisOutboxService.ClaimedJob(UUID.randomUUID(), meetingId, userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), null, 1);
+        when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
+        when(storageBackend.locate(anyString())).thenAnswer(invocation -> "/data/" + invocation.getArgument(0));
+        when(analysisOutboxService.claim(anyInt(), anyInt())).thenReturn(List.of(job));
+        when(audioNormalizationService.prepareForAnalysis(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("AI 서버가 접수하면 outbox 전달 완료 처리")
+    void drain_success() {
+        when(aiClient.requestAnalysis(userId, meetingId, "/data/" + userId + "/a.wav", "회의 제목", null)).thenReturn(Mono.empty());
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markDelivered(job);
+        verify(analysisOutboxService, never()).markFailed(any(), any());
+        verify(analysisOutboxService, never()).markSkipped(any());
+    }
+
+    @Test
+    @DisplayName("AI 서버 요청 실패 시 outbox 실패 기록 (재시도 예약)")
+    void drain_failure() {
+        RuntimeException error = new RuntimeException("AI 서버 오류");
+        when(aiClient.requestAnalysis(any(), any(), any(), any(), any())).thenReturn(Mono.error(error));
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markFailed(job, error);
+        verify(analysisOutboxService, never()).markDelivered(any());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 분석 완료 회의가 있으면 AI 분석 요청 없이 결과 복제")
+    void drain_duplicate_skipsAnalysis() {
+        when(meetingDeduplicationService.reuseExisting(meetingId))
+                .thenReturn(new MeetingDeduplicationService.Reuse(
+                        userId + "/a.wav",
+                        userId + "/original.wav",
+                        new MeetingDeduplicationService.ClonedAnalysis("회의 제목", "요약", List.of("키워드"), List.of())
+                ));
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markSkipped(job);
+        verify(analysisOutboxService, never()).markDelivered(any());
+        verify(meetingDeduplicationService).deleteIfUnreferenced(userId + "/a.wav");
+        verify(aiClient).requestUpsertSync(userId, meetingId, "회의 제목", "요약", List.of("키워드"), List.of());
+        verify(aiClient, never()).requestAnalysis(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("분석 전인 중복 회의면 기존 파일로 분석 요청")
+    void drain_duplicate_sharesFile() {
+        when(meetingDeduplicationService.reuseExisting(meetingId))
+                .thenReturn(new MeetingDeduplicationService.Reuse(userId + "/a.wav", userId + "/original.wav", null));
+        when(aiClient.requestAnalysis(any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markDelivered(job);
+        verify(aiClient).requestAnalysis(userId, meetingId, "/data/" + userId + "/original.wav", "회의 제목", null);
+    }
+
+    @Test
+    @DisplayName("스케줄러 여유가 없으면 outbox 를 점유하지 않음")
+    void drain_noCapacity() {
+        doReturn(0).when(analysisJobScheduler).freeCapacity();
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, never()).claim(anyInt(), anyInt());
+        verify(analysisJobScheduler, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("긴 녹음이 조각으로 나뉘면 원본 전체 분석 요청은 보내지 않음")
+    void drain_split_skipsWholeFile() {
+        when(analysisChunkService.splitIfEligible(job, meetingRepository.findById(meetingId).orElseThrow(), userId + "/a.wav"))
+                .thenReturn(true);
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markSkipped(job);
+        verify(analysisOutboxService, never()).markDelivered(any());
+        verify(aiClient, never()).requestAnalysis(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조각 요청은 조각 파일과 조각 정보로 분석 요청")
+    void drain_chunk_requestsChunkFile() {
+        AnalysisOutboxService.ClaimedJob chunkJob = new AnalysisOutboxService.ClaimedJob(
+                UUID.randomUUID(), meetingId, userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), 1, 1);
+        when(analysisOutboxService.claim(anyInt(), anyInt())).thenReturn(List.of(chunkJob));
+        when(analysisChunkService.findChunk(meetingId, 1)).thenReturn(Optional.of(
+                AnalysisChunkEntity.create(meetingId, 1, 3, userId + "/a.wav.chunk-1.wav", 600_000, 600_000)));
+        when(aiClient.requestAnalysis(any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markDelivered(chunkJob);
+        verify(aiClient).requestAnalysis(userId, meetingId, "/data/" + userId + "/a.wav.chunk-1.wav", "회의 제목",
+                new AiClient.ChunkInfo(1, 3, 600.0));
+        verify(meetingDeduplicationService, never()).reuseExisting(any());
+    }
+
+    @Test
+    @DisplayName("정규화 사본이 만들어지면 사본으로 분석 요청")
+    void drain_normalized_requestsCompactFile() {
+        when(audioNormalizationService.prepareForAnalysis(any(), eq(userId + "/a.wav"))).thenReturn(userId + "/a.wav.normalized.wav");
+        when(aiClient.requestAnalysis(any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        analysisDispatcher.drain();
+
+        verify(analysisOutboxService, timeout(1000)).markDelivered(job);
+        verify(aiClient).requestAnalysis(userId, meetingId, "/data/" + userId + "/a.wav.normalized.wav", "회의 제목", null);
+    }
+}
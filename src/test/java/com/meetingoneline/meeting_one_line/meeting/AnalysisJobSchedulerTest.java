@@ -0,0 +1,129 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisJobScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnalysisJobSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnalysisJobScheduler scheduler;
+
+    // 시작된 작업 순서와 완료 트리거
+    private final List<String> started = new ArrayList<>();
+    private final List<Sinks.Empty<Void>> running = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new AnalysisJobScheduler(meterRegistry, 1, 10);
+    }
+
+    private Supplier<Mono<Void>> task(String name) {
+        return () -> {
+            started.add(name);
+            Sinks.Empty<Void> sink = Sinks.empty();
+            running.add(sink);
+            return sink.asMono();
+        };
+    }
+
+    private void completeOldest() {
+        running.remove(0).tryEmitEmpty();
+    }
+
+    @Test
+    @DisplayName("한 사용자가 먼저 여러 건을 넣어도 앞선 요청 소요만큼 밀려 다른 사용자 요청이 먼저 실행됨")
+    void submit_fairAcrossUsers() {
+        UUID heavy = UUID.randomUUID();
+        UUID light = UUID.randomUUID();
+
+        for (int i = 1; i <= 3; i++) {
+            scheduler.submit(heavy, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("heavy-" + i));
+        }
+        scheduler.submit(light, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("light-1"));
+
+        completeOldest();
+        completeOldest();
+        completeOldest();
+
+        assertThat(started).containsExactly("heavy-1", "light-1", "heavy-2", "heavy-3");
+    }
+
+    @Test
+    @DisplayName("사용자가 달라도 예상 소요가 짧은 요청부터 (전체 대기열 기준)")
+    void submit_shortestExpectedFirstAcrossUsers() {
+        scheduler.submit(UUID.randomUUID(), AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("running"));
+        scheduler.submit(UUID.randomUUID(), AnalysisPriority.NORMAL, Duration.ofHours(3), task("workshop"));
+        scheduler.submit(UUID.randomUUID(), AnalysisPriority.NORMAL, Duration.ofMinutes(5), task("standup"));
+
+        completeOldest();
+        completeOldest();
+
+        assertThat(started).containsExactly("running", "standup", "workshop");
+    }
+
+    @Test
+    @DisplayName("같은 사용자 대기열은 우선순위가 높은 요청부터")
+    void submit_priorityWithinUser() {
+        UUID userId = UUID.randomUUID();
+
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("running"));
+        scheduler.submit(userId, AnalysisPriority.LOW, Duration.ofMinutes(1), task("low"));
+        scheduler.submit(userId, AnalysisPriority.HIGH, Duration.ofMinutes(1), task("high"));
+
+        completeOldest();
+
+        assertThat(started).containsExactly("running", "high");
+    }
+
+    @Test
+    @DisplayName("같은 사용자 대기열은 예상 소요가 짧은 요청부터")
+    void submit_shortestExpectedFirst() {
+        UUID userId = UUID.randomUUID();
+
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("running"));
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofHours(3), task("workshop"));
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofMinutes(5), task("standup"));
+
+        completeOldest();
+        completeOldest();
+
+        assertThat(started).containsExactly("running", "standup", "workshop");
+    }
+
+    @Test
+    @DisplayName("동시 실행 상한을 넘지 않고, 여유 용량과 메트릭이 반영됨")
+    void submit_respectsConcurrencyLimit() {
+        UUID userId = UUID.randomUUID();
+
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("a"));
+        scheduler.submit(userId, AnalysisPriority.NORMAL, Duration.ofMinutes(1), task("b"));
+
+        assertThat(started).containsExactly("a");
+        assertThat(scheduler.snapshot()).isEqualTo(new AnalysisJobScheduler.Snapshot(1, 1, 1));
+        assertThat(scheduler.freeCapacity()).isEqualTo(9);
+        assertThat(meterRegistry.get("ai.analysis.queue.depth").gauge().value()).isEqualTo(1.0);
+
+        completeOldest();
+        running.remove(0).tryEmitError(new RuntimeException("down"));
+
+        assertThat(scheduler.snapshot()).isEqualTo(new AnalysisJobScheduler.Snapshot(0, 0, 0));
+        assertThat(meterRegistry.get("ai.analysis.request").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.analysis.request").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.analysis.queue.wait").timer().count()).isEqualTo(2);
+    }
+}
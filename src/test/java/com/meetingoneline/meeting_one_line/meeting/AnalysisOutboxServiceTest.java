@@ -0,0 +1,172 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisOutboxEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisChunkRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.AnalysisOutboxRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisOutboxService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisOutboxServiceTest {
+
+    @Mock
+    private AnalysisOutboxRepository analysisOutboxRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private AnalysisChunkRepository analysisChunkRepository;
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private AnalysisOutboxService analysisOutboxService;
+
+    private AnalysisOutboxEntity row;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(analysisOutboxService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(analysisOutboxService, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(analysisOutboxService, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(analysisOutboxService, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(analysisOutboxService, "maxActive", 4);
+        ReflectionTestUtils.setField(analysisOutboxService, "callbackTimeoutSeconds", 600L);
+
+        row = AnalysisOutboxEntity.create(UUID.randomUUID(), UUID.randomUUID(), AnalysisPriority.NORMAL, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(row, "id", UUID.randomUUID());
+        when(analysisOutboxRepository.findById(row.getId())).thenReturn(Optional.of(row));
+    }
+
+    private AnalysisOutboxService.ClaimedJob claim() {
+        row.claim(LocalDateTime.now().plusMinutes(5));
+        return new AnalysisOutboxService.ClaimedJob(row.getId(), row.getMeetingId(), row.getUserId(), row.getPriority(),
+                Duration.ofSeconds(row.getExpectedCostSeconds()), row.getChunkIndex(), row.getAttempts());
+    }
+
+    @Test
+    @DisplayName("재시도 한도 전 실패는 PENDING 으로 되돌리고 백오프 후 재시도")
+    void markFailed_retry() {
+        LocalDateTime before = LocalDateTime.now();
+
+        analysisOutboxService.markFailed(claim(), new RuntimeException("down"));
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(row.getAvailableAt()).isBetween(before, before.plusSeconds(2));
+        assertThat(row.getLastError()).contains("down");
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 시 DEAD")
+    void markFailed_dead() {
+        analysisOutboxService.markFailed(claim(), new RuntimeException("down"));
+        analysisOutboxService.markFailed(claim(), new RuntimeException("down"));
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        verify(meetingRepository).findById(row.getMeetingId());
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 다른 노드가 다시 점유한 경우 이전 시도의 결과는 무시")
+    void markDelivered_staleClaim() {
+        AnalysisOutboxService.ClaimedJob stale = claim();
+        claim();
+
+        analysisOutboxService.markDelivered(stale);
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 접수하면 콜백이 올 때까지(예상 소요 + 대기 시간) 슬롯 점유")
+    void markDelivered_awaitsCallback() {
+        LocalDateTime before = LocalDateTime.now();
+
+        analysisOutboxService.markDelivered(claim());
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.AWAITING_CALLBACK);
+        assertThat(row.getAvailableAt()).isAfterOrEqualTo(before.plusMinutes(1).plusSeconds(600));
+    }
+
+    @Test
+    @DisplayName("보낼 요청이 없었으면 콜백을 기다리지 않고 완료")
+    void markSkipped_done() {
+        analysisOutboxService.markSkipped(claim());
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("콜백 도착 시 전체 분석은 chunkIndex -1 로 슬롯 반환")
+    void releaseCallbackWait() {
+        UUID meetingId = UUID.randomUUID();
+
+        analysisOutboxService.releaseCallbackWait(meetingId, null);
+        analysisOutboxService.releaseCallbackWait(meetingId, 2);
+
+        verify(analysisOutboxRepository).releaseCallbackWait(meetingId, -1);
+        verify(analysisOutboxRepository).releaseCallbackWait(meetingId, 2);
+    }
+
+    @Test
+    @DisplayName("클러스터 전체 진행 중 분석이 상한이면 점유하지 않고, 남은 만큼만 점유")
+    void claim_clusterLimit() {
+        when(analysisOutboxRepository.countActive(any())).thenReturn(4L);
+
+        assertThat(analysisOutboxService.claim(10, 2)).isEmpty();
+        verify(analysisOutboxRepository, never()).findClaimCandidates(any(), anyInt(), anyInt());
+
+        when(analysisOutboxRepository.countActive(any())).thenReturn(3L);
+
+        analysisOutboxService.claim(10, 2);
+
+        verify(analysisOutboxRepository).findClaimCandidates(any(), eq(2), eq(1));
+    }
+
+    @Test
+    @DisplayName("점유는 사용자와 관계없이 후보 순서(짧은 작업 우선)대로, 잠긴 행은 건너뜀")
+    void claim_candidateOrder() {
+        UUID heavyUser = UUID.randomUUID();
+        UUID lightUser = UUID.randomUUID();
+        AnalysisOutboxEntity heavy = AnalysisOutboxEntity.create(UUID.randomUUID(), heavyUser, AnalysisPriority.NORMAL, Duration.ofHours(2));
+        AnalysisOutboxEntity light = AnalysisOutboxEntity.create(UUID.randomUUID(), lightUser, AnalysisPriority.NORMAL, Duration.ofMinutes(1));
+        AnalysisOutboxEntity lockedElsewhere = AnalysisOutboxEntity.create(UUID.randomUUID(), lightUser, AnalysisPriority.NORMAL, Duration.ofMinutes(5));
+        for (AnalysisOutboxEntity r : List.of(heavy, light, lockedElsewhere)) {
+            ReflectionTestUtils.setField(r, "id", UUID.randomUUID());
+        }
+        List<String> candidates = List.of(light.getId().toString(), lockedElsewhere.getId().toString(), heavy.getId().toString());
+
+        when(analysisOutboxRepository.findClaimCandidates(any(), eq(2), eq(3))).thenReturn(candidates);
+        when(analysisOutboxRepository.lockCandidates(eq(candidates), any())).thenReturn(List.of(heavy, light));
+
+        List<AnalysisOutboxService.ClaimedJob> jobs = analysisOutboxService.claim(3, 2);
+
+        assertThat(jobs).extracting(AnalysisOutboxService.ClaimedJob::userId)
+                        .containsExactly(lightUser, heavyUser);
+        assertThat(List.of(heavy, light)).allMatch(r -> r.getStatus() == OutboxStatus.IN_FLIGHT);
+        assertThat(lockedElsewhere.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verify(meetingRepository).markProcessing(eq(List.of(light.getMeetingId(), heavy.getMeetingId())), any());
+    }
+}
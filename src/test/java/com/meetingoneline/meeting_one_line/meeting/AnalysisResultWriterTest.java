@@ -0,0 +1,140 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.feedback.repository.FeedbackRepository;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.TranscriptBulkRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisResultWriter;
+import com.meetingoneline.meeting_one_line.meeting.service.TranscriptReconciler;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.hibernate.collection.spi.PersistentBag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisResultWriterTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private TranscriptBulkRepository transcriptBulkRepository;
+
+    @Mock
+    private TranscriptBulkRepository.DiffWriter diffWriter;
+
+    @Spy
+    private TranscriptReconciler transcriptReconciler = new TranscriptReconciler();
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private AnalysisResultWriter analysisResultWriter;
+
+    private MeetingEntity meeting;
+    private MeetingRequestDto.AiCallbackRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+        ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+
+        request = MeetingRequestDto.AiCallbackRequest.builder()
+                                                     .status("completed")
+                                                     .summary("요약")
+                                                     .keywords(List.of("AI"))
+                                                     .speakers(List.of(MeetingRequestDto.AiCallbackRequest.Speaker.builder()
+                                                             .speakerId("S1")
+                                                             .segments(List.of(MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                                     .start(0.0f).end(1.0f).text("안녕하세요").build()))
+                                                             .build()))
+                                                     .build();
+        when(transcriptBulkRepository.diffWriter(any())).thenReturn(diffWriter);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 회의는 화자/세그먼트/키워드를 JDBC 로 비교 반영")
+    void apply_bulkReplace() {
+        // findById 로 읽은 직후처럼 컬렉션이 아직 로딩되지 않은 상태
+        ReflectionTestUtils.setField(meeting, "speakers", new PersistentBag<>());
+        ReflectionTestUtils.setField(meeting, "keywords", new PersistentBag<>());
+
+        analysisResultWriter.apply(meeting, request);
+
+        verify(transcriptBulkRepository).reconcileKeywords(meeting.getId(), request.getKeywords());
+        verify(diffWriter).speaker("S1");
+        verify(diffWriter).segment(any());
+        verify(diffWriter).finish();
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
+        assertThat(meeting.getResultHash()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("컬렉션이 이미 로딩돼 있으면 엔티티 경로로 비교 반영")
+    void apply_entityPath() {
+        analysisResultWriter.apply(meeting, request);
+
+        verify(transcriptBulkRepository, never()).diffWriter(any());
+        verify(meetingDetailSnapshotService).markChanged(meeting.getId());
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
+        assertThat(meeting.getKeywords()).hasSize(1);
+        assertThat(meeting.getSpeakers()).hasSize(1);
+        assertThat(meeting.getSpeakers().get(0).getSegments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("speakers 가 없는 최종 콜백은 부분 전사로 쌓인 화자/세그먼트를 유지")
+    void apply_keepsPartialTranscript() {
+        ReflectionTestUtils.setField(meeting, "speakers", new PersistentBag<>());
+        ReflectionTestUtils.setField(meeting, "keywords", new PersistentBag<>());
+        MeetingRequestDto.AiCallbackRequest finalRequest = MeetingRequestDto.AiCallbackRequest.builder()
+                                                                                              .status("completed")
+                                                                                              .summary("요약")
+                                                                                              .keywords(List.of("AI"))
+                                                                                              .build();
+
+        analysisResultWriter.apply(meeting, finalRequest);
+
+        verify(transcriptBulkRepository, never()).diffWriter(any());
+        verify(transcriptBulkRepository).reconcileKeywords(meeting.getId(), List.of("AI"));
+        verify(transcriptBulkRepository).deleteBatches(meeting.getId());
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("마지막으로 반영한 결과와 내용이 같으면 아무것도 쓰지 않음")
+    void apply_sameHashSkipped() {
+        analysisResultWriter.apply(meeting, request);
+        String hash = meeting.getResultHash();
+        clearInvocations(meetingRepository, transcriptReconciler);
+
+        analysisResultWriter.apply(meeting, request);
+
+        assertThat(meeting.getResultHash()).isEqualTo(hash);
+        verifyNoInteractions(transcriptReconciler);
+        verify(meetingRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,152 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.entity.CallbackInboxEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.OutboxStatus;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.CallbackInboxRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.CallbackInboxService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CallbackInboxServiceTest {
+
+    @Mock
+    private CallbackInboxRepository callbackInboxRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private CallbackInboxService callbackInboxService;
+
+    private CallbackInboxEntity row;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(callbackInboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(callbackInboxService, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(callbackInboxService, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(callbackInboxService, "leaseSeconds", 300L);
+
+        row = CallbackInboxEntity.create(UUID.randomUUID(), "a".repeat(64), "callbacks/x.json", 10L);
+        ReflectionTestUtils.setField(row, "id", UUID.randomUUID());
+        when(callbackInboxRepository.findById(row.getId())).thenReturn(Optional.of(row));
+    }
+
+    private CallbackInboxService.ClaimedCallback claim() {
+        row.claim(LocalDateTime.now().plusMinutes(5));
+        return new CallbackInboxService.ClaimedCallback(row.getId(), row.getMeetingId(), row.getStorageKey(), row.getAttempts());
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 PENDING 으로 되돌리고 백오프 후 재시도")
+    void markFailed_retry() {
+        LocalDateTime before = LocalDateTime.now();
+
+        boolean dead = callbackInboxService.markFailed(claim(), new RuntimeException("db down"), false);
+
+        assertThat(dead).isFalse();
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(row.getAvailableAt()).isBetween(before, before.plusSeconds(2));
+        assertThat(row.getLastError()).contains("db down");
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 오류는 바로 DEAD + 회의 FAILED")
+    void markFailed_permanent() {
+        MeetingEntity meeting = MeetingEntity.create(UserEntity.create("user@test.com", "pw", "nickname"),
+                "회의 제목", LocalDateTime.now(), "u/a.wav");
+        when(meetingRepository.findById(row.getMeetingId())).thenReturn(Optional.of(meeting));
+
+        boolean dead = callbackInboxService.markFailed(claim(), new RuntimeException("bad payload"), true);
+
+        assertThat(dead).isTrue();
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("이미 분석이 완료된 회의는 콜백이 최종 실패해도 FAILED 로 바꾸지 않음")
+    void markFailed_permanent_completedMeetingUntouched() {
+        MeetingEntity meeting = MeetingEntity.create(UserEntity.create("user@test.com", "pw", "nickname"),
+                "회의 제목", LocalDateTime.now(), "u/a.wav");
+        meeting.updateStatusAndSummary(RecordSaveStatus.COMPLETED.name(), "요약");
+        when(meetingRepository.findById(row.getMeetingId())).thenReturn(Optional.of(meeting));
+
+        boolean dead = callbackInboxService.markFailed(claim(), new RuntimeException("late chunk"), true);
+
+        assertThat(dead).isTrue();
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
+        assertThat(meeting.getSummary()).isEqualTo("요약");
+        verifyNoInteractions(meetingDetailSnapshotService);
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 다시 점유된 행에는 이전 시도의 완료를 기록하지 않음")
+    void markDone_staleClaim() {
+        CallbackInboxService.ClaimedCallback stale = claim();
+        claim();
+
+        assertThat(callbackInboxService.markDone(stale)).isFalse();
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+    }
+
+    @Test
+    @DisplayName("현재 점유면 완료 기록, lease 연장은 같은 시도 번호로만")
+    void markDone_currentClaim_and_extendLease() {
+        CallbackInboxService.ClaimedCallback current = claim();
+        when(callbackInboxRepository.extendLease(eq(row.getId()), eq(current.attempt()), any())).thenReturn(1);
+
+        assertThat(callbackInboxService.extendLease(current)).isTrue();
+        assertThat(callbackInboxService.markDone(current)).isTrue();
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("같은 회의에 같은 본문이 동시에 접수되면 한 건만 접수")
+    void append_duplicate() {
+        when(callbackInboxRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_callback_inbox_meeting_hash"));
+
+        boolean accepted = callbackInboxService.append(row.getMeetingId(), row.getPayloadHash(), row.getStorageKey(), 10L);
+
+        assertThat(accepted).isFalse();
+    }
+
+    @Test
+    @DisplayName("최종 실패한 본문이 다시 오면 새로 받은 것으로 보고 같은 행을 처음부터 다시 시도")
+    void append_revivesDead() {
+        when(callbackInboxRepository.existsByMeetingIdAndPayloadHashAndStatusNot(row.getMeetingId(), row.getPayloadHash(), OutboxStatus.DEAD))
+                .thenReturn(false);
+        when(callbackInboxRepository.reviveDead(eq(row.getMeetingId()), eq(row.getPayloadHash()), eq(row.getStorageKey()), eq(10L), any()))
+                .thenReturn(1);
+
+        assertThat(callbackInboxService.isReceived(row.getMeetingId(), row.getPayloadHash())).isFalse();
+        assertThat(callbackInboxService.append(row.getMeetingId(), row.getPayloadHash(), row.getStorageKey(), 10L)).isTrue();
+        verify(callbackInboxRepository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,96 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.service.CallbackStreamReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CallbackStreamReaderTest {
+
+    private final CallbackStreamReader reader = new CallbackStreamReader(new ObjectMapper());
+
+    // speakers 가 앞에 오고, 두 번째 화자는 segments 가 speakerId 보다 먼저 나오는 본문
+    private static final String BODY = """
+            {
+              "speakers": [
+                {"speakerId": "S1", "segments": [
+                  {"start": 0.0, "end": 1.5, "text": "안녕하세요"},
+                  {"start": 2.0, "end": 3.0, "text": "시작하겠습니다"}
+                ]},
+                {"segments": [{"start": 4.0, "end": 5.0, "text": "네"}], "speakerId": "S2", "extra": {"ignored": true}}
+              ],
+              "status": "completed",
+              "summary": "회의 요약",
+              "keywords": ["AI", "요약"],
+              "feedback": {"actionItems": [{"name": "홍길동", "content": "정리", "orderIndex": 1}]},
+              "unknown": [1, 2, 3]
+            }
+            """;
+
+    @Test
+    @DisplayName("헤더는 speakers 를 건너뛰고 나머지 필드만 읽음")
+    void readHeader() throws IOException {
+        CallbackStreamReader.Header header = reader.readHeader(stream(BODY));
+
+        assertThat(header.status()).isEqualTo("completed");
+        assertThat(header.summary()).isEqualTo("회의 요약");
+        assertThat(header.keywords()).containsExactly("AI", "요약");
+        assertThat(header.feedback().getActionItems()).hasSize(1);
+        assertThat(header.chunkIndex()).isNull();
+        assertThat(header.hasSpeakers()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세그먼트를 화자 순서대로 하나씩 전달 (필드 순서와 무관)")
+    void readSpeakers() throws IOException {
+        List<String> events = new ArrayList<>();
+
+        reader.readSpeakers(stream(BODY), new CallbackStreamReader.SpeakerSink() {
+            @Override
+            public void speaker(String speakerId) {
+                events.add("speaker:" + speakerId);
+            }
+
+            @Override
+            public void segment(MeetingRequestDto.AiCallbackRequest.Segment segment) {
+                events.add(segment.getStart() + ":" + segment.getText());
+            }
+        });
+
+        assertThat(events).containsExactly(
+                "speaker:S1", "0.0:안녕하세요", "2.0:시작하겠습니다",
+                "speaker:S2", "4.0:네"
+        );
+    }
+
+    @Test
+    @DisplayName("분할 분석 조각 번호 인식")
+    void readHeader_chunk() throws IOException {
+        CallbackStreamReader.Header header = reader.readHeader(stream("{\"status\":\"completed\",\"chunkIndex\":2}"));
+
+        assertThat(header.chunkIndex()).isEqualTo(2);
+        assertThat(header.hasSpeakers()).isFalse();
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 본문은 형식 오류")
+    void readHeader_invalid() {
+        assertThatThrownBy(() -> reader.readHeader(stream("[1, 2]")))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.feedback.repository.FeedbackRepository;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDeduplicationService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeetingDeduplicationServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private MeetingDeduplicationService meetingDeduplicationService;
+
+    private UserEntity user;
+    private MeetingEntity first;
+    private MeetingEntity second;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(meetingDeduplicationService, "scope", "user");
+        ReflectionTestUtils.setField(meetingDeduplicationService, "cloneAnalysis", true);
+
+        user = UserEntity.create("user@test.com", "pw", "nickname");
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        first = meeting("u/first.wav", LocalDateTime.of(2025, 10, 20, 15, 0));
+        second = meeting("u/second.wav", LocalDateTime.of(2025, 10, 20, 15, 1));
+
+        when(meetingRepository.lockByContentHash("hash", user.getId())).thenReturn(List.of(first, second));
+        when(storageBackend.exists(anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("같은 파일을 동시에 올리면 잠금을 먼저 얻은 쪽만 상대 파일을 공유하고, 다른 쪽은 재사용하지 않음")
+    void reuseExisting_concurrentUploads() {
+        MeetingDeduplicationService.Reuse reuse = meetingDeduplicationService.reuseExisting(second.getId());
+
+        assertThat(reuse.discardedFilePath()).isEqualTo("u/second.wav");
+        assertThat(reuse.sharedFilePath()).isEqualTo("u/first.wav");
+        assertThat(second.getFilePath()).isEqualTo("u/first.wav");
+
+        // 뒤에 잠금을 얻은 쪽은 이미 같은 파일을 가리킴 → 자기 파일을 지우지 않음
+        assertThat(meetingDeduplicationService.reuseExisting(first.getId())).isNull();
+        assertThat(first.getFilePath()).isEqualTo("u/first.wav");
+    }
+
+    @Test
+    @DisplayName("새 사본을 다른 회의가 참조 중이면 지울 경로를 넘기지 않음")
+    void reuseExisting_discardedPathReferenced() {
+        when(meetingRepository.existsByFilePathAndIdNot("u/second.wav", second.getId())).thenReturn(true);
+
+        MeetingDeduplicationService.Reuse reuse = meetingDeduplicationService.reuseExisting(second.getId());
+
+        assertThat(reuse.discardedFilePath()).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋 후 삭제 시점에 참조하는 회의가 생겼으면 사본을 지우지 않음")
+    void deleteIfUnreferenced() {
+        when(meetingRepository.existsByFilePath("u/shared.wav")).thenReturn(true);
+
+        meetingDeduplicationService.deleteIfUnreferenced("u/shared.wav");
+        meetingDeduplicationService.deleteIfUnreferenced("u/orphan.wav");
+
+        verify(storageBackend, never()).delete("u/shared.wav");
+        verify(storageBackend).delete("u/orphan.wav");
+    }
+
+    @Test
+    @DisplayName("파일 교체는 같은 내용 회의를 잠근 뒤 참조를 확인하고, 내용 해시도 새 파일 기준으로 바꿈")
+    void replaceFile() {
+        when(meetingRepository.replaceFilePath(first.getId(), "u/first.wav", "u/first.wav.normalized.wav", "newhash", 16000))
+                .thenReturn(1);
+
+        boolean replaced = meetingDeduplicationService.replaceFile(first.getId(), "u/first.wav", "u/first.wav.normalized.wav", "newhash", 16000);
+
+        assertThat(replaced).isTrue();
+        var order = inOrder(meetingRepository);
+        order.verify(meetingRepository).lockByContentHash("hash", user.getId());
+        order.verify(meetingRepository).existsByFilePathAndIdNot("u/first.wav", first.getId());
+        order.verify(meetingRepository).replaceFilePath(first.getId(), "u/first.wav", "u/first.wav.normalized.wav", "newhash", 16000);
+        verify(meetingDetailSnapshotService).markChanged(first.getId());
+    }
+
+    @Test
+    @DisplayName("다른 회의가 원본을 참조 중이면 교체하지 않음")
+    void replaceFile_originalShared() {
+        when(meetingRepository.existsByFilePathAndIdNot("u/first.wav", first.getId())).thenReturn(true);
+
+        boolean replaced = meetingDeduplicationService.replaceFile(first.getId(), "u/first.wav", "u/first.wav.normalized.wav", "newhash", 16000);
+
+        assertThat(replaced).isFalse();
+        verify(meetingRepository, never()).replaceFilePath(any(), any(), any(), any(), any());
+    }
+
+    private MeetingEntity meeting(String filePath, LocalDateTime createdAt) {
+        MeetingEntity meeting = MeetingEntity.create(user, "회의", createdAt, filePath);
+        ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(meeting, "createdAt", createdAt);
+        meeting.setContentHash("hash");
+        UUID meetingId = meeting.getId();
+        when(meetingRepository.findDuplicateKeyById(meetingId)).thenReturn(Optional.of(new MeetingRepository.DuplicateKey() {
+            @Override
+            public String getContentHash() {
+                return "hash";
+            }
+
+            @Override
+            public UUID getUserId() {
+                return user.getId();
+            }
+        }));
+        return meeting;
+    }
+}
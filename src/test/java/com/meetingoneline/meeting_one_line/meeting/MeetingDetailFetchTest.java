@@ -0,0 +1,114 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회의 상세 조회 fetch plan 의 SQL 실행 횟수 검증 (H2 MariaDB 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:meeting-detail;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingDetailFetchTest {
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = em.persist(UserEntity.create("user@test.com", "pw", "nickname"));
+    }
+
+    @Test
+    @DisplayName("화자 수와 관계없이 상세 조회는 SQL 3번")
+    void findDetailById_constantQueries() {
+        UUID small = saveMeeting(1, 3);
+        UUID large = saveMeeting(8, 20);
+
+        assertThat(detailQueryCount(small)).isEqualTo(3);
+        assertThat(detailQueryCount(large)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("세그먼트는 DB 에서 시작 시각 순으로 읽힘")
+    void findDetailById_segmentsOrderedByDb() {
+        UUID meetingId = saveMeeting(2, 5);
+        em.clear();
+
+        MeetingResponseDto.DetailResponse detail = MeetingResponseDto.DetailResponse.from(
+                meetingRepository.findDetailById(meetingId).orElseThrow());
+
+        assertThat(detail.getKeywords()).containsExactlyInAnyOrder("AI", "회의록");
+        assertThat(detail.getSpeakers()).hasSize(2);
+        assertThat(detail.getSpeakers()).allSatisfy(speaker ->
+                assertThat(speaker.getSegments()).extracting(MeetingResponseDto.DetailResponse.Segment::getStart)
+                                                 .isSortedAccordingTo(Float::compare)
+                                                 .hasSize(5));
+    }
+
+    private long detailQueryCount(UUID meetingId) {
+        em.clear();
+        statistics.clear();
+
+        MeetingEntity meeting = meetingRepository.findDetailById(meetingId).orElseThrow();
+        assertThat(meeting.getUser().getId()).isEqualTo(user.getId());
+        MeetingResponseDto.DetailResponse.from(meeting);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 세그먼트를 시작 시각 역순으로 저장한 회의
+     */
+    private UUID saveMeeting(int speakers, int segmentsPerSpeaker) {
+        MeetingEntity meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "AI"));
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "회의록"));
+        for (int s = 0; s < speakers; s++) {
+            SpeakerEntity speaker = SpeakerEntity.create(meeting, "S" + s, null);
+            for (int i = segmentsPerSpeaker - 1; i >= 0; i--) {
+                speaker.getSegments().add(SegmentEntity.create(speaker, i * 2f, i * 2f + 1.5f, "발화 " + i));
+            }
+            meeting.getSpeakers().add(speaker);
+        }
+        em.persist(meeting);
+        em.flush();
+        return meeting.getId();
+    }
+}
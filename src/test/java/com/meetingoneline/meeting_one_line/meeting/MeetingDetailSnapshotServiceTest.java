@@ -0,0 +1,178 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingDetailSnapshotEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingDetailSnapshotRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingResponseCache;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingSearchService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeetingDetailSnapshotServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingDetailSnapshotRepository snapshotRepository;
+
+    @Mock
+    private MeetingResponseCache responseCache;
+
+    @Mock
+    private MeetingSearchService searchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MeetingDetailSnapshotService snapshotService;
+    private UUID userId;
+    private UUID meetingId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        snapshotService = new MeetingDetailSnapshotService(meetingRepository, snapshotRepository, responseCache, searchService, objectMapper, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(snapshotService, "enabled", true);
+        ReflectionTestUtils.setField(snapshotService, "compressMinBytes", 0);
+        ReflectionTestUtils.setField(snapshotService, "verifyBatchSize", 20);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+        MeetingEntity meeting = MeetingEntity.create(user, "주간 회의", LocalDateTime.of(2025, 10, 20, 15, 0), "u/a.wav");
+        meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+        ReflectionTestUtils.setField(meeting, "detailVersion", 3L);
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "AI"));
+
+        when(meetingRepository.findByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
+        when(meetingRepository.findDetailById(meetingId)).thenReturn(Optional.of(meeting));
+        when(snapshotRepository.findById(meetingId)).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 PK 조회 한 번으로 저장된 JSON 을 그대로 반환")
+    void getDetail_servesSnapshot() {
+        MeetingDetailSnapshotEntity snapshot = MeetingDetailSnapshotEntity.create(meetingId, userId);
+        snapshot.replace(3L, "{\"title\":\"주간 회의\"}".getBytes(StandardCharsets.UTF_8), false, "hash");
+        when(snapshotRepository.findById(meetingId)).thenReturn(Optional.of(snapshot));
+
+        MeetingResponseCache.Entry payload = snapshotService.getDetail(userId, meetingId);
+
+        assertThat(payload.gzip()).isFalse();
+        assertThat(new String(payload.json(), StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"주간 회의\"}");
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 원본으로 만들어 저장하고, 크기가 기준 이상이면 gzip 으로 저장")
+    void getDetail_missRebuilds() throws Exception {
+        MeetingResponseCache.Entry payload = snapshotService.getDetail(userId, meetingId);
+
+        ArgumentCaptor<MeetingDetailSnapshotEntity> saved = ArgumentCaptor.forClass(MeetingDetailSnapshotEntity.class);
+        verify(snapshotRepository).save(saved.capture());
+        assertThat(saved.getValue().getSourceVersion()).isEqualTo(3L);
+        assertThat(saved.getValue().getCompressed()).isTrue();
+
+        assertThat(payload.gzip()).isTrue();
+        JsonNode json = objectMapper.readTree(payload.json());
+        assertThat(json.get("title").asText()).isEqualTo("주간 회의");
+        assertThat(json.get("keywords").get(0).asText()).isEqualTo("AI");
+    }
+
+    @Test
+    @DisplayName("본인 회의가 아니면 접근 불가")
+    void getDetail_accessDenied() {
+        assertThatThrownBy(() -> snapshotService.getDetail(UUID.randomUUID(), meetingId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("정합성 검사: 원본과 같으면 검사 시각만 갱신, 해시가 다르면 교체하고 drift 카운트")
+    void verify_detectsDrift() {
+        snapshotService.rebuild(meetingId);
+        ArgumentCaptor<MeetingDetailSnapshotEntity> saved = ArgumentCaptor.forClass(MeetingDetailSnapshotEntity.class);
+        verify(snapshotRepository).save(saved.capture());
+        MeetingDetailSnapshotEntity snapshot = saved.getValue();
+        when(snapshotRepository.findById(meetingId)).thenReturn(Optional.of(snapshot));
+        when(snapshotRepository.findLeastRecentlyVerified(any())).thenReturn(List.of(meetingId));
+
+        snapshotService.verify();
+        assertThat(meterRegistry.counter("meeting.detail.snapshot.drift").count()).isZero();
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+
+        // markChanged 를 거치지 않은 변경
+        ReflectionTestUtils.setField(snapshot, "payloadHash", "stale");
+        snapshotService.verify();
+
+        assertThat(meterRegistry.counter("meeting.detail.snapshot.drift").count()).isEqualTo(1.0);
+        assertThat(snapshot.getVersion()).isEqualTo(2L);
+        verify(responseCache).evict(List.of(meetingId));
+    }
+
+    @Test
+    @DisplayName("markChanged 는 트랜잭션 안에서 스냅샷을 지우고, 커밋 후 회의마다 한 번만 다시 만듦")
+    void markChanged_rebuildsOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        snapshotService.markChanged(meetingId);
+        snapshotService.markChanged(List.of(meetingId));
+
+        verify(meetingRepository, times(2)).bumpDetailVersion(List.of(meetingId.toString()));
+        verify(snapshotRepository, times(2)).deleteByMeetingIds(List.of(meetingId));
+        verify(responseCache, times(2)).evict(List.of(meetingId));
+        verify(searchService, times(2)).markDirty(List.of(meetingId));
+        verify(meetingRepository, never()).findByIdForUpdate(any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(meetingRepository, times(1)).findByIdForUpdate(meetingId);
+        verify(snapshotRepository).save(any(MeetingDetailSnapshotEntity.class));
+    }
+}
@@ -0,0 +1,175 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.ExportFormat;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.SegmentRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingExportService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeetingExportServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private SegmentRepository segmentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+    private MeetingExportService meetingExportService;
+    private UUID userId;
+    private UUID meetingId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meetingExportService = new MeetingExportService(meetingRepository, segmentRepository, objectMapper, transactionManager, 1);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+        MeetingEntity meeting = MeetingEntity.create(user, "주간 회의", LocalDateTime.of(2025, 10, 20, 15, 0), "u/a.wav");
+        meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "AI"));
+        when(meetingRepository.findByIdAndDeletedAtIsNull(meetingId)).thenReturn(Optional.of(meeting));
+
+        // S1 은 세그먼트 행, S2 는 압축 전사
+        when(segmentRepository.streamByMeetingId(meetingId)).thenReturn(Stream.of(
+                row("S1", "김철수", 0f, 2f, "안녕하세요"),
+                row("S1", "김철수", 3725f, 3727f, "마치겠습니다")
+        ).onClose(() -> streamClosed.set(true)));
+        byte[] packed = PackedTranscript.builder(true)
+                                        .add(1f, 3f, "네 \"반갑습니다\"")
+                                        .build();
+        UUID packedSpeakerId = UUID.randomUUID();
+        when(segmentRepository.findPackedSpeakerHeads(meetingId)).thenReturn(List.of(new SegmentRepository.PackedSpeaker() {
+            public UUID getId() { return packedSpeakerId; }
+            public String getSpeakerId() { return "S2"; }
+            public String getName() { return null; }
+        }));
+        when(segmentRepository.packedSource(packedSpeakerId)).thenReturn((offset, length) ->
+                Arrays.copyOfRange(packed, offset, Math.min(packed.length, offset + length)));
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 첫 줄 회의 정보, 이후 행/압축 전사를 시작 시각 순으로 한 줄씩")
+    void write_ndjson() throws Exception {
+        String body = export(ExportFormat.JSON);
+
+        List<JsonNode> lines = body.lines().map(this::parse).toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).get("type").asText()).isEqualTo("meeting");
+        assertThat(lines.get(0).get("keywords").get(0).asText()).isEqualTo("AI");
+        assertThat(lines.subList(1, 4)).extracting(line -> line.get("text").asText())
+                                       .containsExactly("안녕하세요", "네 \"반갑습니다\"", "마치겠습니다");
+        assertThat(lines.get(2).get("speakerId").asText()).isEqualTo("S2");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("txt 는 [시:분:초] 화자: 내용, 이름이 없으면 화자 ID")
+    void write_text() throws Exception {
+        String body = export(ExportFormat.TXT);
+
+        assertThat(body).startsWith("주간 회의\n")
+                        .contains("[00:00:00] 김철수: 안녕하세요\n[00:00:01] S2: 네 \"반갑습니다\"\n[01:02:05] 김철수: 마치겠습니다\n");
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 한도를 넘으면 응답 전에 거절하고, 쓰기가 끝나면 자리를 반납")
+    void prepare_limitsConcurrency() throws Exception {
+        MeetingExportService.Export first = meetingExportService.prepare(userId, meetingId, ExportFormat.MD);
+
+        assertThatThrownBy(() -> meetingExportService.prepare(userId, meetingId, ExportFormat.MD))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.EXPORT_BUSY);
+
+        meetingExportService.write(first, new ByteArrayOutputStream());
+        assertThatCode(() -> meetingExportService.prepare(userId, meetingId, ExportFormat.MD)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("본문을 쓰지 못한 채 반납해도 자리는 한 번만 돌아옴")
+    void permit_releasedOnce() throws Exception {
+        MeetingExportService.Export first = meetingExportService.prepare(userId, meetingId, ExportFormat.MD);
+        first.permit().release();
+        first.permit().release();
+        meetingExportService.write(first, new ByteArrayOutputStream());
+
+        meetingExportService.prepare(userId, meetingId, ExportFormat.MD);
+        assertThatThrownBy(() -> meetingExportService.prepare(userId, meetingId, ExportFormat.MD))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.EXPORT_BUSY);
+    }
+
+    @Test
+    @DisplayName("본인 회의가 아니면 접근 불가")
+    void prepare_accessDenied() {
+        assertThatThrownBy(() -> meetingExportService.prepare(UUID.randomUUID(), meetingId, ExportFormat.TXT))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        MeetingExportService.Export export = meetingExportService.prepare(userId, meetingId, format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        meetingExportService.write(export, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError(line, e);
+        }
+    }
+
+    private static SegmentRepository.WindowRow row(String speakerId, String name, float start, float end, String text) {
+        return new SegmentRepository.WindowRow() {
+            public String getSpeakerId() { return speakerId; }
+            public String getName() { return name; }
+            public Float getStartTime() { return start; }
+            public Float getEndTime() { return end; }
+            public String getText() { return text; }
+        };
+    }
+}
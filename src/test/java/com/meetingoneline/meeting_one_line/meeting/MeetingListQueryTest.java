@@ -0,0 +1,188 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingListQueryRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingSpecification;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회의 목록 projection 조회 검증 + 엔티티 조회와의 비교 (H2 MariaDB 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:meeting-list;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MeetingListQueryRepository.class)
+class MeetingListQueryTest {
+
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    private MeetingListQueryRepository meetingListQueryRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = em.persist(UserEntity.create("user@test.com", "pw", "nickname"));
+    }
+
+    @Test
+    @DisplayName("목록 행은 엔티티를 만들지 않고, 요약은 앞부분만, 삭제/다른 사용자 회의는 제외")
+    void findPage_projection() {
+        for (int i = 0; i < 3; i++) {
+            saveMeeting(user, "회의 " + i, "가".repeat(5_000));
+        }
+        saveMeeting(user, "삭제된 회의", "요약").delete();
+        saveMeeting(em.persist(UserEntity.create("other@test.com", "pw", "other")), "다른 사용자 회의", "요약");
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        Page<MeetingListQueryRepository.Row> page = meetingListQueryRepository.findPage(
+                MeetingSpecification.byUser(user), PageRequest.of(0, 2, LIST_SORT));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2)
+                                     .isSortedAccordingTo(Comparator.comparing(MeetingListQueryRepository.Row::createdAt).reversed())
+                                     .allSatisfy(row -> {
+                                         assertThat(row.title()).startsWith("회의 ");
+                                         assertThat(row.summaryPreview()).hasSize(MeetingListQueryRepository.SUMMARY_PREVIEW_LENGTH);
+                                     });
+    }
+
+    /**
+     * 기존 엔티티 목록 조회와 projection 조회 비교 (./gradlew benchmark 로 실행, 결과는 표준 출력)
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("benchmark: 목록 조회 엔티티 vs projection")
+    void benchmark_listQuery() {
+        int meetings = 2_000;
+        int pageSize = 50;
+        String summary = "회의 요약 내용입니다. ".repeat(1_000); // 약 13,000 자
+        for (int i = 0; i < meetings; i++) {
+            saveMeeting(user, "회의 " + i, summary);
+            if (i % 200 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        user = em.find(UserEntity.class, user.getId());
+        Specification<MeetingEntity> spec = MeetingSpecification.byUser(user);
+
+        Result entity = measure("entity", () -> {
+            // 기존 방식: 엔티티 페이지 조회 후 DTO 변환
+            Page<MeetingEntity> page = meetingRepository.findAll(spec, PageRequest.of(10, pageSize, LIST_SORT));
+            return page.getContent().stream().map(m -> MeetingResponseDto.ListItem.builder()
+                                                                               .meetingId(m.getId())
+                                                                               .title(m.getTitle())
+                                                                               .status(m.getStatus())
+                                                                               .summary(m.getSummary())
+                                                                               .createdAt(m.getCreatedAt())
+                                                                               .build()).toList().size();
+        });
+        Result projection = measure("projection", () -> meetingListQueryRepository.findPage(spec, PageRequest.of(10, pageSize, LIST_SORT))
+                                                                                  .getContent().stream()
+                                                                                  .map(MeetingResponseDto.ListItem::from)
+                                                                                  .toList().size());
+
+        System.out.printf("[benchmark] meeting list (%d meetings, page size %d, summary %d chars)%n", meetings, pageSize, summary.length());
+        System.out.println("[benchmark] " + entity);
+        System.out.println("[benchmark] " + projection);
+
+        assertThat(entity.entitiesLoaded()).isEqualTo(pageSize);
+        assertThat(projection.entitiesLoaded()).isZero();
+    }
+
+    private Result measure(String name, Supplier<Integer> query) {
+        int warmup = 20;
+        int iterations = 100;
+        for (int i = 0; i < warmup; i++) {
+            query.get();
+            em.clear();
+        }
+
+        statistics.clear();
+        long heapBefore = allocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertThat(query.get()).isPositive();
+            em.clear();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = allocatedBytes() - heapBefore;
+
+        return new Result(name, elapsed / iterations / 1_000, allocated / iterations / 1_024,
+                statistics.getEntityLoadCount() / iterations);
+    }
+
+    /**
+     * 현재 스레드가 할당한 누적 바이트 (지원하지 않는 JVM 이면 0)
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private MeetingEntity saveMeeting(UserEntity owner, String title, String summary) {
+        MeetingEntity meeting = MeetingEntity.create(owner, title, LocalDateTime.now(), "u/a.wav");
+        meeting.updateStatusAndSummary("completed", summary);
+        return em.persist(meeting);
+    }
+
+    private record Result(String name, long micros, long allocatedKb, long entitiesLoaded) {
+
+        @Override
+        public String toString() {
+            return "%-10s %8d us/op %8d KB/op  entities loaded/op=%d".formatted(name, micros, allocatedKb, entitiesLoaded);
+        }
+    }
+}
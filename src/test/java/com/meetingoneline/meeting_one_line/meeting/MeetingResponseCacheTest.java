@@ -0,0 +1,146 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidation;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationTransport;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeetingResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CacheInvalidationTransport transport = mock(CacheInvalidationTransport.class);
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+
+    private MeetingResponseCache cache;
+    private UUID ownerId;
+    private UUID meetingId;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, meterRegistry);
+        cache = new MeetingResponseCache(new ObjectMapper(), bus, meetingRepository, meterRegistry, true, 100, 1_000_000, Duration.ofMinutes(10));
+        ownerId = UUID.randomUUID();
+        meetingId = UUID.randomUUID();
+        when(meetingRepository.findDetailVersion(meetingId)).thenReturn(Optional.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 번 만든 응답은 다시 만들지 않고, 같은 본문이면 같은 ETag")
+    void get_loadsOnce() {
+        MeetingResponseCache.Entry first = load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        MeetingResponseCache.Entry second = load(MeetingResponseCache.Kind.DETAIL, ownerId);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag(false)).isEqualTo(cache.json(ownerId, Map.of("title", "주간 회의")).etag(false))
+                                     .startsWith("\"")
+                                     .isNotEqualTo(first.etag(true));
+    }
+
+    @Test
+    @DisplayName("캐시에 있어도 본인 회의가 아니면 접근 불가")
+    void get_accessDenied() {
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+
+        assertThatThrownBy(() -> load(MeetingResponseCache.Kind.DETAIL, UUID.randomUUID()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 evict 하면 커밋 전에 다시 채워진 옛 응답도 커밋 후 지움 (상세/피드백 모두)")
+    void evict_afterCommit() {
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        load(MeetingResponseCache.Kind.FEEDBACK, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(List.of(meetingId));
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        assertThat(loads).hasValue(3);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        load(MeetingResponseCache.Kind.FEEDBACK, null);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("evict 는 다른 노드에 발행하고, 다른 노드가 발행한 회의는 이 노드 캐시에서 지움")
+    void evict_crossNode() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<CacheInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).subscribe(listener.capture());
+
+        cache.evict(List.of(meetingId));
+        verify(transport).publish(argThat(event -> event.cache().equals(CacheInvalidationBus.MEETING)
+                && event.key().equals(meetingId.toString())));
+
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        listener.getValue().accept(new CacheInvalidation(CacheInvalidationBus.MEETING, meetingId.toString(), "other-node", System.currentTimeMillis()));
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 이벤트를 놓쳐도 상세 버전이 바뀌면 옛 응답을 쓰지 않음")
+    void get_versionChanged() {
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        when(meetingRepository.findDetailVersion(meetingId)).thenReturn(Optional.of(2L));
+
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("없는(삭제된) 회의는 캐시하지 않음")
+    void get_missingMeetingNotCached() {
+        when(meetingRepository.findDetailVersion(meetingId)).thenReturn(Optional.empty());
+
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+        load(MeetingResponseCache.Kind.DETAIL, ownerId);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private MeetingResponseCache.Entry load(MeetingResponseCache.Kind kind, UUID userId) {
+        return cache.get(kind, meetingId, userId, () -> {
+            loads.incrementAndGet();
+            return cache.json(ownerId, Map.of("title", "주간 회의"));
+        });
+    }
+}
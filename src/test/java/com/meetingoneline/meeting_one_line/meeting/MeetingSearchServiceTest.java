@@ -0,0 +1,171 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationTransport;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingSearchService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeetingSearchServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path indexDir;
+
+    private MeetingSearchService searchService;
+    private UserEntity user;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        CacheInvalidationBus bus = new CacheInvalidationBus(mock(CacheInvalidationTransport.class), new SimpleMeterRegistry());
+        searchService = new MeetingSearchService(meetingRepository, transactionManager, bus, true, indexDir.toString(), 200_000);
+
+        user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchService.close();
+    }
+
+    @Test
+    @DisplayName("기동 대조가 끝나기 전에는 색인을 쓰지 않음")
+    void search_notReadyBeforeReconcile() {
+        assertThat(searchService.search(userId, "회의록", null, null, null, 1, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한국어도 부분 일치로 찾고, 제목 일치가 전사 일치보다 앞선다")
+    void search_koreanPartialMatchRankedByField() {
+        MeetingEntity inTranscript = meeting("주간 회의", "일정 공유", "다음 주까지 회의록을 정리해서 공유하겠습니다");
+        MeetingEntity inTitle = meeting("회의록 템플릿 논의", "양식 개선", "안녕하세요");
+        meeting("예산 회의", "분기 예산", "숫자를 맞춰 봅시다");
+        searchService.flush();
+
+        MeetingSearchService.Result result = searchService.search(userId, "회의록", null, null, null, 1, 10).orElseThrow();
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(MeetingSearchService.Hit::meetingId)
+                                 .containsExactly(inTitle.getId(), inTranscript.getId());
+        // n-gram 은 원래 단어의 위치를 그대로 가지므로 조사까지 한 단어로 강조
+        assertThat(result.hits().get(1).highlight()).isEqualTo("다음 주까지 <em>회의록을</em> 정리해서 공유하겠습니다");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 회의와 상태가 다른 회의는 제외, 여러 단어는 모두 포함해야 함")
+    void search_filters() {
+        MeetingEntity mine = meeting("AI 로드맵", "모델 배포 일정", "배포는 다음 달");
+        UserEntity other = UserEntity.create("other@test.com", "pw", "other");
+        ReflectionTestUtils.setField(other, "id", UUID.randomUUID());
+        MeetingEntity others = meeting(other, "AI 로드맵", "모델 배포 일정", "배포는 다음 달");
+        searchService.flush();
+
+        assertThat(searchService.search(userId, "로드맵 배포", null, null, null, 1, 10).orElseThrow().hits())
+                .extracting(MeetingSearchService.Hit::meetingId)
+                .containsExactly(mine.getId())
+                .doesNotContain(others.getId());
+        assertThat(searchService.search(userId, "로드맵 예산", null, null, null, 1, 10).orElseThrow().hits()).isEmpty();
+        assertThat(searchService.search(userId, "로드맵", null, null, RecordSaveStatus.FAILED, 1, 10).orElseThrow().hits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("markDirty 후 flush 하면 원본을 다시 읽어 교체하고, 삭제된 회의는 색인에서 빠짐")
+    void flush_reindexesDirtyMeetings() {
+        MeetingEntity meeting = meeting("보안 점검", "취약점 목록", "점검 결과");
+        searchService.flush();
+        assertThat(searchService.search(userId, "보안", null, null, null, 1, 10).orElseThrow().total()).isEqualTo(1);
+
+        meeting.setTitle("인프라 점검");
+        searchService.markDirty(List.of(meeting.getId()));
+        searchService.flush();
+        assertThat(searchService.search(userId, "보안", null, null, null, 1, 10).orElseThrow().total()).isZero();
+        assertThat(searchService.search(userId, "인프라", null, null, null, 1, 10).orElseThrow().total()).isEqualTo(1);
+
+        when(meetingRepository.findDetailById(meeting.getId())).thenReturn(Optional.empty());
+        searchService.markDirty(List.of(meeting.getId()));
+        searchService.flush();
+        assertThat(searchService.search(userId, "인프라", null, null, null, 1, 10).orElseThrow().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제한 회의는 flush 를 기다리지 않고 바로 검색에서 빠짐")
+    void remove_deletesImmediately() {
+        MeetingEntity meeting = meeting("보안 점검", "취약점 목록", "점검 결과");
+        searchService.flush();
+
+        searchService.remove(meeting.getId());
+
+        assertThat(searchService.search(userId, "보안", null, null, null, 1, 10).orElseThrow().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 결과 범위를 넘는 페이지는 빈 페이지 (page * size 가 넘쳐도)")
+    void search_beyondResultWindow() {
+        meeting("보안 점검", "취약점 목록", "점검 결과");
+        searchService.flush();
+
+        MeetingSearchService.Result result = searchService.search(userId, "보안", null, null, null, Integer.MAX_VALUE, 1_000).orElseThrow();
+
+        assertThat(result.hits()).isEmpty();
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(searchService.search(userId, "보안", null, null, null, 1, MeetingSearchService.MAX_RESULT_WINDOW * 2)
+                                .orElseThrow().hits()).hasSize(1);
+    }
+
+    private MeetingEntity meeting(String title, String summary, String transcript) {
+        return meeting(user, title, summary, transcript);
+    }
+
+    /**
+     * 회의를 만들어 DB 에 있는 것처럼 두고 다음 flush 에서 색인되도록 표시
+     */
+    private MeetingEntity meeting(UserEntity owner, String title, String summary, String transcript) {
+        MeetingEntity meeting = MeetingEntity.create(owner, title, LocalDateTime.of(2025, 10, 20, 15, 0), "u/a.wav");
+        ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+        meeting.updateStatusAndSummary("completed", summary);
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "회의"));
+        SpeakerEntity speaker = SpeakerEntity.create(meeting, "S1", "김철수");
+        speaker.getSegments().add(SegmentEntity.create(speaker, 0f, 2f, transcript));
+        meeting.getSpeakers().add(speaker);
+
+        when(meetingRepository.findDetailById(meeting.getId())).thenReturn(Optional.of(meeting));
+        searchService.markDirty(List.of(meeting.getId()));
+        return meeting;
+    }
+}
@@ -1,15 +1,29 @@
 package com.meetingoneline.meeting_one_line.meeting;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.cache.CacheInvalidationBus;
 import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
 import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
 import com.meetingoneline.meeting_one_line.meeting.client.AiClient;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
 import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
 import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
 import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingListQueryRepository;
 import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisChunkService;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisEtaEstimator;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisResultWriter;
+import com.meetingoneline.meeting_one_line.meeting.service.AudioMetadataService;
+import com.meetingoneline.meeting_one_line.meeting.service.AudioNormalizationService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingRegistrationService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingSearchService;
 import com.meetingoneline.meeting_one_line.meeting.service.MeetingService;
+import com.meetingoneline.meeting_one_line.meeting.service.TranscriptReconciler;
 import com.meetingoneline.meeting_one_line.user.UserEntity;
 import com.meetingoneline.meeting_one_line.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +33,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,15 +56,51 @@ class MeetingServiceTest {
     @Mock
     private MeetingRepository meetingRepository;
 
+    @Mock
+    private MeetingListQueryRepository meetingListQueryRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MeetingRegistrationService meetingRegistrationService;
+
     @Mock
     private AiClient aiClient;
 
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private AudioMetadataService audioMetadataService;
+
+    @Mock
+    private AnalysisEtaEstimator analysisEtaEstimator;
+
+    @Mock
+    private AnalysisChunkService analysisChunkService;
+
+    @Mock
+    private AudioNormalizationService audioNormalizationService;
+
+    @Spy
+    private TranscriptReconciler transcriptReconciler = new TranscriptReconciler();
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private MeetingSearchService meetingSearchService;
+
+    @Mock
+    private AnalysisResultWriter analysisResultWriter;
+
     @InjectMocks
     private MeetingService meetingService;
 
@@ -58,8 +114,12 @@ class MeetingServiceTest {
         // UID 수동 주입
         ReflectionTestUtils.setField(mockUser, "id", UUID.randomUUID());
 
-        // uploadDir 수동 세팅
-        ReflectionTestUtils.setField(meetingService, "uploadDir", "./uploads/meetings");
+        // 저장소 mock: 전달된 스트림을 끝까지 읽어 해시가 계산되도록 함
+        doAnswer(invocation -> {
+            ((InputStream) invocation.getArgument(1)).transferTo(OutputStream.nullOutputStream());
+            return null;
+        }).when(storageBackend).put(anyString(), any(InputStream.class), anyLong(), anyString());
+        when(audioMetadataService.probe(anyString(), anyLong(), any())).thenReturn(AudioMetadata.UNKNOWN);
     }
 
     /**
@@ -70,7 +130,7 @@ class MeetingServiceTest {
     class UploadMeeting {
 
         @Test
-        @DisplayName("파일 업로드 성공 시 MeetingEntity 저장 및 AI 요청 수행")
+        @DisplayName("파일 업로드 성공 시 MeetingEntity 저장 (AI 요청은 outbox 경유)")
         void uploadMeeting_success() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
@@ -78,13 +138,13 @@ class MeetingServiceTest {
                     new MockMultipartFile("file", "test.wav", "audio/wav", "dummy data".getBytes());
 
             MeetingRequestDto.CreateRequest request = new MeetingRequestDto.CreateRequest(
-                    "회의 제목", LocalDateTime.now(), mockFile
+                    "회의 제목", LocalDateTime.now(), mockFile, AnalysisPriority.HIGH
             );
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-            when(meetingRepository.save(any(MeetingEntity.class)))
+            when(meetingRegistrationService.register(eq(mockUser.getId()), anyString(), any(LocalDateTime.class), anyString(), anyString(), any(), any()))
                     .thenAnswer(invocation -> {
-                        MeetingEntity m = invocation.getArgument(0);
+                        MeetingEntity m = MeetingEntity.create(mockUser, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
                         ReflectionTestUtils.setField(m, "id", UUID.randomUUID());
                         return m;
                     });
@@ -98,8 +158,14 @@ class MeetingServiceTest {
             assertThat(response.getMessage()).contains("분석 요청 전송됨");
 
             verify(userRepository).findById(userId);
-            verify(meetingRepository).save(any(MeetingEntity.class));
-            verify(aiClient).requestAnalysis(eq(userId), any(UUID.class), anyString(), any());
+            // "dummy data" 의 SHA-256
+            verify(meetingRegistrationService).register(eq(mockUser.getId()), eq("회의 제목"), any(LocalDateTime.class), anyString(),
+                    eq("797bb0abff798d7200af7685dca7901edffc52bf26500d5bd97282658ee24152"), eq(AudioMetadata.UNKNOWN),
+                    eq(AnalysisPriority.HIGH));
+            // 저장하면서 복사한 앞부분으로 헤더 해석 (저장소 재읽기 없음)
+            verify(audioMetadataService).probe(startsWith(mockUser.getId() + "/"), eq(10L), eq("dummy data".getBytes()));
+            verify(storageBackend).put(startsWith(mockUser.getId() + "/"), any(InputStream.class), eq(10L), eq("audio/wav"));
+            verifyNoInteractions(aiClient);
         }
 
         @Test
@@ -108,7 +174,7 @@ class MeetingServiceTest {
             // given
             UUID userId = UUID.randomUUID();
             MeetingRequestDto.CreateRequest request =
-                    new MeetingRequestDto.CreateRequest("회의", LocalDateTime.now(), null);
+                    new MeetingRequestDto.CreateRequest("회의", LocalDateTime.now(), null, AnalysisPriority.NORMAL);
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
@@ -127,11 +193,12 @@ class MeetingServiceTest {
     class ProcessCallback {
 
         @Test
-        @DisplayName("AI 콜백 수신 시 MeetingEntity 상태, 키워드, 화자 정보가 저장됨")
+        @DisplayName("AI 콜백 수신 시 회의 행을 잠그고 결과 반영을 AnalysisResultWriter 에 맡김")
         void processCallback_success() {
             // given
             UUID meetingId = UUID.randomUUID();
             MeetingEntity meeting = MeetingEntity.create(mockUser, "테스트회의", LocalDateTime.now(), "path/file.wav");
+            ReflectionTestUtils.setField(meeting, "id", meetingId);
 
             MeetingRequestDto.AiCallbackRequest request = MeetingRequestDto.AiCallbackRequest.builder()
                                                                                              .status("completed")
@@ -148,17 +215,15 @@ class MeetingServiceTest {
                                                                                              ))
                                                                                              .build();
 
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
-            when(meetingRepository.save(any(MeetingEntity.class))).thenReturn(meeting);
+            when(meetingRepository.findByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
 
             // when
             MeetingResponseDto.AiCallbackResponse response = meetingService.processCallback(meetingId, request);
 
             // then
             assertThat(response.getMessage()).contains("성공적으로 저장되었습니다.");
-            assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.COMPLETED);
-            assertThat(meeting.getKeywords()).hasSize(2);
-            assertThat(meeting.getSpeakers()).hasSize(1);
+            verify(analysisResultWriter).apply(meeting, request);
+            verify(meetingRepository, never()).findById(meetingId);
         }
     }
 
@@ -200,6 +265,73 @@ class MeetingServiceTest {
         }
     }
 
+    /**
+     * scrollMeetings 테스트
+     */
+    @Nested
+    @DisplayName("scrollMeetings() 테스트")
+    class ScrollMeetings {
+
+        @Test
+        @DisplayName("한 건 더 읽어 다음 cursor 를 만들고, withTotal 이 아니면 COUNT 하지 않음")
+        void scrollMeetings_nextCursor() {
+            // given
+            UUID userId = UUID.randomUUID();
+            List<MeetingListQueryRepository.Row> rows = List.of(row(3), row(2), row(1));
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            when(meetingListQueryRepository.findRows(any(), any(), eq(0L), eq(3))).thenReturn(rows);
+
+            // when
+            MeetingResponseDto.CursorListResponse response = meetingService.scrollMeetings(userId, 2, null, false, null, null, null, null);
+
+            // then
+            assertThat(response.getContent()).extracting(MeetingResponseDto.ListItem::getMeetingId)
+                                             .containsExactly(rows.get(0).id(), rows.get(1).id());
+            String decoded = new String(Base64.getUrlDecoder().decode(response.getNextCursor()), StandardCharsets.UTF_8);
+            assertThat(decoded).isEqualTo(rows.get(1).createdAt() + "|" + rows.get(1).id());
+            assertThat(response.getTotalCount()).isNull();
+            verify(meetingListQueryRepository, never()).count(any());
+        }
+
+        @Test
+        @DisplayName("마지막 목록이면 nextCursor 가 null, withTotal 이면 전체 개수 포함")
+        void scrollMeetings_lastPageWithTotal() {
+            // given
+            UUID userId = UUID.randomUUID();
+            MeetingListQueryRepository.Row last = row(1);
+            String cursor = Base64.getUrlEncoder().withoutPadding()
+                                  .encodeToString((LocalDateTime.of(2025, 10, 20, 15, 0) + "|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            when(meetingListQueryRepository.findRows(any(), any(), eq(0L), eq(21))).thenReturn(List.of(last));
+            when(meetingListQueryRepository.count(any())).thenReturn(21L);
+
+            // when
+            MeetingResponseDto.CursorListResponse response = meetingService.scrollMeetings(userId, 20, cursor, true, null, null, null, null);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.getTotalCount()).isEqualTo(21L);
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 cursor 는 INVALID_LIST_CURSOR")
+        void scrollMeetings_invalidCursor() {
+            UUID userId = UUID.randomUUID();
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+
+            assertThatThrownBy(() -> meetingService.scrollMeetings(userId, 20, "not-a-cursor", false, null, null, null, null))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.INVALID_LIST_CURSOR);
+        }
+
+        private MeetingListQueryRepository.Row row(int hour) {
+            return new MeetingListQueryRepository.Row(UUID.randomUUID(), "회의 " + hour, RecordSaveStatus.COMPLETED, "요약",
+                    LocalDateTime.of(2025, 10, 20, hour, 0, 0, 123_456_000));
+        }
+    }
+
     /**
      * deleteMeeting 테스트
      */
@@ -226,6 +358,7 @@ class MeetingServiceTest {
             assertThat(response.getMessage()).contains("회의록이 삭제되었습니다.");
             assertThat(meeting.isDeleted()).isTrue();
             verify(aiClient).requestDeleteEmbeddingSync(userId, meetingId);
+            verify(meetingSearchService).remove(meetingId);
         }
     }
 }
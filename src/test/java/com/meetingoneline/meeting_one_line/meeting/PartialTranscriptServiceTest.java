@@ -0,0 +1,132 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.AnalysisChunkEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.RecordSaveStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.TranscriptBulkRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AnalysisChunkService;
+import com.meetingoneline.meeting_one_line.meeting.service.PartialTranscriptService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDetailSnapshotService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PartialTranscriptServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private TranscriptBulkRepository transcriptBulkRepository;
+
+    @Mock
+    private AnalysisChunkService analysisChunkService;
+
+    @Mock
+    private TranscriptBulkRepository.SpeakerWriter writer;
+
+    @Mock
+    private MeetingDetailSnapshotService meetingDetailSnapshotService;
+
+    @InjectMocks
+    private PartialTranscriptService partialTranscriptService;
+
+    private UUID meetingId;
+    private MeetingEntity meeting;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+        meeting.setStatus(RecordSaveStatus.PROCESSING);
+        meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+
+        when(meetingRepository.findByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
+        when(transcriptBulkRepository.appendWriter(meetingId)).thenReturn(writer);
+    }
+
+    @Test
+    @DisplayName("처음 받은 batch 는 기존 전사 뒤에 이어 쓰고 회의는 PROCESSING 유지")
+    void append_newBatch() {
+        when(transcriptBulkRepository.claimBatch(meetingId, 0, 1L, 2)).thenReturn(true);
+
+        partialTranscriptService.append(meetingId, batch(1L, null));
+
+        verify(writer).speaker("S1");
+        verify(writer, times(2)).segment(any());
+        verify(writer).finish();
+        assertThat(meeting.getStatus()).isEqualTo(RecordSaveStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 sequence 는 다시 쓰지 않음")
+    void append_duplicate() {
+        when(transcriptBulkRepository.claimBatch(meetingId, 0, 1L, 2)).thenReturn(false);
+
+        partialTranscriptService.append(meetingId, batch(1L, null));
+
+        verify(transcriptBulkRepository, never()).appendWriter(any());
+    }
+
+    @Test
+    @DisplayName("분석이 끝난 회의에 늦게 도착한 batch 는 무시")
+    void append_afterCompleted() {
+        meeting.setStatus(RecordSaveStatus.COMPLETED);
+
+        partialTranscriptService.append(meetingId, batch(5L, null));
+
+        verify(transcriptBulkRepository, never()).claimBatch(any(), anyInt(), anyLong(), anyInt());
+        verify(transcriptBulkRepository, never()).appendWriter(any());
+    }
+
+    @Test
+    @DisplayName("분할 분석 조각의 batch 는 조각 시작 위치만큼 시간을 보정")
+    void append_chunkOffset() {
+        when(transcriptBulkRepository.claimBatch(meetingId, 1, 1L, 2)).thenReturn(true);
+        when(analysisChunkService.findChunk(meetingId, 1))
+                .thenReturn(Optional.of(AnalysisChunkEntity.create(meetingId, 1, 2, "u/a.wav.chunk-1.wav", 600_000, 200_000)));
+
+        partialTranscriptService.append(meetingId, batch(1L, 1));
+
+        ArgumentCaptor<MeetingRequestDto.AiCallbackRequest.Segment> captor =
+                ArgumentCaptor.forClass(MeetingRequestDto.AiCallbackRequest.Segment.class);
+        verify(writer, times(2)).segment(captor.capture());
+        assertThat(captor.getAllValues().get(0).getStart()).isEqualTo(600.0f);
+        assertThat(captor.getAllValues().get(1).getEnd()).isEqualTo(603.0f);
+    }
+
+    private static MeetingRequestDto.PartialCallbackRequest batch(long sequence, Integer chunkIndex) {
+        return MeetingRequestDto.PartialCallbackRequest.builder()
+                                                       .sequence(sequence)
+                                                       .chunkIndex(chunkIndex)
+                                                       .speakers(List.of(MeetingRequestDto.AiCallbackRequest.Speaker.builder()
+                                                               .speakerId("S1")
+                                                               .segments(List.of(
+                                                                       MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                                               .start(0.0f).end(1.5f).text("안녕하세요").build(),
+                                                                       MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                                               .start(2.0f).end(3.0f).text("시작하겠습니다").build()))
+                                                               .build()))
+                                                       .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.feedback.entity.ActionItemEntity;
+import com.meetingoneline.meeting_one_line.feedback.entity.FeedbackEntity;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.KeywordEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SegmentEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.SpeakerEntity;
+import com.meetingoneline.meeting_one_line.meeting.service.TranscriptReconciler;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TranscriptReconcilerTest {
+
+    private final TranscriptReconciler reconciler = new TranscriptReconciler();
+
+    private MeetingEntity meeting;
+    private SpeakerEntity speaker;
+    private SegmentEntity first;
+    private SegmentEntity second;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+
+        speaker = SpeakerEntity.create(meeting, "S1", "홍길동");
+        first = SegmentEntity.create(speaker, 0.0f, 1.5f, "안녕하세요");
+        second = SegmentEntity.create(speaker, 2.0f, 3.0f, "시작하겠습니다");
+        speaker.getSegments().addAll(List.of(first, second));
+        meeting.getSpeakers().add(speaker);
+        meeting.getKeywords().add(KeywordEntity.create(meeting, "AI"));
+    }
+
+    @Test
+    @DisplayName("한 세그먼트만 바뀌면 그 행만 수정하고 나머지 행은 그대로 둠")
+    void reconcileSegments_updatesOnlyChanged() {
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+
+        reconciler.reconcileSegments(speaker, List.of(
+                new TranscriptReconciler.SegmentValue(0.0f, 1.5f, "안녕하세요"),
+                new TranscriptReconciler.SegmentValue(2.0f, 3.0f, "시작할게요")
+        ), changes);
+
+        assertThat(changes.getInserted()).isZero();
+        assertThat(changes.getUpdated()).isEqualTo(1);
+        assertThat(changes.getDeleted()).isZero();
+        assertThat(speaker.getSegments()).containsExactly(first, second);
+        assertThat(second.getText()).isEqualTo("시작할게요");
+    }
+
+    @Test
+    @DisplayName("같은 화자는 유지(이름 보존)하고 빠진 세그먼트는 삭제, 새 세그먼트는 추가")
+    void reconcileSpeakers_diffByNaturalKey() {
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+
+        reconciler.reconcileSpeakers(meeting, List.of(
+                speaker("S1", segment(0.0f, 1.5f, "안녕하세요"), segment(4.0f, 5.0f, "네")),
+                speaker("S2", segment(6.0f, 7.0f, "좋습니다"))
+        ), changes);
+
+        assertThat(changes.getInserted()).isEqualTo(3); // S2 화자 + S2 세그먼트 + S1 새 세그먼트
+        assertThat(changes.getDeleted()).isEqualTo(1);  // S1 의 2.0s 세그먼트
+        assertThat(meeting.getSpeakers()).hasSize(2);
+        assertThat(meeting.getSpeakers().get(0)).isSameAs(speaker);
+        assertThat(speaker.getName()).isEqualTo("홍길동");
+        assertThat(speaker.getSegments()).extracting(SegmentEntity::getStartTime).containsExactly(0.0f, 4.0f);
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 아무 변경도 없음")
+    void reconcile_noChanges() {
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+
+        reconciler.reconcileKeywords(meeting, List.of("AI"), changes);
+        reconciler.reconcileSpeakers(meeting, List.of(
+                speaker("S1", segment(0.0f, 1.5f, "안녕하세요"), segment(2.0f, 3.0f, "시작하겠습니다"))
+        ), changes);
+
+        assertThat(changes.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("피드백 액션 아이템은 orderIndex 로 짝지어 바뀐 항목만 수정")
+    void reconcileFeedback_actionItems() {
+        FeedbackEntity feedback = FeedbackEntity.create(meeting);
+        ActionItemEntity kept = ActionItemEntity.create(feedback, "홍길동", "정리", 1);
+        ActionItemEntity edited = ActionItemEntity.create(feedback, "김철수", "검토", 2);
+        feedback.getActionItems().addAll(List.of(kept, edited));
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+
+        reconciler.reconcileFeedback(feedback, MeetingRequestDto.AiCallbackRequest.Feedback.builder()
+                .actionItems(List.of(
+                        MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem.builder().name("홍길동").content("정리").orderIndex(1).build(),
+                        MeetingRequestDto.AiCallbackRequest.Feedback.ActionItem.builder().name("김철수").content("배포").orderIndex(2).build()))
+                .build(), changes);
+
+        assertThat(changes.getUpdated()).isEqualTo(1);
+        assertThat(changes.getInserted()).isZero();
+        assertThat(feedback.getActionItems()).containsExactly(kept, edited);
+        assertThat(edited.getContent()).isEqualTo("배포");
+    }
+
+    @Test
+    @DisplayName("압축 저장이면 세그먼트 행을 화자 압축 전사로 옮기고, 내용이 같으면 다시 압축하지 않음")
+    void reconcileSegments_packed() {
+        ReflectionTestUtils.setField(reconciler, "packed", true);
+        var values = List.of(
+                new TranscriptReconciler.SegmentValue(0.0f, 1.5f, "안녕하세요"),
+                new TranscriptReconciler.SegmentValue(2.0f, 3.0f, "시작할게요"));
+
+        TranscriptReconciler.Changes changes = new TranscriptReconciler.Changes();
+        reconciler.reconcileSegments(speaker, values, changes);
+
+        assertThat(changes.getUpdated()).isEqualTo(1);
+        assertThat(speaker.getSegments()).isEmpty();
+        assertThat(speaker.getSegmentCount()).isEqualTo(2);
+        assertThat(speaker.readSegments()).extracting(SegmentEntity::getText).containsExactly("안녕하세요", "시작할게요");
+        assertThat(speaker.readSegments(2.5f, 10.0f)).extracting(SegmentEntity::getText).containsExactly("시작할게요");
+
+        byte[] packed = speaker.getPackedSegments();
+        TranscriptReconciler.Changes again = new TranscriptReconciler.Changes();
+        reconciler.reconcileSegments(speaker, values, again);
+
+        assertThat(again.isEmpty()).isTrue();
+        assertThat(speaker.getPackedSegments()).isSameAs(packed);
+    }
+
+    private static MeetingRequestDto.AiCallbackRequest.Speaker speaker(String id, MeetingRequestDto.AiCallbackRequest.Segment... segments) {
+        return MeetingRequestDto.AiCallbackRequest.Speaker.builder()
+                                                          .speakerId(id)
+                                                          .segments(List.of(segments))
+                                                          .build();
+    }
+
+    private static MeetingRequestDto.AiCallbackRequest.Segment segment(float start, float end, String text) {
+        return MeetingRequestDto.AiCallbackRequest.Segment.builder()
+                                                          .start(start).end(end).text(text)
+                                                          .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.transcript.PackedTranscript;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.repository.MeetingRepository;
+import com.meetingoneline.meeting_one_line.meeting.repository.SegmentRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.TranscriptWindowService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TranscriptWindowServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private SegmentRepository segmentRepository;
+
+    @InjectMocks
+    private TranscriptWindowService transcriptWindowService;
+
+    private UUID userId;
+    private UUID meetingId;
+    private final List<SegmentRepository.WindowRow> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        UserEntity user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+        MeetingEntity meeting = MeetingEntity.create(user, "회의 제목", LocalDateTime.now(), "u/a.wav");
+        meetingId = UUID.randomUUID();
+        ReflectionTestUtils.setField(meeting, "id", meetingId);
+        when(meetingRepository.findByIdAndDeletedAtIsNull(meetingId)).thenReturn(Optional.of(meeting));
+
+        // S1 은 세그먼트 행, S2 는 압축 전사 (10초에 두 화자가 동시에 발화)
+        rows.add(row("S1", 0f, 1f, "a"));
+        rows.add(row("S1", 10f, 11f, "b"));
+        rows.add(row("S1", 10f, 12f, "c"));
+        rows.add(row("S1", 30f, 31f, "d"));
+        byte[] packed = PackedTranscript.builder(true)
+                                        .add(5f, 6f, "x")
+                                        .add(10f, 10.5f, "y")
+                                        .add(20f, 21f, "z")
+                                        .build();
+        UUID packedSpeakerId = UUID.randomUUID();
+
+        // DB 처럼 [from, to) 로 거르고 limit 개만 반환
+        when(segmentRepository.findWindow(eq(meetingId), anyFloat(), anyFloat(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    float from = invocation.getArgument(1);
+                    float to = invocation.getArgument(2);
+                    Pageable pageable = invocation.getArgument(3);
+                    return rows.stream()
+                               .filter(r -> r.getStartTime() >= from && r.getStartTime() < to)
+                               .limit(pageable.getPageSize())
+                               .toList();
+                });
+        // 압축 전사 본문은 부분 조회로만 읽음
+        when(segmentRepository.findPackedSpeakerHeads(meetingId)).thenReturn(List.of(packedSpeaker(packedSpeakerId, "S2", "김철수")));
+        when(segmentRepository.packedSource(packedSpeakerId)).thenReturn((offset, length) ->
+                Arrays.copyOfRange(packed, offset, Math.min(packed.length, offset + length)));
+    }
+
+    @Test
+    @DisplayName("행과 압축 전사를 시작 시각 순으로 합치고, 같은 시각이 페이지 경계에 걸려도 빠짐/중복 없이 이어 조회")
+    void getSegments_cursorPaging() {
+        List<String> texts = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MeetingResponseDto.SegmentWindowResponse page =
+                    transcriptWindowService.getSegments(userId, meetingId, null, null, 2, cursor);
+            page.getSegments().forEach(seg -> texts.add(seg.getText()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(texts).containsExactly("a", "x", "b", "c", "y", "z", "d");
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("구간 [from, to) 에 시작하는 세그먼트만 반환")
+    void getSegments_window() {
+        MeetingResponseDto.SegmentWindowResponse page =
+                transcriptWindowService.getSegments(userId, meetingId, 5f, 20f, null, null);
+
+        assertThat(page.getSegments()).extracting(MeetingResponseDto.SegmentWindowResponse.SegmentItem::getText)
+                                      .containsExactly("x", "b", "c", "y");
+        assertThat(page.getSegments().get(0).getName()).isEqualTo("김철수");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 cursor 는 거절")
+    void getSegments_invalidCursor() {
+        assertThatThrownBy(() -> transcriptWindowService.getSegments(userId, meetingId, null, null, 10, "!!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.INVALID_SEGMENT_CURSOR);
+    }
+
+    @Test
+    @DisplayName("skip 이 지나치게 큰 cursor 는 조회 전에 거절")
+    void getSegments_cursorSkipTooLarge() {
+        String raw = Integer.toHexString(Float.floatToIntBits(10f)) + "." + Integer.MAX_VALUE;
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> transcriptWindowService.getSegments(userId, meetingId, null, null, 10, cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.INVALID_SEGMENT_CURSOR);
+        verify(segmentRepository, never()).findWindow(any(), anyFloat(), anyFloat(), any());
+    }
+
+    @Test
+    @DisplayName("본인 회의가 아니면 접근 불가")
+    void getSegments_accessDenied() {
+        assertThatThrownBy(() -> transcriptWindowService.getSegments(UUID.randomUUID(), meetingId, null, null, 10, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    private static SegmentRepository.PackedSpeaker packedSpeaker(UUID id, String speakerId, String name) {
+        return new SegmentRepository.PackedSpeaker() {
+            public UUID getId() { return id; }
+            public String getSpeakerId() { return speakerId; }
+            public String getName() { return name; }
+        };
+    }
+
+    private static SegmentRepository.WindowRow row(String speakerId, float start, float end, String text) {
+        return new SegmentRepository.WindowRow() {
+            public String getSpeakerId() { return speakerId; }
+            public String getName() { return null; }
+            public Float getStartTime() { return start; }
+            public Float getEndTime() { return end; }
+            public String getText() { return text; }
+        };
+    }
+}
@@ -0,0 +1,366 @@
+package com.meetingoneline.meeting_one_line.meeting;
+
+import com.meetingoneline.meeting_one_line.global.audio.AudioMetadata;
+import com.meetingoneline.meeting_one_line.global.exception.BusinessException;
+import com.meetingoneline.meeting_one_line.global.exception.ErrorCode;
+import com.meetingoneline.meeting_one_line.global.storage.StorageBackend;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingRequestDto;
+import com.meetingoneline.meeting_one_line.meeting.dto.MeetingResponseDto;
+import com.meetingoneline.meeting_one_line.meeting.entity.MeetingEntity;
+import com.meetingoneline.meeting_one_line.meeting.entity.UploadSessionEntity;
+import com.meetingoneline.meeting_one_line.meeting.enums.AnalysisPriority;
+import com.meetingoneline.meeting_one_line.meeting.enums.UploadSessionStatus;
+import com.meetingoneline.meeting_one_line.meeting.repository.UploadSessionRepository;
+import com.meetingoneline.meeting_one_line.meeting.service.AudioMetadataService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingDeduplicationService;
+import com.meetingoneline.meeting_one_line.meeting.service.MeetingRegistrationService;
+import com.meetingoneline.meeting_one_line.meeting.service.UploadSessionService;
+import com.meetingoneline.meeting_one_line.user.UserEntity;
+import com.meetingoneline.meeting_one_line.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UploadSessionServiceTest {
+
+    private static final long PART = 5 * 1024 * 1024;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MeetingRegistrationService meetingRegistrationService;
+
+    @Mock
+    private MeetingDeduplicationService meetingDeduplicationService;
+
+    @Mock
+    private AudioMetadataService audioMetadataService;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @InjectMocks
+    private UploadSessionService uploadSessionService;
+
+    private UserEntity user;
+    private UUID userId;
+    private UploadSessionEntity session;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(uploadSessionService, "maxFileSize", DataSize.ofGigabytes(1));
+        ReflectionTestUtils.setField(uploadSessionService, "sessionTtlHours", 24L);
+
+        user = UserEntity.create("user@test.com", "pw", "nickname");
+        userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(user, "id", userId);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(storageBackend.minPartSize()).thenReturn(PART);
+
+        session = UploadSessionEntity.create(user, "주간 회의", LocalDateTime.now(), "meeting.wav",
+                userId + "/key_meeting.wav", "upload-1", PART * 2, AnalysisPriority.NORMAL);
+        ReflectionTestUtils.setField(session, "id", UUID.randomUUID());
+        when(uploadSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+    }
+
+    /**
+     * createSession 테스트
+     */
+    @Nested
+    @DisplayName("createSession() 테스트")
+    class CreateSession {
+
+        @Test
+        @DisplayName("경로를 뗀 파일명으로 저장소 멀티파트 업로드를 시작하고 세션 저장")
+        void createSession_success() {
+            // given
+            when(storageBackend.createMultipartUpload(anyString(), anyString())).thenReturn("upload-2");
+            when(uploadSessionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            MeetingRequestDto.CreateUploadSessionRequest request = MeetingRequestDto.CreateUploadSessionRequest.builder()
+                                                                                                              .title("주간 회의")
+                                                                                                              .fileName("../../etc/meeting.wav")
+                                                                                                              .totalSize(PART * 3)
+                                                                                                              .priority("high")
+                                                                                                              .build();
+
+            // when
+            MeetingResponseDto.UploadSessionResponse response = uploadSessionService.createSession(userId, request, LocalDateTime.now());
+
+            // then
+            verify(uploadSessionRepository).save(argThat(saved -> saved.getPriority() == AnalysisPriority.HIGH));
+            assertThat(response.getStatus()).isEqualTo(UploadSessionStatus.IN_PROGRESS);
+            assertThat(response.getReceivedBytes()).isZero();
+            assertThat(response.getTotalSize()).isEqualTo(PART * 3);
+            verify(storageBackend).createMultipartUpload(argThat(key -> key.startsWith(userId + "/") && key.endsWith("_meeting.wav")
+                    && !key.contains("..")), anyString());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 우선순위면 INVALID_ANALYSIS_PRIORITY, 저장소 업로드는 시작하지 않음")
+        void createSession_invalidPriority() {
+            MeetingRequestDto.CreateUploadSessionRequest request = MeetingRequestDto.CreateUploadSessionRequest.builder()
+                                                                                                              .fileName("meeting.wav")
+                                                                                                              .totalSize(PART)
+                                                                                                              .priority("urgent")
+                                                                                                              .build();
+
+            assertThatThrownBy(() -> uploadSessionService.createSession(userId, request, LocalDateTime.now()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.INVALID_ANALYSIS_PRIORITY);
+            verify(storageBackend, never()).createMultipartUpload(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 UPLOAD_TOO_LARGE, 저장소 업로드는 시작하지 않음")
+        void createSession_tooLarge() {
+            MeetingRequestDto.CreateUploadSessionRequest request = MeetingRequestDto.CreateUploadSessionRequest.builder()
+                                                                                                              .fileName("meeting.wav")
+                                                                                                              .totalSize(DataSize.ofGigabytes(2).toBytes())
+                                                                                                              .build();
+
+            assertThatThrownBy(() -> uploadSessionService.createSession(userId, request, LocalDateTime.now()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_TOO_LARGE);
+            verify(storageBackend, never()).createMultipartUpload(anyString(), anyString());
+        }
+    }
+
+    /**
+     * appendChunk 테스트
+     */
+    @Nested
+    @DisplayName("appendChunk() 테스트")
+    class AppendChunk {
+
+        @Test
+        @DisplayName("현재 오프셋에서 시작하는 청크는 다음 파트로 쓰고 오프셋 전진")
+        void appendChunk_success() {
+            // given
+            when(uploadSessionRepository.advanceOffset(eq(session.getId()), eq(0L), eq(PART), eq(UploadSessionStatus.IN_PROGRESS), any()))
+                    .thenReturn(1);
+
+            // when
+            MeetingResponseDto.UploadSessionResponse response =
+                    uploadSessionService.appendChunk(userId, session.getId(), range(0, PART), body());
+
+            // then
+            assertThat(response.getReceivedBytes()).isEqualTo(PART);
+            verify(storageBackend).uploadPart(eq(session.getFilePath()), eq("upload-1"), eq(1), eq(0L), any(InputStream.class), eq(PART));
+        }
+
+        @Test
+        @DisplayName("이미 받은 청크를 다시 보내거나 건너뛰면 UPLOAD_OFFSET_MISMATCH, 저장소에 쓰지 않음")
+        void appendChunk_offsetMismatch() {
+            ReflectionTestUtils.setField(session, "receivedBytes", PART);
+            ReflectionTestUtils.setField(session, "partCount", 1);
+
+            assertThatThrownBy(() -> uploadSessionService.appendChunk(userId, session.getId(), range(0, PART), body()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+            verify(storageBackend, never()).uploadPart(anyString(), anyString(), anyInt(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("같은 오프셋으로 동시에 들어온 청크 중 오프셋 갱신에 진 쪽은 UPLOAD_OFFSET_MISMATCH")
+        void appendChunk_concurrentConflict() {
+            when(uploadSessionRepository.advanceOffset(any(), anyLong(), anyLong(), any(), any())).thenReturn(0);
+
+            assertThatThrownBy(() -> uploadSessionService.appendChunk(userId, session.getId(), range(0, PART), body()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+        }
+
+        @Test
+        @DisplayName("마지막이 아닌 청크가 최소 파트 크기보다 작으면 UPLOAD_CHUNK_TOO_SMALL")
+        void appendChunk_tooSmall() {
+            assertThatThrownBy(() -> uploadSessionService.appendChunk(userId, session.getId(), range(0, 1024), body()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_CHUNK_TOO_SMALL);
+        }
+
+        @Test
+        @DisplayName("완료된 세션에는 청크를 더 받지 않음")
+        void appendChunk_closed() {
+            session.complete(MeetingEntity.create(user, "주간 회의", LocalDateTime.now(), session.getFilePath()));
+
+            assertThatThrownBy(() -> uploadSessionService.appendChunk(userId, session.getId(), range(0, PART), body()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 세션이면 ACCESS_DENIED")
+        void appendChunk_accessDenied() {
+            assertThatThrownBy(() -> uploadSessionService.appendChunk(UUID.randomUUID(), session.getId(), range(0, PART), body()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * complete 테스트
+     */
+    @Nested
+    @DisplayName("complete() 테스트")
+    class Complete {
+
+        @Test
+        @DisplayName("모두 받은 세션은 파트를 병합하고 병합된 파일의 해시로 회의 등록")
+        void complete_success() {
+            // given
+            ReflectionTestUtils.setField(session, "receivedBytes", PART * 2);
+            ReflectionTestUtils.setField(session, "partCount", 2);
+            MeetingEntity meeting = MeetingEntity.create(user, "주간 회의", LocalDateTime.now(), session.getFilePath());
+            ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+            when(meetingDeduplicationService.sha256(session.getFilePath())).thenReturn("abc123");
+            when(audioMetadataService.probe(session.getFilePath(), PART * 2, null)).thenReturn(AudioMetadata.UNKNOWN);
+            when(meetingRegistrationService.registerFromUploadSession(userId, session.getId(), "abc123", AudioMetadata.UNKNOWN))
+                    .thenReturn(new MeetingRegistrationService.Registration(meeting, true));
+
+            // when
+            MeetingResponseDto.CreateResponse response = uploadSessionService.complete(userId, session.getId());
+
+            // then
+            assertThat(response.getMeetingId()).isEqualTo(meeting.getId());
+            assertThat(response.getMessage()).contains("분석 요청");
+            verify(storageBackend).completeMultipartUpload(session.getFilePath(), "upload-1", 2);
+        }
+
+        @Test
+        @DisplayName("청크를 받으면서 누적한 해시로 회의 등록, 병합된 파일은 다시 읽지 않음")
+        void complete_runningHash() throws Exception {
+            // given
+            byte[] first = new byte[(int) PART];
+            byte[] second = new byte[(int) PART];
+            Arrays.fill(first, (byte) 1);
+            Arrays.fill(second, (byte) 2);
+            doAnswer(invocation -> invocation.<InputStream>getArgument(4).readAllBytes())
+                    .when(storageBackend).uploadPart(anyString(), anyString(), anyInt(), anyLong(), any(), anyLong());
+            when(uploadSessionRepository.advanceOffset(any(), anyLong(), anyLong(), any(), any())).thenReturn(1);
+
+            uploadSessionService.appendChunk(userId, session.getId(), range(0, PART), new ByteArrayInputStream(first));
+            ReflectionTestUtils.setField(session, "receivedBytes", PART);
+            ReflectionTestUtils.setField(session, "partCount", 1);
+            uploadSessionService.appendChunk(userId, session.getId(), range(PART, PART), new ByteArrayInputStream(second));
+            ReflectionTestUtils.setField(session, "receivedBytes", PART * 2);
+            ReflectionTestUtils.setField(session, "partCount", 2);
+
+            MessageDigest expected = MessageDigest.getInstance("SHA-256");
+            expected.update(first);
+            expected.update(second);
+            String expectedHash = HexFormat.of().formatHex(expected.digest());
+
+            MeetingEntity meeting = MeetingEntity.create(user, "주간 회의", LocalDateTime.now(), session.getFilePath());
+            ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+            when(audioMetadataService.probe(session.getFilePath(), PART * 2, null)).thenReturn(AudioMetadata.UNKNOWN);
+            when(meetingRegistrationService.registerFromUploadSession(userId, session.getId(), expectedHash, AudioMetadata.UNKNOWN))
+                    .thenReturn(new MeetingRegistrationService.Registration(meeting, true));
+
+            // when
+            MeetingResponseDto.CreateResponse response = uploadSessionService.complete(userId, session.getId());
+
+            // then
+            assertThat(response.getMeetingId()).isEqualTo(meeting.getId());
+            verify(meetingDeduplicationService, never()).sha256(anyString());
+        }
+
+        @Test
+        @DisplayName("이미 완료된 세션을 다시 완료하면 병합/해시 없이 같은 회의 반환")
+        void complete_retry() {
+            // given
+            MeetingEntity meeting = MeetingEntity.create(user, "주간 회의", LocalDateTime.now(), session.getFilePath());
+            ReflectionTestUtils.setField(meeting, "id", UUID.randomUUID());
+            ReflectionTestUtils.setField(session, "receivedBytes", PART * 2);
+            session.complete(meeting);
+            when(meetingRegistrationService.registerFromUploadSession(userId, session.getId(), null, AudioMetadata.UNKNOWN))
+                    .thenReturn(new MeetingRegistrationService.Registration(meeting, false));
+
+            // when
+            MeetingResponseDto.CreateResponse response = uploadSessionService.complete(userId, session.getId());
+
+            // then
+            assertThat(response.getMeetingId()).isEqualTo(meeting.getId());
+            assertThat(response.getMessage()).isEqualTo("이미 완료된 업로드입니다.");
+            verify(storageBackend, never()).completeMultipartUpload(anyString(), anyString(), anyInt());
+            verify(meetingDeduplicationService, never()).sha256(anyString());
+        }
+
+        @Test
+        @DisplayName("아직 다 받지 않은 세션은 병합하지 않고 UPLOAD_INCOMPLETE")
+        void complete_incomplete() {
+            ReflectionTestUtils.setField(session, "receivedBytes", PART);
+            when(meetingRegistrationService.registerFromUploadSession(userId, session.getId(), null, AudioMetadata.UNKNOWN))
+                    .thenThrow(new BusinessException(ErrorCode.UPLOAD_INCOMPLETE));
+
+            assertThatThrownBy(() -> uploadSessionService.complete(userId, session.getId()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+            verify(storageBackend, never()).completeMultipartUpload(anyString(), anyString(), anyInt());
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 저장소 멀티파트 업로드를 취소하고 삭제")
+    void cleanupExpiredSessions() {
+        when(uploadSessionRepository.findByStatus(UploadSessionStatus.EXPIRED)).thenReturn(List.of(session));
+
+        uploadSessionService.cleanupExpiredSessions();
+
+        verify(uploadSessionRepository).markExpired(eq(UploadSessionStatus.IN_PROGRESS), eq(UploadSessionStatus.EXPIRED), any());
+        verify(storageBackend).abortMultipartUpload(session.getFilePath(), "upload-1");
+        verify(uploadSessionRepository).deleteById(session.getId());
+    }
+
+    @Test
+    @DisplayName("저장소 정리에 실패한 만료 세션은 삭제하지 않고 다음 실행에 다시 시도")
+    void cleanupExpiredSessions_storageFailureKeepsRow() {
+        when(uploadSessionRepository.findByStatus(UploadSessionStatus.EXPIRED)).thenReturn(List.of(session));
+        doThrow(new BusinessException(ErrorCode.STORAGE_ERROR))
+                .when(storageBackend).abortMultipartUpload(anyString(), anyString());
+
+        uploadSessionService.cleanupExpiredSessions();
+
+        verify(uploadSessionRepository, never()).deleteById(any());
+    }
+
+    private String range(long start, long length) {
+        return "bytes " + start + "-" + (start + length - 1) + "/" + session.getTotalSize();
+    }
+
+    private InputStream body() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+}